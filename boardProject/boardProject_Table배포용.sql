@@ -747,3 +747,82 @@ FETCH FIRST 1 ROWS ONLY;
 
 
 
+-----------------------------------------------------
+-- 게시글 댓글 수 / 좋아요 수 컬럼 추가(비정규화)
+-- 목록 조회 시 행마다 COUNT(*) 서브쿼리를 수행하지 않고 컬럼을 바로 읽음
+-- 댓글 작성/삭제, 좋아요 체크/해제 시 같은 트랜잭션에서 +1/-1
+-- 어긋난 값은 CountReconcileScheduling 이 주기적으로 보정
+ALTER TABLE "BOARD" ADD (
+	"COMMENT_COUNT"	NUMBER	DEFAULT 0	NOT NULL,
+	"LIKE_COUNT"	NUMBER	DEFAULT 0	NOT NULL
+);
+
+COMMENT ON COLUMN "BOARD"."COMMENT_COUNT" IS '댓글 수(삭제되지 않은 댓글)';
+
+COMMENT ON COLUMN "BOARD"."LIKE_COUNT" IS '좋아요 수';
+
+-- 기존 데이터 값 채우기
+UPDATE "BOARD" B SET
+COMMENT_COUNT = (SELECT COUNT(*) FROM "COMMENT" C
+				 WHERE C.BOARD_NO = B.BOARD_NO
+				 AND COMMENT_DEL_FL = 'N'),
+LIKE_COUNT = (SELECT COUNT(*) FROM "BOARD_LIKE" L
+			  WHERE L.BOARD_NO = B.BOARD_NO);
+
+COMMIT;
+
+SELECT BOARD_NO, COMMENT_COUNT, LIKE_COUNT FROM "BOARD"
+ORDER BY BOARD_NO DESC;
+
+
+
+-----------------------------------------------------
+-- 업로드 이미지 내용 해시(SHA-256) 저장
+-- 같은 내용의 이미지는 파일 1개만 저장하고 여러 행이 같은 파일명을 참조
+-- 파일명 == SHA-256 16진수(64자) + 확장자 >> 이미지 변경명 컬럼 길이 확장
+ALTER TABLE "BOARD_IMG" MODIFY ("IMG_RENAME" NVARCHAR2(100));
+
+-- 저장된 파일별 참조 수 (게시글 이미지 / 프로필 이미지)
+-- 이미지 추가/교체/삭제, 프로필 변경 시 같은 트랜잭션에서 +/-
+-- 어긋난 값은 CountReconcileScheduling 이 주기적으로 보정
+-- 참조 수 0 인 파일은 행 잠금 후 삭제 (같은 내용을 동시에 업로드하는 요청과 충돌 방지)
+CREATE TABLE "UPLOAD_OBJECT" (
+	"STORE_NAME"	VARCHAR2(20)		NOT NULL,
+	"OBJECT_KEY"	VARCHAR2(100)		NOT NULL,
+	"REF_COUNT"	NUMBER	DEFAULT 0	NOT NULL,
+	"CREATE_DATE"	DATE	DEFAULT SYSDATE	NOT NULL
+);
+
+COMMENT ON COLUMN "UPLOAD_OBJECT"."STORE_NAME" IS '저장소 이름(board/profile)';
+
+COMMENT ON COLUMN "UPLOAD_OBJECT"."OBJECT_KEY" IS '파일명(내용 해시 + 확장자)';
+
+COMMENT ON COLUMN "UPLOAD_OBJECT"."REF_COUNT" IS '참조 수';
+
+COMMENT ON COLUMN "UPLOAD_OBJECT"."CREATE_DATE" IS '최초 저장일';
+
+ALTER TABLE "UPLOAD_OBJECT" ADD CONSTRAINT "PK_UPLOAD_OBJECT" PRIMARY KEY (
+	"STORE_NAME", "OBJECT_KEY"
+);
+
+SELECT STORE_NAME, OBJECT_KEY, REF_COUNT FROM "UPLOAD_OBJECT"
+ORDER BY REF_COUNT DESC;
+
+
+
+-----------------------------------------------------
+-- 게시글별 댓글 변경 번호 (댓글 작성/수정/삭제 시 +1)
+-- 변경된 댓글 행에 같은 번호를 기록 >> 화면에 반영된 번호 이후 변경(작성/수정/삭제)만 조회
+-- 게시글 행 잠금 상태에서 증가하므로 번호 순서 == 커밋 순서
+ALTER TABLE "BOARD" ADD ("COMMENT_VERSION" NUMBER DEFAULT 0 NOT NULL);
+
+ALTER TABLE "COMMENT" ADD ("COMMENT_VERSION" NUMBER DEFAULT 0 NOT NULL);
+
+COMMENT ON COLUMN "BOARD"."COMMENT_VERSION" IS '댓글 변경 번호';
+
+COMMENT ON COLUMN "COMMENT"."COMMENT_VERSION" IS '마지막 변경 시 게시글 댓글 변경 번호';
+
+CREATE INDEX "IDX_COMMENT_VERSION" ON "COMMENT" ("BOARD_NO", "COMMENT_VERSION");
+
+SELECT BOARD_NO, COMMENT_VERSION FROM "BOARD"
+ORDER BY BOARD_NO DESC;
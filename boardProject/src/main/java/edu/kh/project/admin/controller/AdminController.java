@@ -1,6 +1,7 @@
 package edu.kh.project.admin.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -194,14 +195,121 @@ public class AdminController {
 		}
 	}
 	
+	/** 게시판 목록 / 검색 결과 / 댓글 목록 캐시, 좋아요 저장소 통계 조회
+	 * (크기, 적중/실패 수, 적중률, 제거 수, 동시 조회 대기 수, 댓글 캐시 추정 메모리 사용량,
+	 *  좋아요 비트맵 회원 수/메모리 사용량, DB 반영 대기 수)
+	 * @return
+	 */
+	@GetMapping("boardCacheStats")
+	public ResponseEntity<Object> boardCacheStats() {
+		try {
+			Map<String, Object> stats = service.boardCacheStats();
+			return ResponseEntity.status(HttpStatus.OK).body(stats);
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("게시판 캐시 통계 조회 중 문제 발생 : " + e.getMessage());
+		}
+	}
 	
+	/** 커넥션 점유/대기 시간, 파일 저장 작업의 단계별 소요 시간 통계 조회
+	 * (pool.hold : 커넥션 대여 ~ 반납 시간, fileWrite.작업.transaction : 파일 저장을 제외한 트랜잭션 시간)
+	 * @return
+	 */
+	@GetMapping("connectionStats")
+	public ResponseEntity<Object> connectionStats() {
+		try {
+			Map<String, Object> stats = service.connectionStats();
+			return ResponseEntity.status(HttpStatus.OK).body(stats);
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("커넥션 통계 조회 중 문제 발생 : " + e.getMessage());
+		}
+	}
 	
+	/** 업로드 파일 저장 구조 변경(한 폴더 >> 해시 하위 폴더)
+	 * - 이동 중에도 이동 전/후 파일 모두 조회 가능, 여러 번 실행해도 이미 이동된 파일은 건너뜀
+	 * @return { board/profile : { moved, skipped, failed } }
+	 */
+	@PostMapping("migrateBlobStore")
+	public ResponseEntity<Object> migrateBlobStore() {
+		try {
+			Map<String, Map<String, Long>> result = service.migrateBlobStore();
+			return ResponseEntity.status(HttpStatus.OK).body(result);
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("파일 저장 구조 변경 중 문제 발생 : " + e.getMessage());
+		}
+	}
 	
+	/** DB에 없는 업로드 파일 정리 시작 (진행 상황은 imageSweepProgress 로 확인)
+	 * @return
+	 */
+	@PostMapping("imageSweep")
+	public ResponseEntity<String> imageSweep() {
+		try {
+			if(!service.startImageSweep()) {
+				return ResponseEntity.status(HttpStatus.CONFLICT).body("이미지 파일 정리가 이미 실행 중입니다.");
+			}
+			return ResponseEntity.status(HttpStatus.ACCEPTED).body("이미지 파일 정리 시작");
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("이미지 파일 정리 시작 중 문제 발생 : " + e.getMessage());
+		}
+	}
 	
+	/** 업로드 파일 정리 진행 상황
+	 * (상태, 이어서 수행 여부, DB 파일명 수/집합 메모리, 구역 진행 수, 조회/미참조/삭제/최근 파일 제외/실패 수, 경과 시간)
+	 * @return
+	 */
+	@GetMapping("imageSweepProgress")
+	public ResponseEntity<Object> imageSweepProgress() {
+		try {
+			return ResponseEntity.status(HttpStatus.OK).body(service.imageSweepProgress());
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("이미지 파일 정리 진행 상황 조회 중 문제 발생 : " + e.getMessage());
+		}
+	}
 	
+	/** 업로드 기록 파일 정리 통계 조회
+	 * (미확인 기록 파일 수, 기록/기록 실패 수, 정리 횟수, 후보/참조 중/삭제/실패 수, 마지막 정리 시각/소요 시간)
+	 * @return
+	 */
+	@GetMapping("uploadJournalStats")
+	public ResponseEntity<Object> uploadJournalStats() {
+		try {
+			return ResponseEntity.status(HttpStatus.OK).body(service.uploadJournalStats());
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("업로드 기록 파일 정리 통계 조회 중 문제 발생 : " + e.getMessage());
+		}
+	}
 	
+	/** 검색 색인 재구성(DB 전체 게시글로 다시 구성)
+	 * @return
+	 */
+	@PostMapping("rebuildSearchIndex")
+	public ResponseEntity<String> rebuildSearchIndex() {
+		try {
+			int result = service.rebuildSearchIndex();
+			return ResponseEntity.status(HttpStatus.OK).body("검색 색인 재구성 완료 : 게시글 " + result + "개");
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("검색 색인 재구성 중 문제 발생 : " + e.getMessage());
+		}
+	}
 	
-	
-	
-
+	/** 일별 게시판 방문자 수(HyperLogLog 추정값)
+	 * @return { 날짜 : { boardCode : 방문자 수 } }
+	 */
+	@GetMapping("dailyVisitors")
+	public ResponseEntity<Object> dailyVisitors() {
+		try {
+			Map<String, Map<Integer, Long>> result = service.dailyVisitors();
+			return ResponseEntity.status(HttpStatus.OK).body(result);
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("일별 방문자 수 조회 중 문제 발생 : " + e.getMessage());
+		}
+	}
 }
@@ -32,6 +32,8 @@ public interface AdminMapper {
 
 	int restoreBoard(int boardNo);
 
+	int selectBoardCode(int boardNo);
+
 
 
 }
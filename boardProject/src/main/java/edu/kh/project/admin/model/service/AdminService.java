@@ -1,6 +1,8 @@
 package edu.kh.project.admin.model.service;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import edu.kh.project.board.model.dto.Board;
 import edu.kh.project.member.model.dto.Member;
@@ -30,8 +32,20 @@ public interface AdminService {
 
 	int restoreBoard(int boardNo);
 
+	Map<String, Object> boardCacheStats();
 
+	Map<String, Object> connectionStats();
 
-	
+	Map<String, Map<String, Long>> migrateBlobStore() throws IOException;
+
+	boolean startImageSweep();
+
+	Map<String, Object> imageSweepProgress();
+
+	Map<String, Object> uploadJournalStats() throws IOException;
+
+	int rebuildSearchIndex();
+
+	Map<String, Map<Integer, Long>> dailyVisitors();
 
 }
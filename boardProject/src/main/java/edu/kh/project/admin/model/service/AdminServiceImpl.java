@@ -1,13 +1,31 @@
 package edu.kh.project.admin.model.service;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import edu.kh.project.admin.model.mapper.AdminMapper;
 import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.cache.BoardPageCache;
+import edu.kh.project.board.model.cache.BoardSearchCache;
+import edu.kh.project.board.model.cache.CommentTreeCache;
+import edu.kh.project.board.model.counter.BoardCountRegistry;
+import edu.kh.project.board.model.counter.DailyViewTracker;
+import edu.kh.project.board.model.index.BoardPageAnchorIndex;
+import edu.kh.project.board.model.like.BoardLikeStore;
+import edu.kh.project.board.model.search.BoardSearchIndex;
+import edu.kh.project.common.file.BlobStore;
+import edu.kh.project.common.file.OrphanFileSweeper;
+import edu.kh.project.common.file.StagedFileWriter;
+import edu.kh.project.common.file.UploadJournalCleaner;
+import edu.kh.project.common.metrics.ConnectionHoldTracker;
 import edu.kh.project.common.util.Utility;
 import edu.kh.project.member.model.dto.Member;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +37,23 @@ public class AdminServiceImpl implements AdminService{
 
 	private final AdminMapper mapper;
 	private final BCryptPasswordEncoder bCrypt;
+	private final BoardPageAnchorIndex anchorIndex;
+	private final BoardCountRegistry countRegistry;
+	private final BoardPageCache pageCache;
+	private final BoardSearchCache searchCache;
+	private final CommentTreeCache commentCache;
+	private final BoardSearchIndex searchIndex;
+	private final DailyViewTracker viewTracker;
+	private final BoardLikeStore likeStore;
+	private final ConnectionHoldTracker holdTracker;
+	private final StagedFileWriter fileWriter;
+	
+	// 업로드 파일 저장소 (BlobStoreConfig, 필드명으로 Bean 구분)
+	private final BlobStore boardBlobStore;
+	private final BlobStore profileBlobStore;
+	private final OrphanFileSweeper sweeper;
+	private final UploadJournalCleaner journalCleaner;
+	private final ExecutorService virtualThreadExecutor;
 	
 	// 관리자 로그인 서비스
 	@Override
@@ -115,7 +150,103 @@ public class AdminServiceImpl implements AdminService{
 	@Override
 	public int restoreBoard(int boardNo) {
 		
-		return mapper.restoreBoard(boardNo);
+		int result = mapper.restoreBoard(boardNo);
+		
+		// 복구된 게시글이 목록에 다시 포함됨
+		// >> 해당 게시판 게시글 수 +1, 뒤쪽 페이지 앵커 위치 +1,
+		//    복구된 게시글이 들어갈 페이지부터 목록 캐시 제거(커밋 후)
+		if(result > 0) {
+			int boardCode = mapper.selectBoardCode(boardNo);
+			
+			// 검색 색인 추가(커밋 후)
+			searchIndex.indexAfterCommit(boardNo);
+			
+			// 게시글 수 +1, 앵커 위치 +1 (지금 변경 중 표시, 커밋 후 반영)
+			countRegistry.adjust(boardCode, 1);
+			anchorIndex.inserted(boardCode, boardNo);
+			
+			Utility.afterCommit(() -> {
+				pageCache.evictFrom(boardCode, boardNo);
+				searchCache.evictBoard(boardCode);
+			});
+		}
+		
+		return result;
+	}
+
+	// 게시판 목록 / 검색 결과 / 댓글 목록 캐시, 좋아요 저장소 통계 조회 서비스
+	@Override
+	public Map<String, Object> boardCacheStats() {
+		
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("page", pageCache.stats());
+		stats.put("search", searchCache.stats());
+		stats.put("comment", commentCache.stats());
+		stats.put("like", likeStore.stats());
+		
+		return stats;
+	}
+
+	// 커넥션 점유 시간, 파일 저장 단계별 소요 시간 통계 조회 서비스
+	@Override
+	public Map<String, Object> connectionStats() {
+		
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("pool", holdTracker.stats());
+		stats.put("fileWrite", fileWriter.stats());
+		
+		return stats;
+	}
+
+	// 기존 파일(한 폴더)을 해시 하위 폴더로 이동하는 서비스
+	// 파일 이동만 수행(파일명 그대로 >> DB 수정 X) >> 트랜잭션/커넥션 없이 수행
+	// (파일 수만큼 걸리는 작업 동안 커넥션을 점유하지 않음)
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Map<String, Map<String, Long>> migrateBlobStore() throws IOException {
+		
+		Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+		result.put("board", boardBlobStore.migrate());
+		result.put("profile", profileBlobStore.migrate());
+		
+		return result;
+	}
+
+	// DB에 없는 업로드 파일 정리 시작 서비스 (요청은 기다리지 않음)
+	@Override
+	public boolean startImageSweep() {
+		
+		if(sweeper.isRunning()) return false;
+		
+		virtualThreadExecutor.execute(sweeper::sweep);
+		
+		return true;
+	}
+
+	// 업로드 파일 정리 진행 상황 조회 서비스
+	@Override
+	public Map<String, Object> imageSweepProgress() {
+		return sweeper.progress();
+	}
+
+	// 업로드 기록 파일 정리 통계 조회 서비스
+	@Override
+	public Map<String, Object> uploadJournalStats() throws IOException {
+		return journalCleaner.stats();
+	}
+
+	// 검색 색인 재구성 서비스
+	@Override
+	public int rebuildSearchIndex() {
+		
+		return searchIndex.rebuild();
+	}
+
+	// 일별 게시판 방문자 수 조회 서비스
+	@Override
+	public Map<String, Map<Integer, Long>> dailyVisitors() {
+		
+		return viewTracker.dailyVisitors();
 	}
 
 
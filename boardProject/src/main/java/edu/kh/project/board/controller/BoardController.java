@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +19,8 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.SessionAttribute;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import edu.kh.project.board.model.cookie.ReadBoardCookieCodec;
+import edu.kh.project.board.model.counter.DailyViewTracker;
 import edu.kh.project.board.model.dto.Board;
 import edu.kh.project.board.model.dto.BoardImg;
 import edu.kh.project.board.model.service.BoardService;
@@ -34,6 +37,15 @@ public class BoardController {
 	
 	@Autowired
 	private BoardService service;
+	
+	@Autowired
+	private ReadBoardCookieCodec cookieCodec;
+	
+	@Autowired
+	private DailyViewTracker viewTracker;
+	
+	@Value("${my.board.comment-paging:false}")
+	private boolean commentPaging;
 
 	/** 게시글 목록 조회
 	 * 	
@@ -49,6 +61,7 @@ public class BoardController {
 	 *  
 	 *  @param boardCode : 게시판 종류 구분 번호(1,2,3)
 	 *  @param cp : 현재 조회 요청한 페이지 번호(없으면 1)
+	 *  @param lastBoardNo : 이전 페이지의 마지막 게시글 번호(키셋 커서, 없으면 0)
 	 *  @param paramMap(검색 시 이용) : 제출된 파라미터가 모두 저장된 Map
 	 *  								(검색 시 key, query 담겨있음)
 	 *  								ex) {key=t, query=폭탄}
@@ -58,8 +71,10 @@ public class BoardController {
 	@GetMapping("{boardCode:[0-9]+}")
 	public String selectBoardList(@PathVariable("boardCode") int boardCode,
 								@RequestParam(value = "cp", required = false, defaultValue = "1") int cp,
+								@RequestParam(value = "lastBoardNo", required = false, defaultValue = "0") int lastBoardNo,
 								Model model,
-								@RequestParam Map<String, Object> paramMap 
+								@RequestParam Map<String, Object> paramMap,
+								@SessionAttribute(value = "loginMember", required = false) Member loginMember
 								) {
 		// 조회 서비스 호출 후 결과 반환
 		Map<String, Object> map = null;
@@ -68,7 +83,7 @@ public class BoardController {
 		if(paramMap.get("key") == null) {
 			
 			// 게시글 목록 조회 서비스 호출
-			map = service.selectBoardList(boardCode, cp);
+			map = service.selectBoardList(boardCode, cp, lastBoardNo);
 			
 		} else { // 검색인 경우 
 			// paramMap에 key라는 k에 접근하면 매핑된 value 반환
@@ -87,6 +102,11 @@ public class BoardController {
 		model.addAttribute("pagination", map.get("pagination"));
 		model.addAttribute("boardList", map.get("boardList"));
 		
+		// 로그인 시 현재 페이지 게시글 중 좋아요한 게시글 번호 (목록 표시용)
+		if(loginMember != null) {
+			model.addAttribute("likedBoardNoSet", service.selectLikedBoardNoSet(loginMember.getMemberNo(), map));
+		}
+		
 		// src/main/resources/templates/board/boardList.html로 forward
 		return "board/boardList";
 	}
@@ -134,41 +154,52 @@ public class BoardController {
 			// 비회원 또는 로그인한 회원의 글이 아닌 경우
 			if(loginMember == null || board.getMemberNo() != loginMember.getMemberNo()) {
 				
+				// 서버 측 일별 조회 기록(방문자 수 집계 + 쿠키를 보내지 않는 클라이언트 중복 제거)
+				// >> 오늘 처음 조회한 게시글인 경우 true
+				boolean firstView = viewTracker.recordView(boardCode, boardNo, visitorKey(loginMember, req));
+				
 				// 요청에 담겨있는 모든 쿠키 얻어오기
+				// (쿠키가 하나도 없으면 null)
 				Cookie[] cookies = req.getCookies();
 				
 				Cookie c = null;
 				
-				for(Cookie temp : cookies) {
-					
-					// 쿠키 중에 "readBoardNo"가 존재할 때
-					if(temp.getName().equals("readBoardNo")) {
-						c = temp;
-						break;
+				if(cookies != null) {
+					for(Cookie temp : cookies) {
+						
+						// 쿠키 중에 "readBoardNo"가 존재할 때
+						if(!temp.getName().equals("readBoardNo")) continue;
+						
+						// 기존 형식("[2][30]...", Path=/) 쿠키
+						// >> "/board" 쿠키와 함께 전송되어 먼저 선택될 수 있으므로 만료시킴
+						if(temp.getValue().startsWith("[")) {
+							Cookie legacy = new Cookie("readBoardNo", "");
+							legacy.setPath("/");
+							legacy.setMaxAge(0);
+							resp.addCookie(legacy);
+							continue;
+						}
+						
+						if(c == null) c = temp;
 					}
 				}
 				
 				int result = 0;	// 조회수 증가 결과를 저장할 변수
 				
-				// "readBoardNo"가 쿠키에 없을 때
-				if(c == null) {
-					// 새 쿠키 생성("readBoardNo", [게시글번호])
-					c = new Cookie("readBoardNo", "[" + boardNo + "]");
-					result = service.updateReadCount(boardNo);
-					
-					
-				} else {	// "readBoardNo"가 쿠키에 있을 때
-					//      k         :           v
-					// readBoardNo    :  [2][30][400][2000]
+				// 쿠키 값 >> 조회한 게시글 기록
+				// (쿠키가 없거나, 변조/기존 형식인 경우 빈 기록)
+				ReadBoardCookieCodec.ReadHistory history = cookieCodec.decode(c == null ? null : c.getValue());
+				
+				// 현재 글을 처음 읽는 경우
+				if(!history.contains(boardNo)) {
+					// 해당 글 번호를 기록에 추가 + 서비스 호출
+					history.add(boardNo);
+					c = new Cookie("readBoardNo", cookieCodec.encode(history));
 					
-					// 현재 글을 처음 읽는 경우
-					if(c.getValue().indexOf("[" + boardNo + "]") == -1) {
-						// 해당 글 번호를 쿠키에 누적 + 서비스 호출
-						c.setValue(c.getValue() + "[" + boardNo + "]");
-						// ex) [2][30][400][2000][4000]
-						result = service.updateReadCount(boardNo);
-					}
+					// 쿠키가 없어도 서버 측 기록상 오늘 이미 조회했다면 증가 X
+					if(firstView) result = service.updateReadCount(boardNo);
 				}
+				
 				// 조회 수 증가 성공 / 조회 성공 시
 				if(result > 0) {
 					// 앞서 조회했던 board의 readCount 값을
@@ -176,8 +207,9 @@ public class BoardController {
 					board.setReadCount(result);
 					
 					// 쿠키 적용 경로 설정
-					// "/" 이하 경로 요청 시 쿠키 서버로 전달될 수 있도록
-					c.setPath("/");
+					// 게시글 상세 조회("/board" 이하) 요청 시에만 쿠키 서버로 전달
+					// ("/" 로 지정하면 정적 자원 등 모든 요청마다 전송됨)
+					c.setPath("/board");
 					
 					// 쿠키 수명 지정
 					// 현재 시간을 얻어오기
@@ -206,7 +238,10 @@ public class BoardController {
 			// src/main/resources/templates/board/boardDetail.html 로 forward
 			
 			// board - 게시글 일반 내용 + imageList + commentList
-			model.addAttribute("board", board);	
+			model.addAttribute("board", board);
+			
+			// 댓글 페이지 조회 사용 여부(true : 댓글은 화면에서 나눠서 조회)
+			model.addAttribute("commentPaging", commentPaging);	
 			
 			// 조회된 이미지 목록(imageList)이 있을 경우
 			if( !board.getImageList().isEmpty()) {
@@ -235,13 +270,32 @@ public class BoardController {
 		return path;
 	}
 	
+	// 조회 기록용 방문자 구분 값
+	// 로그인 : 회원 번호 / 비로그인 : IP + User-Agent
+	private String visitorKey(Member loginMember, HttpServletRequest req) {
+		
+		if(loginMember != null) return "M" + loginMember.getMemberNo();
+		
+		return req.getRemoteAddr() + "|" + req.getHeader("User-Agent");
+	}
+	
 	
 	// 게시글 좋아요 체크/해제(비동기
+	// 반환 : likeCheck(변경 후 좋아요 여부), likeCount
 	@ResponseBody
 	@PostMapping("like")	// /board/like(POST) 요청 매핑
-	public int boardLike(@RequestBody Map<String, Integer> map) {
+	public Map<String, Integer> boardLike(@RequestBody Map<String, Integer> map,
+							@SessionAttribute(value = "loginMember", required = false) Member loginMember) {
+		
+		// 로그인하지 않은 경우 실패
+		if(loginMember == null) return Map.of("likeCount", -1);
+		
+		// 게시글 번호만 사용 : 회원 번호는 로그인 정보, 좋아요 여부는 서버의 현재 상태로 결정
+		Map<String, Integer> paramMap = new HashMap<>();
+		paramMap.put("boardNo", map.get("boardNo"));
+		paramMap.put("memberNo", loginMember.getMemberNo());
 		
-		return service.boardLike(map);
+		return service.boardLike(paramMap);
 	}
 	
 	
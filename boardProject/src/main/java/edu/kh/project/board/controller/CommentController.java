@@ -1,6 +1,7 @@
 package edu.kh.project.board.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -36,6 +37,39 @@ public class CommentController {
 		return service.select(boardNo);
 	}
 	
+	/** 최상위 댓글 페이지 조회(커서 방식)
+	 * @param boardNo
+	 * @param lastCommentNo : 이전 페이지 마지막 댓글 번호(처음이면 0)
+	 * @return { commentList, lastCommentNo, hasNext, commentVersion(첫 페이지) }
+	 */
+	@GetMapping("page")
+	public Map<String, Object> selectPage(@RequestParam("boardNo") int boardNo,
+			@RequestParam(value = "lastCommentNo", required = false, defaultValue = "0") int lastCommentNo) {
+		return service.selectPage(boardNo, lastCommentNo);
+	}
+	
+	/** 답글 목록 조회(답글 펼치기)
+	 * @param parentCommentNo
+	 * @param level : 답글의 계층 깊이
+	 * @return
+	 */
+	@GetMapping("replies")
+	public List<Comment> selectReplies(@RequestParam("parentCommentNo") int parentCommentNo,
+			@RequestParam(value = "level", required = false, defaultValue = "2") int level) {
+		return service.selectReplies(parentCommentNo, level);
+	}
+	
+	/** 기준 변경 번호 이후 작성/수정/삭제된 댓글 조회(화면에 변경된 댓글만 반영)
+	 * @param boardNo
+	 * @param sinceVersion : 화면에 반영된 댓글 변경 번호
+	 * @return
+	 */
+	@GetMapping("delta")
+	public List<Comment> selectSince(@RequestParam("boardNo") int boardNo,
+			@RequestParam("sinceVersion") int sinceVersion) {
+		return service.selectSince(boardNo, sinceVersion);
+	}
+	
 	/** 댓글/답글 등록
 	 *  + 답글일 때는 parentCommentNo 포함
 	 * @return
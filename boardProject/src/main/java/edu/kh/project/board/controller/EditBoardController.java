@@ -207,6 +207,7 @@ public class EditBoardController {
 			RedirectAttributes ra
 			) {
 		Map<String, Integer> map = new HashMap<>();
+		map.put("boardCode", boardCode);
 		map.put("boardNo", boardNo);
 		map.put("memberNo", loginMember.getMemberNo());
 		
@@ -250,6 +251,7 @@ public class EditBoardController {
 		
 		// 1. 파라미터 세팅
 		Map<String, Integer> map = new HashMap<>();
+		map.put("boardCode", boardCode);
 		map.put("boardNo", boardNo);
 		map.put("memberNo", loginMember.getMemberNo());
 		
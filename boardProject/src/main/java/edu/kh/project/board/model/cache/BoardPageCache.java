@@ -0,0 +1,210 @@
+package edu.kh.project.board.model.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.common.cache.BoundedCache;
+
+/* 게시판 목록 페이지 캐시 ((boardCode, cp) : 게시글 목록)
+ *
+ * - 대부분의 요청이 앞쪽 몇 페이지에 몰리므로 해당 페이지를 메모리에서 바로 반환
+ * - 저장된 Board 객체는 여러 요청이 공유 >> 직접 수정하지 않고 복사본으로 교체(patch)
+ *
+ * [변경 반영] (모두 커밋 후 호출)
+ * - 게시글 작성 : 해당 게시판의 모든 페이지가 한 행씩 밀림 >> 게시판 페이지 제거
+ * - 게시글 삭제/복구 : 해당 게시글이 있던 페이지부터 뒤 페이지만 제거
+ * - 제목 수정, 댓글 수, 좋아요 수 : 해당 게시글만 복사본으로 교체
+ *   (게시글 번호 >> 저장된 페이지 색인으로 해당 게시글이 있는 페이지만 수정)
+ * - 조회 수는 매 조회마다 반영하지 않음 (목록의 조회 수는 TTL 동안 이전 값)
+ *
+ * [세대(generation)]
+ * DB 조회 도중 변경이 커밋되면 조회 결과가 이미 오래된 값일 수 있음
+ * >> 조회 전 세대 번호를 기억하고, 저장 시 "조회한 게시판" 또는 "조회한 게시글" 이
+ *    그 이후에 변경되었으면 저장하지 않음 (다른 게시판/게시글 변경은 영향 X)
+ */
+@Component
+public class BoardPageCache {
+
+	public record PageKey(int boardCode, int cp) {}
+
+	// 게시글 변경 기록이 이 수를 넘으면 비우고 그 이전에 시작한 조회는 저장하지 않음
+	private static final int MAX_PATCHED = 10_000;
+
+	private final BoundedCache<PageKey, List<Board>> cache;
+
+	// 변경 순서 번호 (변경 시에만 증가, 조회 시 증가 X)
+	private final AtomicLong generation = new AtomicLong();
+
+	// 게시판 번호 : 마지막으로 페이지를 제거한 세대
+	private final Map<Integer, Long> boardGenerations = new ConcurrentHashMap<>();
+
+	// 게시글 번호 : 마지막으로 수정(patch)한 세대
+	private final Map<Integer, Long> patchedGenerations = new ConcurrentHashMap<>();
+
+	// 게시글 변경 기록을 비운 세대 (이보다 이전 조회 결과는 저장 X)
+	private volatile long patchedFloor;
+
+	// 게시글 번호 : 해당 게시글이 있는 페이지
+	private final Map<Integer, Set<PageKey>> pageIndex = new ConcurrentHashMap<>();
+
+	public BoardPageCache(@Value("${my.board.page-cache.max-size:200}") int maxSize,
+						  @Value("${my.board.page-cache.ttl-seconds:60}") int ttlSeconds) {
+		this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000L, this::unindex);
+	}
+
+	/** 현재 세대 번호 (DB 조회 전에 호출)
+	 * @return
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
+	/** 페이지 조회
+	 * @param boardCode
+	 * @param cp
+	 * @return 없으면 null
+	 */
+	public List<Board> get(int boardCode, int cp) {
+		return cache.get(new PageKey(boardCode, cp));
+	}
+
+	/** 페이지 저장 (조회 도중 해당 게시판/게시글 변경이 있었으면 저장하지 않음)
+	 * @param boardCode
+	 * @param cp
+	 * @param boardList
+	 * @param generation : 조회 전 generation() 값
+	 */
+	public void put(int boardCode, int cp, List<Board> boardList, long generation) {
+
+		if(changedSince(boardCode, boardList, generation)) return;
+
+		PageKey key = new PageKey(boardCode, cp);
+		List<Board> page = List.copyOf(boardList);
+
+		cache.put(key, page);
+
+		for(Board board : page) index(board.getBoardNo(), key);
+
+		// 저장하는 사이 수정된 게시글이 있으면 제거
+		// (수정은 "기록 >> 색인 조회" 순서, 저장은 "색인 추가 >> 기록 확인" 순서
+		//  >> 둘 중 하나는 반드시 상대를 확인함)
+		if(changedSince(boardCode, page, generation)) cache.remove(key);
+	}
+
+	// 조회 시작(generation) 이후 게시판 또는 페이지의 게시글이 변경되었는지
+	private boolean changedSince(int boardCode, List<Board> boardList, long generation) {
+
+		if(generation < patchedFloor) return true;
+
+		if(boardGenerations.getOrDefault(boardCode, 0L) > generation) return true;
+
+		for(Board board : boardList) {
+			if(patchedGenerations.getOrDefault(board.getBoardNo(), 0L) > generation) return true;
+		}
+
+		return false;
+	}
+
+	/** 게시판의 모든 페이지 제거 (게시글 작성)
+	 * @param boardCode
+	 */
+	public void evictBoard(int boardCode) {
+
+		boardGenerations.put(boardCode, generation.incrementAndGet());
+
+		cache.removeIf((key, list) -> key.boardCode() == boardCode);
+	}
+
+	/** 게시글이 포함된 페이지 + 뒤 페이지 제거 (게시글 삭제/복구)
+	 * 목록은 BOARD_NO 내림차순 >> 마지막 게시글 번호가 boardNo 이하인 페이지부터 영향 받음
+	 * @param boardCode
+	 * @param boardNo
+	 */
+	public void evictFrom(int boardCode, int boardNo) {
+
+		boardGenerations.put(boardCode, generation.incrementAndGet());
+
+		cache.removeIf((key, list) -> key.boardCode() == boardCode
+				&& (list.isEmpty() || list.get(list.size() - 1).getBoardNo() <= boardNo));
+	}
+
+	/** 게시글 하나를 복사본으로 교체 (제목, 댓글 수, 좋아요 수 변경)
+	 * 해당 게시글이 있는 페이지만 수정 (다른 페이지, 다른 게시판 조회는 영향 X)
+	 * @param boardNo
+	 * @param patch : 기존 Board >> 새 Board (기존 객체를 수정하지 말 것)
+	 */
+	public void patch(int boardNo, UnaryOperator<Board> patch) {
+
+		if(patchedGenerations.size() >= MAX_PATCHED) {
+			patchedFloor = generation.get() + 1;
+			patchedGenerations.clear();
+		}
+
+		patchedGenerations.put(boardNo, generation.incrementAndGet());
+
+		Set<PageKey> keys = pageIndex.get(boardNo);
+
+		if(keys == null) return;
+
+		for(PageKey key : keys) {
+
+			boolean cached = cache.patch(key, list -> {
+
+				for(int i = 0; i < list.size(); i++) {
+
+					if(list.get(i).getBoardNo() != boardNo) continue;
+
+					Board[] arr = list.toArray(new Board[0]);
+					arr[i] = patch.apply(arr[i]);
+					return List.of(arr);
+				}
+
+				return list; // 변경 없음
+			});
+
+			// 이미 제거된 페이지의 색인 정리
+			if(!cached) unindex(boardNo, key);
+		}
+	}
+
+	// 캐시에서 제거/교체된 페이지의 게시글 색인 제거
+	private void unindex(PageKey key, List<Board> page) {
+
+		for(Board board : page) unindex(board.getBoardNo(), key);
+	}
+
+	// 색인 추가/제거는 모두 compute 안에서 수행 (게시글 번호 단위 잠금)
+	// >> 빈 Set 을 지우는 제거와 같은 Set 에 추가하는 저장이 겹쳐
+	//    pageIndex 에서 빠진 Set 에 추가(색인 유실 >> patch 누락)되지 않도록
+	private void index(int boardNo, PageKey key) {
+
+		pageIndex.compute(boardNo, (no, keys) -> {
+			if(keys == null) keys = ConcurrentHashMap.newKeySet();
+			keys.add(key);
+			return keys;
+		});
+	}
+
+	private void unindex(int boardNo, PageKey key) {
+
+		pageIndex.computeIfPresent(boardNo, (no, keys) -> {
+			keys.remove(key);
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	/** 캐시 통계
+	 * @return
+	 */
+	public Map<String, Object> stats() {
+		return cache.stats();
+	}
+}
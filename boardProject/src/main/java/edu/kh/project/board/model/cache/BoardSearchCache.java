@@ -0,0 +1,160 @@
+package edu.kh.project.board.model.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.common.cache.BoundedCache;
+
+/* 검색 결과 캐시 ((boardCode, key, 정규화된 검색어, cp) : 검색 결과)
+ *
+ * - 인기 검색어는 같은 검색이 동시에 여러 번 요청됨
+ * - 짧은 시간(TTL) 동안 결과를 재사용
+ * - 캐시에 없는 같은 검색이 동시에 요청되면 하나만 DB 조회하고 나머지는 그 결과를 기다림 (single-flight)
+ *   >> 최대 wait-millis 까지만 기다리고, 초과하면 직접 조회 (느린 조회 1건에 요청이 무기한 묶이지 않도록)
+ *   >> 기다리는 동안 커넥션을 가지고 있지 않도록 트랜잭션 밖에서 호출
+ * - 검색어는 normalizeQuery 로 정규화한 값을 키와 조회에 함께 사용 ("Java  " == "java")
+ *
+ * [변경 반영]
+ * - 게시글 작성/수정/삭제/복구 : 해당 게시판 검색 결과 제거 (커밋 후)
+ * - 닉네임 변경 : 전체 제거 (작성자 검색 결과가 바뀜)
+ * - 댓글 수, 좋아요 수 등은 TTL 동안 이전 값 표시
+ */
+@Component
+public class BoardSearchCache {
+
+	public record SearchKey(int boardCode, String key, String query, int cp) {}
+
+	private final BoundedCache<SearchKey, Map<String, Object>> cache;
+
+	// 조회 진행 중인 검색 (같은 검색은 이 결과를 기다림)
+	private final Map<SearchKey, CompletableFuture<Map<String, Object>>> inFlight = new ConcurrentHashMap<>();
+
+	// 조회 도중 변경된 결과를 저장하지 않기 위한 세대 번호
+	private final AtomicLong generation = new AtomicLong();
+
+	// 통계
+	private final LongAdder loads = new LongAdder();		// 실제 조회 수
+	private final LongAdder collapsed = new LongAdder();	// 진행 중인 조회를 기다린 수
+	private final LongAdder waitTimeouts = new LongAdder();	// 기다리다 시간 초과로 직접 조회한 수
+
+	// 진행 중인 조회를 기다릴 최대 시간(ms)
+	private final long waitMillis;
+
+	public BoardSearchCache(@Value("${my.board.search-cache.max-size:500}") int maxSize,
+							@Value("${my.board.search-cache.ttl-seconds:10}") int ttlSeconds,
+							@Value("${my.board.search-cache.wait-millis:3000}") long waitMillis) {
+		this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000L);
+		this.waitMillis = waitMillis;
+	}
+
+	/** 검색어 정규화 (앞뒤 공백 제거, 연속 공백은 1칸, 소문자)
+	 * @param query
+	 * @return
+	 */
+	public static String normalizeQuery(String query) {
+		return query == null ? "" : query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	/** 검색 결과 조회 (없으면 loader 로 조회 후 저장)
+	 * @param searchKey
+	 * @param loader : 실제 검색 수행
+	 * @return
+	 */
+	public Map<String, Object> get(SearchKey searchKey, Supplier<Map<String, Object>> loader) {
+
+		Map<String, Object> result = cache.get(searchKey);
+
+		if(result != null) return result;
+
+		CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+		CompletableFuture<Map<String, Object>> running = inFlight.putIfAbsent(searchKey, future);
+
+		// 같은 검색이 이미 진행 중 >> 결과 대기 (시간 초과 시 직접 조회)
+		if(running != null) {
+			collapsed.increment();
+
+			try {
+				return running.get(waitMillis, TimeUnit.MILLISECONDS);
+
+			} catch(TimeoutException e) {
+				waitTimeouts.increment();
+
+				return loader.get();
+
+			} catch(ExecutionException e) {
+				// 진행 중이던 조회의 예외를 그대로 전달
+				if(e.getCause() instanceof RuntimeException re) throw re;
+				throw new IllegalStateException(e.getCause());
+
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("검색 결과 대기 중 인터럽트", e);
+			}
+		}
+
+		long gen = generation.get();
+
+		try {
+			loads.increment();
+
+			result = loader.get();
+
+			if(generation.get() == gen) cache.put(searchKey, result);
+
+			future.complete(result);
+			return result;
+
+		} catch(RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+
+		} finally {
+			inFlight.remove(searchKey, future);
+		}
+	}
+
+	/** 게시판의 검색 결과 제거
+	 * @param boardCode
+	 */
+	public void evictBoard(int boardCode) {
+
+		generation.incrementAndGet();
+
+		cache.removeIf((key, value) -> key.boardCode() == boardCode);
+	}
+
+	/** 전체 제거
+	 */
+	public void evictAll() {
+
+		generation.incrementAndGet();
+
+		cache.clear();
+	}
+
+	/** 캐시 통계 (+ 실제 조회 수, 대기한 요청 수)
+	 * @return
+	 */
+	public Map<String, Object> stats() {
+
+		Map<String, Object> stats = new LinkedHashMap<>(cache.stats());
+		stats.put("loads", loads.sum());
+		stats.put("collapsed", collapsed.sum());
+		stats.put("waitTimeouts", waitTimeouts.sum());
+		stats.put("inFlight", inFlight.size());
+
+		return stats;
+	}
+}
@@ -0,0 +1,306 @@
+package edu.kh.project.board.model.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.comment.CommentTree;
+import edu.kh.project.board.model.dto.Comment;
+import edu.kh.project.common.cache.BoundedCache;
+
+/* 게시글별 댓글 목록 캐시 (boardNo : 계층 정렬된 댓글 목록)
+ *
+ * - 상세 조회, /comment 조회 시 매번 DB 조회 + 계층 정렬하지 않고 정렬된 목록 재사용
+ * - 저장된 목록/Comment 는 여러 요청이 공유 >> 직접 수정하지 않고 복사본으로 교체
+ *
+ * [저장 형태]
+ * - all : 삭제된 댓글까지 포함한 전위 순회 목록(CommentTree.sort)
+ *         >> 한 댓글의 하위 답글은 항상 바로 뒤에 LEVEL 이 더 큰 행으로 연속해서 위치
+ * - visible : 화면 출력 목록(CommentTree.visible), 수정 시마다 all 에서 다시 선택
+ *
+ * [변경 반영] (모두 커밋 후 호출, 게시글 전체 제거 X)
+ * - 댓글 작성 : 부모 댓글의 하위 답글 중 번호 순서에 맞는 위치에 추가
+ * - 댓글 수정 : 해당 댓글 내용만 교체
+ * - 댓글 삭제 : 해당 댓글 삭제 표시 (출력 여부는 visible 에서 다시 판단)
+ * - 위치를 찾을 수 없는 경우(부모 댓글이 목록에 없음 등) >> 해당 게시글만 제거
+ *
+ * [세대(generation)]
+ * DB 조회 도중 변경이 커밋되면 조회 결과가 이미 오래된 값일 수 있음
+ * >> 조회 전 세대 번호를 기억하고, 저장 시 "조회한 게시글" 이 그 이후에 변경되었으면 저장하지 않음
+ *    (다른 게시글 댓글 변경은 영향 X, 회원 정보 변경은 여러 게시글에 걸치므로 모든 조회에 영향)
+ */
+@Component
+public class CommentTreeCache {
+
+	// 전체 댓글(삭제 포함) + 화면 출력 댓글
+	private record Tree(List<Comment> all, List<Comment> visible) {
+
+		static Tree of(List<Comment> all) {
+			return new Tree(List.copyOf(all), List.copyOf(CommentTree.visible(all)));
+		}
+	}
+
+	// 게시글 변경 기록이 이 수를 넘으면 비우고 그 이전에 시작한 조회는 저장하지 않음
+	private static final int MAX_CHANGED = 10_000;
+
+	private final BoundedCache<Integer, Tree> cache;
+
+	// 변경 순서 번호 (변경 시에만 증가, 조회 시 증가 X)
+	private final AtomicLong generation = new AtomicLong();
+
+	// 게시글 번호 : 마지막으로 댓글 목록을 변경(수정/제거)한 세대
+	private final Map<Integer, Long> changedGenerations = new ConcurrentHashMap<>();
+
+	// 이보다 이전에 시작한 조회 결과는 저장 X (변경 기록 비움, 회원 정보 변경)
+	private volatile long changedFloor;
+
+	// 통계
+	private final LongAdder patches = new LongAdder();		// 목록 수정 횟수
+	private final LongAdder patchFails = new LongAdder();	// 위치를 찾지 못해 제거한 횟수
+
+	public CommentTreeCache(@Value("${my.board.comment-cache.max-size:500}") int maxSize,
+							@Value("${my.board.comment-cache.ttl-seconds:600}") int ttlSeconds) {
+		this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000L);
+	}
+
+	/** 현재 세대 번호 (DB 조회 전에 호출)
+	 * @return
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
+	/** 화면 출력 댓글 목록 조회
+	 * @param boardNo
+	 * @return 없으면 null
+	 */
+	public List<Comment> get(int boardNo) {
+
+		Tree tree = cache.get(boardNo);
+
+		return tree == null ? null : tree.visible();
+	}
+
+	/** 댓글 목록 저장 (조회 도중 해당 게시글 댓글 변경이 있었으면 저장하지 않음)
+	 * @param boardNo
+	 * @param sortedList : CommentTree.sort 결과(삭제 포함)
+	 * @param generation : 조회 전 generation() 값
+	 * @return 화면 출력 댓글 목록
+	 */
+	public List<Comment> put(int boardNo, List<Comment> sortedList, long generation) {
+
+		Tree tree = Tree.of(sortedList);
+
+		if(changedSince(boardNo, generation)) return tree.visible();
+
+		cache.put(boardNo, tree);
+
+		// 저장하는 사이 변경된 경우 제거
+		// (변경은 "기록 >> 목록 수정" 순서, 저장은 "저장 >> 기록 확인" 순서
+		//  >> 목록 수정이 저장 전이라 반영되지 않았어도 여기서 기록을 확인함)
+		if(changedSince(boardNo, generation)) cache.remove(boardNo);
+
+		return tree.visible();
+	}
+
+	// 조회 시작(generation) 이후 게시글 댓글 목록이 변경되었는지
+	private boolean changedSince(int boardNo, long generation) {
+
+		if(generation < changedFloor) return true;
+
+		return changedGenerations.getOrDefault(boardNo, 0L) > generation;
+	}
+
+	// 게시글 댓글 목록 변경 기록 (목록 수정/제거 전에 호출)
+	private void changed(int boardNo) {
+
+		if(changedGenerations.size() >= MAX_CHANGED) {
+			changedFloor = generation.get() + 1;
+			changedGenerations.clear();
+		}
+
+		changedGenerations.put(boardNo, generation.incrementAndGet());
+	}
+
+	/** 게시글 댓글 목록 제거
+	 * @param boardNo
+	 */
+	public void evict(int boardNo) {
+
+		changed(boardNo);
+
+		cache.remove(boardNo);
+	}
+
+	/** 작성된 댓글 추가
+	 * @param comment : 작성자 정보까지 조회된 댓글
+	 */
+	public void insert(Comment comment) {
+
+		patch(comment.getBoardNo(), list -> {
+
+			// 조회 시점에 이미 포함된 경우
+			if(indexOf(list, comment.getCommentNo()) >= 0) return list;
+
+			int parentLevel = 0;
+			int pos = 0;
+
+			if(comment.getParentCommentNo() != 0) {
+
+				int parentIndex = indexOf(list, comment.getParentCommentNo());
+
+				if(parentIndex < 0) return null; // 부모 댓글이 목록에 없음
+
+				parentLevel = list.get(parentIndex).getLevel();
+				pos = parentIndex + 1;
+			}
+
+			// 부모의 하위 답글 범위 안에서 번호가 더 큰 형제 댓글 앞(없으면 범위 끝)
+			while(pos < list.size() && list.get(pos).getLevel() > parentLevel) {
+
+				Comment next = list.get(pos);
+
+				if(next.getLevel() == parentLevel + 1 && next.getCommentNo() > comment.getCommentNo()) break;
+
+				pos++;
+			}
+
+			List<Comment> result = new ArrayList<>(list);
+			result.add(pos, comment.toBuilder().level(parentLevel + 1).build());
+
+			return result;
+		});
+	}
+
+	/** 댓글 내용 수정
+	 * @param boardNo
+	 * @param commentNo
+	 * @param commentContent
+	 * @param commentVersion : 수정 시 기록된 댓글 변경 번호
+	 */
+	public void update(int boardNo, int commentNo, String commentContent, int commentVersion) {
+
+		patch(boardNo, list -> replace(list, commentNo, 
+				comment -> comment.toBuilder().commentContent(commentContent).commentVersion(commentVersion).build()));
+	}
+
+	/** 댓글 삭제 (삭제 표시만 변경, 출력 여부는 visible 에서 판단)
+	 * @param boardNo
+	 * @param commentNo
+	 * @param commentVersion : 삭제 시 기록된 댓글 변경 번호
+	 */
+	public void delete(int boardNo, int commentNo, int commentVersion) {
+
+		patch(boardNo, list -> replace(list, commentNo, 
+				comment -> comment.toBuilder().commentDelFl("Y").commentVersion(commentVersion).build()));
+	}
+
+	/** 회원이 작성한 모든 댓글 교체 (닉네임, 프로필 이미지 변경)
+	 * @param memberNo
+	 * @param patch : 기존 Comment >> 새 Comment (기존 객체를 수정하지 말 것)
+	 */
+	public void patchMember(int memberNo, UnaryOperator<Comment> patch) {
+
+		// 회원의 댓글이 있는 게시글을 알 수 없음 >> 진행 중인 모든 조회 결과 저장 X
+		changedFloor = generation.incrementAndGet();
+
+		cache.patchAll((boardNo, tree) -> {
+
+			List<Comment> result = null;
+
+			for(int i = 0; i < tree.all().size(); i++) {
+
+				if(tree.all().get(i).getMemberNo() != memberNo) continue;
+
+				if(result == null) result = new ArrayList<>(tree.all());
+
+				result.set(i, patch.apply(result.get(i)));
+			}
+
+			return result == null ? tree : Tree.of(result); // 변경 없으면 기존 목록
+		});
+	}
+
+	// 목록 수정 (null 반환 시 해당 게시글 제거)
+	private void patch(int boardNo, UnaryOperator<List<Comment>> patch) {
+
+		changed(boardNo);
+
+		cache.patch(boardNo, tree -> {
+
+			List<Comment> result = patch.apply(tree.all());
+
+			if(result == null) {
+				patchFails.increment();
+				return null;
+			}
+
+			patches.increment();
+
+			return result == tree.all() ? tree : Tree.of(result);
+		});
+	}
+
+	// 댓글 하나를 복사본으로 교체 (목록에 없으면 null)
+	private static List<Comment> replace(List<Comment> list, int commentNo, UnaryOperator<Comment> patch) {
+
+		int index = indexOf(list, commentNo);
+
+		if(index < 0) return null;
+
+		List<Comment> result = new ArrayList<>(list);
+		result.set(index, patch.apply(list.get(index)));
+
+		return result;
+	}
+
+	// 댓글 번호로 위치 찾기
+	private static int indexOf(List<Comment> list, int commentNo) {
+
+		for(int i = 0; i < list.size(); i++) {
+			if(list.get(i).getCommentNo() == commentNo) return i;
+		}
+
+		return -1;
+	}
+
+	// 댓글 1개 메모리 사용량 추정(byte)
+	// 객체 헤더 + 필드 약 64 byte, 문자열은 UTF-16 기준(한글 포함)
+	private static long estimateBytes(Comment comment) {
+		return 64 + stringBytes(comment.getCommentContent())
+				+ stringBytes(comment.getCommentWriteDate())
+				+ stringBytes(comment.getProfileImg())
+				+ stringBytes(comment.getMemberNickname());
+	}
+
+	private static long stringBytes(String str) {
+		return str == null ? 0 : 40 + 2L * str.length();
+	}
+
+	/** 캐시 통계 (+ 저장된 댓글 수, 추정 메모리 사용량, 수정 횟수)
+	 * @return
+	 */
+	public Map<String, Object> stats() {
+
+		Map<String, Object> stats = new LinkedHashMap<>(cache.stats());
+		stats.put("comments", cache.sum(tree -> tree.all().size()));
+		stats.put("estimatedBytes", cache.sum(tree -> {
+			// 목록 2개(참조 배열) + 댓글 객체(visible 은 all 의 객체를 공유)
+			long bytes = 32 + 8L * (tree.all().size() + tree.visible().size());
+			for(Comment comment : tree.all()) bytes += estimateBytes(comment);
+			return bytes;
+		}));
+		stats.put("patches", patches.sum());
+		stats.put("patchFails", patchFails.sum());
+
+		return stats;
+	}
+}
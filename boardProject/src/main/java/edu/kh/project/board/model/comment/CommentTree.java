@@ -0,0 +1,205 @@
+package edu.kh.project.board.model.comment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import edu.kh.project.board.model.dto.Comment;
+
+/* 댓글 계층 정렬
+ *
+ * - CONNECT BY 계층 조회와 같은 순서/결과를 Java에서 구성
+ *   START WITH PARENT_COMMENT_NO IS NULL
+ *   CONNECT BY PRIOR COMMENT_NO = PARENT_COMMENT_NO
+ *   ORDER SIBLINGS BY COMMENT_NO
+ *
+ * - 삭제된 댓글은 삭제되지 않은 자식 댓글이 있을 때만 남김
+ *   (SQL의 댓글마다 수행되는 COUNT(*) 서브쿼리를 한 번의 순회로 대체)
+ * - 계층 깊이(LEVEL) 계산 : 최상위 1, 답글은 부모 + 1
+ * - 댓글 수 n 에 대해 O(n) (COMMENT_NO 순으로 조회된 경우)
+ *   자식 목록은 배열 연결 리스트, 부모 위치는 int 해시 표 (Map / 박싱 / 형제 정렬 없음)
+ *
+ * ex) 1(삭제) ── 3        결과 : 1, 3, 4
+ *     2(삭제)              (삭제된 2는 살아있는 자식이 없으므로 제외)
+ *     4
+ */
+public final class CommentTree {
+
+	private CommentTree() {}
+
+	/** 평평한 댓글 목록(삭제 포함)을 계층 순서로 정렬
+	 * @param commentList : 게시글의 전체 댓글
+	 * @return 화면 출력 순서(전위 순회)의 댓글 목록
+	 */
+	public static List<Comment> build(List<Comment> commentList) {
+		return build(commentList, 0, 1);
+	}
+
+	/** 특정 댓글의 하위 답글 목록을 계층 순서로 정렬
+	 * @param commentList : 하위 답글 전체(삭제 포함)
+	 * @param rootCommentNo : 기준 댓글 번호(최상위부터 정렬 시 0)
+	 * @param level : rootCommentNo 바로 아래 답글의 계층 깊이
+	 * @return 화면 출력 순서(전위 순회)의 댓글 목록
+	 */
+	public static List<Comment> build(List<Comment> commentList, int rootCommentNo, int level) {
+		return visible(sort(commentList, rootCommentNo, level));
+	}
+
+	/** 삭제 댓글을 제외하지 않고 계층 순서로 정렬
+	 * @param commentList : 게시글의 전체 댓글
+	 * @return 전위 순회 순서의 전체 댓글 목록(LEVEL 지정)
+	 */
+	public static List<Comment> sort(List<Comment> commentList) {
+		return sort(commentList, 0, 1);
+	}
+
+	private static List<Comment> sort(List<Comment> commentList, int rootCommentNo, int level) {
+
+		int size = commentList.size();
+
+		// COMMENT_NO 순 (조회 결과가 이미 정렬되어 있으면 확인만 수행)
+		Comment[] comments = commentList.toArray(new Comment[size]);
+
+		if(!sortedByNumber(comments)) Arrays.sort(comments, Comparator.comparingInt(Comment::getCommentNo));
+
+		// COMMENT_NO : 위치 (개방 주소 해시 표, 번호는 1 이상 >> 0 은 빈 칸)
+		int mask = Integer.highestOneBit(Math.max(size, 1) * 2 + 1) * 2 - 1;
+		int[] keys = new int[mask + 1];
+		int[] positions = new int[mask + 1];
+
+		for(int i = 0; i < size; i++) {
+			int slot = slot(keys, mask, comments[i].getCommentNo());
+			keys[slot] = comments[i].getCommentNo();
+			positions[slot] = i;
+		}
+
+		// 자식 목록을 배열 연결 리스트로 구성 (Map / 박싱 / 형제 정렬 없음)
+		// - 번호 역순으로 앞에 끼워 넣으므로 형제는 번호 오름차순
+		int[] firstChild = new int[size];
+		int[] nextSibling = new int[size];
+		Arrays.fill(firstChild, -1);
+
+		int firstRoot = -1;
+
+		for(int i = size - 1; i >= 0; i--) {
+
+			int parentNo = comments[i].getParentCommentNo();
+
+			if(parentNo == rootCommentNo) {
+				nextSibling[i] = firstRoot;
+				firstRoot = i;
+				continue;
+			}
+
+			int slot = slot(keys, mask, parentNo);
+
+			// 부모가 목록에 없는 댓글은 CONNECT BY 와 같이 제외
+			if(keys[slot] == 0) continue;
+
+			int parent = positions[slot];
+
+			nextSibling[i] = firstChild[parent];
+			firstChild[parent] = i;
+		}
+
+		List<Comment> result = new ArrayList<>(size);
+
+		if(firstRoot < 0) return result;
+
+		// 깊은 답글에서도 StackOverflow가 나지 않도록 명시적 스택 사용
+		// (꺼낸 댓글의 다음 형제, 첫 자식 순으로 push >> 자식이 먼저 꺼내짐, 댓글마다 1번만 push)
+		int[] stack = new int[size];
+		int top = 0;
+
+		comments[firstRoot].setLevel(level);
+		stack[top++] = firstRoot;
+
+		while(top > 0) {
+
+			int i = stack[--top];
+			Comment comment = comments[i];
+
+			result.add(comment);
+
+			if(nextSibling[i] >= 0) {
+				comments[nextSibling[i]].setLevel(comment.getLevel());
+				stack[top++] = nextSibling[i];
+			}
+
+			if(firstChild[i] >= 0) {
+				comments[firstChild[i]].setLevel(comment.getLevel() + 1);
+				stack[top++] = firstChild[i];
+			}
+		}
+
+		return result;
+	}
+
+	/** 전위 순회 순서의 전체 댓글 중 화면에 출력할 댓글만 선택
+	 * - 삭제되지 않았거나, 삭제되지 않은 자식 댓글이 있는 경우 출력
+	 * @param sortedList : sort() 결과(전위 순회 + LEVEL)
+	 * @return
+	 */
+	public static List<Comment> visible(List<Comment> sortedList) {
+
+		int size = sortedList.size();
+
+		// 삭제되지 않은 자식 댓글 존재 여부
+		boolean[] hasLiveChild = new boolean[size];
+
+		// 현재 댓글의 조상 댓글 위치(전위 순회이므로 LEVEL 이 작아지면 조상에서 제거)
+		int[] ancestors = new int[size];
+		int top = 0;
+
+		// 조상 댓글의 LEVEL (ancestors 와 같은 위치)
+		int[] ancestorLevels = new int[size];
+
+		for(int i = 0; i < size; i++) {
+
+			Comment comment = sortedList.get(i);
+			int level = comment.getLevel();
+
+			while(top > 0 && ancestorLevels[top - 1] >= level) top--;
+
+			// 바로 위 부모 댓글에 표시
+			if(top > 0 && ancestorLevels[top - 1] == level - 1 && "N".equals(comment.getCommentDelFl())) {
+				hasLiveChild[ancestors[top - 1]] = true;
+			}
+
+			ancestors[top] = i;
+			ancestorLevels[top++] = level;
+		}
+
+		List<Comment> result = new ArrayList<>(size);
+
+		for(int i = 0; i < size; i++) {
+
+			Comment comment = sortedList.get(i);
+
+			if("N".equals(comment.getCommentDelFl()) || hasLiveChild[i]) result.add(comment);
+		}
+
+		return result;
+	}
+
+	// 번호가 저장된 칸 또는 저장할 빈 칸 (선형 탐사)
+	private static int slot(int[] keys, int mask, int commentNo) {
+
+		int slot = (commentNo * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(mask);
+
+		while(keys[slot] != 0 && keys[slot] != commentNo) slot = slot + 1 & mask;
+
+		return slot;
+	}
+
+	// COMMENT_NO 오름차순 여부
+	private static boolean sortedByNumber(Comment[] comments) {
+
+		for(int i = 1; i < comments.length; i++) {
+			if(comments[i - 1].getCommentNo() > comments[i].getCommentNo()) return false;
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,277 @@
+package edu.kh.project.board.model.cookie;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 조회한 게시글 번호 쿠키(readBoardNo) 인코딩 / 디코딩
+ *
+ * 기존 : "[2][30][400][2000]..." >> 글을 읽을수록 길어지고, 확인은 indexOf(선형 탐색)
+ *
+ * 변경 : base64url(형식 1byte + 내용) + "." + base64url(서명)
+ * - 형식 S : 정렬된 게시글 번호의 차이값(delta)을 varint 로 나열 (정확한 집합)
+ *            ex) 2, 30, 400, 2000 >> 2, 28, 370, 1600 >> 7 byte
+ * - 형식 B : Bloom 필터(BLOOM_BITS 비트, 해시 HASH_COUNT 개)
+ *            집합 형식이 Bloom 필터보다 커지면 변환 >> 쿠키 크기 상한 고정
+ *            (드물게 읽지 않은 글을 읽은 것으로 판단할 수 있음 == 조회 수 미증가)
+ * - 서명 : HMAC-SHA256 앞 16byte >> 변조된 쿠키는 빈 기록으로 처리
+ *
+ * 요청마다 쿠키 해석 + 확인 + 다시 쓰기를 수행하므로
+ * - 집합은 정렬된 int 배열(이진 탐색, 박싱 X), 최대 크기는 Bloom 필터 크기로 제한
+ * - Mac 은 키를 설정한 원본을 복제해서 사용 (getInstance + init 반복 X)
+ */
+@Component
+@Slf4j
+public class ReadBoardCookieCodec {
+
+	// Bloom 필터 크기(비트) / 해시 개수
+	// 1,000개 저장 시 오탐률 약 2%
+	static final int BLOOM_BITS = 8192;
+	static final int BLOOM_BYTES = BLOOM_BITS / 8;
+	static final int HASH_COUNT = 4;
+
+	private static final byte TYPE_SET = 'S';
+	private static final byte TYPE_BLOOM = 'B';
+
+	private static final int TAG_LENGTH = 16;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	// 키를 설정한 원본 (사용 시 복제)
+	private final Mac mac;
+
+	// 서명 키(config.properties 에 설정, 없으면 서버 시작 시 임의 생성 >> 재시작 시 기존 쿠키 무효)
+	public ReadBoardCookieCodec(@Value("${my.board.read-cookie-secret:}") String secret) {
+
+		byte[] keyBytes = null;
+
+		if(secret.isBlank()) {
+			keyBytes = new byte[32];
+			new SecureRandom().nextBytes(keyBytes);
+
+			log.warn("my.board.read-cookie-secret 미설정 >> 임의 키 사용(서버 재시작 시 조회 기록 쿠키 초기화)");
+
+		} else {
+			keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+		}
+
+		try {
+			mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(keyBytes, "HmacSHA256"));
+
+		} catch(GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/** 조회한 게시글 기록 */
+	public static class ReadHistory {
+
+		private int[] set = new int[16]; // 집합 형식, 오름차순(Bloom 변환 후 null)
+		private int size; // 집합의 게시글 수
+		private byte[] bloom; // Bloom 필터 형식
+
+		/** 조회 여부 확인
+		 * @param boardNo
+		 * @return
+		 */
+		public boolean contains(int boardNo) {
+
+			if(bloom == null) return Arrays.binarySearch(set, 0, size, boardNo) >= 0;
+
+			long h1 = mix(boardNo);
+			long h2 = mix(h1) | 1;
+
+			for(int i = 0; i < HASH_COUNT; i++) {
+				int bit = (int)Long.remainderUnsigned(h1 + i * h2, BLOOM_BITS);
+
+				if((bloom[bit >>> 3] & (1 << (bit & 7))) == 0) return false;
+			}
+
+			return true;
+		}
+
+		/** 조회한 게시글 추가
+		 * @param boardNo
+		 */
+		public void add(int boardNo) {
+
+			if(bloom == null) {
+				int index = Arrays.binarySearch(set, 0, size, boardNo);
+
+				if(index >= 0) return;
+
+				index = -index - 1;
+
+				if(size == set.length) set = Arrays.copyOf(set, size * 2);
+
+				System.arraycopy(set, index, set, index + 1, size - index);
+				set[index] = boardNo;
+				size++;
+				return;
+			}
+
+			long h1 = mix(boardNo);
+			long h2 = mix(h1) | 1;
+
+			for(int i = 0; i < HASH_COUNT; i++) {
+				int bit = (int)Long.remainderUnsigned(h1 + i * h2, BLOOM_BITS);
+
+				bloom[bit >>> 3] |= (byte)(1 << (bit & 7));
+			}
+		}
+
+		// 집합 >> Bloom 필터 변환
+		private void toBloom() {
+
+			int[] boardNos = set;
+			int count = size;
+
+			set = null;
+			size = 0;
+			bloom = new byte[BLOOM_BYTES];
+
+			for(int i = 0; i < count; i++) add(boardNos[i]);
+		}
+
+		// SplitMix64 (게시글 번호를 고르게 흩뜨림)
+		private static long mix(long z) {
+			z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+			z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+			return z ^ (z >>> 31);
+		}
+	}
+
+	/** 쿠키 값 >> 조회 기록
+	 * @param value : 쿠키 값(없으면 null)
+	 * @return 서명이 맞지 않거나 형식이 잘못된 경우 빈 기록
+	 */
+	public ReadHistory decode(String value) {
+
+		ReadHistory history = new ReadHistory();
+
+		if(value == null) return history;
+
+		int dot = value.indexOf('.');
+
+		if(dot < 0) return history; // 기존 "[2][30]" 형식 등
+
+		try {
+			byte[] payload = DECODER.decode(value.substring(0, dot));
+			byte[] tag = DECODER.decode(value.substring(dot + 1));
+
+			if(payload.length == 0 || !MessageDigest.isEqual(tag, sign(payload))) return history;
+
+			if(payload[0] == TYPE_BLOOM && payload.length == BLOOM_BYTES + 1) {
+				history.set = null;
+				history.size = 0;
+				history.bloom = new byte[BLOOM_BYTES];
+				System.arraycopy(payload, 1, history.bloom, 0, BLOOM_BYTES);
+
+			} else if(payload[0] == TYPE_SET) {
+				int pos = 1;
+				int boardNo = 0;
+
+				while(pos < payload.length) {
+					// varint 읽기(7bit 씩, 최상위 비트 1 == 다음 byte 이어짐)
+					int delta = 0;
+					int shift = 0;
+					byte b;
+
+					do {
+						b = payload[pos++];
+						delta |= (b & 0x7f) << shift;
+						shift += 7;
+					} while((b & 0x80) != 0);
+
+					boardNo += delta;
+
+					// 차이값은 양수 >> 읽은 순서대로 오름차순
+					if(history.size == history.set.length) {
+						history.set = Arrays.copyOf(history.set, history.size * 2);
+					}
+					history.set[history.size++] = boardNo;
+				}
+			}
+
+		} catch(IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			// 잘못된 base64 / 잘린 varint >> 빈 기록
+			return new ReadHistory();
+		}
+
+		return history;
+	}
+
+	/** 조회 기록 >> 쿠키 값
+	 * @param history
+	 * @return
+	 */
+	public String encode(ReadHistory history) {
+
+		byte[] payload = null;
+
+		if(history.bloom == null) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(history.size * 2 + 1);
+			out.write(TYPE_SET);
+
+			int prev = 0;
+
+			for(int i = 0; i < history.size; i++) {
+				int boardNo = history.set[i];
+				int delta = boardNo - prev;
+				prev = boardNo;
+
+				// varint 쓰기
+				while((delta & ~0x7f) != 0) {
+					out.write((delta & 0x7f) | 0x80);
+					delta >>>= 7;
+				}
+				out.write(delta);
+			}
+
+			payload = out.toByteArray();
+
+			// Bloom 필터보다 커지면 변환
+			if(payload.length > BLOOM_BYTES + 1) history.toBloom();
+		}
+
+		if(history.bloom != null) {
+			payload = new byte[BLOOM_BYTES + 1];
+			payload[0] = TYPE_BLOOM;
+			System.arraycopy(history.bloom, 0, payload, 1, BLOOM_BYTES);
+		}
+
+		return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+	}
+
+	// HMAC-SHA256 서명(앞 TAG_LENGTH byte)
+	private byte[] sign(byte[] payload) {
+
+		Mac copy;
+
+		try {
+			copy = (Mac) mac.clone();
+
+		} catch(CloneNotSupportedException e) {
+			// 복제를 지원하지 않는 공급자 >> 원본을 잠그고 사용
+			synchronized(mac) {
+				return Arrays.copyOf(mac.doFinal(payload), TAG_LENGTH);
+			}
+		}
+
+		return Arrays.copyOf(copy.doFinal(payload), TAG_LENGTH);
+	}
+}
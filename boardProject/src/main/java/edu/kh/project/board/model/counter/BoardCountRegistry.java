@@ -0,0 +1,171 @@
+package edu.kh.project.board.model.counter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.mapper.BoardMapper;
+import edu.kh.project.common.util.Utility;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 게시판별 게시글 수(삭제되지 않은 게시글) 저장소
+ *
+ * - 목록 조회마다 COUNT(*) 를 수행하지 않도록 메모리에 보관
+ * - 서버 시작 시 한 번에 조회(seed)
+ * - 게시글 작성/삭제/복구 시 +1/-1 (adjust, 커밋 후 반영)
+ * - 스케줄러가 주기적으로 DB와 비교하여 보정(verify)
+ *
+ * [커밋 전 표시]
+ * +1/-1 은 커밋 후에 반영되므로 "커밋 ~ 반영" 사이에 DB 에서 읽은 값은 이미 변경을 포함
+ * >> 그 값으로 덮어쓴 뒤 다시 +1/-1 되면 두 번 반영됨
+ * >> adjust(트랜잭션 안) 시 먼저 "변경 중" 으로 표시하고 버전 증가,
+ *    DB 값(getCount, verify, seed)은 변경 중이 아니고 조회 도중 버전이 바뀌지 않았을 때만 저장
+ *    (트랜잭션 종료 시 커밋이면 +1/-1, 표시 해제)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCountRegistry {
+
+	private final BoardMapper mapper;
+
+	// boardCode : 게시글 수
+	private final Map<Integer, Integer> countMap = new ConcurrentHashMap<>();
+
+	// boardCode : 변경 횟수 (DB 조회 도중 변경 확인용, 커밋 전/후 모두 증가)
+	private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+
+	// boardCode : 진행 중(트랜잭션 종료 전)인 게시글 작성/삭제/복구 수
+	private final Map<Integer, Integer> writing = new ConcurrentHashMap<>();
+
+	/** 서버 시작 시 전체 게시판 게시글 수 조회
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void seed() {
+
+		try {
+			Map<Integer, Long> versionMap = new HashMap<>(versions);
+
+			for(Map.Entry<Integer, Integer> entry : loadAll().entrySet()) {
+				store(entry.getKey(), versionMap.getOrDefault(entry.getKey(), 0L), entry.getValue(), false);
+			}
+
+			log.info("게시판별 게시글 수 로드 : {}", countMap.size());
+
+		} catch(Exception e) {
+			// DB 연결 실패 등 >> 조회 시점에 게시판별로 다시 시도
+			log.warn("게시판별 게시글 수 로드 실패 : {}", e.getMessage());
+		}
+	}
+
+	/** 게시글 수 반환 (없으면 DB 조회, 변경 중이 아니면 저장)
+	 * @param boardCode
+	 * @return
+	 */
+	public int getCount(int boardCode) {
+
+		Integer count = countMap.get(boardCode);
+
+		if(count != null) return count;
+
+		long version = versions.getOrDefault(boardCode, 0L);
+
+		// 맵 잠금 밖에서 DB 조회
+		int loaded = mapper.getListCount(boardCode);
+
+		store(boardCode, version, loaded, false);
+
+		return loaded;
+	}
+
+	/** 게시글 수 증감 (트랜잭션 안에서 호출 : 지금 변경 중 표시, 커밋 후 반영)
+	 * @param boardCode
+	 * @param delta
+	 */
+	public void adjust(int boardCode, int delta) {
+
+		// 커밋 전 : 변경 중 표시 + 버전 증가 (이후 끝나는 DB 조회 값은 저장 X)
+		countMap.compute(boardCode, (code, count) -> {
+			versions.merge(code, 1L, Long::sum);
+			writing.merge(code, 1, Integer::sum);
+			return count;
+		});
+
+		Utility.afterCompletion(committed -> countMap.compute(boardCode, (code, count) -> {
+
+			versions.merge(code, 1L, Long::sum);
+			writing.computeIfPresent(code, (c, n) -> n > 1 ? n - 1 : null);
+
+			// 아직 조회된 적 없는 게시판 >> 다음 조회 시 DB에서 읽음
+			// 롤백 >> 표시만 해제
+			return count == null || !committed ? count : count + delta;
+		}));
+	}
+
+	/** DB 게시글 수와 비교하여 보정
+	 * @return 보정된 게시판 수
+	 */
+	public int verify() {
+
+		// 조회 전 버전 기록
+		Map<Integer, Long> versionMap = new HashMap<>(versions);
+
+		Map<Integer, Integer> dbMap = loadAll();
+
+		int fixed = 0;
+
+		for(Map.Entry<Integer, Integer> entry : dbMap.entrySet()) {
+
+			Integer before = store(entry.getKey(), versionMap.getOrDefault(entry.getKey(), 0L), entry.getValue(), true);
+
+			if(before != null && before.intValue() != entry.getValue()) {
+				log.warn("boardCode {} 게시글 수 보정 : {} >> {}", entry.getKey(), before, entry.getValue());
+				fixed++;
+			}
+		}
+
+		return fixed;
+	}
+
+	// DB 에서 읽은 게시글 수 저장 (변경과 같은 키 잠금 안에서 확인)
+	// - 조회 도중 버전이 바뀌었거나 진행 중인 변경이 있으면 저장 X
+	// - overwrite == false : 이미 있는 값은 덮어쓰지 않음
+	// 반환 : 덮어쓴 이전 값 (저장하지 않았거나 이전 값이 없으면 null)
+	private Integer store(int boardCode, long version, int value, boolean overwrite) {
+
+		Integer[] before = {null};
+
+		countMap.compute(boardCode, (code, count) -> {
+
+			if(versions.getOrDefault(code, 0L) != version || writing.containsKey(code)) return count;
+
+			if(count != null && !overwrite) return count;
+
+			before[0] = count;
+			return value;
+		});
+
+		return before[0];
+	}
+
+	// 전체 게시판 게시글 수 조회 (게시글이 없는 게시판은 0)
+	private Map<Integer, Integer> loadAll() {
+
+		List<Map<String, Object>> list = mapper.selectListCountAll();
+
+		Map<Integer, Integer> map = new HashMap<>();
+
+		for(Map<String, Object> row : list) {
+			map.put(((Number)row.get("boardCode")).intValue(),
+					((Number)row.get("listCount")).intValue());
+		}
+
+		return map;
+	}
+}
@@ -0,0 +1,149 @@
+package edu.kh.project.board.model.counter;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.common.sketch.BloomFilter;
+import edu.kh.project.common.sketch.Hashing;
+import edu.kh.project.common.sketch.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+
+/* 서버 측 일별 게시글 조회 중복 제거 + 게시판별 방문자 수 추정
+ *
+ * - 쿠키를 보내지 않는 클라이언트도 하루에 한 게시글당 조회 수 1회만 증가하도록
+ *   (방문자, 게시글 번호) 쌍을 Bloom 필터에 기록
+ *   방문자 : 로그인 회원 번호 또는 IP + User-Agent (visitorKey)
+ * - 게시판(boardCode)별 HyperLogLog 로 일별 방문자 수(중복 제거) 추정
+ * - 자정이 지나면 새 날짜의 구조로 교체 (메모리 고정 : 오늘 Bloom 필터 1개 + 게시판별 HLL)
+ * - 지난 날짜는 추정 방문자 수만 keepDays 일 동안 보관
+ */
+@Component
+@Slf4j
+public class DailyViewTracker {
+
+	// Bloom 필터 비트 수 / 해시 수
+	// 기본 2^23 비트(1MB), 해시 5개 >> 하루 100만 건 기록 시 오탐률 약 2%
+	private final long bloomBits;
+	private final int bloomHashes;
+
+	// HyperLogLog 정밀도(레지스터 2^precision 개)
+	private final int hllPrecision;
+
+	// 지난 날짜 방문자 수 보관 일수
+	private final int keepDays;
+
+	// 오늘 기록
+	private volatile Day today;
+
+	// 지난 날짜 : { boardCode : 추정 방문자 수 }
+	private final TreeMap<LocalDate, Map<Integer, Long>> history = new TreeMap<>();
+
+	public DailyViewTracker(
+			@Value("${my.board.view-dedup.bloom-bits:8388608}") long bloomBits,
+			@Value("${my.board.view-dedup.bloom-hashes:5}") int bloomHashes,
+			@Value("${my.board.view-dedup.hll-precision:12}") int hllPrecision,
+			@Value("${my.board.view-dedup.keep-days:7}") int keepDays) {
+
+		this.bloomBits = bloomBits;
+		this.bloomHashes = bloomHashes;
+		this.hllPrecision = hllPrecision;
+		this.keepDays = keepDays;
+
+		this.today = new Day(LocalDate.now());
+	}
+
+	// 하루치 기록
+	private class Day {
+
+		final LocalDate date;
+
+		// (방문자, 게시글 번호) 조회 기록
+		final BloomFilter views = new BloomFilter(bloomBits, bloomHashes);
+
+		// boardCode : 방문자 HLL
+		final Map<Integer, HyperLogLog> visitors = new ConcurrentHashMap<>();
+
+		Day(LocalDate date) {
+			this.date = date;
+		}
+
+		Map<Integer, Long> estimates() {
+			Map<Integer, Long> result = new TreeMap<>();
+
+			for(Map.Entry<Integer, HyperLogLog> entry : visitors.entrySet()) {
+				result.put(entry.getKey(), entry.getValue().estimate());
+			}
+
+			return result;
+		}
+	}
+
+	/** 게시글 조회 기록
+	 * @param boardCode
+	 * @param boardNo
+	 * @param visitorKey : "M회원번호" 또는 "IP|User-Agent"
+	 * @return 오늘 처음 조회한 경우 true (조회 수 증가 대상)
+	 */
+	public boolean recordView(int boardCode, int boardNo, String visitorKey) {
+
+		Day day = currentDay();
+
+		long visitorHash = Hashing.hash64(visitorKey);
+
+		day.visitors.computeIfAbsent(boardCode, k -> new HyperLogLog(hllPrecision)).add(visitorHash);
+
+		return day.views.add(Hashing.mix(visitorHash ^ boardNo));
+	}
+
+	/** 일별 게시판 방문자 수(추정)
+	 * @return { 날짜 : { boardCode : 방문자 수 } } (오늘 포함, 최근 날짜 순)
+	 */
+	public Map<String, Map<Integer, Long>> dailyVisitors() {
+
+		Day day = currentDay();
+
+		Map<String, Map<Integer, Long>> result = new LinkedHashMap<>();
+		result.put(day.date.toString(), day.estimates());
+
+		synchronized (history) {
+			for(LocalDate date : history.descendingKeySet()) {
+				result.put(date.toString(), history.get(date));
+			}
+		}
+
+		return result;
+	}
+
+	// 날짜가 바뀌었으면 새 기록으로 교체(어제 방문자 수는 history 에 보관)
+	private Day currentDay() {
+
+		Day day = today;
+
+		LocalDate now = LocalDate.now();
+
+		if(day.date.equals(now)) return day;
+
+		synchronized (history) {
+
+			// 다른 스레드가 먼저 교체한 경우
+			if(today.date.equals(now)) return today;
+
+			history.put(today.date, today.estimates());
+
+			// 보관 기간이 지난 날짜 제거
+			history.keySet().removeIf(date -> date.isBefore(now.minusDays(keepDays)));
+
+			today = new Day(now);
+
+			log.info("일별 조회 기록 교체 : {}", now);
+
+			return today;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package edu.kh.project.board.model.counter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.mapper.BoardMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 게시글 조회 수 증가 버퍼(write-behind)
+ *
+ * - 조회 시마다 UPDATE READ_COUNT = READ_COUNT + 1 을 수행하면
+ *   인기 게시글은 모든 조회 요청이 같은 행 잠금을 기다림
+ * - 조회 시에는 메모리(게시글별 LongAdder)에만 +1
+ *   >> LongAdder 는 스레드별로 나눠 더하므로 동시 증가 시에도 경합 X
+ * - 스케줄러가 주기적으로, 서버 종료 시 한 번 더 모아둔 증가분을 배치 UPDATE (flush)
+ * - 화면에 보여줄 조회 수 == DB 값 + 아직 반영되지 않은 증가분(pending)
+ *   증가 시 반환하는 조회 수는 게시글별로 처음 한 번만 DB 조회, 이후 메모리 값으로 계산
+ *   (READ_COUNT 는 이 버퍼만 변경 >> flush 후에도 메모리 값 == DB 값 + 증가분)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadCountBuffer {
+
+	// 게시글별 조회 수
+	// - total : 지금까지의 증가분 (감소 X)
+	// - flushed : total 중 DB에 반영된 증가분 (flush 잠금 안에서만 변경)
+	// - base : DB 조회 값 - 조회 시점의 flushed (미조회 == -1) >> 현재 조회 수 == base + total
+	private static final class Counter {
+
+		private final LongAdder total = new LongAdder();
+
+		private volatile long flushed;
+
+		private volatile long base = -1;
+	}
+
+	private final SqlSessionFactory sqlSessionFactory;
+
+	// boardNo : 조회 수
+	// (조회된 게시글 수만큼만 유지, 증가 중인 값이 사라지지 않도록 flush 시에도 제거 X)
+	private final Map<Integer, Counter> counterMap = new ConcurrentHashMap<>();
+
+	/** 조회 수 1 증가(메모리)
+	 * @param boardNo
+	 * @return 증가 후 조회 수 (DB 값 + 반영 대기 증가분)
+	 */
+	public int increment(int boardNo) {
+
+		Counter counter = counterMap.computeIfAbsent(boardNo, k -> new Counter());
+
+		counter.total.increment();
+
+		long base = counter.base;
+
+		if(base < 0) base = loadBase(boardNo, counter);
+
+		return (int)(base + counter.total.sum());
+	}
+
+	/** 아직 DB에 반영되지 않은 조회 수 증가분
+	 * @param boardNo
+	 * @return
+	 */
+	public int pending(int boardNo) {
+
+		Counter counter = counterMap.get(boardNo);
+
+		return counter == null ? 0 : (int)(counter.total.sum() - counter.flushed);
+	}
+
+	// 게시글의 DB 조회 수를 한 번만 조회 (flush 와 동시에 수행 X : DB 값과 flushed 가 같은 시점)
+	private synchronized long loadBase(int boardNo, Counter counter) {
+
+		if(counter.base >= 0) return counter.base;
+
+		try(SqlSession session = sqlSessionFactory.openSession()) {
+			counter.base = session.getMapper(BoardMapper.class).selectReadCount(boardNo) - counter.flushed;
+		}
+
+		return counter.base;
+	}
+
+	/** 모아둔 증가분을 배치 UPDATE 로 DB에 반영
+	 * - UPDATE 커밋 성공 후에만 반영한 만큼 flushed 증가 >> 실패 시 다음 flush 에서 다시 시도
+	 * - flush 도중 증가한 값은 남아 다음 flush 에 반영
+	 * @return 반영한 게시글 수
+	 */
+	public synchronized int flush() {
+
+		// 반영할 증가분 스냅샷
+		List<Map<String, Object>> deltaList = new ArrayList<>();
+		List<Counter> flushList = new ArrayList<>();
+
+		for(Map.Entry<Integer, Counter> entry : counterMap.entrySet()) {
+
+			Counter counter = entry.getValue();
+
+			long delta = counter.total.sum() - counter.flushed;
+
+			if(delta == 0) continue;
+
+			Map<String, Object> paramMap = new HashMap<>();
+			paramMap.put("boardNo", entry.getKey());
+			paramMap.put("delta", delta);
+
+			deltaList.add(paramMap);
+			flushList.add(counter);
+		}
+
+		if(deltaList.isEmpty()) return 0;
+
+		// 배치 실행 : UPDATE 를 모아서 한 번에 전송 (게시글 수만큼 왕복 X)
+		try(SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+
+			BoardMapper mapper = session.getMapper(BoardMapper.class);
+
+			for(Map<String, Object> paramMap : deltaList) {
+				mapper.addReadCount(paramMap);
+			}
+
+			session.flushStatements();
+			session.commit();
+		}
+
+		// 커밋 성공 >> 반영한 만큼 flushed 증가
+		for(int i = 0; i < flushList.size(); i++) {
+			flushList.get(i).flushed += (long)deltaList.get(i).get("delta");
+		}
+
+		return deltaList.size();
+	}
+
+	// 서버 종료 시 남은 증가분 반영
+	@PreDestroy
+	public void flushOnShutdown() {
+
+		try {
+			int result = flush();
+
+			log.info("서버 종료 전 조회 수 반영 : {}건", result);
+
+		} catch(Exception e) {
+			log.error("서버 종료 전 조회 수 반영 실패", e);
+		}
+	}
+}
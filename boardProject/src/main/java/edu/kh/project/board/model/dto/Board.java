@@ -1,5 +1,6 @@
 package edu.kh.project.board.model.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import lombok.AllArgsConstructor;
@@ -10,7 +11,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Board {
 	// BOARD 테이블 컬럼
 	private int boardNo;
@@ -26,9 +27,10 @@ public class Board {
 	// MEMBER 테이블 조인
 	private String memberNickname;
 	
-	// 목록 조회 시 서브쿼리 필드
+	// 목록 조회 시 필드
 	private int commentCount; 	// 댓글 수
 	private int likeCount; 		// 좋아요 수
+	private LocalDateTime boardWriteTime; // 작성 시간 원본(화면에서 "N분 전" 변환)
 	
 	// 게시글 작성자 프로필 이미지
 	private String profileImg;
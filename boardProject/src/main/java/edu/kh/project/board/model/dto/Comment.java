@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Comment {
 	private int commentNo;
 	private String commentContent;
@@ -18,6 +18,15 @@ public class Comment {
 	private int memberNo;
 	private int parentCommentNo;
 	
+	// 마지막 작성/수정/삭제 시 게시글의 댓글 변경 번호 (변경된 댓글만 다시 조회하는 기준)
+	private int commentVersion;
+	
+	// 계층 깊이(최상위 댓글 1, 답글 2 ...) == CONNECT BY 의 LEVEL
+	private int level;
+	
+	// 답글 수(댓글 페이지 조회 시 답글 펼치기 버튼에 사용)
+	private int replyCount;
+	
 	// 댓글 조회 시 MEMBER 테이블과 JOIN해서 가져올 데이터 담을 필드
 	private String profileImg; 	// 회원 프로필
 	private String memberNickname; // 닉네임
@@ -19,6 +19,19 @@ public class Pagination {
 	private int prevPage; // 이전 페이지 모음의 마지막 번호
 	private int nextPage; // 다음 페이지 모음의 시작 번호
 
+	// 키셋(seek) 페이지네이션용 커서 앵커
+	// - 현재 페이지에 조회된 게시글 번호의 처음/끝
+	// - 다음 페이지는 BOARD_NO < lastBoardNo 조건으로 바로 조회 가능
+	// (calculate() 대상이 아니므로 setter 호출 시 재계산 X)
+	private int firstBoardNo; // 현재 페이지 첫 게시글 번호(가장 큰 번호)
+	private int lastBoardNo; // 현재 페이지 마지막 게시글 번호(가장 작은 번호)
+
+	// 근사 검색 결과 수 여부
+	// - true : listCount는 "최소 listCount개 이상" 이라는 의미(상한까지만 셈)
+	// - maxPage 이후에도 페이지가 더 있을 수 있음
+	// (calculate() 대상이 아니므로 setter 호출 시 재계산 X)
+	private boolean approximate;
+
 	// 기본 생성자 X (필요 없음) >> 페이지네이션 계산 불가능
 	
 	// 2개짜리 생성자(currentPage, listCount)
@@ -78,6 +91,18 @@ public class Pagination {
 		return nextPage;
 	}
 
+	public int getFirstBoardNo() {
+		return firstBoardNo;
+	}
+
+	public int getLastBoardNo() {
+		return lastBoardNo;
+	}
+
+	public boolean isApproximate() {
+		return approximate;
+	}
+
 	// Setter
 	public void setCurrentPage(int currentPage) {
 		this.currentPage = currentPage;
@@ -99,11 +124,24 @@ public class Pagination {
 		calculate();
 	}
 
+	public void setFirstBoardNo(int firstBoardNo) {
+		this.firstBoardNo = firstBoardNo;
+	}
+
+	public void setLastBoardNo(int lastBoardNo) {
+		this.lastBoardNo = lastBoardNo;
+	}
+
+	public void setApproximate(boolean approximate) {
+		this.approximate = approximate;
+	}
+
 	@Override
 	public String toString() {
 		return "Pagination [currentPage=" + currentPage + ", listCount=" + listCount + ", limit=" + limit
 				+ ", pageSize=" + pageSize + ", maxPage=" + maxPage + ", startPage=" + startPage + ", endPage="
-				+ endPage + ", prevPage=" + prevPage + ", nextPage=" + nextPage + "]";
+				+ endPage + ", prevPage=" + prevPage + ", nextPage=" + nextPage + ", firstBoardNo=" + firstBoardNo
+				+ ", lastBoardNo=" + lastBoardNo + ", approximate=" + approximate + "]";
 	}
 
 	/*
@@ -0,0 +1,211 @@
+package edu.kh.project.board.model.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.mapper.BoardMapper;
+import edu.kh.project.common.util.Utility;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 게시판별 희소(sparse) 페이지 앵커 인덱스
+ *
+ * - 키셋 페이지네이션은 "다음 페이지"는 빠르지만 "N 페이지로 바로 이동"이 어려움
+ * - interval 행마다 하나씩 BOARD_NO를 기억해두고
+ *   N 페이지 요청 시 가장 가까운 앵커에서 시작하여 interval 미만의 행만 건너뜀
+ *
+ * ex) interval = 100, limit = 10, 53 페이지 요청
+ *     offset = 520 >> 앵커 [5] (521번째 행의 BOARD_NO) 에서 20행 건너뛰고 10행 조회
+ *
+ * - 첫 앵커보다 앞쪽(대부분의 요청)은 앵커 없이 처음부터 조회 >> 앵커 조회(전체 행 스캔) X
+ * - 앵커마다 현재 행 위치(rank)를 함께 기억
+ *   게시글 작성/삭제/복구 시 해당 게시글보다 번호가 작은 앵커의 위치만 +1 / -1 (다시 조회 X)
+ *   (삭제된 게시글이 앵커면 앵커 제거)
+ * - 위치 변경이 interval 회 쌓이면 앵커 간격이 벌어졌을 수 있으므로 다음 요청 시 다시 조회
+ * - 앵커 조회는 맵 잠금 밖에서 수행, 조회 도중 변경이 있었으면 결과를 저장하지 않음
+ *
+ * [커밋 전 표시]
+ * 위치 변경은 커밋 후에 적용되므로 "커밋 ~ 위치 변경" 사이에 조회한 앵커는
+ * 이미 새 게시글을 포함한 상태 >> 저장 후 다시 위치 변경되면 한 행 어긋남
+ * >> 작성/삭제 시(트랜잭션 안) 먼저 "변경 중" 으로 표시하고 버전 증가,
+ *    변경 중인 게시판의 조회 결과와 조회 도중 버전이 바뀐 결과는 저장하지 않음
+ *    (트랜잭션 종료 시 커밋이면 위치 변경, 표시 해제)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardPageAnchorIndex {
+
+	private final BoardMapper mapper;
+
+	// 앵커 간격(행 수)
+	@Value("${my.board.anchor-interval:100}")
+	private int interval;
+
+	// boardCode : 앵커 목록
+	private final Map<Integer, Anchors> anchorMap = new ConcurrentHashMap<>();
+
+	// boardCode : 변경 횟수 (조회 도중 변경 확인용)
+	private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+
+	// boardCode : 진행 중(트랜잭션 종료 전)인 게시글 작성/삭제 수
+	private final Map<Integer, Integer> writing = new ConcurrentHashMap<>();
+
+	/** 조회 시작 위치
+	 * @param anchorBoardNo : 시작 앵커 게시글 번호(BOARD_NO <= anchorBoardNo), 0 이면 처음부터
+	 * @param skip : 앵커 이후 건너뛸 행 수
+	 */
+	public record Anchor(int anchorBoardNo, int skip) {}
+
+	/** 게시판 1개의 앵커 (변경 시 새 객체로 교체)
+	 * @param boardNos : 앵커 게시글 번호(내림차순)
+	 * @param ranks : 앵커의 현재 행 위치(0부터, 오름차순)
+	 * @param drift : 조회 후 위치 변경 횟수
+	 */
+	private record Anchors(int[] boardNos, int[] ranks, int drift) {
+
+		// offset 이하 위치의 가장 가까운 앵커
+		Anchor seek(int offset) {
+
+			int index = Arrays.binarySearch(ranks, offset);
+
+			if(index < 0) index = -index - 2;	// offset 보다 앞의 마지막 앵커
+
+			if(index < 0) return new Anchor(0, offset);
+
+			return new Anchor(boardNos[index], offset - ranks[index]);
+		}
+
+		// boardNo 게시글 추가(delta = 1) / 제거(delta = -1) 후 앵커
+		Anchors shift(int boardNo, int delta) {
+
+			int[] nos = new int[boardNos.length];
+			int[] rks = new int[ranks.length];
+			int size = 0;
+
+			for(int i = 0; i < boardNos.length; i++) {
+
+				// 제거된 게시글이 앵커인 경우 앵커 제거
+				if(delta < 0 && boardNos[i] == boardNo) continue;
+
+				nos[size] = boardNos[i];
+				rks[size] = boardNos[i] < boardNo ? ranks[i] + delta : ranks[i];
+				size++;
+			}
+
+			return new Anchors(Arrays.copyOf(nos, size), Arrays.copyOf(rks, size), drift + 1);
+		}
+	}
+
+	/** offset 번째 행을 조회하기 위한 앵커 반환
+	 * @param boardCode
+	 * @param offset : 건너뛸 전체 행 수((cp - 1) * limit)
+	 * @return
+	 */
+	public Anchor seek(int boardCode, int offset) {
+
+		// 첫 앵커(첫 행) 간격 안쪽 : 앵커 없이 처음부터 조회
+		if(offset < interval) return new Anchor(0, offset);
+
+		Anchors anchors = anchorMap.get(boardCode);
+
+		if(anchors == null) {
+
+			long version = versions.getOrDefault(boardCode, 0L);
+
+			// 맵 잠금 밖에서 DB 조회
+			Anchors loaded = load(boardCode);
+
+			// 조회 도중 게시글 작성/삭제가 없었고, 진행 중인 작성/삭제도 없을 때만 저장
+			// (변경과 같은 키 잠금 안에서 확인)
+			anchorMap.compute(boardCode, (code, current) -> current != null ? current
+					: versions.getOrDefault(code, 0L) == version && !writing.containsKey(code) ? loaded : null);
+
+			anchors = loaded;
+		}
+
+		return anchors.seek(offset);
+	}
+
+	/** 게시글 작성/복구 : 해당 게시글보다 뒤(번호가 작은) 앵커 위치 +1
+	 * (트랜잭션 안에서 호출 : 지금 변경 중 표시, 커밋 후 위치 변경)
+	 * @param boardCode
+	 * @param boardNo
+	 */
+	public void inserted(int boardCode, int boardNo) {
+		shift(boardCode, boardNo, 1);
+	}
+
+	/** 게시글 삭제 : 해당 게시글보다 뒤(번호가 작은) 앵커 위치 -1
+	 * (트랜잭션 안에서 호출 : 지금 변경 중 표시, 커밋 후 위치 변경)
+	 * @param boardCode
+	 * @param boardNo
+	 */
+	public void removed(int boardCode, int boardNo) {
+		shift(boardCode, boardNo, -1);
+	}
+
+	private void shift(int boardCode, int boardNo, int delta) {
+
+		// 커밋 전 : 변경 중 표시 + 버전 증가 (이후 끝나는 조회는 저장 X)
+		anchorMap.compute(boardCode, (code, current) -> {
+			versions.merge(code, 1L, Long::sum);
+			writing.merge(code, 1, Integer::sum);
+			return current;
+		});
+
+		Utility.afterCompletion(committed -> anchorMap.compute(boardCode, (code, current) -> {
+
+			versions.merge(code, 1L, Long::sum);
+			writing.computeIfPresent(code, (c, count) -> count > 1 ? count - 1 : null);
+
+			// 롤백 : 표시만 해제
+			if(current == null || !committed) return current;
+
+			Anchors shifted = current.shift(boardNo, delta);
+
+			// 위치 변경이 쌓인 경우 다음 요청 시 다시 조회
+			return shifted.drift() >= interval ? null : shifted;
+		}));
+	}
+
+	/** 특정 게시판 앵커 무효화
+	 * @param boardCode
+	 */
+	public void invalidate(int boardCode) {
+		anchorMap.compute(boardCode, (code, current) -> {
+			versions.merge(code, 1L, Long::sum);
+			return null;
+		});
+	}
+
+	/** 모든 게시판 앵커 무효화 (게시판 코드를 알 수 없는 경우)
+	 */
+	public void invalidateAll() {
+		for(Integer boardCode : anchorMap.keySet()) invalidate(boardCode);
+	}
+
+	// DB에서 앵커 조회 (앵커 i 의 위치 == i * interval)
+	private Anchors load(int boardCode) {
+
+		Map<String, Object> paramMap = new HashMap<>();
+		paramMap.put("boardCode", boardCode);
+		paramMap.put("interval", interval);
+
+		List<Integer> list = mapper.selectPageAnchors(paramMap);
+
+		log.debug("boardCode {} 페이지 앵커 {}개 로드", boardCode, list.size());
+
+		int[] ranks = new int[list.size()];
+
+		for(int i = 0; i < ranks.length; i++) ranks[i] = i * interval;
+
+		return new Anchors(list.stream().mapToInt(Integer::intValue).toArray(), ranks, 0);
+	}
+}
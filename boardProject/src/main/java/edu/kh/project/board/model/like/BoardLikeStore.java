@@ -0,0 +1,647 @@
+package edu.kh.project.board.model.like;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.mapper.BoardMapper;
+import edu.kh.project.common.bitmap.RoaringBitmap;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* 게시글 좋아요 저장소 (메모리 + 변경 기록 파일 + 배치 DB 반영)
+ *
+ * 기존 : 클라이언트가 보낸 likeCheck 를 믿고 INSERT/DELETE >> COUNT(*) 조회 (클릭마다 SQL 3회)
+ *        >> 연속 클릭 시 같은 INSERT 가 두 번 수행되는 등 경쟁 발생
+ *
+ * 변경
+ * - 회원별 좋아요한 게시글 번호 집합(압축 비트맵) / 게시글별 좋아요 수를 메모리에 유지
+ *   (로그인 시 또는 처음 사용될 때 DB에서 한 번 조회)
+ *   >> 목록 페이지의 게시글 번호 비트맵과 교집합 1회로 좋아요한 게시글 표시
+ *   >> 회원이 늘어도 비트맵은 좋아요 수에 비례(드문 번호는 값 1개당 약 2byte)
+ * - 좋아요/해제는 서버의 현재 상태를 뒤집음(toggle) == 클라이언트가 보낸 상태는 사용하지 않음
+ *   >> 회원 집합 단위로 잠금 : 같은 회원의 연속 클릭도 순서대로 하나씩 반영
+ * - 변경 시 좋아요 수를 바로 반환 (COUNT 조회 X)
+ * - DB 반영은 스케줄러가 주기적으로 배치 수행 (flush)
+ *   반영 전 종료 대비 변경은 먼저 LikeJournal 에 기록 >> 서버 시작 시 다시 반영
+ *
+ * 메모리 제한
+ * - 회원 목록 / 게시글 좋아요 수는 최대 개수(maxMembers / maxBoards)를 넘으면
+ *   flush 후 가장 오래 사용되지 않은 항목부터 제거 (다시 사용 시 DB 조회)
+ * - 다시 조회할 때 DB 반영 전 변경(pending, 반영 중/실패 변경)을 덧씌움 >> 제거 후에도 같은 상태
+ *
+ * 좋아요 수 정확성
+ * - 좋아요 수 변경 / 반영 전 변경 추가 / 좋아요 수 교체는 모두 journal 잠금 안에서 수행
+ * - flush 로 반영(refreshLikeCount)한 게시글은 LIKE_COUNT + 그 사이 변경으로 다시 설정
+ * - 다시 반영(replay)이 실패한 게시글은 메모리 좋아요 수 제거 >> 다음 사용 시 다시 조회
+ *   (조회 시 반영 실패한 변경은 회원별 DB 좋아요 여부와 비교해 더함)
+ *
+ * 잠금 순서 : 회원 목록 >> this(flush, 좋아요 수 조회) >> journal
+ */
+@Component
+@Slf4j
+public class BoardLikeStore {
+
+	/** 좋아요 변경 결과
+	 * @param likeCheck : 변경 후 좋아요 여부(1 / 0)
+	 * @param likeCount : 변경 후 좋아요 수
+	 */
+	public record LikeResult(int likeCheck, int likeCount) {}
+
+	// 회원이 좋아요한 게시글 번호 (객체로 잠금)
+	private static final class MemberLikes {
+
+		private final RoaringBitmap liked;
+
+		private volatile long lastUsed = System.nanoTime();
+
+		// 메모리에서 제거됨 >> 잠금을 기다리던 요청은 다시 조회한 목록 사용 (잠금 안에서 접근)
+		private boolean evicted;
+
+		private MemberLikes(RoaringBitmap liked) {
+			this.liked = liked;
+		}
+	}
+
+	// 게시글 좋아요 수 (변경은 journal 잠금 안에서만)
+	private static final class LikeCounter {
+
+		private volatile int count;
+
+		private volatile long lastUsed = System.nanoTime();
+
+		private LikeCounter(int count) {
+			this.count = count;
+		}
+	}
+
+	// Oracle IN 목록 최대 개수
+	private static final int IN_LIMIT = 1000;
+
+	private final SqlSessionFactory sqlSessionFactory;
+
+	private final LikeJournal journal;
+
+	private final int maxMembers;
+
+	private final int maxBoards;
+
+	// memberNo : 좋아요한 게시글 번호
+	private final Map<Integer, MemberLikes> memberLikes = new ConcurrentHashMap<>();
+
+	// boardNo : 좋아요 수
+	private final Map<Integer, LikeCounter> likeCounts = new ConcurrentHashMap<>();
+
+	// DB에 반영할 변경 (journal 과 같은 순서로 추가되도록 journal 잠금 안에서 추가)
+	private final ConcurrentLinkedQueue<LikeOp> pending = new ConcurrentLinkedQueue<>();
+
+	// 반영 중이거나 반영 실패한 변경 (다음 flush 에서 먼저 반영, journal 잠금 안에서 교체)
+	private List<LikeOp> failed = new ArrayList<>();
+
+	// 메모리 제한으로 제거된 수 (flush 안에서만 증가)
+	private volatile long memberEvictions;
+	private volatile long boardEvictions;
+
+	public BoardLikeStore(SqlSessionFactory sqlSessionFactory,
+			@Value("${my.board.like.journal-dir:./journal/like}") String journalDir,
+			@Value("${my.board.like.journal-fsync:true}") boolean fsync,
+			@Value("${my.board.like.max-members:10000}") int maxMembers,
+			@Value("${my.board.like.max-boards:100000}") int maxBoards) throws IOException {
+
+		this.sqlSessionFactory = sqlSessionFactory;
+		this.journal = new LikeJournal(Path.of(journalDir), fsync);
+		this.maxMembers = maxMembers;
+		this.maxBoards = maxBoards;
+	}
+
+	// 서버 시작 시 지난 실행에서 DB에 반영되지 않았을 수 있는 변경 다시 반영
+	@PostConstruct
+	public void replay() throws IOException {
+
+		long sealed = journal.currentSeq() - 1;
+
+		List<LikeOp> opList = journal.read(sealed);
+
+		if(opList.isEmpty()) return;
+
+		log.info("좋아요 변경 기록 다시 반영 : {}건", opList.size());
+
+		synchronized (journal) {
+			failed = opList; // flush 에서 반영 후 파일 삭제
+		}
+
+		try {
+			flush();
+
+		} catch(RuntimeException e) {
+			// DB 연결 실패 등 : 서버 시작은 계속, 다음 flush 에서 다시 시도
+			// 반영 여부를 알 수 없는 게시글의 좋아요 수는 다음 사용 시 다시 조회
+			log.error("좋아요 변경 기록 반영 실패", e);
+
+			synchronized (journal) {
+				for(LikeOp op : opList) likeCounts.remove(op.boardNo());
+			}
+		}
+	}
+
+	/** 좋아요 / 해제 (서버의 현재 좋아요 여부를 뒤집음)
+	 * @param memberNo
+	 * @param boardNo
+	 * @return 변경 후 상태 (게시글이 없으면 null)
+	 */
+	public LikeResult toggleLike(int memberNo, int boardNo) {
+
+		if(counter(boardNo) == null) return null;
+
+		boolean like;
+		int count;
+
+		while(true) {
+
+			MemberLikes member = memberLikes(memberNo);
+
+			synchronized (member) {
+
+				// 잠금을 기다리는 동안 메모리에서 제거된 경우 다시 조회
+				if(member.evicted) continue;
+
+				like = !member.liked.contains(boardNo);
+
+				count = record(new LikeOp(boardNo, memberNo, like));
+
+				if(like) member.liked.add(boardNo);
+				else	 member.liked.remove(boardNo);
+
+				break;
+			}
+		}
+
+		// 좋아요 수가 그 사이 메모리에서 제거된 경우 (다시 조회 시 이번 변경 포함)
+		if(count < 0) count = counter(boardNo).count;
+
+		return new LikeResult(like ? 1 : 0, count);
+	}
+
+	/** 좋아요 수 (메모리에 없으면 DB 조회 값 사용)
+	 * @param boardNo
+	 * @param dbLikeCount : DB에서 조회한 좋아요 수
+	 * @return
+	 */
+	public int likeCount(int boardNo, int dbLikeCount) {
+
+		LikeCounter counter = likeCounts.get(boardNo);
+
+		if(counter == null) return dbLikeCount;
+
+		counter.lastUsed = System.nanoTime();
+
+		return counter.count;
+	}
+
+	/** 좋아요 여부 (메모리에 없으면 DB 조회 값 사용)
+	 * @param memberNo
+	 * @param boardNo
+	 * @param dbLikeCheck : DB에서 조회한 좋아요 여부
+	 * @return
+	 */
+	public int likeCheck(int memberNo, int boardNo, int dbLikeCheck) {
+
+		MemberLikes member = memberLikes.get(memberNo);
+
+		if(member == null) return dbLikeCheck;
+
+		member.lastUsed = System.nanoTime();
+
+		synchronized (member) {
+			return member.liked.contains(boardNo) ? 1 : 0;
+		}
+	}
+
+	/** 회원 좋아요 목록이 메모리에 있는지 여부 (있으면 DB의 좋아요 여부 조회 생략 가능)
+	 * @param memberNo
+	 * @return
+	 */
+	public boolean isLoaded(int memberNo) {
+		return memberLikes.containsKey(memberNo);
+	}
+
+	/** 회원 좋아요 목록 미리 조회 (로그인 시)
+	 * @param memberNo
+	 */
+	public void load(int memberNo) {
+		memberLikes(memberNo);
+	}
+
+	/** 게시글 번호 중 회원이 좋아요한 게시글 번호 (목록 페이지 표시용)
+	 * @param memberNo
+	 * @param boardNoList : 현재 페이지 게시글 번호
+	 * @return 좋아요한 게시글 번호(오름차순)
+	 */
+	public int[] likedAmong(int memberNo, List<Integer> boardNoList) {
+
+		if(boardNoList.isEmpty()) return new int[0];
+
+		RoaringBitmap page = RoaringBitmap.of(boardNoList);
+
+		MemberLikes member = memberLikes(memberNo);
+
+		// 제거된 목록이어도 제거 직전 상태이므로 표시용으로 사용
+		synchronized (member) {
+			return member.liked.and(page).toArray();
+		}
+	}
+
+	/** 다른 방식(direct)으로 DB에 반영된 좋아요 변경을 메모리에도 반영 (메모리에 있는 경우만)
+	 * @param memberNo
+	 * @param boardNo
+	 * @param like
+	 * @param likeCount : 반영 후 DB 좋아요 수
+	 */
+	public void applyCommitted(int memberNo, int boardNo, boolean like, int likeCount) {
+
+		MemberLikes member = memberLikes.get(memberNo);
+
+		if(member != null) {
+			synchronized (member) {
+				if(like) member.liked.add(boardNo);
+				else	 member.liked.remove(boardNo);
+			}
+		}
+
+		synchronized (journal) {
+
+			LikeCounter counter = likeCounts.get(boardNo);
+
+			if(counter != null) counter.count = likeCount;
+		}
+	}
+
+	/** 메모리 사용 통계
+	 * @return members(좋아요 목록이 있는 회원 수), likes(좋아요 수 합계), bitmapBytes, boards, pending, 제한/제거 수
+	 */
+	public Map<String, Object> stats() {
+
+		long likes = 0;
+		long bytes = 0;
+
+		for(MemberLikes member : memberLikes.values()) {
+			synchronized (member) {
+				likes += member.liked.cardinality();
+				bytes += member.liked.sizeInBytes();
+			}
+		}
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("members", memberLikes.size());
+		stats.put("maxMembers", maxMembers);
+		stats.put("likes", likes);
+		stats.put("bitmapBytes", bytes);
+		stats.put("boards", likeCounts.size());
+		stats.put("maxBoards", maxBoards);
+		stats.put("pending", pending.size());
+		stats.put("memberEvictions", memberEvictions);
+		stats.put("boardEvictions", boardEvictions);
+
+		return stats;
+	}
+
+	// 변경 기록 후 반영 대기 목록에 추가 + 좋아요 수 변경
+	// 반환 : 변경 후 좋아요 수 (좋아요 수가 메모리에 없으면 -1)
+	private int record(LikeOp op) {
+
+		synchronized (journal) {
+
+			try {
+				journal.append(op);
+
+			} catch(IOException e) {
+				// 기록하지 못한 변경은 메모리에도 반영하지 않음
+				throw new UncheckedIOException("좋아요 변경 기록 실패", e);
+			}
+
+			pending.add(op);
+
+			LikeCounter counter = likeCounts.get(op.boardNo());
+
+			if(counter == null) return -1;
+
+			counter.count += op.liked() ? 1 : -1;
+			counter.lastUsed = System.nanoTime();
+
+			return counter.count;
+		}
+	}
+
+	// 게시글 좋아요 수 (처음 사용 시 BOARD_LIKE 행 수 + 반영 전 변경으로 초기화, 게시글이 없으면 null)
+	private LikeCounter counter(int boardNo) {
+
+		LikeCounter counter = likeCounts.get(boardNo);
+
+		if(counter != null) {
+			counter.lastUsed = System.nanoTime();
+			return counter;
+		}
+
+		// flush 와 동시에 수행 X (조회 중 DB 변경 없음)
+		synchronized (this) {
+
+			counter = likeCounts.get(boardNo);
+
+			if(counter != null) return counter;
+
+			// 반영 중/실패한 변경의 회원별 마지막 상태
+			// (이전 실행의 기록은 이미 DB에 반영되었을 수 있으므로 증감이 아닌 DB 상태와 비교)
+			Map<Integer, Boolean> lastMap = new HashMap<>();
+
+			List<LikeOp> failedList;
+
+			synchronized (journal) {
+				failedList = failed;
+			}
+
+			for(LikeOp op : failedList) {
+				if(op.boardNo() == boardNo) lastMap.put(op.memberNo(), op.liked());
+			}
+
+			int count;
+
+			try(SqlSession session = sqlSessionFactory.openSession()) {
+
+				BoardMapper mapper = session.getMapper(BoardMapper.class);
+
+				Integer rowCount = mapper.selectLikeRowCount(boardNo);
+
+				if(rowCount == null) return null;
+
+				count = rowCount;
+
+				for(Map.Entry<Integer, Boolean> entry : lastMap.entrySet()) {
+
+					Map<String, Integer> paramMap = new HashMap<>();
+					paramMap.put("boardNo", boardNo);
+					paramMap.put("memberNo", entry.getKey());
+
+					count += (entry.getValue() ? 1 : 0) - mapper.selectLikeCheck(paramMap);
+				}
+			}
+
+			// pending 은 모두 (DB + 반영 전 변경) 상태를 실제로 바꾼 변경 >> 증감 그대로 더함
+			synchronized (journal) {
+
+				for(LikeOp op : pending) {
+					if(op.boardNo() == boardNo) count += op.liked() ? 1 : -1;
+				}
+
+				counter = new LikeCounter(count);
+				likeCounts.put(boardNo, counter);
+			}
+
+			return counter;
+		}
+	}
+
+	// 회원이 좋아요한 게시글 번호 (처음 사용 시 DB 조회 + 반영 전 변경 덧씌움)
+	private MemberLikes memberLikes(int memberNo) {
+
+		MemberLikes member = memberLikes.computeIfAbsent(memberNo, k -> {
+
+			// DB 조회 전에 가져옴 : 조회 후 반영이 끝나 목록에서 빠진 변경도 포함
+			// (같은 변경을 다시 적용해도 결과 동일, 순서대로 적용하므로 마지막 상태가 남음)
+			List<LikeOp> unflushed;
+
+			synchronized (journal) {
+				unflushed = new ArrayList<>(failed);
+				unflushed.addAll(pending);
+			}
+
+			RoaringBitmap liked;
+
+			try(SqlSession session = sqlSessionFactory.openSession()) {
+				liked = RoaringBitmap.of(session.getMapper(BoardMapper.class).selectLikedBoardNoList(memberNo));
+			}
+
+			for(LikeOp op : unflushed) {
+
+				if(op.memberNo() != memberNo) continue;
+
+				if(op.liked()) liked.add(op.boardNo());
+				else		   liked.remove(op.boardNo());
+			}
+
+			return new MemberLikes(liked);
+		});
+
+		member.lastUsed = System.nanoTime();
+
+		return member;
+	}
+
+	/** 모아둔 변경을 배치로 DB에 반영
+	 * - 같은 (게시글, 회원)의 변경은 마지막 상태만 반영
+	 * - 좋아요 : 없을 때만 INSERT(MERGE) / 해제 : DELETE
+	 * - 변경된 게시글의 LIKE_COUNT 는 BOARD_LIKE 행 수로 다시 계산 >> 메모리 좋아요 수도 다시 설정
+	 * - 반영 성공 시 해당 변경 기록 파일 삭제, 실패 시 다음 flush 에서 다시 시도
+	 * - 반영 후 메모리 제한을 넘은 회원 목록 / 좋아요 수 제거
+	 * @return 반영한 변경 수
+	 * @throws IOException
+	 */
+	public synchronized int flush() throws IOException {
+
+		long sealed;
+		List<LikeOp> opList;
+
+		// 새 기록 파일로 교체 + 그 전까지의 변경 가져오기
+		// (반영이 끝날 때까지 failed 에 두어 회원 목록 조회 시 덧씌움)
+		synchronized (journal) {
+
+			sealed = journal.rotate();
+
+			opList = new ArrayList<>(failed);
+
+			LikeOp op;
+			while((op = pending.poll()) != null) opList.add(op);
+
+			failed = opList;
+		}
+
+		if(opList.isEmpty()) {
+			journal.delete(sealed);
+			evictOverflow();
+			return 0;
+		}
+
+		// (게시글, 회원)별 마지막 상태
+		Map<Long, LikeOp> lastMap = new LinkedHashMap<>();
+
+		for(LikeOp op : opList) {
+			lastMap.put(((long)op.boardNo() << 32) | op.memberNo(), op);
+		}
+
+		Set<Integer> boardNoSet = new TreeSet<>();
+
+		// 실패 시 failed 에 남아 다음 flush 에서 다시 시도 (기록 파일도 남겨둠)
+		try(SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+
+			BoardMapper mapper = session.getMapper(BoardMapper.class);
+
+			for(LikeOp op : lastMap.values()) {
+
+				Map<String, Integer> paramMap = new HashMap<>();
+				paramMap.put("boardNo", op.boardNo());
+				paramMap.put("memberNo", op.memberNo());
+
+				if(op.liked()) mapper.mergeBoardLike(paramMap);
+				else		   mapper.deleteBoardLike(paramMap);
+
+				boardNoSet.add(op.boardNo());
+			}
+
+			for(int boardNo : boardNoSet) {
+				mapper.refreshLikeCount(boardNo);
+			}
+
+			session.flushStatements();
+			session.commit();
+		}
+
+		synchronized (journal) {
+			failed = new ArrayList<>();
+		}
+
+		journal.delete(sealed);
+
+		reloadCounts(boardNoSet);
+
+		evictOverflow();
+
+		return lastMap.size();
+	}
+
+	// 반영한 게시글의 메모리 좋아요 수를 LIKE_COUNT(refreshLikeCount 결과) + 그 사이 변경으로 다시 설정
+	// (flush 잠금 안에서 호출 >> 다른 반영과 겹치지 않음)
+	private void reloadCounts(Set<Integer> boardNoSet) {
+
+		List<Integer> loaded = new ArrayList<>();
+
+		for(int boardNo : boardNoSet) if(likeCounts.containsKey(boardNo)) loaded.add(boardNo);
+
+		if(loaded.isEmpty()) return;
+
+		Map<Integer, Integer> dbCounts = new HashMap<>();
+
+		try(SqlSession session = sqlSessionFactory.openSession()) {
+
+			BoardMapper mapper = session.getMapper(BoardMapper.class);
+
+			for(int i = 0; i < loaded.size(); i += IN_LIMIT) {
+
+				for(Board board : mapper.selectLikeCountList(loaded.subList(i, Math.min(i + IN_LIMIT, loaded.size())))) {
+					dbCounts.put(board.getBoardNo(), board.getLikeCount());
+				}
+			}
+		}
+
+		synchronized (journal) {
+
+			// 조회 후 추가된 변경 (반영 전)
+			Map<Integer, Integer> deltaMap = new HashMap<>();
+
+			for(LikeOp op : pending) deltaMap.merge(op.boardNo(), op.liked() ? 1 : -1, Integer::sum);
+
+			for(int boardNo : loaded) {
+
+				Integer count = dbCounts.get(boardNo);
+
+				// 삭제된 게시글
+				if(count == null) {
+					likeCounts.remove(boardNo);
+					continue;
+				}
+
+				LikeCounter counter = likeCounts.get(boardNo);
+
+				if(counter != null) counter.count = count + deltaMap.getOrDefault(boardNo, 0);
+			}
+		}
+	}
+
+	// 최대 개수를 넘은 회원 목록 / 좋아요 수를 오래 사용되지 않은 순서로 제거
+	private void evictOverflow() {
+
+		if(memberLikes.size() > maxMembers) {
+
+			for(Map.Entry<Integer, MemberLikes> entry : oldest(memberLikes, memberLikes.size() - maxMembers, m -> m.lastUsed)) {
+
+				MemberLikes member = entry.getValue();
+
+				synchronized (member) {
+					member.evicted = true;
+					memberLikes.remove(entry.getKey(), member);
+				}
+
+				memberEvictions++;
+			}
+		}
+
+		if(likeCounts.size() > maxBoards) {
+
+			List<Map.Entry<Integer, LikeCounter>> oldest = oldest(likeCounts, likeCounts.size() - maxBoards, c -> c.lastUsed);
+
+			synchronized (journal) {
+				for(Map.Entry<Integer, LikeCounter> entry : oldest) likeCounts.remove(entry.getKey(), entry.getValue());
+			}
+
+			boardEvictions += oldest.size();
+		}
+	}
+
+	// 마지막 사용 시간이 가장 오래된 count 개
+	private static <V> List<Map.Entry<Integer, V>> oldest(Map<Integer, V> map, int count, ToLongFunction<V> lastUsed) {
+
+		List<Map.Entry<Integer, V>> entries = new ArrayList<>(map.entrySet());
+
+		entries.sort(Comparator.comparingLong(e -> lastUsed.applyAsLong(e.getValue())));
+
+		return entries.subList(0, Math.min(count, entries.size()));
+	}
+
+	// 서버 종료 시 남은 변경 반영 (실패해도 기록 파일이 남아 다음 시작 시 반영)
+	@PreDestroy
+	public void flushOnShutdown() {
+
+		try {
+			int result = flush();
+
+			log.info("서버 종료 전 좋아요 반영 : {}건", result);
+
+		} catch(Exception e) {
+			log.error("서버 종료 전 좋아요 반영 실패", e);
+		}
+
+		try {
+			journal.close();
+
+		} catch(IOException e) {
+			log.error("좋아요 변경 기록 파일 닫기 실패", e);
+		}
+	}
+}
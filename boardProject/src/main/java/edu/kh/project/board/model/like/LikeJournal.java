@@ -0,0 +1,170 @@
+package edu.kh.project.board.model.like;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 좋아요 변경 기록 파일 (DB 반영 전 서버가 종료되어도 다시 반영하기 위함)
+ *
+ * - 파일 : like-{번호}.log, 한 줄에 변경 1건 ("L,게시글번호,회원번호" 좋아요 / "U,..." 해제)
+ * - 변경은 메모리 반영 전에 현재 파일 끝에 추가(append)
+ * - DB 반영 시 새 파일로 교체(rotate) >> 이전 파일들의 변경이 DB에 반영되면 삭제
+ * - 서버 시작 시 남아있는 파일 == DB에 반영되지 않았을 수 있는 변경 >> 다시 반영(replay)
+ *   (다시 반영해도 결과가 같도록 좋아요는 없을 때만 INSERT, 해제는 DELETE)
+ * - 쓰는 도중 종료되어 줄바꿈으로 끝나지 않은 마지막 줄은 무시
+ */
+@Slf4j
+public class LikeJournal implements AutoCloseable {
+
+	private static final String PREFIX = "like-";
+	private static final String SUFFIX = ".log";
+
+	private final Path dir;
+
+	// 쓰기마다 디스크 동기화(force) 여부
+	private final boolean fsync;
+
+	// 현재 기록 중인 파일
+	private FileChannel channel;
+	private long seq;
+
+	public LikeJournal(Path dir, boolean fsync) throws IOException {
+
+		this.dir = dir;
+		this.fsync = fsync;
+
+		Files.createDirectories(dir);
+
+		// 남아있는 파일 다음 번호부터 기록 (남아있는 파일은 모두 이전 기록)
+		TreeMap<Long, Path> files = listFiles();
+
+		seq = files.isEmpty() ? 1 : files.lastKey() + 1;
+
+		open();
+	}
+
+	private void open() throws IOException {
+		channel = FileChannel.open(dir.resolve(PREFIX + seq + SUFFIX),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+
+	/** 현재 파일 번호 (이보다 작은 번호의 파일은 더 이상 기록되지 않음)
+	 * @return
+	 */
+	public synchronized long currentSeq() {
+		return seq;
+	}
+
+	/** 변경 1건 기록
+	 * @param op
+	 * @throws IOException
+	 */
+	public synchronized void append(LikeOp op) throws IOException {
+
+		String line = (op.liked() ? "L," : "U,") + op.boardNo() + "," + op.memberNo() + "\n";
+
+		ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII));
+
+		while(buffer.hasRemaining()) channel.write(buffer);
+
+		if(fsync) channel.force(false);
+	}
+
+	/** 새 파일로 교체
+	 * @return 교체 전 파일 번호 (이 번호 이하의 파일은 더 이상 기록되지 않음)
+	 * @throws IOException
+	 */
+	public synchronized long rotate() throws IOException {
+
+		channel.close();
+
+		long sealed = seq++;
+
+		open();
+
+		return sealed;
+	}
+
+	/** 기록이 끝난 파일(upToSeq 이하)의 변경 읽기 (파일 번호순)
+	 * @param upToSeq
+	 * @return
+	 * @throws IOException
+	 */
+	public List<LikeOp> read(long upToSeq) throws IOException {
+
+		List<LikeOp> opList = new ArrayList<>();
+
+		for(Path file : listFiles().headMap(upToSeq, true).values()) {
+
+			String text = Files.readString(file, StandardCharsets.US_ASCII);
+
+			// 마지막 줄바꿈 이후(쓰는 도중 종료된 줄)는 제외
+			int end = text.lastIndexOf('\n');
+
+			if(end < 0) continue;
+
+			for(String line : text.substring(0, end).split("\n")) {
+
+				String[] arr = line.split(",");
+
+				try {
+					opList.add(new LikeOp(Integer.parseInt(arr[1]), Integer.parseInt(arr[2]), arr[0].equals("L")));
+
+				} catch(NumberFormatException | ArrayIndexOutOfBoundsException e) {
+					log.warn("잘못된 좋아요 기록 무시 : {} ({})", line, file.getFileName());
+				}
+			}
+		}
+
+		return opList;
+	}
+
+	/** DB에 반영된 파일(upToSeq 이하) 삭제
+	 * @param upToSeq
+	 * @throws IOException
+	 */
+	public void delete(long upToSeq) throws IOException {
+
+		for(Path file : listFiles().headMap(upToSeq, true).values()) {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	// 기록 파일 목록 { 파일 번호 : 경로 }
+	private TreeMap<Long, Path> listFiles() throws IOException {
+
+		TreeMap<Long, Path> files = new TreeMap<>();
+
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(dir, PREFIX + "*" + SUFFIX)) {
+
+			for(Path file : stream) {
+
+				String name = file.getFileName().toString();
+
+				try {
+					files.put(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())), file);
+
+				} catch(NumberFormatException e) {
+					// 다른 파일 무시
+				}
+			}
+		}
+
+		return files;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		channel.close();
+	}
+}
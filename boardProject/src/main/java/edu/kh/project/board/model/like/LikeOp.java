@@ -0,0 +1,8 @@
+package edu.kh.project.board.model.like;
+
+/** 좋아요 변경 1건
+ * @param boardNo
+ * @param memberNo
+ * @param liked : true 좋아요 / false 해제
+ */
+public record LikeOp(int boardNo, int memberNo, boolean liked) {}
@@ -4,9 +4,12 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
 
 import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.dto.BoardImg;
+import edu.kh.project.board.model.dto.Comment;
 
 @Mapper
 public interface BoardMapper {
@@ -22,6 +25,11 @@ public interface BoardMapper {
 	 */
 	int getListCount(int boardCode);
 
+	/** 전체 게시판 게시글 수 조회 SQL 수행
+	 * @return (boardCode, listCount)
+	 */
+	List<Map<String, Object>> selectListCountAll();
+
 	/** 특정 게시판의 지정된 페이지 목록 조회 SQL 수행
 	 * @param boardCode
 	 * @param rowBounds
@@ -35,6 +43,12 @@ public interface BoardMapper {
 	 */
 	int getSearchCount(Map<String, Object> paramMap);
 
+	/** 검색 조건이 맞는 게시글 수 조회(countLimit 개까지만 셈) SQL 수행
+	 * @param paramMap : boardCode, key, query, countLimit
+	 * @return
+	 */
+	int getSearchCountCapped(Map<String, Object> paramMap);
+
 	/** 검색 결과 목록 조회 SQL 수행
 	 * @param paramMap
 	 * @param rowBounds
@@ -42,12 +56,83 @@ public interface BoardMapper {
 	 */
 	List<Board> selectSearchList(Map<String, Object> paramMap, RowBounds rowBounds);
 
+	/** 페이지 앵커(interval 행마다 하나의 게시글 번호) 조회 SQL 수행
+	 * @param paramMap (boardCode, interval)
+	 * @return
+	 */
+	List<Integer> selectPageAnchors(Map<String, Object> paramMap);
+
+	/** 특정 게시판의 지정된 페이지 목록 조회 SQL 수행(키셋)
+	 * @param paramMap (boardCode, lastBoardNo, anchorBoardNo, skip, limit)
+	 * @return
+	 */
+	List<Board> selectBoardListKeyset(Map<String, Object> paramMap);
+
+	/** 검색 결과 목록 조회 SQL 수행(DB OFFSET)
+	 * @param paramMap (boardCode, key, query, skip, limit)
+	 * @return
+	 */
+	List<Board> selectSearchListOffset(Map<String, Object> paramMap);
+
+	/** 검색 색인용 전체 게시글 조회 SQL 수행
+	 * @return (boardNo, boardCode, boardTitle, boardContent, memberNo, memberNickname)
+	 */
+	List<Board> selectSearchDocumentList();
+
+	/** 검색 색인용 게시글 1개 조회 SQL 수행
+	 * @param boardNo
+	 * @return 삭제된 게시글이면 null
+	 */
+	Board selectSearchDocument(int boardNo);
+
+	/** 게시글 번호 목록으로 색인 문서 조회 SQL 수행
+	 * @param boardNoList (최대 1000개)
+	 * @return 삭제된 게시글 제외
+	 */
+	List<Board> selectSearchDocumentByNo(List<Integer> boardNoList);
+
+	/** 게시글 번호 목록으로 목록 조회 SQL 수행
+	 * @param boardNoList
+	 * @return
+	 */
+	List<Board> selectBoardListByNo(List<Integer> boardNoList);
+
 	/** 게시글 상세 조회 SQL 수행 (BOARD/BOARD_IMG/COMMENT)
 	 * @param map
 	 * @return
 	 */
 	Board selectOne(Map<String, Integer> map);
 
+	/** 게시글 상세 조회 SQL 수행 (BOARD + BOARD_IMG + COMMENT 1회 조회, 댓글은 삭제 포함/정렬 X)
+	 * @param map
+	 * @return
+	 */
+	Board selectOneJoined(Map<String, Integer> map);
+
+	/** 게시글 상세 조회 SQL 수행 (BOARD만, 이미지/댓글 X)
+	 * @param map
+	 * @return
+	 */
+	Board selectBoardPart(Map<String, Integer> map);
+
+	/** 게시글 이미지 목록 조회 SQL 수행
+	 * @param boardNo
+	 * @return
+	 */
+	List<BoardImg> selectImageList(int boardNo);
+
+	/** 게시글 전체 댓글 조회 SQL 수행 (삭제 포함, 계층 정렬 X)
+	 * @param boardNo
+	 * @return
+	 */
+	List<Comment> selectCommentFlatList(int boardNo);
+
+	/** 게시글 좋아요 여부 조회 SQL 수행
+	 * @param map : boardNo, memberNo
+	 * @return 1 : 좋아요 O, 0 : 좋아요 X
+	 */
+	int selectLikeCheck(Map<String, Integer> map);
+
 	/** 조회수 1 증가 SQL 수행
 	 * @param boardNo
 	 * @return
@@ -60,6 +145,12 @@ public interface BoardMapper {
 	 */
 	int selectReadCount(int boardNo);
 
+	/** 조회 수 증가분 반영 SQL 수행
+	 * @param paramMap : boardNo, delta
+	 * @return
+	 */
+	int addReadCount(Map<String, Object> paramMap);
+
 	/** 게시글 좋아요 해제 SQL 수행
 	 * @param map
 	 * @return
@@ -72,15 +163,72 @@ public interface BoardMapper {
 	 */
 	int insertBoardLike(Map<String, Integer> map);
 
+	/** 게시글 좋아요 수 컬럼 증감 SQL 수행
+	 * @param map (boardNo, delta)
+	 * @return
+	 */
+	int updateLikeCount(Map<String, Integer> map);
+
 	/** 게시글 좋아요 개수 조회 SQL 수행
 	 * @param integer
 	 * @return
 	 */
 	int selectLikeCount(int boardNo);
 
+	/** 게시글 좋아요 행 수 조회 SQL 수행
+	 * @param boardNo
+	 * @return 게시글이 없으면 null
+	 */
+	Integer selectLikeRowCount(int boardNo);
+
+	/** 회원이 좋아요한 게시글 번호 목록 조회 SQL 수행
+	 * @param memberNo
+	 * @return
+	 */
+	List<Integer> selectLikedBoardNoList(int memberNo);
+
+	/** 게시글 좋아요 추가(없을 때만) SQL 수행
+	 * @param map (boardNo, memberNo)
+	 * @return
+	 */
+	int mergeBoardLike(Map<String, Integer> map);
+
+	/** 게시글 좋아요 수 컬럼 재계산 SQL 수행
+	 * @param boardNo
+	 * @return
+	 */
+	int refreshLikeCount(int boardNo);
+
+	/** 게시글 좋아요 수 컬럼 조회 SQL 수행 (좋아요 반영 후 메모리 좋아요 수 교체용)
+	 * @param boardNoList (최대 1000개)
+	 * @return boardNo, likeCount (삭제된 게시글은 결과 없음)
+	 */
+	List<Board> selectLikeCountList(List<Integer> boardNoList);
+
 	/** DB 이미지 파일명 목록 조회 SQL
 	 * @return
 	 */
 	List<String> selectDBImageList();
 
+	/** DB 이미지 파일명 순서대로 조회 SQL (트랜잭션 안에서만 읽을 수 있음)
+	 * @return
+	 */
+	Cursor<String> selectDBImageCursor();
+
+	/** 파일명 중 DB에서 참조 중인 파일명 조회 SQL
+	 * @param map : storeName(저장소 이름), nameList(파일명 목록), profileWebPath(프로필 이미지 요청 주소)
+	 * @return
+	 */
+	List<String> selectReferencedFileList(Map<String, Object> map);
+
+	/** 댓글 수 컬럼 보정 SQL 수행
+	 * @return 보정된 게시글 수
+	 */
+	int reconcileCommentCount();
+
+	/** 좋아요 수 컬럼 보정 SQL 수행
+	 * @return 보정된 게시글 수
+	 */
+	int reconcileLikeCount();
+
 }
@@ -1,6 +1,7 @@
 package edu.kh.project.board.model.mapper;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 
@@ -11,10 +12,61 @@ public interface CommentMapper {
 
 	List<Comment> select(int boardNo);
 
+	/** 게시글 전체 댓글 조회 SQL 수행 (삭제 포함, 댓글 번호순)
+	 * @param boardNo
+	 * @return
+	 */
+	List<Comment> selectFlat(int boardNo);
+
+	/** 최상위 댓글 페이지 조회 SQL 수행
+	 * @param map : boardNo, lastCommentNo, limit
+	 * @return
+	 */
+	List<Comment> selectTopPage(Map<String, Integer> map);
+
+	/** 특정 댓글의 모든 하위 답글 조회 SQL 수행 (삭제 포함)
+	 * @param parentCommentNo
+	 * @return
+	 */
+	List<Comment> selectReplies(int parentCommentNo);
+
+	/** 기준 변경 번호 이후 작성/수정/삭제된 댓글 조회 SQL 수행 (삭제 포함)
+	 * @param map : boardNo, sinceVersion
+	 * @return
+	 */
+	List<Comment> selectSince(Map<String, Integer> map);
+
+	/** 댓글 1개 조회 SQL 수행 (작성자 정보 포함)
+	 * @param commentNo
+	 * @return
+	 */
+	Comment selectComment(int commentNo);
+
+	/** 게시글의 현재 댓글 변경 번호 조회 SQL 수행
+	 * @param boardNo
+	 * @return
+	 */
+	int selectCommentVersion(int boardNo);
+
 	int insert(Comment comment);
 
-	int delete(int commentNo);
+	/** 댓글 삭제 SQL 수행
+	 * @param map : commentNo, commentVersion
+	 * @return
+	 */
+	int delete(Map<String, Integer> map);
 
 	int update(Comment comment);
 
+	/** 댓글이 작성된 게시글 번호 조회 SQL 수행
+	 * @param commentNo
+	 * @return 댓글이 없거나 삭제된 댓글이면 null
+	 */
+	Integer selectBoardNo(int commentNo);
+
+	/** 게시글 댓글 수 컬럼 증감 + 댓글 변경 번호 증가 SQL 수행
+	 * @param map (boardNo, delta) >> 수행 후 증가된 commentVersion 대입 (게시글이 없으면 null)
+	 */
+	void updateCommentCount(Map<String, Integer> map);
+
 }
@@ -29,6 +29,12 @@ public interface EditBoardMapper {
 	 */
 	int boardUpdate(Board inputBoard);
 
+	/** 게시글의 기존 이미지 순서/변경명 조회 SQL
+	 * @param boardNo
+	 * @return
+	 */
+	List<BoardImg> selectImageRenameList(int boardNo);
+
 	/** 게시글 이미지 삭제 SQL
 	 * @param map
 	 * @return
@@ -47,6 +53,12 @@ public interface EditBoardMapper {
 	 */
 	int insertImage(BoardImg img);
 
+	/** 게시글 이미지 모두 수정 또는 삽입 SQL (MERGE 1회)
+	 * @param uploadList
+	 * @return 수정 + 삽입된 행의 개수
+	 */
+	int mergeUploadList(List<BoardImg> uploadList);
+
 	/** 게시글 삭제 SQL
 	 * @param map
 	 * @return
@@ -0,0 +1,454 @@
+package edu.kh.project.board.model.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.mapper.BoardMapper;
+import edu.kh.project.common.util.Utility;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 게시글 검색 색인 (메모리)
+ *
+ * - LIKE '%검색어%' 는 매 검색마다 BOARD 전체를 2번(개수 + 목록) 읽음
+ * - 제목 / 내용 / 작성자 닉네임을 미리 n-gram 색인어로 분리해두고
+ *   검색 시 색인어에 해당하는 게시글 번호만 순위순으로 반환 >> mapper 가 해당 번호만 조회
+ *
+ * [색인]
+ * - 제목, 내용 : 게시글 번호 기준
+ * - 닉네임 : 회원 번호 기준 (닉네임 변경 시 게시글을 다시 색인할 필요 없음)
+ *            + 회원 번호 : 작성한 게시글 번호 목록
+ *
+ * [문서] 원문 대신 중복을 제거한 단어 목록만 보관 (메모리 절약)
+ * - 색인어(n-gram)는 단어 안에서만 만들어지므로 단어 목록만으로 제거 시 색인어 재계산 가능
+ *
+ * [검색] LIKE '%검색어%' 와 같은 결과 (대소문자 구분 X)
+ * 1) 검색어 조각(n-gram)의 문서 번호 목록 교집합 >> 후보
+ * 2) 후보 문서의 단어 중 검색어를 실제로 포함하는 단어가 있는지 확인 (조각이 떨어져 있는 경우 제외)
+ * 3) 검색어를 포함하는 단어 수로 순위 (제목+내용 검색 시 제목 2배)
+ * - 공백/특수문자가 포함된 검색어(여러 단어)는 단어 목록으로 판단 불가
+ *   >> 모든 단어를 포함하는 후보만 DB에서 원문을 조회해 확인 (후보가 너무 많으면 LIKE 검색)
+ * - 문자/숫자가 없는 검색어는 LIKE 검색
+ *
+ * [갱신]
+ * - 서버 시작 시 / 관리자 요청 시 DB에서 전체 재구성(rebuild)
+ * - 게시글 작성/수정/삭제/복구, 닉네임 변경 시 커밋 후 해당 문서만 반영
+ *   (색인어 분리는 잠금 밖에서 수행, 쓰기 잠금 안에서는 문서 번호 목록만 변경)
+ * - 재구성 중 발생한 변경은 기록해두었다가 새 색인에 다시 적용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardSearchIndex {
+
+	// 원문을 DB에서 다시 확인할 최대 후보 수 (Oracle IN 목록 최대 1000개)
+	private static final int PHRASE_CHECK_LIMIT = 1000;
+
+	private final BoardMapper mapper;
+
+	private final Tokenizer tokenizer = new NGramTokenizer();
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 색인 상태 (재구성 시 통째로 교체)
+	private State state = new State();
+
+	// 재구성 완료 여부 (완료 전에는 LIKE 검색 사용)
+	private volatile boolean ready = false;
+
+	// 재구성 중 발생한 변경 (재구성 완료 후 새 색인에 다시 적용)
+	private List<Consumer<State>> pending = null;
+
+	// 게시글 문서 (정규화된 단어 목록 : 공백으로 구분, 중복 제거 >> 검색어 포함 확인, 제거 시 색인어 재계산에 사용)
+	private record Document(int boardNo, int boardCode, int memberNo, String titleWords, String contentWords) {}
+
+	// 색인어를 미리 분리한 문서 (잠금 밖에서 생성)
+	private record Entry(Document doc, List<String> titleTerms, List<String> contentTerms) {}
+
+	private static class State {
+		final InvertedIndex title = new InvertedIndex();
+		final InvertedIndex content = new InvertedIndex();
+		final InvertedIndex nickname = new InvertedIndex(); // 문서 번호 == 회원 번호
+
+		final Map<Integer, Document> docs = new HashMap<>();
+		final Map<Integer, String> nicknames = new HashMap<>(); // 회원 번호 : 정규화된 닉네임
+		final Map<Integer, Set<Integer>> memberBoards = new HashMap<>(); // 회원 번호 : 게시글 번호
+	}
+
+	/** 서버 시작 시 색인 구성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void init() {
+
+		try {
+			rebuild();
+		} catch(Exception e) {
+			log.warn("검색 색인 구성 실패(LIKE 검색 사용) : {}", e.getMessage());
+		}
+	}
+
+	/** DB에서 전체 색인 재구성
+	 * @return 색인된 게시글 수
+	 */
+	public int rebuild() {
+
+		lock.writeLock().lock();
+		try {
+			if(pending != null) throw new IllegalStateException("검색 색인 재구성 진행 중");
+			pending = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		State newState = new State();
+
+		try {
+			// 잠금 없이 조회/구성 (검색은 기존 색인으로 계속 수행)
+			List<Board> boardList = mapper.selectSearchDocumentList();
+
+			for(Board board : boardList) put(newState, entry(board), board.getMemberNickname());
+
+			lock.writeLock().lock();
+			try {
+				// 구성 중 발생한 변경 다시 적용 후 교체
+				for(Consumer<State> op : pending) op.accept(newState);
+
+				state = newState;
+				ready = true;
+			} finally {
+				lock.writeLock().unlock();
+			}
+
+			log.info("검색 색인 구성 완료 : 게시글 {}개, 색인어 {}개, 문서 번호 목록 {}KB",
+					newState.docs.size(), 
+					newState.title.termCount() + newState.content.termCount(),
+					(newState.title.postingBytes() + newState.content.postingBytes()) / 1024);
+
+			return newState.docs.size();
+
+		} finally {
+			lock.writeLock().lock();
+			pending = null;
+			lock.writeLock().unlock();
+		}
+	}
+
+	/** 색인 사용 가능 여부
+	 * @return
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/** 게시글 색인 추가/갱신 (작성, 수정, 복구)
+	 * 현재 트랜잭션 안에서 문서를 조회하고 커밋 후 반영
+	 * @param boardNo
+	 */
+	public void indexAfterCommit(int boardNo) {
+
+		Board board = mapper.selectSearchDocument(boardNo);
+
+		if(board == null) {
+			removeAfterCommit(boardNo);
+			return;
+		}
+
+		Utility.afterCommit(() -> {
+			// 색인어 분리(새 문서, 기존 문서)는 잠금 밖에서 수행
+			Entry entry = entry(board);
+			Entry before = current(boardNo);
+
+			apply(s -> {
+				remove(s, boardNo, before);
+				put(s, entry, board.getMemberNickname());
+			});
+		});
+	}
+
+	/** 게시글 색인 제거 (삭제)
+	 * @param boardNo
+	 */
+	public void removeAfterCommit(int boardNo) {
+
+		Utility.afterCommit(() -> {
+			Entry before = current(boardNo);
+
+			apply(s -> remove(s, boardNo, before));
+		});
+	}
+
+	/** 회원 닉네임 색인 갱신 (닉네임 변경)
+	 * @param memberNo
+	 * @param memberNickname
+	 */
+	public void updateNicknameAfterCommit(int memberNo, String memberNickname) {
+
+		Utility.afterCommit(() -> apply(s -> putNickname(s, memberNo, memberNickname)));
+	}
+
+	/** 검색
+	 * @param boardCode
+	 * @param key : t(제목), c(내용), tc(제목+내용), w(작성자)
+	 * @param query : 검색어 (LIKE '%검색어%' 와 같이 부분 문자열 검색)
+	 * @return 게시글 번호 목록 (점수 내림차순, 같으면 게시글 번호 내림차순)
+	 *         색인으로 판단할 수 없는 검색어면 null (LIKE 검색 사용)
+	 */
+	public List<Integer> search(int boardCode, String key, String query) {
+
+		String q = NGramTokenizer.normalize(query);
+		List<String> words = NGramTokenizer.words(q);
+
+		// 문자/숫자가 없는 검색어(공백, 특수문자만)
+		if(words.isEmpty()) return null;
+
+		List<String> grams = tokenizer.queryTokens(q);
+
+		// 검색어가 단어 1개가 아님 >> 단어 목록만으로 일치 여부 판단 불가
+		boolean phrase = !"w".equals(key) && !(words.size() == 1 && words.get(0).equals(q));
+
+		Map<Integer, Integer> scores;
+
+		lock.readLock().lock();
+		try {
+			scores = "w".equals(key)
+					? searchNickname(boardCode, q, grams)
+					: searchText(boardCode, key, words, grams);
+
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if(phrase) {
+			if(scores.size() > PHRASE_CHECK_LIMIT) return null;
+
+			scores = checkPhrase(key, q, scores.keySet());
+		}
+
+		List<Integer> result = new ArrayList<>(scores.keySet());
+
+		final Map<Integer, Integer> order = scores;
+
+		result.sort(Comparator.<Integer>comparingInt(order::get).reversed()
+				.thenComparing(Comparator.<Integer>reverseOrder()));
+
+		return result;
+	}
+
+	// 제목/내용 검색 : 후보 문서 중 검색어 단어를 모두 포함하는 게시글 (점수 : 검색어를 포함하는 단어 수)
+	private Map<Integer, Integer> searchText(int boardCode, String key, List<String> words, List<String> grams) {
+
+		boolean title = !"c".equals(key);
+		boolean content = "c".equals(key) || "tc".equals(key);
+
+		Set<Integer> candidates = new HashSet<>();
+
+		if(title) for(int boardNo : state.title.candidates(grams)) candidates.add(boardNo);
+		if(content) for(int boardNo : state.content.candidates(grams)) candidates.add(boardNo);
+
+		Map<Integer, Integer> scores = new HashMap<>();
+
+		for(int boardNo : candidates) {
+
+			Document doc = state.docs.get(boardNo);
+
+			if(doc == null || doc.boardCode() != boardCode) continue;
+
+			int score = 0;
+			if(title) score += count(doc.titleWords(), words) * titleWeight(key);
+			if(content) score += count(doc.contentWords(), words);
+
+			if(score > 0) scores.put(boardNo, score);
+		}
+
+		return scores;
+	}
+
+	// 여러 단어 검색어 : 후보 게시글의 원문을 DB에서 조회해 검색어 포함 확인 (점수 : 등장 횟수)
+	private Map<Integer, Integer> checkPhrase(String key, String q, Set<Integer> candidates) {
+
+		Map<Integer, Integer> scores = new HashMap<>();
+
+		if(candidates.isEmpty()) return scores;
+
+		boolean title = !"c".equals(key);
+		boolean content = "c".equals(key) || "tc".equals(key);
+
+		for(Board board : mapper.selectSearchDocumentByNo(new ArrayList<>(candidates))) {
+
+			int score = 0;
+			if(title) score += count(NGramTokenizer.normalize(board.getBoardTitle()), q) * titleWeight(key);
+			if(content) score += count(NGramTokenizer.normalize(board.getBoardContent()), q);
+
+			if(score > 0) scores.put(board.getBoardNo(), score);
+		}
+
+		return scores;
+	}
+
+	// 제목 + 내용 검색 시 제목 일치에 가중치 2배
+	private int titleWeight(String key) {
+		return "tc".equals(key) ? 2 : 1;
+	}
+
+	// 작성자 검색 : 닉네임이 검색어를 포함하는 회원의 게시글
+	private Map<Integer, Integer> searchNickname(int boardCode, String q, List<String> grams) {
+
+		Set<Integer> members = new HashSet<>();
+
+		for(int memberNo : state.nickname.candidates(grams)) members.add(memberNo);
+
+		Map<Integer, Integer> scores = new HashMap<>();
+
+		for(int memberNo : members) {
+
+			if(!state.nicknames.getOrDefault(memberNo, "").contains(q)) continue;
+
+			for(int boardNo : state.memberBoards.getOrDefault(memberNo, Set.of())) {
+				if(state.docs.get(boardNo).boardCode() == boardCode) {
+					scores.put(boardNo, 1); // 점수 동일 >> 게시글 번호 내림차순
+				}
+			}
+		}
+
+		return scores;
+	}
+
+	// 문자열에 검색어가 등장한 횟수
+	private int count(String text, String q) {
+
+		int count = 0;
+
+		for(int i = text.indexOf(q); i >= 0; i = text.indexOf(q, i + q.length())) count++;
+
+		return count;
+	}
+
+	// 단어 목록에 검색어 단어가 등장한 횟수 (하나라도 없으면 0)
+	private int count(String words, List<String> queryWords) {
+
+		int total = 0;
+
+		for(String word : queryWords) {
+			int count = count(words, word);
+
+			if(count == 0) return 0;
+
+			total += count;
+		}
+
+		return total;
+	}
+
+	// 쓰기 잠금 후 변경 적용 (재구성 중이면 기록)
+	private void apply(Consumer<State> op) {
+
+		lock.writeLock().lock();
+		try {
+			op.accept(state);
+			if(pending != null) pending.add(op);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 색인할 문서 생성 + 색인어 분리 (잠금 밖에서 호출)
+	private Entry entry(Board board) {
+
+		return entry(new Document(board.getBoardNo(), board.getBoardCode(), board.getMemberNo(),
+				distinctWords(board.getBoardTitle()), distinctWords(board.getBoardContent())));
+	}
+
+	private Entry entry(Document doc) {
+		return new Entry(doc, tokenizer.tokenize(doc.titleWords()), tokenizer.tokenize(doc.contentWords()));
+	}
+
+	// 현재 색인된 문서의 색인어 (읽기 잠금으로 문서만 조회, 분리는 잠금 밖에서)
+	private Entry current(int boardNo) {
+
+		Document doc;
+
+		lock.readLock().lock();
+		try {
+			doc = state.docs.get(boardNo);
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return doc == null ? null : entry(doc);
+	}
+
+	// 정규화된 단어 목록 (중복 제거, 공백으로 구분)
+	private static String distinctWords(String text) {
+		return String.join(" ", new LinkedHashSet<>(NGramTokenizer.words(text)));
+	}
+
+	// 게시글 추가 (기존 문서는 먼저 remove)
+	private void put(State s, Entry entry, String memberNickname) {
+
+		Document doc = entry.doc();
+
+		s.title.add(doc.boardNo(), entry.titleTerms());
+		s.content.add(doc.boardNo(), entry.contentTerms());
+		s.docs.put(doc.boardNo(), doc);
+
+		s.memberBoards.computeIfAbsent(doc.memberNo(), k -> new HashSet<>()).add(doc.boardNo());
+
+		if(!s.nicknames.containsKey(doc.memberNo())) {
+			putNickname(s, doc.memberNo(), memberNickname);
+		}
+	}
+
+	// 게시글 제거
+	// before : 잠금 밖에서 미리 분리한 기존 문서의 색인어
+	//          (그 사이 문서가 바뀌었거나 재구성 중 새 색인에 다시 적용하는 경우 여기서 다시 분리)
+	private void remove(State s, int boardNo, Entry before) {
+
+		Document doc = s.docs.remove(boardNo);
+
+		if(doc == null) return;
+
+		Entry entry = before != null && before.doc() == doc ? before : entry(doc);
+
+		s.title.remove(boardNo, entry.titleTerms());
+		s.content.remove(boardNo, entry.contentTerms());
+
+		Set<Integer> boards = s.memberBoards.get(doc.memberNo());
+
+		if(boards != null) {
+			boards.remove(boardNo);
+
+			// 게시글이 없는 회원은 닉네임 색인도 제거
+			if(boards.isEmpty()) {
+				s.memberBoards.remove(doc.memberNo());
+				String nickname = s.nicknames.remove(doc.memberNo());
+				if(nickname != null) s.nickname.remove(doc.memberNo(), tokenizer.tokenize(nickname));
+			}
+		}
+	}
+
+	// 닉네임 추가/갱신 (게시글이 있는 회원만)
+	private void putNickname(State s, int memberNo, String memberNickname) {
+
+		if(!s.memberBoards.containsKey(memberNo)) return;
+
+		String before = s.nicknames.remove(memberNo);
+		if(before != null) s.nickname.remove(memberNo, tokenizer.tokenize(before));
+
+		String nickname = NGramTokenizer.normalize(memberNickname);
+		s.nickname.add(memberNo, tokenizer.tokenize(nickname));
+		s.nicknames.put(memberNo, nickname);
+	}
+}
@@ -0,0 +1,100 @@
+package edu.kh.project.board.model.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 역색인 (색인어 >> 문서 번호 목록)
+ *
+ * - 색인어 : 압축된 문서 번호 목록(PostingList)
+ * - 검색 시 검색어 조각들의 목록을 교집합하여 후보 문서를 구함 (행 전체를 읽지 않음)
+ *
+ * 동기화하지 않음 >> BoardSearchIndex 의 잠금 안에서만 사용
+ */
+class InvertedIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Map<String, PostingList> postings = new HashMap<>();
+
+	/** 문서의 색인어 추가 (색인되지 않은 문서만)
+	 * @param docNo
+	 * @param terms
+	 */
+	void add(int docNo, Collection<String> terms) {
+
+		for(String term : terms) {
+			postings.computeIfAbsent(term, k -> new PostingList()).add(docNo);
+		}
+	}
+
+	/** 문서의 색인어 제거 (add 때와 같은 색인어 전달)
+	 * @param docNo
+	 * @param terms
+	 */
+	void remove(int docNo, Collection<String> terms) {
+
+		for(String term : terms) {
+
+			PostingList list = postings.get(term);
+
+			if(list == null) continue;
+
+			list.remove(docNo);
+
+			if(list.size() == 0) postings.remove(term);
+		}
+	}
+
+	/** 모든 색인어를 포함하는 문서 번호 (오름차순)
+	 * 문서 수가 적은 목록부터 교집합 >> 중간 결과를 최소화
+	 * @param terms
+	 * @return 하나라도 없는 색인어가 있으면 빈 배열
+	 */
+	int[] candidates(Collection<String> terms) {
+
+		List<PostingList> lists = new ArrayList<>();
+
+		for(String term : terms) {
+			PostingList list = postings.get(term);
+
+			if(list == null) return EMPTY;
+
+			lists.add(list);
+		}
+
+		if(lists.isEmpty()) return EMPTY;
+
+		lists.sort(Comparator.comparingInt(PostingList::size));
+
+		int[] result = lists.get(0).toArray();
+
+		for(int i = 1; i < lists.size() && result.length > 0; i++) {
+			result = lists.get(i).intersect(result);
+		}
+
+		return result;
+	}
+
+	/** 색인어 수
+	 * @return
+	 */
+	int termCount() {
+		return postings.size();
+	}
+
+	/** 문서 번호 목록 전체 크기(바이트)
+	 * @return
+	 */
+	long postingBytes() {
+
+		long bytes = 0;
+
+		for(PostingList list : postings.values()) bytes += list.bytes();
+
+		return bytes;
+	}
+}
@@ -0,0 +1,81 @@
+package edu.kh.project.board.model.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/* n-gram 분리기 (1 ~ 3 글자)
+ *
+ * - 한글은 조사가 단어에 붙어 있어("폭탄이", "폭탄을") 단어 단위로는 "폭탄" 검색 불가
+ * - 단어를 1~3 글자 조각으로 모두 색인하면 어느 위치의 부분 문자열이든 후보를 찾을 수 있음
+ *
+ * ex) 문서 "폭탄이" >> [폭, 탄, 이, 폭탄, 탄이, 폭탄이]
+ *     검색어 "폭탄" (2글자) >> [폭탄]
+ *     검색어 "폭탄이다" (3글자 이상) >> [폭탄이, 탄이다] (가장 긴 조각만 사용 >> 후보 수 최소화)
+ *
+ * 조각이 모두 포함되어도 실제 문자열이 연속되지 않을 수 있으므로
+ * 후보 문서는 BoardSearchIndex 에서 contains 로 다시 확인
+ */
+public class NGramTokenizer implements Tokenizer {
+
+	private static final int MAX_N = 3;
+
+	/** 소문자 변환 (문서, 검색어 모두 같은 방식으로 정규화)
+	 * @param text
+	 * @return
+	 */
+	public static String normalize(String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public List<String> tokenize(String text) {
+
+		Set<String> grams = new LinkedHashSet<>();
+
+		for(String word : words(text)) {
+			for(int n = 1; n <= Math.min(MAX_N, word.length()); n++) {
+				addGrams(grams, word, n);
+			}
+		}
+
+		return new ArrayList<>(grams);
+	}
+
+	@Override
+	public List<String> queryTokens(String query) {
+
+		Set<String> grams = new LinkedHashSet<>();
+
+		for(String word : words(query)) {
+			addGrams(grams, word, Math.min(MAX_N, word.length()));
+		}
+
+		return new ArrayList<>(grams);
+	}
+
+	/** 문자/숫자가 아닌 문자 기준으로 단어 분리 (정규화 포함)
+	 * @param text
+	 * @return
+	 */
+	static List<String> words(String text) {
+
+		List<String> words = new ArrayList<>();
+
+		for(String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+			if(!word.isEmpty()) words.add(word);
+		}
+
+		return words;
+	}
+
+	// 단어의 n 글자 조각 모두 추가
+	private void addGrams(Set<String> grams, String word, int n) {
+
+		for(int i = 0; i + n <= word.length(); i++) {
+			grams.add(word.substring(i, i + n));
+		}
+	}
+}
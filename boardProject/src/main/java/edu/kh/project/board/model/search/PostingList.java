@@ -0,0 +1,272 @@
+package edu.kh.project.board.model.search;
+
+import java.util.Arrays;
+
+/* 압축된 문서 번호 목록 (오름차순)
+ *
+ * - 번호 자체가 아닌 이전 번호와의 차이(delta)를 저장 >> 대부분 작은 수
+ * - 차이를 가변 길이 정수(varint)로 저장 : 7비트씩, 최상위 비트 1 == 다음 바이트 이어짐
+ *   ex) 2001, 2003, 2010 >> 2001, 2, 7 >> [0xD1 0x0F] [0x02] [0x07] (int 3개 12바이트 >> 4바이트)
+ *
+ * [변경]
+ * - 새 게시글은 번호가 가장 크므로 대부분 끝에 덧붙이기(append)만 수행
+ * - 중간 삽입 / 삭제는 인코딩된 목록을 바로 고치지 않고 작은 정렬 배열(added / removed)에 모아둠
+ *   >> 조회 시 압축을 풀면서 함께 반영 (조회는 목록을 변경하지 않음)
+ * - 모아둔 변경이 목록 크기의 1/16 (최소 MIN_MERGE개) 이상이면 한 번에 병합(다시 인코딩)
+ *   >> 게시글 1개 수정마다 목록 전체를 다시 인코딩하지 않음
+ *
+ * 동기화하지 않음 >> BoardSearchIndex 의 잠금 안에서만 사용
+ */
+class PostingList {
+
+	private static final int MIN_MERGE = 32;
+
+	private static final int[] EMPTY = new int[0];
+
+	private byte[] data = new byte[4];
+	private int length;		// 사용 중인 바이트 수
+	private int encoded;	// 인코딩된 문서 수
+	private int last;		// 인코딩된 마지막(가장 큰) 문서 번호
+
+	// 병합 전 변경 (오름차순)
+	// - added : 인코딩된 목록에 없는 번호 (모두 last 보다 작음)
+	// - removed : 인코딩된 목록에 있는 번호
+	private int[] added = EMPTY;
+	private int addedCount;
+
+	private int[] removed = EMPTY;
+	private int removedCount;
+
+	/** 문서 번호 추가
+	 * 목록에 없는 번호만 전달 (InvertedIndex 가 문서 단위로 추가/제거를 짝지어 호출)
+	 * @param docNo (0 이상)
+	 */
+	void add(int docNo) {
+
+		// 병합 전 제거된 번호 다시 추가 (수정 후 같은 색인어) >> 제거 취소
+		int index = Arrays.binarySearch(removed, 0, removedCount, docNo);
+
+		if(index >= 0) {
+			removedCount = delete(removed, removedCount, index);
+			return;
+		}
+
+		if(encoded == 0 || docNo > last) {
+			writeVarint(docNo - last);
+			last = docNo;
+			encoded++;
+			return;
+		}
+
+		added = insert(added, addedCount, -Arrays.binarySearch(added, 0, addedCount, docNo) - 1, docNo);
+		addedCount++;
+
+		mergeIfNeeded();
+	}
+
+	/** 문서 번호 제거
+	 * 목록에 있는 번호만 전달
+	 * @param docNo
+	 */
+	void remove(int docNo) {
+
+		int index = Arrays.binarySearch(added, 0, addedCount, docNo);
+
+		if(index >= 0) {
+			addedCount = delete(added, addedCount, index);
+			return;
+		}
+
+		removed = insert(removed, removedCount, -Arrays.binarySearch(removed, 0, removedCount, docNo) - 1, docNo);
+		removedCount++;
+
+		mergeIfNeeded();
+	}
+
+	/** 문서 수
+	 * @return
+	 */
+	int size() {
+		return encoded - removedCount + addedCount;
+	}
+
+	/** 압축 해제
+	 * @return 문서 번호 배열(오름차순)
+	 */
+	int[] toArray() {
+
+		int[] docs = new int[size()];
+
+		Reader reader = new Reader();
+
+		for(int i = 0; i < docs.length; i++) docs[i] = reader.next();
+
+		return docs;
+	}
+
+	/** 정렬된 문서 번호 배열과 교집합
+	 * 압축을 풀면서 두 목록을 동시에 앞으로 진행(merge) >> 별도 배열 생성 X
+	 * @param docs (오름차순)
+	 * @return
+	 */
+	int[] intersect(int[] docs) {
+
+		int[] result = new int[Math.min(docs.length, size())];
+		int count = 0;
+
+		Reader reader = new Reader();
+		int i = 0;
+
+		for(int doc = reader.next(); doc >= 0 && i < docs.length; doc = reader.next()) {
+
+			while(i < docs.length && docs[i] < doc) i++;
+
+			if(i < docs.length && docs[i] == doc) {
+				result[count++] = doc;
+				i++;
+			}
+		}
+
+		return Arrays.copyOf(result, count);
+	}
+
+	/** 사용 중인 바이트 수 (메모리 확인용, 병합 전 변경 포함)
+	 * @return
+	 */
+	int bytes() {
+		return length + (addedCount + removedCount) * Integer.BYTES;
+	}
+
+	/** 병합 전 변경 수 (확인용)
+	 * @return
+	 */
+	int pending() {
+		return addedCount + removedCount;
+	}
+
+	// 모아둔 변경이 충분히 쌓이면 한 번에 다시 인코딩
+	private void mergeIfNeeded() {
+
+		if(addedCount + removedCount < Math.max(MIN_MERGE, encoded >> 4)) return;
+
+		int[] docs = toArray();
+
+		added = EMPTY;
+		addedCount = 0;
+		removed = EMPTY;
+		removedCount = 0;
+
+		data = new byte[Math.max(4, docs.length * 2)];
+		length = 0;
+		encoded = 0;
+		last = 0;
+
+		for(int doc : docs) {
+			writeVarint(doc - last);
+			last = doc;
+			encoded++;
+		}
+	}
+
+	// 끝에 varint 덧붙이기
+	private void writeVarint(int value) {
+
+		// varint 최대 5바이트
+		if(length + 5 > data.length) {
+			data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+		}
+
+		while((value & ~0x7F) != 0) {
+			data[length++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		data[length++] = (byte)value;
+	}
+
+	// 정렬 배열의 index 위치에 값 삽입 (필요 시 배열 확장)
+	private static int[] insert(int[] array, int count, int index, int value) {
+
+		if(count == array.length) array = Arrays.copyOf(array, Math.max(4, count * 2));
+
+		System.arraycopy(array, index, array, index + 1, count - index);
+		array[index] = value;
+
+		return array;
+	}
+
+	// 정렬 배열의 index 위치 값 삭제
+	private static int delete(int[] array, int count, int index) {
+
+		System.arraycopy(array, index + 1, array, index, count - index - 1);
+
+		return count - 1;
+	}
+
+	/* 인코딩된 목록 + 병합 전 변경을 오름차순으로 읽기
+	 * (removed 번호는 건너뛰고 added 번호는 순서에 맞게 끼워 넣음)
+	 */
+	private class Reader {
+
+		private int pos;	// 다음에 읽을 바이트 위치
+		private int read;	// 읽은 인코딩 문서 수
+		private int base;	// 다음 인코딩 문서 번호 (없으면 -1)
+
+		private int a;		// 다음 added 위치
+		private int r;		// 다음 removed 위치
+
+		Reader() {
+			base = -1;
+			advance();
+		}
+
+		// 다음 문서 번호 (없으면 -1)
+		int next() {
+
+			while(true) {
+
+				int add = a < addedCount ? added[a] : -1;
+
+				if(add >= 0 && (base < 0 || add < base)) {
+					a++;
+					return add;
+				}
+
+				if(base < 0) return -1;
+
+				int doc = base;
+				advance();
+
+				while(r < removedCount && removed[r] < doc) r++;
+
+				if(r < removedCount && removed[r] == doc) {
+					r++;
+					continue;
+				}
+
+				return doc;
+			}
+		}
+
+		// 인코딩된 다음 번호 읽기
+		private void advance() {
+
+			if(read == encoded) {
+				base = -1;
+				return;
+			}
+
+			int value = 0;
+			int shift = 0;
+			byte b;
+
+			do {
+				b = data[pos++];
+				value |= (b & 0x7F) << shift;
+				shift += 7;
+			} while((b & 0x80) != 0);
+
+			base = (read == 0 ? 0 : base) + value;
+			read++;
+		}
+	}
+}
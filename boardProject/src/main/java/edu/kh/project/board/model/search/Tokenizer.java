@@ -0,0 +1,24 @@
+package edu.kh.project.board.model.search;
+
+import java.util.List;
+
+/* 검색 색인용 문자열 분리기
+ * - 문서(제목/내용/닉네임)와 검색어를 같은 방식으로 분리해야 검색 가능
+ */
+public interface Tokenizer {
+
+	/** 문서 문자열을 색인어 목록으로 분리
+	 * @param text
+	 * @return null 또는 빈 문자열이면 빈 List
+	 */
+	List<String> tokenize(String text);
+
+	/** 검색어를 조회용 색인어 목록으로 분리
+	 * (모든 색인어를 포함하는 문서가 후보가 됨)
+	 * @param query
+	 * @return
+	 */
+	default List<String> queryTokens(String query) {
+		return tokenize(query);
+	}
+}
@@ -1,9 +1,13 @@
 package edu.kh.project.board.model.service;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.common.file.BlobStore;
 
 public interface BoardService {
 
@@ -15,9 +19,10 @@ public interface BoardService {
 	/** 특정 게시판에 지정된 페이지 목록 조회
 	 * @param boardCode (특정 게시판)
 	 * @param cp(지정된 페이지)
+	 * @param lastBoardNo(이전 페이지 마지막 게시글 번호, 키셋 커서 / 없으면 0)
 	 * @return
 	 */
-	Map<String, Object> selectBoardList(int boardCode, int cp);
+	Map<String, Object> selectBoardList(int boardCode, int cp, int lastBoardNo);
 
 	/** 검색 서비스(특정 게시판의 지정된 페이지에서 검색한 조회 목록)
 	 * @param paramMap
@@ -38,14 +43,49 @@ public interface BoardService {
 	int updateReadCount(int boardNo);
 
 	/** 게시글 좋아요 서비스
-	 * @param map
+	 * @param map (memberNo, boardNo) : 좋아요 여부는 서버의 현재 상태를 뒤집음
+	 * @return likeCheck(변경 후 좋아요 여부), likeCount (실패 시 likeCount == -1)
+	 */
+	Map<String, Integer> boardLike(Map<String, Integer> map);
+
+	/** 게시글 목록 중 회원이 좋아요한 게시글 번호 조회 서비스
+	 * @param memberNo
+	 * @param map : 목록/검색 서비스 결과 (boardList : 현재 페이지 게시글 목록)
 	 * @return
 	 */
-	int boardLike(Map<String, Integer> map);
+	Set<Integer> selectLikedBoardNoSet(int memberNo, Map<String, Object> map);
 
 	/** DB 이미지 파일명 목록 조회 서비스
 	 * @return
 	 */
 	List<String> selectDBImageList();
 
+	/** DB 이미지 파일명 순서대로 조회 서비스 (전체 목록을 한 번에 만들지 않음)
+	 * @param action : 파일명을 하나씩 전달받음
+	 * @return 조회된 파일명 수
+	 * @throws IOException
+	 */
+	long selectDBImageNames(Consumer<String> action) throws IOException;
+
+	/** 파일명 중 저장소의 파일을 참조하는 테이블(게시글 이미지, 프로필 이미지, 업로드 파일)에서 참조 중인 파일명 조회 서비스
+	 * @param storeName : 저장소 이름 (board / profile / file)
+	 * @param nameList : 파일명 목록 (최대 1000개)
+	 * @return
+	 */
+	Set<String> selectReferencedFileNames(String storeName, List<String> nameList);
+
+	/** 참조 없는 파일 삭제 서비스
+	 * (삭제 직전 DB 참조 행을 다시 확인, 내용 해시 파일은 참조 수 행을 잠근 후 참조 수 0 일 때만 삭제)
+	 * @param store
+	 * @param key
+	 * @return 삭제된 경우 true
+	 * @throws IOException
+	 */
+	boolean deleteUnreferencedFile(BlobStore store, String key) throws IOException;
+
+	/** 게시글 댓글 수 / 좋아요 수 컬럼, 저장된 파일 참조 수 보정 서비스
+	 * @return 보정된 게시글 수 + 파일 수
+	 */
+	int reconcileCounts();
+
 }
@@ -1,17 +1,49 @@
 package edu.kh.project.board.model.service;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import edu.kh.project.board.model.comment.CommentTree;
 import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.dto.BoardImg;
+import edu.kh.project.board.model.dto.Comment;
+import edu.kh.project.board.model.cache.BoardPageCache;
+import edu.kh.project.board.model.cache.BoardSearchCache;
+import edu.kh.project.board.model.cache.CommentTreeCache;
+import edu.kh.project.board.model.counter.BoardCountRegistry;
+import edu.kh.project.board.model.counter.ReadCountBuffer;
 import edu.kh.project.board.model.dto.Pagination;
+import edu.kh.project.board.model.index.BoardPageAnchorIndex;
+import edu.kh.project.board.model.like.BoardLikeStore;
+import edu.kh.project.board.model.like.BoardLikeStore.LikeResult;
 import edu.kh.project.board.model.mapper.BoardMapper;
+import edu.kh.project.board.model.search.BoardSearchIndex;
+import edu.kh.project.common.file.BlobStore;
+import edu.kh.project.common.file.UploadObjectMapper;
+import edu.kh.project.common.util.BoundedFanOut;
+import edu.kh.project.common.util.Utility;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
@@ -20,6 +52,86 @@ public class BoardServiceImpl implements BoardService{
 	
 	@Autowired
 	private BoardMapper mapper;
+	
+	// 저장된 파일 참조 수 (UPLOAD_OBJECT)
+	@Autowired
+	private UploadObjectMapper uploadObjectMapper;
+	
+	@Autowired
+	private BoardPageAnchorIndex anchorIndex;
+	
+	@Autowired
+	private BoardCountRegistry countRegistry;
+	
+	@Autowired
+	private BoardPageCache pageCache;
+	
+	@Autowired
+	private BoardSearchIndex searchIndex;
+	
+	@Autowired
+	private BoardSearchCache searchCache;
+	
+	@Autowired
+	private CommentTreeCache commentCache;
+	
+	// 목록 페이지네이션 방식
+	// keyset : BOARD_NO 커서/앵커를 이용하여 필요한 행만 조회
+	// offset : RowBounds(건너뛸 행을 모두 읽은 후 버림)
+	@Value("${my.board.pagination-mode:keyset}")
+	private String paginationMode;
+	
+	// 검색 방식
+	// index : 메모리 검색 색인에서 게시글 번호 조회 후 해당 번호만 DB 조회
+	// like : LIKE '%검색어%' (색인 구성 전에도 사용)
+	@Value("${my.board.search-mode:index}")
+	private String searchMode;
+
+	// LIKE 검색 결과 수를 셀 최대 행 수(0 : 항상 정확한 수 조회)
+	@Value("${my.board.search-count-cap:1000}")
+	private int searchCountCap;
+
+	// 게시글 상세 조회 방식
+	// joined : 게시글/이미지/댓글을 SQL 1회로 조회 후 댓글 계층은 Java에서 정렬
+	// parallel : 게시글/이미지/댓글/좋아요 여부 SQL을 가상 스레드에서 동시에 수행
+	// nested : resultMap의 <collection select> (게시글, 이미지, 댓글 SQL 각각 수행)
+	@Value("${my.board.detail-mode:joined}")
+	private String detailMode;
+	
+	// parallel 모드에서 상세 조회 각 부분의 최대 대기 시간(ms)
+	@Value("${my.board.detail-part-timeout-ms:3000}")
+	private long detailPartTimeout;
+	
+	// parallel 모드에서 상세 조회 부분들을 동시에 수행 (동시 수행 수 == 커넥션 풀 기준 제한)
+	@Autowired
+	private BoundedFanOut detailFanOut;
+	
+	@Autowired
+	private ReadCountBuffer readCountBuffer;
+	
+	// 댓글 페이지 조회 사용 여부
+	// true : 상세 조회 시 댓글 조회 X (화면에서 /comment/page 로 나눠서 조회)
+	@Value("${my.board.comment-paging:false}")
+	private boolean commentPaging;
+	
+	// 조회 수 증가 방식
+	// buffer : 메모리(ReadCountBuffer)에 모아두었다가 주기적으로 배치 UPDATE
+	// direct : 조회마다 UPDATE
+	@Value("${my.board.read-count-mode:buffer}")
+	private String readCountMode;
+	
+	// 좋아요 처리 방식
+	// store : 메모리(BoardLikeStore)에서 처리 후 주기적으로 배치 반영
+	// direct : 클릭마다 INSERT/DELETE + 좋아요 수 조회
+	@Value("${my.board.like-mode:store}")
+	private String likeMode;
+	
+	@Autowired
+	private BoardLikeStore likeStore;
+	
+	// 프로필 이미지 요청 주소 (MEMBER.PROFILE_IMG == 요청 주소 + 파일명)
+	@Value("${my.profile.web-path}")
+	private String profileWebPath;
 
 	// 게시판 종류 조회 서비스
 	@Override
@@ -30,10 +142,11 @@ public class BoardServiceImpl implements BoardService{
 
 	// 특정 게시판의 지정된 페이지 목록 조회 서비스
 	@Override
-	public Map<String, Object> selectBoardList(int boardCode, int cp) {
+	public Map<String, Object> selectBoardList(int boardCode, int cp, int lastBoardNo) {
 		
 		// 1. 지정된 게시판(boardCode)에서 삭제되지 않은 게시글 수를 조회
-		int listCount = mapper.getListCount(boardCode);
+		// >> 매 요청마다 COUNT(*) 하지 않고 메모리에 유지되는 값 사용
+		int listCount = countRegistry.getCount(boardCode);
 		
 		// 2. 1번의 결과 + cp를 이용해서 Pagination 객체를 생성
 		// * Pagination 객체 : 게시글 목록 구성에 필요한 값을 저장한 객체
@@ -45,21 +158,39 @@ public class BoardServiceImpl implements BoardService{
 		 *   제한된 크기만큼(limit)의 행을 조회하는 객체
 		 * >> 페이징 처리가 굉장히 간단해진다!
 		 * 
+		 * 단, RowBounds는 DB가 아닌 MyBatis(클라이언트)에서 동작
+		 * >> offset 만큼의 행을 모두 전달받은 후 버리기 때문에 뒤 페이지일수록 느려짐
+		 * >> keyset 모드에서는 BOARD_NO 커서/앵커를 이용하여 limit 만큼만 조회
 		 */
 		
 		int limit = pagination.getLimit();	// 10개
 		int offset = (cp - 1) * limit;
-		RowBounds rowBounds = new RowBounds(offset, limit);
 		
-		// Mapper 메서드 호출 시 원래 전달할 수 있는 매개변수 1개
-		// -> 2개를 전달할 수 있는 경우가 있음
-		// rowBounds를 이용할때!
-		// -> 첫번째 매개변수 -> SQL 에 전달할 파라미터
-		// -> 두번째 매개변수 -> RowBounds 객체 전달
-		List<Board> boardList = mapper.selectBoardList(boardCode, rowBounds);
+		List<Board> boardList = null;
+		
+		if(lastBoardNo > 0) {
+			// 커서 조회는 캐시 X
+			boardList = selectBoardListFromDB(boardCode, lastBoardNo, offset, limit);
+			
+		} else {
+			// 페이지 번호로 조회하는 경우 캐시 먼저 확인 >> 적중 시 DB 조회 X
+			boardList = pageCache.get(boardCode, cp);
+			
+			if(boardList == null) {
+				// 조회 도중 변경된 결과를 캐시에 저장하지 않기 위해 세대 번호 기억
+				long generation = pageCache.generation();
+				
+				boardList = selectBoardListFromDB(boardCode, lastBoardNo, offset, limit);
+				
+				pageCache.put(boardCode, cp, boardList, generation);
+			}
+		}
 		
 		//log.debug("boardList 결과 : {}", boardList);
 		
+		// 현재 페이지의 커서 앵커(처음/마지막 게시글 번호) 세팅
+		setCursor(pagination, boardList);
+		
 		// 4. Pagination 객체 + 목록 조회 결과를 Map으로 묶음
 		Map<String, Object> map = new HashMap<>();
 		map.put("pagination", pagination);
@@ -70,35 +201,90 @@ public class BoardServiceImpl implements BoardService{
 	}
 
 	// 검색 서비스(게시글 목록 조회 참고)
+	// 트랜잭션 X : 같은 검색의 조회 결과를 기다리는 동안 커넥션을 가지고 있지 않도록
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Map<String, Object> searchList(Map<String, Object> paramMap, int cp) {
+		
+		// 검색어 정규화(공백, 대소문자) >> 캐시 키와 검색(색인, LIKE)에 같은 값 사용
+		String query = BoardSearchCache.normalizeQuery((String)paramMap.get("query"));
+		
+		Map<String, Object> searchMap = new HashMap<>(paramMap);
+		searchMap.put("query", query);
+		
+		// 검색 결과 캐시 확인 >> 없으면 검색 수행(같은 검색이 동시에 요청되면 한 번만 수행)
+		BoardSearchCache.SearchKey searchKey = new BoardSearchCache.SearchKey(
+				(int)paramMap.get("boardCode"), (String)paramMap.get("key"), query, cp);
+		
+		return searchCache.get(searchKey, () -> searchListFromSource(searchMap, cp));
+	}
+	
+	// 검색 수행(색인 또는 DB)
+	private Map<String, Object> searchListFromSource(Map<String, Object> paramMap, int cp) {
+		
+		// 검색 색인 사용 (색인 구성 전이면 LIKE 검색)
+		if(searchMode.equals("index") && searchIndex.isReady()) {
+			Map<String, Object> map = searchListByIndex(paramMap, cp);
+			
+			// 색인으로 판단할 수 없는 검색어(특수문자만, 후보가 너무 많은 여러 단어) >> LIKE 검색
+			if(map != null) return map;
+		}
 
 		// 1. 지정된 게시판(boardCode)에서
 		// 검색 조건에 맞으면서
 		// 삭제되지 않은 게시글 수를 조회
-		int listCount = mapper.getSearchCount(paramMap);
-		
-		// 2. 1번의 결과 + cp를 이용해서
-		// Pagination 객체 생성
-		Pagination pagination = new Pagination(cp, listCount);
-		
+		// - 상한(searchCountCap)까지만 세어서 "N개 이상"으로 표시
+		// - 현재 페이지 번호 목록이 상한 근처(끝 쪽)에 도달한 경우에만 정확한 수 조회
+		Pagination pagination = null;
+
+		if(searchCountCap > 0) {
+			Map<String, Object> countMap = new HashMap<>(paramMap);
+			countMap.put("countLimit", searchCountCap + 1);
+
+			pagination = searchPagination(cp, mapper.getSearchCountCapped(countMap), 
+					() -> mapper.getSearchCount(paramMap));
+
+		} else {
+			// 2. 1번의 결과 + cp를 이용해서
+			// Pagination 객체 생성
+			pagination = new Pagination(cp, mapper.getSearchCount(paramMap));
+		}
+
 		// 3. 특정 게시판의 지정된 페이지 목록 조회(검색 포함)
 		int limit = pagination.getLimit(); // 10개씩 조회
 		int offset = (cp - 1) * limit;
-		RowBounds rowBounds = new RowBounds(offset, limit);
 		
-		List<Board> boardList = mapper.selectSearchList(paramMap, rowBounds);
+		List<Board> boardList = null;
+		
+		if(paginationMode.equals("keyset")) {
+			// 검색 결과는 검색어마다 달라 앵커를 만들 수 없으므로 DB에서 OFFSET 처리
+			Map<String, Object> pageMap = new HashMap<>(paramMap);
+			pageMap.put("skip", offset);
+			pageMap.put("limit", limit);
+			
+			boardList = mapper.selectSearchListOffset(pageMap);
+			
+		} else {
+			RowBounds rowBounds = new RowBounds(offset, limit);
+			
+			boardList = mapper.selectSearchList(paramMap, rowBounds);
+		}
+		
+		setCursor(pagination, boardList);
 		
 		// 4. 검색 목록 조회 결과 + Pagination 객체를 Map으로 묶음
 		Map<String, Object> map = new HashMap<>();
 		map.put("pagination", pagination);
 		map.put("boardList", boardList);
 		
-		// 5. map 결과 반환
-		return map;
+		// 5. map 결과 반환(캐시에 저장되어 공유되므로 변경 불가)
+		return Collections.unmodifiableMap(map);
 	}
 
+	// 트랜잭션 X : 조회만 수행, parallel 모드에서 요청 스레드가 커넥션을 가진 채
+	//             다른 스레드의 커넥션을 기다리지 않도록 (풀 고갈 시 교착)
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Board selectOne(Map<String, Integer> map) {
 		
 		// 여러 SQL을 한 번에 실행하는 방법?
@@ -116,18 +302,157 @@ public class BoardServiceImpl implements BoardService{
 		//    나중에 수행되는 SQL의 조건으로 삼을 수 있는 경우
 		// >> MyBatis의 <resultMap>, <collection> 태그를 이용해서
 		// Mapper 메서드 1회 호출만으로 여러 SELECT 한 번에 수행 가능
-		return mapper.selectOne(map);
+		Board board = null;
+		
+		// 좋아요 여부가 메모리에 있으면 SQL 에서 조회하지 않음
+		Integer memberNo = map.get("memberNo");
+		map.put("withLikeCheck", memberNo != null && !likeStore.isLoaded(memberNo) ? 1 : 0);
+		
+		if(detailMode.equals("parallel")) {
+			board = selectOneParallel(map);
+			
+		} else if(detailMode.equals("joined")) {
+			
+			// 댓글 목록 캐시에 있으면 댓글은 JOIN 하지 않음
+			List<Comment> cachedComments = commentPaging ? null : commentCache.get(map.get("boardNo"));
+			long commentGeneration = commentCache.generation();
+			
+			// 댓글 페이지 조회 사용 시 댓글은 화면에서 따로 조회
+			map.put("withComments", commentPaging || cachedComments != null ? 0 : 1);
+			
+			// 3. 게시글 + 이미지 + 댓글을 JOIN 하여 1회 조회
+			// >> 댓글 계층(CONNECT BY) 정렬, 삭제 댓글 제외는 Java에서 수행
+			board = mapper.selectOneJoined(map);
+			
+			if(board != null) {
+				
+				if(cachedComments != null) {
+					board.setCommentList(cachedComments);
+					
+				} else if(!commentPaging) {
+					board.setCommentList(commentCache.put(board.getBoardNo(), 
+							CommentTree.sort(board.getCommentList()), commentGeneration));
+				}
+			}
+			
+		} else {
+			board = mapper.selectOne(map);
+		}
+		
+		// 아직 DB에 반영되지 않은 조회 수 증가분 포함
+		if(board != null) {
+			board.setReadCount(board.getReadCount() + readCountBuffer.pending(board.getBoardNo()));
+			
+			// 아직 DB에 반영되지 않은 좋아요 포함(메모리 값 우선)
+			board.setLikeCount(likeStore.likeCount(board.getBoardNo(), board.getLikeCount()));
+			
+			if(memberNo != null) {
+				board.setLikeCheck(likeStore.likeCheck(memberNo, board.getBoardNo(), board.getLikeCheck()));
+			}
+		}
+		
+		return board;
+	}
+
+	// 게시글 상세 조회(게시글 / 이미지 / 댓글 / 좋아요 여부 동시 조회)
+	// - 각 부분은 서로 결과를 참조하지 않으므로 동시에 수행 >> 가장 느린 부분만큼만 대기
+	// - 다른 스레드에서 수행되므로 각자의 커넥션으로 조회(읽기 전용)
+	//   (호출하는 selectOne 은 트랜잭션 밖 >> 요청 스레드는 커넥션 점유 X)
+	// - 동시에 수행하는 부분 수는 detailFanOut 에서 전체 요청 합계로 제한
+	// - 게시글이 없거나 한 부분이라도 실패/시간 초과 시 예외 발생(또는 null 반환)
+	//   >> 남은 부분은 인터럽트하지 않고 결과만 버림(시작 전이면 수행 X)
+	private Board selectOneParallel(Map<String, Integer> map) {
+		
+		int boardNo = map.get("boardNo");
+		
+		try(BoundedFanOut.Batch batch = detailFanOut.batch()) {
+			
+			Future<Board> boardPart = batch.submit(() -> mapper.selectBoardPart(map));
+			Future<List<BoardImg>> imagePart = batch.submit(() -> mapper.selectImageList(boardNo));
+			
+			// 댓글 목록 캐시에 있으면 댓글은 조회하지 않음
+			List<Comment> cachedComments = commentPaging ? null : commentCache.get(boardNo);
+			long commentGeneration = commentCache.generation();
+			
+			// 댓글 페이지 조회 사용 시 댓글은 화면에서 따로 조회
+			Future<List<Comment>> commentPart = commentPaging || cachedComments != null
+					? CompletableFuture.completedFuture(new ArrayList<>())
+					: batch.submit(() -> mapper.selectCommentFlatList(boardNo));
+			
+			// 비로그인 시, 좋아요 여부가 메모리에 있는 경우 좋아요 여부 조회 X
+			Future<Integer> likePart = map.get("withLikeCheck") == 0
+					? CompletableFuture.completedFuture(0)
+					: batch.submit(() -> mapper.selectLikeCheck(map));
+			
+			// 모든 부분이 동시에 시작했으므로 시작 시점 기준 제한 시간 적용
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(detailPartTimeout);
+			
+			Board board = awaitPart(boardPart, deadline);
+			
+			// 게시글이 없으면 나머지 결과는 사용하지 않음
+			if(board == null) return null;
+			
+			List<BoardImg> imageList = awaitPart(imagePart, deadline);
+			
+			board.setImageList(imageList);
+			if(cachedComments != null) {
+				board.setCommentList(cachedComments);
+				
+			} else if(!commentPaging) {
+				board.setCommentList(commentCache.put(boardNo, 
+						CommentTree.sort(awaitPart(commentPart, deadline)), commentGeneration));
+				
+			} else {
+				board.setCommentList(awaitPart(commentPart, deadline));
+			}
+			board.setLikeCheck(awaitPart(likePart, deadline));
+			
+			// 썸네일 == IMG_ORDER 가 0인 이미지
+			if(!imageList.isEmpty() && imageList.get(0).getImgOrder() == 0) {
+				board.setThumbnail(imageList.get(0).getImgPath() + imageList.get(0).getImgRename());
+			}
+			
+			return board;
+		}
+	}
+	
+	// 제한 시간(deadline)까지 부분 조회 결과 대기
+	private <T> T awaitPart(Future<T> part, long deadline) {
+		
+		try {
+			return part.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+			
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+			
+		} catch (TimeoutException e) {
+			throw new RuntimeException("게시글 상세 조회 시간 초과(" + detailPartTimeout + "ms)", e);
+		}
 	}
 
+	// 트랜잭션 없이 수행 : buffer 모드는 SQL 이 없으므로 커넥션을 얻지 않음
+	// (direct 모드의 UPDATE / 조회는 각각 자동 커밋)
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public int updateReadCount(int boardNo) {
 		
-		// 1. 조회 수 1 증가(UPDATE)
+		// buffer : 메모리에만 +1 (주기적으로 모아서 UPDATE) >> 행 잠금 대기 X
+		// 증가 후 조회 수도 메모리 값 (게시글별 첫 증가 시에만 DB 조회)
+		if(readCountMode.equals("buffer")) {
+			return readCountBuffer.increment(boardNo);
+		}
+		
+		// direct : 1. 조회 수 1 증가(UPDATE)
 		int result = mapper.updateReadCount(boardNo);
 		
 		// 2. 현재 조회 수 조회
 		if(result > 0) {
-			return mapper.selectReadCount(boardNo);
+			// (목록 캐시의 조회 수는 매 조회마다 교체하지 않음 : TTL 만료 후 다시 조회)
+			return mapper.selectReadCount(boardNo) + readCountBuffer.pending(boardNo);
 		}
 		
 		// 업데이트 실패한 경우 -1 반환
@@ -135,12 +460,38 @@ public class BoardServiceImpl implements BoardService{
 	}
 
 	@Override
-	public int boardLike(Map<String, Integer> map) {
+	public Map<String, Integer> boardLike(Map<String, Integer> map) {
+		
+		int boardNo = map.get("boardNo");
+		
+		Map<String, Integer> resultMap = new HashMap<>();
+		
+		if(likeMode.equals("store")) {
+			
+			// 메모리의 현재 좋아요 여부를 뒤집음, DB 반영은 스케줄러에서 배치 수행
+			LikeResult result = likeStore.toggleLike(map.get("memberNo"), boardNo);
+			
+			if(result == null) {
+				resultMap.put("likeCount", -1);
+				return resultMap;
+			}
+			
+			resultMap.put("likeCheck", result.likeCheck());
+			resultMap.put("likeCount", result.likeCount());
+			
+			// 목록 캐시의 좋아요 수 교체
+			pageCache.patch(boardNo, board -> board.toBuilder().likeCount(result.likeCount()).build());
+			
+			return resultMap;
+		}
+		
+		// 현재 좋아요 여부는 DB에서 조회 (클라이언트가 보낸 likeCheck 는 사용하지 않음)
+		boolean like = mapper.selectLikeCheck(map) == 0;
 		
 		int result = 0;
 		// 1. 좋아요가 체크된 상태인 경우(likeCheck == 1)
 		// > BOARD_LIKE 테이블에 DELETE
-		if(map.get("likeCheck") == 1) {
+		if(!like) {
 			result = mapper.deleteBoardLike(map);
 		} else {
 		
@@ -149,12 +500,51 @@ public class BoardServiceImpl implements BoardService{
 			result = mapper.insertBoardLike(map);
 		}	
 		
-		// 3. INSERT/DELETE 성공했다면 해당 게시글의 좋아요 갯수 조회 후 반환
+		// 3. INSERT/DELETE 성공했다면 
+		// 게시글 좋아요 수 컬럼 증감(같은 트랜잭션) 후 좋아요 갯수 조회하여 반환
 		if(result > 0) {
-			return mapper.selectLikeCount(map.get("boardNo"));
+			Map<String, Integer> countMap = new HashMap<>();
+			countMap.put("boardNo", boardNo);
+			countMap.put("delta", like ? 1 : -1);
+			
+			mapper.updateLikeCount(countMap);
+			
+			int likeCount = mapper.selectLikeCount(boardNo);
+			
+			// 목록 캐시의 좋아요 수, 메모리의 좋아요 목록 교체(커밋 후)
+			int memberNo = map.get("memberNo");
+			
+			Utility.afterCommit(() -> {
+				pageCache.patch(boardNo, board -> board.toBuilder().likeCount(likeCount).build());
+				likeStore.applyCommitted(memberNo, boardNo, like, likeCount);
+			});
+			
+			resultMap.put("likeCheck", like ? 1 : 0);
+			resultMap.put("likeCount", likeCount);
+			return resultMap;
 		} 
 		
-		return -1;
+		resultMap.put("likeCount", -1);
+		return resultMap;
+	}
+
+	// 현재 페이지 게시글 중 회원이 좋아요한 게시글 번호
+	@Override
+	public Set<Integer> selectLikedBoardNoSet(int memberNo, Map<String, Object> map) {
+		
+		List<Integer> boardNoList = new ArrayList<>();
+		
+		// 목록/검색 결과 map 의 boardList (List<Board>)
+		if(map.get("boardList") instanceof List<?> boardList) {
+			for(Object board : boardList) boardNoList.add(((Board) board).getBoardNo());
+		}
+		
+		// 회원 좋아요 비트맵 & 페이지 게시글 번호 비트맵
+		Set<Integer> likedSet = new HashSet<>();
+		
+		for(int boardNo : likeStore.likedAmong(memberNo, boardNoList)) likedSet.add(boardNo);
+		
+		return likedSet;
 	}
 
 	@Override
@@ -162,4 +552,191 @@ public class BoardServiceImpl implements BoardService{
 		
 		return mapper.selectDBImageList();
 	}
+	
+	// DB 이미지 파일명 순서대로 조회
+	// Cursor 는 트랜잭션(SqlSession)이 열려있는 동안만 읽을 수 있음
+	@Override
+	@Transactional(readOnly = true)
+	public long selectDBImageNames(Consumer<String> action) throws IOException {
+		
+		long count = 0;
+		
+		try(Cursor<String> cursor = mapper.selectDBImageCursor()) {
+			
+			for(String name : cursor) {
+				action.accept(name);
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	// DB 에서 참조 중인 파일명 조회
+	@Override
+	@Transactional(readOnly = true)
+	public Set<String> selectReferencedFileNames(String storeName, List<String> nameList) {
+		
+		if(nameList.isEmpty()) return new HashSet<>();
+		
+		Map<String, Object> map = new HashMap<>();
+		map.put("storeName", storeName);
+		map.put("nameList", nameList);
+		map.put("profileWebPath", profileWebPath);
+		
+		return new HashSet<>(mapper.selectReferencedFileList(map));
+	}
+	
+	// 참조 없는 파일 삭제
+	// 내용 해시 파일은 여러 행이 같은 파일을 참조하고, 삭제 중 같은 내용이 다시 업로드될 수 있음
+	// >> 참조 수 행을 잠근 상태에서 파일 삭제 (동시 업로드는 참조 수 증가에서 대기 후 커밋 뒤 파일을 다시 저장)
+	@Override
+	public boolean deleteUnreferencedFile(BlobStore store, String key) throws IOException {
+		
+		Map<String, Object> map = new HashMap<>();
+		map.put("storeName", store.name());
+		map.put("key", key);
+		
+		Integer refCount = uploadObjectMapper.selectObjectRefCountForUpdate(map);
+		
+		// 참조 중(참조 수 > 0)이거나 실제 참조 행이 있으면 삭제 X
+		// - 내용 해시로 저장되지 않은 파일(refCount == null)도 삭제 직전 다시 확인
+		//   (정리 대상 목록 조회 이후 커밋된 업로드 행이 참조하는 파일 보호)
+		if((refCount != null && refCount > 0)
+				|| !selectReferencedFileNames(store.name(), List.of(key)).isEmpty()) {
+			return false;
+		}
+		
+		boolean deleted = store.delete(key);
+		
+		if(refCount != null) uploadObjectMapper.deleteUploadObject(map);
+		
+		return deleted;
+	}
+	
+	@Override
+	public int reconcileCounts() {
+		
+		return mapper.reconcileCommentCount() + mapper.reconcileLikeCount()
+			+ uploadObjectMapper.reconcileObjectRefCount(profileWebPath);
+	}
+	
+	// 검색 결과 수 상한(searchCountCap) 적용 Pagination 생성
+	// - cappedCount : 상한 + 1 까지만 센 검색 결과 수
+	// - exactCount : 정확한 검색 결과 수 (현재 페이지 번호 목록이 상한 근처인 경우에만 호출)
+	private Pagination searchPagination(int cp, int cappedCount, IntSupplier exactCount) {
+		
+		if(cappedCount <= searchCountCap) { // 상한 이하 == 정확한 수
+			return new Pagination(cp, cappedCount);
+		}
+		
+		Pagination pagination = new Pagination(cp, searchCountCap);
+		
+		int groupEndPage = pagination.getStartPage() + pagination.getPageSize() - 1;
+		
+		if((long)groupEndPage * pagination.getLimit() >= searchCountCap) {
+			// 상한 근처 페이지 >> 정확한 수 조회
+			pagination.setListCount(exactCount.getAsInt());
+			
+		} else {
+			pagination.setApproximate(true);
+		}
+		
+		return pagination;
+	}
+	
+	// 검색 색인을 이용한 검색 (색인으로 판단할 수 없는 검색어면 null)
+	private Map<String, Object> searchListByIndex(Map<String, Object> paramMap, int cp) {
+		
+		// 1. 색인에서 검색 조건에 맞는 게시글 번호 조회(순위순)
+		List<Integer> boardNoList = searchIndex.search(
+				(int)paramMap.get("boardCode"), 
+				(String)paramMap.get("key"), 
+				(String)paramMap.get("query"));
+		
+		if(boardNoList == null) return null;
+		
+		// 2. 검색 결과 수 + cp를 이용해서 Pagination 객체 생성
+		// - LIKE 검색과 같은 상한 적용 (같은 검색어는 검색 방식과 관계없이 같은 페이지 번호 목록)
+		Pagination pagination = searchCountCap > 0
+				? searchPagination(cp, Math.min(boardNoList.size(), searchCountCap + 1), boardNoList::size)
+				: new Pagination(cp, boardNoList.size());
+		
+		// 3. 현재 페이지의 게시글 번호만 잘라서 DB 조회
+		int limit = pagination.getLimit();
+		int from = Math.min((cp - 1) * limit, boardNoList.size());
+		int to = Math.min(from + limit, boardNoList.size());
+		
+		List<Integer> pageNoList = boardNoList.subList(from, to);
+		
+		List<Board> boardList = new ArrayList<>();
+		
+		if(!pageNoList.isEmpty()) {
+			boardList = mapper.selectBoardListByNo(pageNoList);
+			
+			// IN 조회 결과는 순서 보장 X >> 색인 순위 순서로 정렬
+			boardList.sort(Comparator.comparingInt(board -> pageNoList.indexOf(board.getBoardNo())));
+		}
+		
+		setCursor(pagination, boardList);
+		
+		// 4. 검색 목록 조회 결과 + Pagination 객체를 Map으로 묶음
+		Map<String, Object> map = new HashMap<>();
+		map.put("pagination", pagination);
+		map.put("boardList", boardList);
+		
+		return Collections.unmodifiableMap(map);
+	}
+	
+	// 특정 게시판의 지정된 페이지 목록 DB 조회(keyset / offset)
+	private List<Board> selectBoardListFromDB(int boardCode, int lastBoardNo, int offset, int limit) {
+		
+		List<Board> boardList = null;
+
+		if(paginationMode.equals("keyset")) {
+		
+			Map<String, Object> paramMap = new HashMap<>();
+			paramMap.put("boardCode", boardCode);
+			paramMap.put("limit", limit);
+			paramMap.put("lastBoardNo", 0);
+			paramMap.put("anchorBoardNo", 0);
+			paramMap.put("skip", 0);
+		
+			if(lastBoardNo > 0) {
+				// 이전 페이지 마지막 번호(커서)가 전달된 경우 >> BOARD_NO < lastBoardNo
+				paramMap.put("lastBoardNo", lastBoardNo);
+				boardList = mapper.selectBoardListKeyset(paramMap);
+			
+			} else {
+				// 페이지 번호로 바로 이동하는 경우 >> 가장 가까운 앵커부터 조회
+				// (존재하지 않는 페이지는 마지막 앵커 이후 남은 행만 건너뛰고 빈 목록)
+				BoardPageAnchorIndex.Anchor anchor = anchorIndex.seek(boardCode, offset);
+			
+				paramMap.put("anchorBoardNo", anchor.anchorBoardNo());
+				paramMap.put("skip", anchor.skip());
+				boardList = mapper.selectBoardListKeyset(paramMap);
+			}
+		
+		} else {
+			RowBounds rowBounds = new RowBounds(offset, limit);
+		
+			// Mapper 메서드 호출 시 원래 전달할 수 있는 매개변수 1개
+			// -> 2개를 전달할 수 있는 경우가 있음
+			// rowBounds를 이용할때!
+			// -> 첫번째 매개변수 -> SQL 에 전달할 파라미터
+			// -> 두번째 매개변수 -> RowBounds 객체 전달
+			boardList = mapper.selectBoardList(boardCode, rowBounds);
+		}
+
+		return boardList;
+	}
+	
+	// 조회된 목록의 처음/마지막 게시글 번호를 Pagination에 세팅(키셋 커서)
+	private void setCursor(Pagination pagination, List<Board> boardList) {
+		
+		if(boardList.isEmpty()) return;
+		
+		pagination.setFirstBoardNo(boardList.get(0).getBoardNo());
+		pagination.setLastBoardNo(boardList.get(boardList.size() - 1).getBoardNo());
+	}
 }
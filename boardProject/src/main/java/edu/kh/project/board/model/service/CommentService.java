@@ -1,6 +1,7 @@
 package edu.kh.project.board.model.service;
 
 import java.util.List;
+import java.util.Map;
 
 import edu.kh.project.board.model.dto.Comment;
 
@@ -8,6 +9,27 @@ public interface CommentService {
 
 	List<Comment> select(int boardNo);
 
+	/** 최상위 댓글 페이지 조회
+	 * @param boardNo
+	 * @param lastCommentNo : 이전 페이지 마지막 댓글 번호(처음이면 0)
+	 * @return commentList, lastCommentNo, hasNext
+	 */
+	Map<String, Object> selectPage(int boardNo, int lastCommentNo);
+
+	/** 답글 목록 조회(계층 순서)
+	 * @param parentCommentNo
+	 * @param level : 답글의 계층 깊이(부모 댓글 level + 1)
+	 * @return
+	 */
+	List<Comment> selectReplies(int parentCommentNo, int level);
+
+	/** 기준 변경 번호 이후 작성/수정/삭제된 댓글 조회 (삭제된 댓글 포함)
+	 * @param boardNo
+	 * @param sinceVersion : 화면에 반영된 댓글 변경 번호
+	 * @return
+	 */
+	List<Comment> selectSince(int boardNo, int sinceVersion);
+
 	int insert(Comment comment);
 
 	int delete(int commentNo);
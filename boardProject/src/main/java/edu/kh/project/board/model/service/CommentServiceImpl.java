@@ -1,13 +1,20 @@
 package edu.kh.project.board.model.service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import edu.kh.project.board.model.cache.BoardPageCache;
+import edu.kh.project.board.model.cache.CommentTreeCache;
+import edu.kh.project.board.model.comment.CommentTree;
 import edu.kh.project.board.model.dto.Comment;
 import edu.kh.project.board.model.mapper.CommentMapper;
+import edu.kh.project.common.util.Utility;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
@@ -16,24 +23,180 @@ public class CommentServiceImpl implements CommentService{
 	@Autowired	// DI
 	private CommentMapper mapper;
 	
+	@Autowired
+	private BoardPageCache pageCache;
+	
+	@Autowired
+	private CommentTreeCache commentCache;
+	
+	// 댓글 계층 정렬 방식
+	// java : 댓글 번호순 조회 후 CommentTree 에서 정렬(LEVEL 계산, 삭제 댓글 제외)
+	// sql : CONNECT BY + 댓글마다 COUNT(*) 서브쿼리
+	@Value("${my.board.comment-tree-mode:java}")
+	private String commentTreeMode;
+	
+	// 댓글 페이지 조회 시 한 번에 조회할 최상위 댓글 수
+	@Value("${my.board.comment-page-size:20}")
+	private int commentPageSize;
+	
 	@Override
 	public List<Comment> select(int boardNo) {
-		return mapper.select(boardNo);
+		
+		// sql : CONNECT BY 계층 조회
+		if(commentTreeMode.equals("sql")) return mapper.select(boardNo);
+		
+		// java : 캐시에 없으면 전체 댓글 조회 후 계층 정렬해서 저장(삭제 댓글 포함, 출력 목록 반환)
+		List<Comment> commentList = commentCache.get(boardNo);
+		
+		if(commentList == null) {
+			long generation = commentCache.generation();
+			
+			commentList = commentCache.put(boardNo, CommentTree.sort(mapper.selectFlat(boardNo)), generation);
+		}
+		
+		return commentList;
+	}
+
+	// 최상위 댓글 페이지 조회 서비스
+	@Override
+	public Map<String, Object> selectPage(int boardNo, int lastCommentNo) {
+		
+		// 첫 페이지 조회 시 : 댓글 조회 전 댓글 변경 번호(이후 변경된 댓글 조회 기준)
+		// >> 조회 도중 변경된 댓글은 다음 변경 조회에서 다시 반영
+		Integer commentVersion = lastCommentNo == 0 ? mapper.selectCommentVersion(boardNo) : null;
+		
+		Map<String, Integer> paramMap = new HashMap<>();
+		paramMap.put("boardNo", boardNo);
+		paramMap.put("lastCommentNo", lastCommentNo);
+		paramMap.put("limit", commentPageSize + 1); // 다음 페이지 존재 여부 확인용 1개 더 조회
+		
+		List<Comment> commentList = mapper.selectTopPage(paramMap);
+		
+		boolean hasNext = commentList.size() > commentPageSize;
+		
+		if(hasNext) commentList = commentList.subList(0, commentPageSize);
+		
+		for(Comment comment : commentList) comment.setLevel(1);
+		
+		Map<String, Object> map = new HashMap<>();
+		map.put("commentList", commentList);
+		map.put("hasNext", hasNext);
+		map.put("lastCommentNo", commentList.isEmpty() 
+				? lastCommentNo : commentList.get(commentList.size() - 1).getCommentNo());
+		
+		if(commentVersion != null) map.put("commentVersion", commentVersion);
+		
+		return map;
+	}
+
+	// 답글 목록 조회 서비스
+	@Override
+	public List<Comment> selectReplies(int parentCommentNo, int level) {
+		
+		return CommentTree.build(mapper.selectReplies(parentCommentNo), parentCommentNo, level);
+	}
+
+	// 기준 변경 번호 이후 작성/수정/삭제된 댓글 조회 서비스
+	@Override
+	public List<Comment> selectSince(int boardNo, int sinceVersion) {
+		
+		Map<String, Integer> paramMap = new HashMap<>();
+		paramMap.put("boardNo", boardNo);
+		paramMap.put("sinceVersion", sinceVersion);
+		
+		return mapper.selectSince(paramMap);
 	}
 
 	@Override
 	public int insert(Comment comment) {
-		return mapper.insert(comment);
+		
+		// 게시글 댓글 수 +1 + 변경 번호 증가 (같은 트랜잭션)
+		comment.setCommentVersion(updateCommentCount(comment.getBoardNo(), 1));
+		
+		int result = mapper.insert(comment);
+		
+		if(result > 0) {
+			// 댓글 목록 캐시에 추가(커밋 후)
+			Comment inserted = mapper.selectComment(comment.getCommentNo());
+			
+			Utility.afterCommit(() -> commentCache.insert(inserted));
+		}
+		
+		return result;
 	}
 
 	@Override
 	public int delete(int commentNo) {
-		return mapper.delete(commentNo);
+		
+		Integer boardNo = mapper.selectBoardNo(commentNo);
+		
+		if(boardNo == null) return 0;
+		
+		// 게시글 댓글 수 -1 + 변경 번호 증가 (같은 트랜잭션)
+		int commentVersion = updateCommentCount(boardNo, -1);
+		
+		Map<String, Integer> map = new HashMap<>();
+		map.put("commentNo", commentNo);
+		map.put("commentVersion", commentVersion);
+		
+		// 같은 댓글을 동시에 삭제한 경우(게시글 행 잠금을 기다리는 사이 삭제됨) >> 댓글 수 감소 롤백
+		if(mapper.delete(map) == 0) {
+			throw new RuntimeException("이미 삭제된 댓글 : " + commentNo);
+		}
+		
+		// 댓글 목록 캐시에서 삭제(커밋 후)
+		Utility.afterCommit(() -> commentCache.delete(boardNo, commentNo, commentVersion));
+		
+		return 1;
 	}
 
 	@Override
 	public int update(Comment comment) {
-		return mapper.update(comment);
+		
+		Integer boardNo = mapper.selectBoardNo(comment.getCommentNo());
+		
+		if(boardNo == null) return 0;
+		
+		// 댓글 수 변경 없이 변경 번호만 증가
+		comment.setCommentVersion(updateCommentCount(boardNo, 0));
+		
+		int result = mapper.update(comment);
+		
+		// 댓글 목록 캐시의 내용 교체(커밋 후)
+		if(result > 0) {
+			Utility.afterCommit(() -> commentCache.update(boardNo, 
+					comment.getCommentNo(), comment.getCommentContent(), comment.getCommentVersion()));
+		}
+		
+		return result;
+	}
+	
+	// 게시글(BOARD) 댓글 수 컬럼 증감 + 댓글 변경 번호 증가 (UPDATE 1회)
+	// - 게시글 행이 커밋까지 잠김 >> 같은 게시글의 댓글 변경은 번호 순서대로 커밋
+	//   (변경 조회 시 더 큰 번호가 먼저 보이고 작은 번호가 나중에 커밋되는 경우 없음)
+	// @return 증가된 댓글 변경 번호
+	private int updateCommentCount(int boardNo, int delta) {
+		
+		Map<String, Integer> map = new HashMap<>();
+		map.put("boardNo", boardNo);
+		map.put("delta", delta);
+		
+		mapper.updateCommentCount(map);
+		
+		// 게시글이 없으면 댓글 삽입/수정/삭제도 롤백
+		Integer commentVersion = map.get("commentVersion");
+		
+		if(commentVersion == null) {
+			throw new RuntimeException("댓글 수 갱신 실패 : " + boardNo);
+		}
+		
+		// 목록 캐시의 댓글 수 교체(커밋 후)
+		if(delta != 0) {
+			Utility.afterCommit(() -> pageCache.patch(boardNo, 
+					board -> board.toBuilder().commentCount(board.getCommentCount() + delta).build()));
+		}
+		
+		return commentVersion;
 	}
 
 }
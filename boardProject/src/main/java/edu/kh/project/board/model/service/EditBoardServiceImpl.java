@@ -1,20 +1,31 @@
 package edu.kh.project.board.model.service;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import edu.kh.project.board.model.dto.Board;
 import edu.kh.project.board.model.dto.BoardImg;
+import edu.kh.project.board.model.cache.BoardPageCache;
+import edu.kh.project.board.model.cache.BoardSearchCache;
+import edu.kh.project.board.model.counter.BoardCountRegistry;
+import edu.kh.project.board.model.index.BoardPageAnchorIndex;
 import edu.kh.project.board.model.mapper.EditBoardMapper;
+import edu.kh.project.board.model.search.BoardSearchIndex;
+import edu.kh.project.common.file.BlobStore;
+import edu.kh.project.common.file.StagedFileWriter;
+import edu.kh.project.common.file.StagedFileWriter.Upload;
+import edu.kh.project.common.file.UploadJournalCleaner;
 import edu.kh.project.common.util.Utility;
 import lombok.RequiredArgsConstructor;
 
@@ -26,36 +37,42 @@ import lombok.RequiredArgsConstructor;
 public class EditBoardServiceImpl implements EditBoardService{
 	
 	private final EditBoardMapper mapper;
+	
+	private final BoardPageAnchorIndex anchorIndex;
+	
+	private final BoardCountRegistry countRegistry;
+	
+	private final BoardPageCache pageCache;
+	
+	private final BoardSearchCache searchCache;
+	
+	private final BoardSearchIndex searchIndex;
+	
+	private final StagedFileWriter fileWriter;
+	
+	// 게시글 이미지 저장소 (BlobStoreConfig, 필드명으로 Bean 구분)
+	private final BlobStore boardBlobStore;
+	
+	// DB 참조가 제거된 파일 기록 (이후 참조 없는 파일 정리)
+	private final UploadJournalCleaner journalCleaner;
 
 	@Value("${my.board.web-path}")
 	private String webPath;
 	
-	@Value("${my.board.folder-path}")
-	private String folderPath;
+	// 수정 시 이미지 반영 방식 (merge : MERGE 1회 / row : 이미지마다 UPDATE >> INSERT)
+	@Value("${my.board.image-write-mode:merge}")
+	private String imageWriteMode;
 	
 	// 게시글 작성 서비스
+	// 파일 저장은 트랜잭션 밖에서 수행(StagedFileWriter) >> 이 메서드는 트랜잭션 없이 시작
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public int boardInsert(Board inputBoard, List<MultipartFile> images) throws Exception{
 		
-		// 1. 게시글 부분(inputBoard)을 먼저
-		// BOARD 테이블 INSERT 하기
-		// >> INSERT된 게시글의 번호 반환받기
-		
-		int result = mapper.boardInsert(inputBoard);
-		
-		// result의 결과 행의 갯수로 다음 과정 진행 여부 결정
-		// 삽입 실패 시 return 0;
-		if(result == 0) return 0;
-		
-		// 삽입 성공 시 
-		// 삽입된 게시글의 번호를 변수로 저장
-		int boardNo = inputBoard.getBoardNo();
-		// >> mapper.xml 에서 <selectKey> 태그를 이용해서 생성된 boardNo가
-		// inputBoard에 이미 세팅되어있는 상태(얕은 복사)
-		
-		// 2. 업로드된 이미지가 실제로 존재할 경우
+		// 1. 업로드된 이미지가 실제로 존재할 경우
 		// 업로드된 이미지만 별도로 저장하여 
 		// BOARD_IMG 테이블에 삽입하는 코드 작성
+		// (게시글 번호는 게시글 INSERT 후 세팅)
 		
 		// 실제 업로드된 이미지만 모아둘 List 생성
 		List<BoardImg> uploadList = new ArrayList<>();
@@ -77,7 +94,6 @@ public class EditBoardServiceImpl implements EditBoardService{
 							.imgOriginalName(originalName)
 							.imgRename(rename)
 							.imgPath(webPath)
-							.boardNo(boardNo)
 							.imgOrder(i)
 							.uploadFile(images.get(i))
 							.build();
@@ -86,69 +102,80 @@ public class EditBoardServiceImpl implements EditBoardService{
 			}
 		}
 		
-		// uploadList가 비어있다 == 실제로 제출된 파일이 하나도 없다
-		if(uploadList.isEmpty()) {
-			return boardNo;
-		}
-		
-		// 제출된 파일이 하나라도 있다면?
-		// >> "BOARD_IMG" 테이블 INSERT + 서버에 실제로 파일 저장(transferTo())
-		
-		result = mapper.insertUploadList(uploadList);
-		// result == 삽입된 행의 갯수 == uploadList.size()
-		
-		// 다중 INSERT 성공 확인
-		if(result == uploadList.size()) {
-			// 서버에 파일 저장
-			for(BoardImg img : uploadList) {
-				img.getUploadFile().transferTo(new File(folderPath + img.getImgRename()));
+		// 2. 파일 임시 저장 >> DB 작업(짧은 트랜잭션) >> 커밋 후 파일을 최종 경로로 이동
+		// DB 작업 실패(0 반환, 예외) 시 임시 파일 삭제
+		// (keys : 실제 저장될 파일명, 내용 해시 파일명 사용 시 같은 내용 == 같은 파일명)
+		return fileWriter.write("boardInsert", toUploads(uploadList), keys -> {
+			
+			// 게시글 부분(inputBoard)을 먼저
+			// BOARD 테이블 INSERT 하기
+			// >> INSERT된 게시글의 번호 반환받기
+			int result = mapper.boardInsert(inputBoard);
+			
+			// result의 결과 행의 갯수로 다음 과정 진행 여부 결정
+			// 삽입 실패 시 return 0;
+			if(result == 0) return 0;
+			
+			// 삽입 성공 시 
+			// 삽입된 게시글의 번호를 변수로 저장
+			int boardNo = inputBoard.getBoardNo();
+			// >> mapper.xml 에서 <selectKey> 태그를 이용해서 생성된 boardNo가
+			// inputBoard에 이미 세팅되어있는 상태(얕은 복사)
+			
+			// 검색 색인 추가(커밋 후)
+			searchIndex.indexAfterCommit(boardNo);
+			
+			// 게시판 게시글 수 +1
+			// 새 게시글이 맨 앞에 추가되어 페이지 앵커, 목록 캐시가 한 행씩 밀림
+			// >> 앵커 위치 +1 (지금 변경 중 표시, 커밋 후 반영)
+			int boardCode = inputBoard.getBoardCode();
+			countRegistry.adjust(boardCode, 1);
+			anchorIndex.inserted(boardCode, boardNo);
+			
+			// 커밋 후 목록 캐시 무효화
+			Utility.afterCommit(() -> {
+				pageCache.evictBoard(boardCode);
+				searchCache.evictBoard(boardCode);
+			});
+			
+			// uploadList가 비어있다 == 실제로 제출된 파일이 하나도 없다
+			if(uploadList.isEmpty()) {
+				return boardNo;
 			}
 			
+			// 제출된 파일이 하나라도 있다면?
+			// >> "BOARD_IMG" 테이블 INSERT (파일은 커밋 후 이동)
+			for(int i = 0; i < uploadList.size(); i++) {
+				uploadList.get(i).setBoardNo(boardNo);
+				uploadList.get(i).setImgRename(keys.get(i));
+			}
+			
+			result = mapper.insertUploadList(uploadList);
+			// result == 삽입된 행의 갯수 == uploadList.size()
 			
-		} else {
-			// 부분적으로 삽입 실패
+			// 다중 INSERT 부분 실패
 			// ex) uploadList에 2개 저장
 			// > 1개 삽입 성공, 1개 삽입 실패 시
 			// >> 전체 서비스 실패로 판단함
 			// 이전에 삽입된 내용 모두 rollback
 			
 			// rollback 하는 법
-			// == RuntimeException 강제 발생(@Transactional 기본 RuntimeException)
-			throw new RuntimeException();
-			
+			// == RuntimeException 강제 발생(트랜잭션 기본 RuntimeException)
+			if(result != uploadList.size()) {
+				throw new RuntimeException();
+			}
 			
-		}
-		
-		
-		return boardNo;
+			return boardNo;
+		});
 	}
 
+	// 게시글 수정 서비스
+	// 파일 저장은 트랜잭션 밖에서 수행(StagedFileWriter) >> 이 메서드는 트랜잭션 없이 시작
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public int boardUpdate(Board inputBoard, List<MultipartFile> images, String deleteOrderList) throws Exception {
 		
-		// 1. 게시글 부분(제목/내용) 수정
-		int result = mapper.boardUpdate(inputBoard);
-		
-		// 수정 실패 시 바로 리턴
-		if(result == 0) return 0;
-		
-		// 2. 기존에 있던 이미지인데 삭제된 이미지가 있는 경우(deleteOrderList)
-		if(deleteOrderList != null && !deleteOrderList.equals("")) {
-			Map<String, Object> map = new HashMap<>();
-			
-			map.put("deleteOrderList", deleteOrderList);
-			map.put("boardNo", inputBoard.getBoardNo());
-			
-			// BOARD_IMG에 존재하는 행을 삭제하는 SQL 호출
-			result = mapper.deleteImage(map);
-			
-			// 삭제 실패한 경우 >> 롤백
-			if(result == 0)  {
-				throw new RuntimeException();
-			}
-		}
-		
-		// 3. 선택한 파일이 존재할 경우(클라이언트가 실제로 업로드한 이미지가 있는 경우)
+		// 1. 선택한 파일이 존재할 경우(클라이언트가 실제로 업로드한 이미지가 있는 경우)
 		List<BoardImg> uploadList = new ArrayList<>();
 		
 		// images 리스트에서 하나씩 꺼내어 파일이 있는지 검사
@@ -174,43 +201,180 @@ public class EditBoardServiceImpl implements EditBoardService{
 							.build();
 				
 				uploadList.add(img);
+			}
+		}
+		
+		// 2. 파일 임시 저장 >> DB 작업(짧은 트랜잭션) >> 커밋 후 파일을 최종 경로로 이동
+		// DB 작업 실패(0 반환, 예외) 시 임시 파일 삭제
+		// (keys : 실제 저장될 파일명, 내용 해시 파일명 사용 시 같은 내용 == 같은 파일명)
+		return fileWriter.write("boardUpdate", toUploads(uploadList), keys -> {
+			
+			// 게시글 부분(제목/내용) 수정
+			int result = mapper.boardUpdate(inputBoard);
+			
+			// 수정 실패 시 바로 리턴
+			if(result == 0) return 0;
+			
+			// 검색 색인 갱신(커밋 후)
+			searchIndex.indexAfterCommit(inputBoard.getBoardNo());
+			
+			// 목록 캐시의 제목 교체, 해당 게시판 검색 결과 제거(커밋 후)
+			String boardTitle = inputBoard.getBoardTitle();
+			Utility.afterCommit(() -> {
+				pageCache.patch(inputBoard.getBoardNo(), 
+						board -> board.toBuilder().boardTitle(boardTitle).build());
+				searchCache.evictBoard(inputBoard.getBoardCode());
+			});
+			
+			// 삭제되거나 새 이미지로 교체되는 기존 이미지 >> 참조 수 -1, 커밋 후 정리 대상으로 기록
+			removeImageReferences(inputBoard.getBoardNo(), deleteOrderList, uploadList);
+			
+			// 기존에 있던 이미지인데 삭제된 이미지가 있는 경우(deleteOrderList)
+			if(deleteOrderList != null && !deleteOrderList.equals("")) {
+				Map<String, Object> map = new HashMap<>();
 				
-				// 4. 업로드하려는 이미지 정보를 이용해서(img) 수정 또는 삽입 수행
+				map.put("deleteOrderList", deleteOrderList);
+				map.put("boardNo", inputBoard.getBoardNo());
 				
-				// 1) 기존 O >> 새 이미지로 변경 > 수정
-				result = mapper.updateImage(img);
+				// BOARD_IMG에 존재하는 행을 삭제하는 SQL 호출
+				result = mapper.deleteImage(map);
 				
-				if(result == 0) {
-					// 수정 실패 == 기존 해당 순서(IMG_ORDER)에 이미지가 없었음
-					// > 삽입 수행
-					
-					// 2) 기존 X > 새 이미지 추가
-					result = mapper.insertImage(img);
+				// 삭제 실패한 경우 >> 롤백
+				if(result == 0)  {
+					throw new RuntimeException();
 				}
 			}
 			
-			// 수정 또는 삽입이 실패한 경우 rollback
-			if(result == 0) {
+			// 선택한 파일이 없을 경우
+			if(uploadList.isEmpty()) {
+				return result;
+			}
+			
+			// 실제 저장될 파일명으로 변경
+			for(int i = 0; i < uploadList.size(); i++) {
+				uploadList.get(i).setImgRename(keys.get(i));
+			}
+			
+			// 업로드하려는 이미지 정보를 이용해서(img) 수정 또는 삽입 수행
+			return writeImages(uploadList);
+		});
+	}
+	
+	/** 업로드 이미지 수정 또는 삽입 (boardUpdate 트랜잭션 안에서 호출)
+	 * @param uploadList : 실제 저장될 파일명이 지정된 이미지 목록 (1개 이상)
+	 * @return 마지막 수정/삽입 결과 행 수 (merge 모드는 반영된 행 수)
+	 */
+	int writeImages(List<BoardImg> uploadList) {
+		
+		// 모든 이미지를 MERGE 1회로 수정 또는 삽입 (DB 왕복 1회)
+		if(imageWriteMode.equals("merge")) {
+			int result = mapper.mergeUploadList(uploadList);
+			
+			// 일부라도 반영되지 않은 경우 rollback
+			if(result != uploadList.size()) {
 				throw new RuntimeException();
 			}
 			
-		}
-		// 선택한 파일이 없을 경우
-		if(uploadList.isEmpty()) {
 			return result;
 		}
 		
-		// 수정, 새 이미지 파일을 서버에 저장
+		// 이미지마다 UPDATE, 없으면 INSERT (DB 왕복 이미지 수 ~ 2배)
+		int result = 0;
+		
 		for(BoardImg img : uploadList) {
-			img.getUploadFile().transferTo(new File(folderPath + img.getImgRename()));
+			
+			// 1) 기존 O >> 새 이미지로 변경 > 수정
+			result = mapper.updateImage(img);
+			
+			if(result == 0) {
+				// 수정 실패 == 기존 해당 순서(IMG_ORDER)에 이미지가 없었음
+				// > 삽입 수행
+				
+				// 2) 기존 X > 새 이미지 추가
+				result = mapper.insertImage(img);
+			}
+			
+			// 수정 또는 삽입이 실패한 경우 rollback
+			if(result == 0) {
+				throw new RuntimeException();
+			}
 		}
+		
 		return result;
 	}
+	
+	// 삭제(deleteOrderList) 또는 교체(uploadList)되는 순서의 기존 이미지 파일
+	// 참조 수 -1(같은 트랜잭션) 후 커밋 후 정리 대상으로 기록
+	private void removeImageReferences(int boardNo, String deleteOrderList, List<BoardImg> uploadList) {
+		
+		Set<Integer> orderSet = new HashSet<>();
+		
+		if(deleteOrderList != null && !deleteOrderList.equals("")) {
+			for(String order : deleteOrderList.split(",")) {
+				try {
+					orderSet.add(Integer.parseInt(order.trim()));
+				} catch(NumberFormatException e) {
+					// 잘못된 순서는 삭제 SQL 에서 실패
+				}
+			}
+		}
+		
+		for(BoardImg img : uploadList) orderSet.add(img.getImgOrder());
+		
+		if(orderSet.isEmpty()) return;
+		
+		List<String> removedList = new ArrayList<>();
+		
+		for(BoardImg img : mapper.selectImageRenameList(boardNo)) {
+			if(orderSet.contains(img.getImgOrder())) removedList.add(img.getImgRename());
+		}
+		
+		if(removedList.isEmpty()) return;
+		
+		fileWriter.removeReferences(boardBlobStore.name(), removedList);
+		
+		Utility.afterCommit(() -> {
+			for(String rename : removedList) journalCleaner.removed(boardBlobStore, rename);
+		});
+	}
+	
+	// 업로드 이미지 >> 저장할 파일 목록(게시글 이미지 저장소에 변경명으로 저장)
+	private List<Upload> toUploads(List<BoardImg> uploadList) {
+		
+		List<Upload> uploads = new ArrayList<>();
+		
+		for(BoardImg img : uploadList) {
+			uploads.add(new Upload(img.getUploadFile(), boardBlobStore, img.getImgRename()));
+		}
+		
+		return uploads;
+	}
 
 	@Override
 	public int boardDelete(Map<String, Integer> map) {
 		
-		return mapper.boardDelete(map);
+		int result = mapper.boardDelete(map);
+		
+		// 삭제 성공 시 해당 게시판 게시글 수 -1, 뒤쪽 페이지 앵커 위치 -1,
+		// 삭제된 게시글이 있던 페이지부터 목록 캐시 제거(커밋 후)
+		if(result > 0) {
+			int boardCode = map.get("boardCode");
+			int boardNo = map.get("boardNo");
+			
+			// 검색 색인 제거(커밋 후)
+			searchIndex.removeAfterCommit(boardNo);
+			
+			// 게시글 수 -1, 앵커 위치 -1 (지금 변경 중 표시, 커밋 후 반영)
+			countRegistry.adjust(boardCode, -1);
+			anchorIndex.removed(boardCode, boardNo);
+			
+			Utility.afterCommit(() -> {
+				pageCache.evictFrom(boardCode, boardNo);
+				searchCache.evictBoard(boardCode);
+			});
+		}
+		
+		return result;
 	}
 
 }
@@ -0,0 +1,413 @@
+package edu.kh.project.common.bitmap;
+
+import java.util.Arrays;
+
+/* 압축 비트맵 (Roaring 방식, 0 이상의 int 집합)
+ *
+ * - 값의 상위 16bit 로 묶음(container)을 나누고, 묶음마다 하위 16bit 만 저장
+ *   - 배열 container : 값이 4096개 이하 >> 정렬된 char[] (값 1개당 2byte)
+ *   - 비트맵 container : 값이 4096개 초과 >> long[1024] (8KB 고정, 값 1개당 1bit)
+ *   >> 게시글 번호처럼 드문드문한 값은 배열, 몰려있는 값은 비트맵으로 자동 전환
+ * - 교집합(and) : 같은 상위 16bit 묶음끼리만 비교
+ *   배열 & 배열 == 병합, 비트맵 & 비트맵 == long 단위 AND, 배열 & 비트맵 == 비트 확인
+ *
+ * 동기화하지 않음 (여러 스레드가 사용할 경우 호출하는 쪽에서 잠금)
+ */
+public class RoaringBitmap {
+
+	// 배열 container 최대 값 수 (넘으면 비트맵으로 전환 : 4096 * 2byte == 8KB == 비트맵 크기)
+	static final int ARRAY_MAX = 4096;
+
+	// 상위 16bit (오름차순) / 해당 container
+	private char[] keys = new char[4];
+	private Container[] containers = new Container[4];
+	private int size;
+
+	/** 값 목록으로 생성
+	 * @param values
+	 * @return
+	 */
+	public static RoaringBitmap of(Iterable<Integer> values) {
+
+		RoaringBitmap bitmap = new RoaringBitmap();
+
+		for(int value : values) bitmap.add(value);
+
+		return bitmap;
+	}
+
+	/** 값 추가
+	 * @param value : 0 이상
+	 * @return 새로 추가된 경우 true
+	 */
+	public boolean add(int value) {
+
+		char high = (char)(value >>> 16);
+		int index = indexOf(high);
+
+		if(index < 0) {
+			index = -index - 1;
+			insertAt(index, high, new ArrayContainer());
+		}
+
+		Container container = containers[index];
+		int before = container.cardinality();
+
+		containers[index] = container.add((char)value);
+
+		return containers[index].cardinality() != before;
+	}
+
+	/** 값 제거
+	 * @param value
+	 * @return 제거된 경우 true
+	 */
+	public boolean remove(int value) {
+
+		int index = indexOf((char)(value >>> 16));
+
+		if(index < 0) return false;
+
+		Container container = containers[index];
+		int before = container.cardinality();
+
+		container = container.remove((char)value);
+
+		if(container.cardinality() == 0) {
+			removeAt(index);
+		} else {
+			containers[index] = container;
+		}
+
+		return container.cardinality() != before;
+	}
+
+	/** 값 포함 여부
+	 * @param value
+	 * @return
+	 */
+	public boolean contains(int value) {
+
+		int index = indexOf((char)(value >>> 16));
+
+		return index >= 0 && containers[index].contains((char)value);
+	}
+
+	/** 값 개수
+	 * @return
+	 */
+	public int cardinality() {
+
+		int count = 0;
+
+		for(int i = 0; i < size; i++) count += containers[i].cardinality();
+
+		return count;
+	}
+
+	/** 교집합 (두 비트맵 모두에 있는 값)
+	 * @param other
+	 * @return 새 비트맵
+	 */
+	public RoaringBitmap and(RoaringBitmap other) {
+
+		RoaringBitmap result = new RoaringBitmap();
+
+		int i = 0;
+		int j = 0;
+
+		// 상위 16bit 가 같은 container 끼리만 교집합
+		while(i < size && j < other.size) {
+
+			if(keys[i] < other.keys[j]) {
+				i++;
+
+			} else if(keys[i] > other.keys[j]) {
+				j++;
+
+			} else {
+				Container container = containers[i].and(other.containers[j]);
+
+				if(container.cardinality() > 0) result.insertAt(result.size, keys[i], container);
+
+				i++;
+				j++;
+			}
+		}
+
+		return result;
+	}
+
+	/** 모든 값 (오름차순)
+	 * @return
+	 */
+	public int[] toArray() {
+
+		int[] result = new int[cardinality()];
+		int pos = 0;
+
+		for(int i = 0; i < size; i++) {
+			pos = containers[i].copyTo(result, pos, keys[i] << 16);
+		}
+
+		return result;
+	}
+
+	/** 메모리 사용량 추정(byte)
+	 * @return
+	 */
+	public long sizeInBytes() {
+
+		long bytes = 32 + 2L * keys.length + 8L * containers.length;
+
+		for(int i = 0; i < size; i++) bytes += containers[i].sizeInBytes();
+
+		return bytes;
+	}
+
+	// 상위 16bit 위치 (없으면 -(삽입 위치) - 1)
+	private int indexOf(char high) {
+		return Arrays.binarySearch(keys, 0, size, high);
+	}
+
+	private void insertAt(int index, char high, Container container) {
+
+		if(size == keys.length) {
+			keys = Arrays.copyOf(keys, size * 2);
+			containers = Arrays.copyOf(containers, size * 2);
+		}
+
+		System.arraycopy(keys, index, keys, index + 1, size - index);
+		System.arraycopy(containers, index, containers, index + 1, size - index);
+
+		keys[index] = high;
+		containers[index] = container;
+		size++;
+	}
+
+	private void removeAt(int index) {
+
+		System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+		System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+
+		containers[--size] = null;
+	}
+
+
+	// 하위 16bit 집합
+	private abstract static class Container {
+
+		abstract Container add(char low);		// 전환된 경우 새 container 반환
+		abstract Container remove(char low);
+		abstract boolean contains(char low);
+		abstract int cardinality();
+		abstract Container and(Container other);
+		abstract int copyTo(int[] dest, int pos, int high);
+		abstract long sizeInBytes();
+	}
+
+	// 정렬된 배열 (값이 적을 때)
+	private static final class ArrayContainer extends Container {
+
+		private char[] values = new char[4];
+		private int cardinality;
+
+		@Override
+		Container add(char low) {
+
+			int index = Arrays.binarySearch(values, 0, cardinality, low);
+
+			if(index >= 0) return this;
+
+			// 배열이 가득 차면 비트맵으로 전환
+			if(cardinality == ARRAY_MAX) return toBitmap().add(low);
+
+			index = -index - 1;
+
+			if(cardinality == values.length) values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX));
+
+			System.arraycopy(values, index, values, index + 1, cardinality - index);
+			values[index] = low;
+			cardinality++;
+
+			return this;
+		}
+
+		@Override
+		Container remove(char low) {
+
+			int index = Arrays.binarySearch(values, 0, cardinality, low);
+
+			if(index < 0) return this;
+
+			System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+			cardinality--;
+
+			return this;
+		}
+
+		@Override
+		boolean contains(char low) {
+			return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		Container and(Container other) {
+
+			ArrayContainer result = new ArrayContainer();
+			result.values = new char[Math.max(1, Math.min(cardinality, other.cardinality()))];
+
+			if(other instanceof ArrayContainer array) {
+
+				// 정렬된 두 배열 병합
+				int i = 0;
+				int j = 0;
+
+				while(i < cardinality && j < array.cardinality) {
+
+					if(values[i] < array.values[j]) i++;
+					else if(values[i] > array.values[j]) j++;
+					else {
+						result.values[result.cardinality++] = values[i];
+						i++;
+						j++;
+					}
+				}
+
+			} else {
+				for(int i = 0; i < cardinality; i++) {
+					if(other.contains(values[i])) result.values[result.cardinality++] = values[i];
+				}
+			}
+
+			return result;
+		}
+
+		@Override
+		int copyTo(int[] dest, int pos, int high) {
+
+			for(int i = 0; i < cardinality; i++) dest[pos++] = high | values[i];
+
+			return pos;
+		}
+
+		@Override
+		long sizeInBytes() {
+			return 24 + 2L * values.length;
+		}
+
+		private BitmapContainer toBitmap() {
+
+			BitmapContainer bitmap = new BitmapContainer();
+
+			for(int i = 0; i < cardinality; i++) bitmap.add(values[i]);
+
+			return bitmap;
+		}
+	}
+
+	// 비트맵 (값이 많을 때, 65536bit 고정)
+	private static final class BitmapContainer extends Container {
+
+		private final long[] words = new long[1024];
+		private int cardinality;
+
+		@Override
+		Container add(char low) {
+
+			long before = words[low >>> 6];
+
+			words[low >>> 6] |= 1L << low;
+
+			if(before != words[low >>> 6]) cardinality++;
+
+			return this;
+		}
+
+		@Override
+		Container remove(char low) {
+
+			long before = words[low >>> 6];
+
+			words[low >>> 6] &= ~(1L << low);
+
+			if(before != words[low >>> 6]) cardinality--;
+
+			// 값이 적어지면 배열로 전환
+			return cardinality <= ARRAY_MAX ? toArray() : this;
+		}
+
+		@Override
+		boolean contains(char low) {
+			return (words[low >>> 6] & (1L << low)) != 0;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		Container and(Container other) {
+
+			if(other instanceof BitmapContainer bitmap) {
+
+				BitmapContainer result = new BitmapContainer();
+
+				for(int i = 0; i < words.length; i++) {
+					result.words[i] = words[i] & bitmap.words[i];
+					result.cardinality += Long.bitCount(result.words[i]);
+				}
+
+				return result.cardinality <= ARRAY_MAX ? result.toArray() : result;
+			}
+
+			// 배열 & 비트맵 == 배열 쪽에서 비트 확인
+			return other.and(this);
+		}
+
+		@Override
+		int copyTo(int[] dest, int pos, int high) {
+
+			for(int i = 0; i < words.length; i++) {
+
+				long word = words[i];
+
+				while(word != 0) {
+					dest[pos++] = high | (i << 6) | Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+				}
+			}
+
+			return pos;
+		}
+
+		@Override
+		long sizeInBytes() {
+			return 24 + 8L * words.length;
+		}
+
+		private ArrayContainer toArray() {
+
+			ArrayContainer array = new ArrayContainer();
+			array.values = new char[Math.max(4, cardinality)];
+
+			for(int i = 0; i < words.length; i++) {
+
+				long word = words[i];
+
+				while(word != 0) {
+					array.values[array.cardinality++] = (char)((i << 6) | Long.numberOfTrailingZeros(word));
+					word &= word - 1;
+				}
+			}
+
+			return array;
+		}
+	}
+}
@@ -0,0 +1,233 @@
+package edu.kh.project.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/* 크기/시간 제한이 있는 LRU 캐시 (+ 적중/실패 통계)
+ *
+ * - maxSize 를 넘으면 가장 오래 사용되지 않은 항목부터 제거(LRU)
+ * - 저장 후 ttlMillis 가 지난 항목은 조회 시 제거(만료)
+ * - 모든 메서드는 synchronized (항목 수가 적어 잠금 비용이 크지 않음)
+ * - onRemove : 항목이 제거되거나 put 으로 덮어써질 때 호출 (LRU, 만료, 제거) >> 보조 색인 정리용
+ *
+ * @param <K> 키
+ * @param <V> 값 (공유되므로 변경하지 않는 객체를 저장할 것)
+ */
+public class BoundedCache<K, V> {
+
+	private final int maxSize;
+	private final long ttlMillis;
+
+	// 저장된 값 + 만료 시간
+	private record Entry<V>(V value, long expireAt) {}
+
+	private final LinkedHashMap<K, Entry<V>> map;
+
+	// 제거/덮어쓴 항목 (키, 기존 값), 잠금 안에서 호출되므로 짧은 작업만 수행할 것
+	private final BiConsumer<K, V> onRemove;
+
+	// 통계
+	private long hits;
+	private long misses;
+	private long evictions;		// 크기 초과로 제거
+	private long expirations;	// 만료로 제거
+
+	public BoundedCache(int maxSize, long ttlMillis) {
+		this(maxSize, ttlMillis, (key, value) -> {});
+	}
+
+	public BoundedCache(int maxSize, long ttlMillis, BiConsumer<K, V> onRemove) {
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlMillis;
+		this.onRemove = onRemove;
+
+		// accessOrder = true : 조회할 때마다 맨 뒤로 이동 >> 맨 앞이 가장 오래 사용되지 않은 항목
+		this.map = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				if(size() > BoundedCache.this.maxSize) {
+					evictions++;
+					onRemove.accept(eldest.getKey(), eldest.getValue().value());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/** 값 조회 (없거나 만료된 경우 null)
+	 * @param key
+	 * @return
+	 */
+	public synchronized V get(K key) {
+
+		Entry<V> entry = map.get(key);
+
+		if(entry == null) {
+			misses++;
+			return null;
+		}
+
+		if(entry.expireAt() <= System.currentTimeMillis()) {
+			map.remove(key);
+			onRemove.accept(key, entry.value());
+			expirations++;
+			misses++;
+			return null;
+		}
+
+		hits++;
+		return entry.value();
+	}
+
+	/** 값 저장
+	 * @param key
+	 * @param value
+	 */
+	public synchronized void put(K key, V value) {
+
+		Entry<V> before = map.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+
+		if(before != null) onRemove.accept(key, before.value());
+	}
+
+	/** 값 제거
+	 * @param key
+	 */
+	public synchronized void remove(K key) {
+
+		Entry<V> before = map.remove(key);
+
+		if(before != null) onRemove.accept(key, before.value());
+	}
+
+	/** 조건에 맞는 항목 모두 제거
+	 * @param filter (키, 값)
+	 * @return 제거된 항목 수
+	 */
+	public synchronized int removeIf(BiPredicate<K, V> filter) {
+
+		int count = 0;
+
+		Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+
+		while(it.hasNext()) {
+			Map.Entry<K, Entry<V>> e = it.next();
+
+			if(filter.test(e.getKey(), e.getValue().value())) {
+				it.remove();
+				onRemove.accept(e.getKey(), e.getValue().value());
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/** 저장된 값 수정 (만료 시간, LRU 순서는 유지)
+	 * @param patch (키, 기존 값) >> 새 값 (기존 값을 그대로 반환하면 변경 없음, null 반환 시 제거)
+	 * @return 변경/제거된 항목 수
+	 */
+	public synchronized int patchAll(BiFunction<K, V, V> patch) {
+
+		int count = 0;
+
+		Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+
+		while(it.hasNext()) {
+			Map.Entry<K, Entry<V>> e = it.next();
+
+			V before = e.getValue().value();
+			V after = patch.apply(e.getKey(), before);
+
+			if(after == before) continue;
+
+			if(after == null) {
+				it.remove();
+				onRemove.accept(e.getKey(), before);
+			}
+			else e.setValue(new Entry<>(after, e.getValue().expireAt()));
+
+			count++;
+		}
+
+		return count;
+	}
+
+	/** 항목 하나의 값 수정 (만료 시간 유지, 최근 사용으로 갱신)
+	 * @param key
+	 * @param patch : 기존 값 >> 새 값 (null 반환 시 제거)
+	 * @return 항목이 없거나 만료된 경우 false
+	 */
+	public synchronized boolean patch(K key, UnaryOperator<V> patch) {
+
+		Entry<V> entry = map.get(key);
+
+		if(entry == null) return false;
+
+		if(entry.expireAt() <= System.currentTimeMillis()) {
+			map.remove(key);
+			onRemove.accept(key, entry.value());
+			expirations++;
+			return false;
+		}
+
+		V after = patch.apply(entry.value());
+
+		if(after == null) {
+			map.remove(key);
+			onRemove.accept(key, entry.value());
+		}
+		else map.put(key, new Entry<>(after, entry.expireAt()));
+
+		return true;
+	}
+
+	/** 저장된 모든 값의 합계 (메모리 사용량 추정 등)
+	 * @param weigher : 값 >> 크기
+	 * @return
+	 */
+	public synchronized long sum(ToLongFunction<V> weigher) {
+
+		long total = 0;
+
+		for(Entry<V> entry : map.values()) {
+			total += weigher.applyAsLong(entry.value());
+		}
+
+		return total;
+	}
+
+	/** 전체 제거
+	 */
+	public synchronized void clear() {
+		map.forEach((key, entry) -> onRemove.accept(key, entry.value()));
+		map.clear();
+	}
+
+	/** 통계 조회
+	 * @return size, maxSize, hits, misses, hitRate, evictions, expirations
+	 */
+	public synchronized Map<String, Object> stats() {
+
+		long total = hits + misses;
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("size", map.size());
+		stats.put("maxSize", maxSize);
+		stats.put("ttlMillis", ttlMillis);
+		stats.put("hits", hits);
+		stats.put("misses", misses);
+		stats.put("hitRate", total == 0 ? 0.0 : (double)hits / total);
+		stats.put("evictions", evictions);
+		stats.put("expirations", expirations);
+
+		return stats;
+	}
+}
@@ -0,0 +1,52 @@
+package edu.kh.project.common.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import edu.kh.project.common.file.BlobStore;
+import edu.kh.project.common.file.LocalBlobStore;
+
+/* 업로드 파일 저장소 설정
+ *
+ * - 게시글 이미지 / 프로필 이미지 / 파일 업로드 테스트 저장소를 각각 Bean 으로 등록 (이름으로 구분)
+ * - 다른 저장 방식을 사용할 경우 BlobStore 구현체만 교체
+ */
+@Configuration
+@PropertySource("classpath:/config.properties")
+public class BlobStoreConfig {
+
+	@Value("${my.board.folder-path}")
+	private String boardFolderPath;		// C:/uploadFiles/board/
+
+	@Value("${my.profile.folder-path}")
+	private String profileFolderPath;	// C:/uploadFiles/profile/
+
+	@Value("${my.file.folder-path:C:/uploadFiles/test/}")
+	private String fileFolderPath;		// C:/uploadFiles/test/ (UPLOAD_FILE)
+
+	// 하위 폴더 단계 수 (0 : 기존처럼 한 폴더에 저장)
+	@Value("${my.blob.fan-out-levels:2}")
+	private int fanOutLevels;
+
+	// 게시글 이미지 저장소
+	@Bean
+	public BlobStore boardBlobStore() {
+		return new LocalBlobStore("board", Path.of(boardFolderPath), fanOutLevels);
+	}
+
+	// 프로필 이미지 저장소
+	@Bean
+	public BlobStore profileBlobStore() {
+		return new LocalBlobStore("profile", Path.of(profileFolderPath), fanOutLevels);
+	}
+
+	// 파일 업로드 테스트 저장소 (/myPage/file/** 가 폴더를 직접 연결하므로 하위 폴더 X)
+	@Bean
+	public BlobStore fileBlobStore() {
+		return new LocalBlobStore("file", Path.of(fileFolderPath), 0);
+	}
+}
@@ -16,6 +16,8 @@ import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
+import edu.kh.project.common.metrics.ConnectionHoldTracker;
+
 /*
  * @Configuration
  * - 스프링 설정용 클래스임을 명시 (스프링이 해당 클래스를 설정 정보로 인식하고 사용)
@@ -76,12 +78,22 @@ public class DBConfig {
 		return new HikariConfig();
 	}
 
+	// 커넥션 점유(대여 ~ 반납)/대기 시간 기록
+	@Bean
+	public ConnectionHoldTracker connectionHoldTracker() {
+		return new ConnectionHoldTracker();
+	}
+
 	@Bean
-	public DataSource dataSource(HikariConfig config) {
+	public DataSource dataSource(HikariConfig config, ConnectionHoldTracker holdTracker) {
 		// 매개변수 HikariConfig config
 		// -> 등록된 Bean 중 HikariConfig 타입의 Bean을 자동으로 주입
 		// -> HikariConfig 객체를 받아,
 		// 설정된 HikariConfig를 통해 DataSource 객체를 생성
+		
+		// 커넥션 반납/대여 시 holdTracker 에 시간 기록 (풀 생성 전에 설정)
+		config.setMetricsTrackerFactory((poolName, poolStats) -> holdTracker);
+		
 		DataSource dataSource = new HikariDataSource(config);
 
 		// DataSource :
@@ -0,0 +1,41 @@
+package edu.kh.project.common.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariConfig;
+
+import edu.kh.project.common.util.BoundedFanOut;
+
+/* 비동기 작업 실행기 설정
+ *
+ * - 가상 스레드(Java 21) : 작업마다 새 가상 스레드 생성
+ *   >> DB 응답을 기다리는 동안 OS 스레드를 점유하지 않으므로 풀 크기 조정 불필요
+ * - 서버 종료 시 close() 호출 (실행 중인 작업 완료 대기)
+ * - DB 조회를 동시에 수행하는 경우 BoundedFanOut 으로 동시 수행 수 제한
+ *   (가상 스레드는 제한이 없으므로 커넥션 풀 크기를 기준으로 제한)
+ */
+@Configuration
+public class ExecutorConfig {
+
+	// 게시글 상세 조회 등 여러 조회를 동시에 수행할 때 사용
+	@Bean(destroyMethod = "close")
+	public ExecutorService virtualThreadExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	// 게시글 상세 조회 부분들을 동시에 수행할 때 사용
+	// (최대 동시 수행 수 0 이하 : 커넥션 풀 최대 크기의 절반)
+	@Bean
+	public BoundedFanOut detailFanOut(ExecutorService virtualThreadExecutor, HikariConfig hikariConfig,
+			@Value("${my.board.detail-max-parallel:0}") int maxParallel) {
+
+		if(maxParallel <= 0) maxParallel = hikariConfig.getMaximumPoolSize() / 2;
+
+		return new BoundedFanOut(virtualThreadExecutor, maxParallel);
+	}
+}
@@ -1,16 +1,23 @@
 package edu.kh.project.common.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.CacheControl;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.support.StandardServletMultipartResolver;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import edu.kh.project.common.file.BlobStore;
+import edu.kh.project.common.file.BlobStoreResourceResolver;
 import jakarta.servlet.MultipartConfigElement;
 
 @PropertySource("classpath:/config.properties")
@@ -58,6 +65,19 @@ public class FileConfig implements WebMvcConfigurer{
 	private String boardResourceLocation;	
 	// file:///C:/uploadFiles/board/
 	
+	// 업로드 파일 저장소 (파일은 해시 하위 폴더에 저장됨, BlobStoreConfig)
+	@Autowired
+	@Qualifier("profileBlobStore")
+	private BlobStore profileBlobStore;
+	
+	@Autowired
+	@Qualifier("boardBlobStore")
+	private BlobStore boardBlobStore;
+	
+	// 업로드 이미지 브라우저 캐시 유지 일수
+	// 파일명 == 내용 해시(또는 중복되지 않는 변경명) >> 같은 주소의 파일 내용이 바뀌지 않으므로 재검증 없이 캐시
+	@Value("${my.upload.cache-max-age-days:365}")
+	private long cacheMaxAgeDays;
 	
 	
 	// 요청 주소에 따라 서버 컴퓨터의 어떤 경로에 접근할 지 설정
@@ -74,18 +94,33 @@ public class FileConfig implements WebMvcConfigurer{
 		// 서버를 폴더 경로 중 C:/uploadFiles/test/로 연결하겠다
 		
 		registry.addResourceHandler(profileResourceHandler)
-		.addResourceLocations(profileResourceLocation);
-		// 클라이언트가 /myPage/profile/** 패턴으로 이미지 요청할 때 서버 폴더 경로 중
-		// C:/uploadFIles/profile/ 로 연결
+		.addResourceLocations(profileResourceLocation)
+		.setCacheControl(imageCacheControl())
+		.resourceChain(false)
+		.addResolver(new BlobStoreResourceResolver(profileBlobStore));
+		// 클라이언트가 /myPage/profile/** 패턴으로 이미지 요청할 때 
+		// 프로필 이미지 저장소에서 파일명으로 조회(C:/uploadFIles/profile/해시 하위 폴더)
+		// 저장소에 없으면 C:/uploadFIles/profile/ 로 연결
 		
 		registry.addResourceHandler(boardResourceHandler)
-		.addResourceLocations(boardResourceLocation);
+		.addResourceLocations(boardResourceLocation)
+		.setCacheControl(imageCacheControl())
+		.resourceChain(false)
+		.addResolver(new BlobStoreResourceResolver(boardBlobStore));
 		// >> 클라이언트가 /images/board/** 패턴으로 이미지 요청할 때
-		// 서버 폴더 경로 중 C:/uploadFiles/board/ 로 연결
+		// 게시글 이미지 저장소에서 파일명으로 조회(C:/uploadFiles/board/해시 하위 폴더)
+		// 저장소에 없으면 C:/uploadFiles/board/ 로 연결
+		// resourceChain(false) : 삭제된 파일이 계속 조회되지 않도록 조회 결과 캐시 X
+		// setCacheControl : Cache-Control: max-age=..., public, immutable (브라우저가 다시 요청하지 않음)
 		
 		
 	}
 	
+	// 업로드 이미지 응답 캐시 설정
+	private CacheControl imageCacheControl() {
+		return CacheControl.maxAge(Duration.ofDays(cacheMaxAgeDays)).cachePublic().immutable();
+	}
+	
 	// MultipartResolver 설정
 	@Bean
 	public MultipartConfigElement configElement() { 
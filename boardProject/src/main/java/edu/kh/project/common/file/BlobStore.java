@@ -0,0 +1,67 @@
+package edu.kh.project.common.file;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.Resource;
+
+/* 업로드 파일 저장소
+ *
+ * - 파일은 이름(key, 변경된 파일명)으로만 구분 >> 실제 저장 위치는 구현체가 결정
+ *   (DB 에는 기존과 같이 웹 경로 + 변경명만 저장, 저장 위치가 바뀌어도 DB 수정 X)
+ * - 구현체 : LocalBlobStore (서버 폴더, 해시 하위 폴더로 분산)
+ */
+public interface BlobStore {
+
+	/** 저장소 이름 (업로드 기록 파일에 저장소 구분용으로 기록)
+	 * @return
+	 */
+	String name();
+
+	/** 업로드 파일을 임시 저장할 폴더 (이 폴더의 파일은 put 으로 저장소에 옮길 수 있음)
+	 * @return
+	 * @throws IOException
+	 */
+	Path stagingDir() throws IOException;
+
+	/** 임시 저장된 파일을 저장소로 이동
+	 * @param key : 파일명
+	 * @param source : stagingDir() 안의 파일
+	 * @throws IOException
+	 */
+	void put(String key, Path source) throws IOException;
+
+	/** 파일 조회
+	 * @param key : 파일명
+	 * @return 없으면 null
+	 */
+	Resource resource(String key);
+
+	/** 파일 삭제
+	 * @param key : 파일명
+	 * @return 삭제된 경우 true
+	 * @throws IOException
+	 */
+	boolean delete(String key) throws IOException;
+
+	/** 파일 목록 구역 수
+	 * (전체 파일을 구역별로 나누어 조회 >> 중단 후 이어서 조회, 여러 구역 동시 조회 가능)
+	 * @return
+	 */
+	int shardCount();
+
+	/** 구역의 파일명 (한 번에 모두 읽지 않고 순서대로 조회, 사용 후 close)
+	 * @param shard : 0 ~ shardCount() - 1
+	 * @return
+	 * @throws IOException
+	 */
+	Stream<String> keys(int shard) throws IOException;
+
+	/** 이전 저장 구조의 파일을 현재 저장 구조로 이동
+	 * @return { moved : 이동, skipped : 이미 있음, failed : 실패 }
+	 * @throws IOException
+	 */
+	Map<String, Long> migrate() throws IOException;
+}
@@ -0,0 +1,38 @@
+package edu.kh.project.common.file;
+
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/* 정적 리소스 요청(/images/board/파일명 등)을 저장소에서 조회
+ *
+ * - 요청 경로의 파일명으로 BlobStore 의 실제 위치(해시 하위 폴더)를 찾음
+ * - 저장소에 없으면 다음 resolver(기존 폴더 경로)로 넘김
+ */
+public class BlobStoreResourceResolver implements ResourceResolver {
+
+	private final BlobStore store;
+
+	public BlobStoreResourceResolver(BlobStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public Resource resolveResource(HttpServletRequest request, String requestPath,
+			List<? extends Resource> locations, ResourceResolverChain chain) {
+
+		Resource resource = store.resource(requestPath);
+
+		return resource != null ? resource : chain.resolveResource(request, requestPath, locations);
+	}
+
+	@Override
+	public String resolveUrlPath(String resourcePath, List<? extends Resource> locations,
+			ResourceResolverChain chain) {
+		return chain.resolveUrlPath(resourcePath, locations);
+	}
+}
@@ -0,0 +1,219 @@
+package edu.kh.project.common.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import edu.kh.project.common.sketch.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+/* 서버 폴더 파일 저장소 (해시 하위 폴더로 분산)
+ *
+ * 기존 : 모든 파일을 한 폴더에 저장 >> 파일이 수십만 개가 되면 폴더 조회/생성이 느려짐
+ *
+ * 변경
+ * - 파일명 해시값의 상위 byte 로 하위 폴더 결정 (단계마다 16진수 2자리 == 폴더 256개)
+ *   ex) 2단계 : 20251211100330_00001.jpg >> root/3f/a9/20251211100330_00001.jpg
+ *   >> 폴더당 파일 수 == 전체 / 256^단계
+ * - 같은 파일명은 항상 같은 폴더 >> 조회 시 폴더 탐색 X
+ * - 아직 이동(migrate)하지 않은 기존 파일(root 바로 아래)도 조회/삭제 가능
+ * - 임시 저장 폴더(root/.staging)는 같은 디스크 >> put 은 복사 없는 원자적 이동
+ * - 단계 0 == 기존과 같은 구조(root 바로 아래)
+ * - 파일 목록 구역 : 0 == root 바로 아래(이동 전 파일), 1 ~ == 하위 폴더 하나씩 (00/00, 00/01, ...)
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+	private static final String STAGING_DIR = ".staging";
+
+	private final String name;
+
+	private final Path root;
+
+	// 하위 폴더 단계 수 (0 ~ 3)
+	private final int levels;
+
+	public LocalBlobStore(String name, Path root, int levels) {
+
+		if(levels < 0 || levels > 3) {
+			throw new IllegalArgumentException("하위 폴더 단계는 0 ~ 3 : " + levels);
+		}
+
+		this.name = name;
+		this.root = root.toAbsolutePath().normalize();
+		this.levels = levels;
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	/** 파일명의 저장 경로
+	 * @param key
+	 * @return
+	 */
+	public Path path(String key) {
+
+		checkKey(key);
+
+		if(levels == 0) return root.resolve(key);
+
+		long hash = Hashing.hash64(key);
+
+		Path dir = root;
+
+		for(int i = 0; i < levels; i++) {
+			dir = dir.resolve(String.format("%02x", (hash >>> (56 - 8 * i)) & 0xff));
+		}
+
+		return dir.resolve(key);
+	}
+
+	@Override
+	public Path stagingDir() throws IOException {
+		return Files.createDirectories(root.resolve(STAGING_DIR));
+	}
+
+	@Override
+	public void put(String key, Path source) throws IOException {
+
+		Path target = path(key);
+
+		Files.createDirectories(target.getParent());
+
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+
+		} catch(AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Override
+	public Resource resource(String key) {
+
+		try {
+			Path path = path(key);
+
+			// 아직 이동하지 않은 기존 파일
+			if(!Files.isRegularFile(path)) path = root.resolve(key);
+
+			return Files.isRegularFile(path) ? new FileSystemResource(path) : null;
+
+		} catch(IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean delete(String key) throws IOException {
+
+		boolean deleted = Files.deleteIfExists(path(key));
+
+		if(levels > 0) deleted |= Files.deleteIfExists(root.resolve(key));
+
+		return deleted;
+	}
+
+	@Override
+	public int shardCount() {
+		return 1 + (levels == 0 ? 0 : 1 << (8 * levels));
+	}
+
+	@Override
+	public Stream<String> keys(int shard) throws IOException {
+
+		Path dir = root;
+
+		// 하위 폴더 번호 >> 경로 (상위 단계가 높은 byte)
+		if(shard > 0) {
+			int index = shard - 1;
+
+			for(int i = levels - 1; i >= 0; i--) {
+				dir = dir.resolve(String.format("%02x", (index >>> (8 * i)) & 0xff));
+			}
+		}
+
+		if(!Files.isDirectory(dir)) return Stream.empty();
+
+		// 파일만 (root 의 하위 폴더, 임시 폴더 제외), 폴더 항목을 순서대로 읽음
+		DirectoryStream<Path> stream = Files.newDirectoryStream(dir, Files::isRegularFile);
+
+		return StreamSupport.stream(stream.spliterator(), false)
+				.map(path -> path.getFileName().toString())
+				.onClose(() -> {
+					try {
+						stream.close();
+					} catch(IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	@Override
+	public Map<String, Long> migrate() throws IOException {
+
+		long moved = 0;
+		long skipped = 0;
+		long failed = 0;
+
+		if(levels > 0 && Files.isDirectory(root)) {
+
+			// root 바로 아래 파일만 (하위 폴더, 임시 폴더 제외)
+			try(DirectoryStream<Path> stream = Files.newDirectoryStream(root, Files::isRegularFile)) {
+
+				for(Path file : stream) {
+
+					String key = file.getFileName().toString();
+
+					try {
+						Path target = path(key);
+
+						if(Files.exists(target)) {
+							skipped++;
+							continue;
+						}
+
+						Files.createDirectories(target.getParent());
+						Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+						moved++;
+
+					} catch(IOException | IllegalArgumentException e) {
+						log.warn("파일 이동 실패 : {}", file, e);
+						failed++;
+					}
+				}
+			}
+		}
+
+		log.info("파일 저장 구조 변경 완료 ({}) : 이동 {}, 건너뜀 {}, 실패 {}", root, moved, skipped, failed);
+
+		Map<String, Long> result = new LinkedHashMap<>();
+		result.put("moved", moved);
+		result.put("skipped", skipped);
+		result.put("failed", failed);
+
+		return result;
+	}
+
+	// 다른 폴더에 접근하는 파일명 차단
+	private static void checkKey(String key) {
+
+		if(key == null || key.isEmpty() || key.contains("/") || key.contains("\\")
+				|| key.equals(".") || key.equals("..") || key.equals(STAGING_DIR)) {
+			throw new IllegalArgumentException("잘못된 파일명 : " + key);
+		}
+	}
+}
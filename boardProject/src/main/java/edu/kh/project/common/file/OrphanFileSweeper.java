@@ -0,0 +1,449 @@
+package edu.kh.project.common.file;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.service.BoardService;
+import edu.kh.project.common.sketch.BloomFilter;
+import edu.kh.project.common.sketch.Hashing;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* DB 에서 참조하지 않는 업로드 파일 삭제
+ *
+ * 기존 : 서버 파일 전체 배열 + DB 파일명 List 를 만든 후 파일마다 List.indexOf (파일 수 x DB 수)
+ *
+ * 변경
+ * 1) DB 파일명을 Cursor 로 한 행씩 읽어 집합 생성 (전체 List 를 만들지 않음)
+ *    - hash  : HashSet (정확)
+ *    - bloom : Bloom 필터 (고정 메모리, 오탐 == DB 에 없는 파일을 있다고 판단 >> 삭제하지 않을 뿐 안전)
+ * 2) 저장소 파일을 구역(BlobStore.shardCount)별로 나누어 여러 가상 스레드가 동시에 조회
+ *    - 구역 안의 파일은 DirectoryStream 으로 순서대로 읽음 (목록을 한 번에 만들지 않음)
+ * 3) 삭제는 초당 최대 횟수 제한 (디스크 I/O 가 서비스 요청을 방해하지 않도록)
+ * 4) 완료된 구역 번호를 checkpoint 파일에 기록
+ *    >> 서버 종료 등으로 중단되면 다음 실행(또는 서버 시작 시) 이어서 수행
+ *    (동시 처리로 완료 순서가 섞이므로 "이 번호 전까지 모두 완료"된 번호를 기록)
+ *
+ * - DB 조회 이후 저장된 파일은 DB 집합에 없으므로 삭제 대상에서 제외 (파일 수정 시간으로 판단)
+ * - 내용 해시 파일은 DB 조회 이후 기존 파일을 다시 참조할 수 있으므로 참조 수 행을 잠근 후 삭제
+ */
+@Component
+@Slf4j
+public class OrphanFileSweeper {
+
+	@Autowired
+	private BoardService service;
+
+	@Autowired
+	private ExecutorService virtualThreadExecutor;
+
+	@Autowired
+	@Qualifier("boardBlobStore")
+	private BlobStore boardBlobStore;
+
+	@Autowired
+	@Qualifier("profileBlobStore")
+	private BlobStore profileBlobStore;
+
+	// DB 파일명 집합 방식 (hash / bloom)
+	@Value("${my.image-sweep.name-set:hash}")
+	private String nameSetMode;
+
+	// bloom 방식 비트 수 / 해시 수
+	@Value("${my.image-sweep.bloom-bits:16777216}")
+	private long bloomBits;
+
+	@Value("${my.image-sweep.bloom-hashes:7}")
+	private int bloomHashes;
+
+	// 초당 최대 삭제 수 (0 이하 : 제한 없음)
+	@Value("${my.image-sweep.deletes-per-second:50}")
+	private int deletesPerSecond;
+
+	// 동시에 조회할 구역 수
+	@Value("${my.image-sweep.parallelism:4}")
+	private int parallelism;
+
+	// 진행 상황 기록 파일
+	@Value("${my.image-sweep.checkpoint-file:./journal/image-sweep.checkpoint}")
+	private String checkpointFile;
+
+	// 실행 중 여부 / 중단 요청 여부
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile boolean stopped;
+
+	// 삭제 속도 제한 : 다음 삭제 가능 시각(nanoTime)
+	private final Object throttleLock = new Object();
+	private long nextDeleteAt;
+
+	// 진행 상황
+	private volatile String state = "IDLE";
+	private volatile String currentStore;
+	private volatile long startedAt;
+	private volatile long finishedAt;
+	private volatile boolean resumed;
+	private final AtomicLong dbNames = new AtomicLong();
+	private volatile long nameSetBytes;
+	private final AtomicLong shardsTotal = new AtomicLong();
+	private final AtomicLong shardsDone = new AtomicLong();
+	private final AtomicLong scanned = new AtomicLong();
+	private final AtomicLong orphans = new AtomicLong();
+	private final AtomicLong deleted = new AtomicLong();
+	private final AtomicLong skippedRecent = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+
+	/** 서버 시작 시 중단된 작업이 있으면 이어서 수행
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeOnStartup() {
+
+		if(Files.exists(Path.of(checkpointFile))) {
+			log.info("중단된 이미지 파일 정리 작업 이어서 수행");
+			virtualThreadExecutor.execute(this::sweep);
+		}
+	}
+
+	/** 정리 작업 수행 (이미 실행 중이면 수행 X)
+	 * @return 수행한 경우 true
+	 */
+	public boolean sweep() {
+
+		if(!running.compareAndSet(false, true)) return false;
+
+		try {
+			Properties checkpoint = readCheckpoint();
+
+			reset(!checkpoint.isEmpty());
+
+			// 1. DB 파일명 집합 (조회 이후 저장된 파일은 삭제 대상에서 제외)
+			state = "LOADING";
+			long selectTime = System.currentTimeMillis();
+			Predicate<String> dbNameSet = loadNameSet();
+
+			// 2. 저장소별로 구역을 나누어 정리
+			state = "SWEEPING";
+
+			Map<String, BlobStore> stores = new LinkedHashMap<>();
+			stores.put("board", boardBlobStore);
+			stores.put("profile", profileBlobStore);
+
+			for(Map.Entry<String, BlobStore> entry : stores.entrySet()) {
+
+				if(!sweepStore(entry.getKey(), entry.getValue(), checkpoint, dbNameSet, selectTime)) {
+					state = "STOPPED";
+					log.info("이미지 파일 정리 중단 (다음 실행 시 이어서 수행) : {}", progress());
+					return true;
+				}
+			}
+
+			// 3. 모두 완료 >> 다음 실행은 처음부터
+			Files.deleteIfExists(Path.of(checkpointFile));
+
+			state = "DONE";
+			log.info("이미지 파일 정리 완료 : {}", progress());
+
+		} catch(IOException | RuntimeException e) {
+			state = "FAILED";
+			log.error("이미지 파일 정리 중 오류 (다음 실행 시 이어서 수행)", e);
+
+		} finally {
+			finishedAt = System.currentTimeMillis();
+			running.set(false);
+		}
+
+		return true;
+	}
+
+	// DB 파일명을 한 행씩 읽어 집합 생성
+	private Predicate<String> loadNameSet() throws IOException {
+
+		if(nameSetMode.equals("bloom")) {
+
+			BloomFilter bloom = new BloomFilter(bloomBits, bloomHashes);
+
+			service.selectDBImageNames(name -> {
+				bloom.add(Hashing.hash64(name));
+				dbNames.incrementAndGet();
+			});
+
+			nameSetBytes = bloom.sizeInBytes();
+
+			return name -> bloom.mightContain(Hashing.hash64(name));
+		}
+
+		Set<String> set = new HashSet<>();
+
+		service.selectDBImageNames(name -> {
+			set.add(name);
+			dbNames.incrementAndGet();
+		});
+
+		// 파일명 1개당 약 (문자열 40 + 2 x 길이) + HashMap 항목 32 byte
+		long bytes = 0;
+		for(String name : set) bytes += 72 + 2L * name.length();
+		nameSetBytes = bytes;
+
+		return set::contains;
+	}
+
+	// 저장소 1개 정리 (checkpoint 의 구역부터), 모두 완료 시 true
+	private boolean sweepStore(String name, BlobStore store, Properties checkpoint,
+			Predicate<String> dbNameSet, long selectTime) throws IOException {
+
+		currentStore = name;
+
+		int shardCount = store.shardCount();
+
+		// 구역 수가 바뀐 경우(하위 폴더 단계 변경) 처음부터
+		int from = 0;
+
+		if(String.valueOf(shardCount).equals(checkpoint.getProperty(name + ".shards"))) {
+			from = Integer.parseInt(checkpoint.getProperty(name, "0"));
+		}
+
+		shardsTotal.addAndGet(shardCount - from);
+
+		if(from >= shardCount) return true; // 이전 실행에서 완료
+
+		// 여러 가상 스레드가 다음 구역을 하나씩 가져가 처리
+		AtomicInteger next = new AtomicInteger(from);
+		boolean[] done = new boolean[shardCount];
+		int[] watermark = {from}; // 이 번호 전까지 모두 완료
+		long[] lastSaved = {System.nanoTime()};
+
+		List<Future<?>> workers = new ArrayList<>();
+
+		for(int i = 0; i < Math.max(1, parallelism); i++) {
+
+			workers.add(virtualThreadExecutor.submit(() -> {
+
+				int shard;
+
+				while(!stopped && (shard = next.getAndIncrement()) < shardCount) {
+
+					sweepShard(store, shard, dbNameSet, selectTime);
+					shardsDone.incrementAndGet();
+
+					synchronized (done) {
+						done[shard] = true;
+
+						while(watermark[0] < shardCount && done[watermark[0]]) watermark[0]++;
+
+						// 1초마다 진행 상황 기록
+						if(System.nanoTime() - lastSaved[0] > TimeUnit.SECONDS.toNanos(1)) {
+							saveCheckpoint(checkpoint, name, shardCount, watermark[0]);
+							lastSaved[0] = System.nanoTime();
+						}
+					}
+				}
+
+				return null;
+			}));
+		}
+
+		try {
+			for(Future<?> worker : workers) worker.get();
+
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			stopped = true;
+
+		} catch(ExecutionException e) {
+			stopped = true;
+			for(Future<?> worker : workers) worker.cancel(true);
+			log.error("이미지 파일 정리 중 오류 ({})", name, e.getCause());
+		}
+
+		synchronized (done) {
+			saveCheckpoint(checkpoint, name, shardCount, watermark[0]);
+			return watermark[0] == shardCount;
+		}
+	}
+
+	// 구역 1개 정리
+	private void sweepShard(BlobStore store, int shard, Predicate<String> dbNameSet, long selectTime) throws IOException {
+
+		try(Stream<String> keys = store.keys(shard)) {
+
+			Iterator<String> it = keys.iterator();
+
+			while(it.hasNext()) {
+
+				String key = it.next();
+				scanned.incrementAndGet();
+
+				if(dbNameSet.test(key)) continue;
+
+				orphans.incrementAndGet();
+
+				Resource resource = store.resource(key);
+
+				// DB 조회 이후 저장된 파일 제외
+				if(resource == null || resource.lastModified() >= selectTime) {
+					skippedRecent.incrementAndGet();
+					continue;
+				}
+
+				throttle();
+
+				try {
+					// 내용 해시 파일은 DB 조회 이후 같은 내용이 다시 업로드되었을 수 있음 >> 참조 수 행 잠금 후 삭제
+					if(service.deleteUnreferencedFile(store, key)) {
+						deleted.incrementAndGet();
+						log.debug("{} 삭제", key);
+					}
+
+				} catch(IOException | RuntimeException e) {
+					failed.incrementAndGet();
+					log.warn("이미지 파일 삭제 실패 : {}", key, e);
+				}
+			}
+		}
+	}
+
+	// 초당 최대 삭제 수에 맞춰 대기
+	private void throttle() {
+
+		if(deletesPerSecond <= 0) return;
+
+		long interval = TimeUnit.SECONDS.toNanos(1) / deletesPerSecond;
+		long wait;
+
+		synchronized (throttleLock) {
+			long now = System.nanoTime();
+			long slot = Math.max(nextDeleteAt, now);
+			nextDeleteAt = slot + interval;
+			wait = slot - now;
+		}
+
+		if(wait > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait);
+
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				stopped = true;
+			}
+		}
+	}
+
+	// 진행 상황 파일 읽기 (없으면 빈 값)
+	private Properties readCheckpoint() throws IOException {
+
+		Properties checkpoint = new Properties();
+		Path path = Path.of(checkpointFile);
+
+		if(Files.exists(path)) {
+			try(Reader reader = Files.newBufferedReader(path)) {
+				checkpoint.load(reader);
+			}
+		}
+
+		return checkpoint;
+	}
+
+	// 진행 상황 파일 기록 (임시 파일에 쓴 후 교체 : 쓰는 도중 종료되어도 이전 기록 유지)
+	private void saveCheckpoint(Properties checkpoint, String name, int shardCount, int watermark) {
+
+		checkpoint.setProperty(name, String.valueOf(watermark));
+		checkpoint.setProperty(name + ".shards", String.valueOf(shardCount));
+
+		try {
+			Path path = Path.of(checkpointFile).toAbsolutePath();
+			Files.createDirectories(path.getParent());
+
+			Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+			try(Writer writer = Files.newBufferedWriter(temp)) {
+				checkpoint.store(writer, "image sweep checkpoint");
+			}
+
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		} catch(IOException e) {
+			log.warn("이미지 파일 정리 진행 상황 기록 실패", e);
+		}
+	}
+
+	private void reset(boolean resumed) {
+		this.resumed = resumed;
+		this.stopped = false;
+		this.startedAt = System.currentTimeMillis();
+		this.finishedAt = 0;
+		this.currentStore = null;
+		this.nameSetBytes = 0;
+
+		for(AtomicLong counter : List.of(dbNames, shardsTotal, shardsDone, scanned, orphans, deleted, skippedRecent, failed)) {
+			counter.set(0);
+		}
+	}
+
+	/** 실행 중 여부
+	 * @return
+	 */
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/** 서버 종료 시 중단 (진행 상황은 checkpoint 에 기록됨)
+	 */
+	@PreDestroy
+	public void stop() {
+		stopped = true;
+	}
+
+	/** 진행 상황
+	 * @return
+	 */
+	public Map<String, Object> progress() {
+
+		long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+
+		Map<String, Object> progress = new LinkedHashMap<>();
+		progress.put("state", state);
+		progress.put("resumed", resumed);
+		progress.put("store", currentStore);
+		progress.put("nameSet", nameSetMode);
+		progress.put("dbNames", dbNames.get());
+		progress.put("nameSetBytes", nameSetBytes);
+		progress.put("shardsDone", shardsDone.get());
+		progress.put("shardsTotal", shardsTotal.get());
+		progress.put("scanned", scanned.get());
+		progress.put("orphans", orphans.get());
+		progress.put("deleted", deleted.get());
+		progress.put("skippedRecent", skippedRecent.get());
+		progress.put("failed", failed.get());
+		progress.put("elapsedMs", startedAt == 0 ? 0 : end - startedAt);
+
+		return progress;
+	}
+}
@@ -0,0 +1,356 @@
+package edu.kh.project.common.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import edu.kh.project.common.metrics.DurationStats;
+import lombok.extern.slf4j.Slf4j;
+
+/* 업로드 파일 저장을 DB 트랜잭션 밖에서 수행
+ *
+ * 기존 : @Transactional 메서드 안에서 transferTo()
+ *        >> 큰 이미지를 디스크에 복사하는 동안 커넥션과 행 잠금을 계속 점유
+ *
+ * 변경 (단계별 수행)
+ * 1) stage   : 업로드 파일을 저장소의 임시 폴더(BlobStore.stagingDir)에 저장 (트랜잭션 시작 전)
+ * 2) db      : DB 작업만 짧은 트랜잭션으로 수행 후 커밋
+ * 3) publish : 커밋 후 임시 파일을 저장소로 이동(BlobStore.put)
+ *              (서버 폴더 저장소는 같은 디스크 안에서 복사 없이 이름만 변경, 원자적 이동)
+ *
+ * [보상 처리]
+ * - 1) 실패 : 이미 저장한 임시 파일 삭제
+ * - 2) 실패(예외, 롤백) 또는 결과 0 : 임시 파일 삭제
+ * - 3) 실패 : DB 는 이미 커밋됨 >> 임시 파일을 남기고 기록 (수동 복구)
+ * - 서버 종료 등으로 보상 처리를 못한 경우 : 저장 전 업로드 기록(UploadJournalCleaner)에 남긴 후보로 정리
+ *
+ * [내용 해시 파일명] (my.upload.naming=content)
+ * - 임시 저장하면서 SHA-256 계산 >> 파일명 == 해시 16진수 + 확장자
+ *   >> 같은 내용의 이미지는 파일 1개만 저장, DB 행들은 같은 파일명 참조
+ * - 2) 에서 같은 트랜잭션으로 저장소별 참조 수 +1 (UPLOAD_OBJECT)
+ * - 3) 에서 같은 파일이 이미 있으면 이동하지 않고 임시 파일 삭제
+ * - 파일 내용이 바뀌지 않으므로 응답을 브라우저에서 계속 캐시 가능 (FileConfig)
+ */
+@Component
+@Slf4j
+public class StagedFileWriter {
+
+	/** 저장할 파일 1개
+	 * @param file : 업로드 파일
+	 * @param store : 저장소
+	 * @param key : 저장할 파일명(변경명), 내용 해시 파일명 사용 시 확장자만 사용
+	 */
+	public record Upload(MultipartFile file, BlobStore store, String key) {}
+
+	// 임시 저장된 파일
+	private record Staged(Path staged, BlobStore store, String key) {}
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final UploadJournalCleaner journalCleaner;
+
+	// 내용 해시 파일 참조 수 (UPLOAD_OBJECT)
+	private final UploadObjectMapper uploadObjectMapper;
+
+	// 내용 해시 파일명 사용 여부 (content : SHA-256 / rename : 전달받은 변경명)
+	private final boolean contentNaming;
+
+	// 작업 이름 : 단계별 소요 시간
+	private final Map<String, WriteStats> statsMap = new ConcurrentHashMap<>();
+
+	public StagedFileWriter(PlatformTransactionManager transactionManager, UploadJournalCleaner journalCleaner,
+			UploadObjectMapper uploadObjectMapper, @Value("${my.upload.naming:content}") String naming) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.journalCleaner = journalCleaner;
+		this.uploadObjectMapper = uploadObjectMapper;
+		this.contentNaming = naming.equals("content");
+	}
+
+	/** 파일 임시 저장 >> DB 트랜잭션 >> 커밋 후 파일 이동
+	 * (호출하는 메서드는 트랜잭션 밖이어야 함 : @Transactional(propagation = NOT_SUPPORTED))
+	 * @param operation : 통계용 작업 이름
+	 * @param uploads : 저장할 파일 목록 (없으면 DB 작업만 수행)
+	 * @param db : DB 작업 (0 이하 반환 시 실패로 보고 파일을 저장하지 않음)
+	 * @return db 결과
+	 * @throws IOException : 임시 저장 실패
+	 */
+	public int write(String operation, List<Upload> uploads, IntSupplier db) throws IOException {
+		return write(operation, uploads, keys -> db.getAsInt());
+	}
+
+	/** 파일 임시 저장 >> DB 트랜잭션 >> 커밋 후 파일 이동
+	 * (호출하는 메서드는 트랜잭션 밖이어야 함 : @Transactional(propagation = NOT_SUPPORTED))
+	 * @param operation : 통계용 작업 이름
+	 * @param uploads : 저장할 파일 목록 (없으면 DB 작업만 수행)
+	 * @param db : DB 작업, 실제 저장될 파일명 목록(uploads 순서)을 전달받음
+	 *             (0 이하 반환 시 실패로 보고 파일을 저장하지 않음)
+	 * @return db 결과
+	 * @throws IOException : 임시 저장 실패
+	 */
+	public int write(String operation, List<Upload> uploads, ToIntFunction<List<String>> db) throws IOException {
+
+		WriteStats stats = statsMap.computeIfAbsent(operation, key -> new WriteStats());
+
+		// 1) 임시 저장
+		long start = System.nanoTime();
+
+		List<Staged> stagedList = stage(uploads);
+
+		List<String> keys = new ArrayList<>(stagedList.size());
+
+		for(Staged file : stagedList) keys.add(file.key());
+
+		long staged = System.nanoTime();
+		stats.stage.record(staged - start);
+
+		// 2) DB 작업 (커넥션은 이 구간에서만 점유)
+		int result;
+
+		try {
+			result = transactionTemplate.execute(status -> {
+
+				int dbResult = db.applyAsInt(keys);
+
+				// 내용 해시 파일 참조 수 +1 (같은 트랜잭션)
+				if(dbResult > 0 && contentNaming) addReferences(stagedList);
+
+				return dbResult;
+			});
+
+		} catch(RuntimeException | Error e) {
+			stats.rollbacks.increment();
+			discard(stagedList);
+			throw e;
+
+		} finally {
+			stats.transaction.record(System.nanoTime() - staged);
+		}
+
+		if(result <= 0) {
+			discard(stagedList);
+			return result;
+		}
+
+		// 3) 커밋 후 최종 경로로 이동
+		long committed = System.nanoTime();
+
+		for(Staged file : stagedList) {
+			if(!publish(file, stats)) stats.publishFails.increment();
+		}
+
+		stats.publish.record(System.nanoTime() - committed);
+
+		return result;
+	}
+
+	// 임시 폴더에 저장 (실패 시 먼저 저장한 파일 삭제)
+	private List<Staged> stage(List<Upload> uploads) throws IOException {
+
+		List<Staged> stagedList = new ArrayList<>(uploads.size());
+
+		try {
+			for(Upload upload : uploads) {
+
+				if(contentNaming) {
+					stagedList.add(stageByContent(upload));
+					continue;
+				}
+
+				// 저장 전 기록 (DB 에서 참조되지 않으면 이후 정리 대상)
+				journalCleaner.written(upload.store(), upload.key());
+
+				Path staged = upload.store().stagingDir().resolve(upload.key());
+				upload.file().transferTo(staged);
+
+				stagedList.add(new Staged(staged, upload.store(), upload.key()));
+			}
+
+		} catch(IOException | RuntimeException e) {
+			discard(stagedList);
+			throw e;
+		}
+
+		return stagedList;
+	}
+
+	// 임시 이름으로 저장하면서 SHA-256 계산 >> 파일명 == 해시 + 확장자
+	// (같은 내용을 동시에 업로드해도 임시 파일이 겹치지 않도록 임의의 임시 이름 사용)
+	private Staged stageByContent(Upload upload) throws IOException {
+
+		Path staged = upload.store().stagingDir().resolve(UUID.randomUUID() + ".tmp");
+
+		MessageDigest digest = sha256();
+
+		try(InputStream in = new DigestInputStream(upload.file().getInputStream(), digest)) {
+			Files.copy(in, staged);
+
+		} catch(IOException | RuntimeException e) {
+			Files.deleteIfExists(staged);
+			throw e;
+		}
+
+		String key = HexFormat.of().formatHex(digest.digest()) + extension(upload.key());
+
+		// 저장 전 기록 (DB 에서 참조되지 않으면 이후 정리 대상)
+		journalCleaner.written(upload.store(), key);
+
+		return new Staged(staged, upload.store(), key);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+
+		} catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 파일명의 확장자 (소문자, 영문/숫자 10자 이하만 허용)
+	private static String extension(String name) {
+
+		int index = name == null ? -1 : name.lastIndexOf('.');
+
+		if(index < 0) return "";
+
+		String ext = name.substring(index).toLowerCase(Locale.ROOT);
+
+		return ext.matches("\\.[a-z0-9]{1,10}") ? ext : "";
+	}
+
+	// 저장소별 참조 수 +1
+	private void addReferences(List<Staged> stagedList) {
+
+		Map<String, List<String>> keyMap = new LinkedHashMap<>();
+
+		for(Staged file : stagedList) {
+			keyMap.computeIfAbsent(file.store().name(), name -> new ArrayList<>()).add(file.key());
+		}
+
+		keyMap.forEach((storeName, keyList) -> uploadObjectMapper.addObjectReferences(referenceMap(storeName, keyList)));
+	}
+
+	/** 저장된 파일 참조 수 감소 (호출한 트랜잭션에서 수행)
+	 * (DB 행에서 파일명 참조를 제거/교체한 경우, 내용 해시로 저장되지 않은 파일은 변화 X)
+	 * @param storeName : 저장소 이름
+	 * @param keyList : 참조가 제거된 파일명 (같은 파일 여러 번 가능)
+	 */
+	public void removeReferences(String storeName, List<String> keyList) {
+
+		if(keyList.isEmpty()) return;
+
+		uploadObjectMapper.removeObjectReferences(referenceMap(storeName, keyList));
+	}
+
+	// 참조 수 SQL 파라미터
+	private static Map<String, Object> referenceMap(String storeName, List<String> keyList) {
+
+		Map<String, Object> map = new HashMap<>();
+		map.put("storeName", storeName);
+		map.put("keyList", keyList);
+
+		return map;
+	}
+
+	// 저장소로 이동
+	private boolean publish(Staged file, WriteStats stats) {
+
+		try {
+			// 같은 내용의 파일이 이미 저장되어 있음 >> 이동하지 않음
+			if(contentNaming && file.store().resource(file.key()) != null) {
+				Files.deleteIfExists(file.staged());
+				stats.dedupHits.increment();
+				return true;
+			}
+
+			file.store().put(file.key(), file.staged());
+
+			return true;
+
+		} catch(IOException | RuntimeException e) {
+			// DB 는 커밋되었으므로 임시 파일을 남겨 수동 복구 가능하도록 함
+			// (임시 이름 파일은 정리 대상이므로 저장할 파일명으로 변경해서 남김)
+			log.error("업로드 파일 이동 실패 : {} >> {}", file.staged(), file.key(), e);
+
+			if(contentNaming) {
+				try {
+					Files.move(file.staged(), file.staged().resolveSibling(file.key()));
+
+				} catch(IOException | RuntimeException ex) {
+					log.error("임시 업로드 파일 이름 변경 실패 : {}", file.staged(), ex);
+				}
+			}
+
+			return false;
+		}
+	}
+
+	// 임시 파일 삭제
+	private void discard(List<Staged> stagedList) {
+
+		for(Staged file : stagedList) {
+			try {
+				Files.deleteIfExists(file.staged());
+
+			} catch(IOException e) {
+				log.warn("임시 업로드 파일 삭제 실패 : {}", file.staged(), e);
+			}
+		}
+	}
+
+	/** 작업별 단계 소요 시간 통계
+	 * (stage : 임시 저장, transaction : DB 트랜잭션 == 커넥션 점유, publish : 파일 이동)
+	 * @return
+	 */
+	public Map<String, Object> stats() {
+
+		Map<String, Object> result = new LinkedHashMap<>();
+
+		statsMap.forEach((operation, stats) -> {
+
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("stage", stats.stage.stats());
+			map.put("transaction", stats.transaction.stats());
+			map.put("publish", stats.publish.stats());
+			map.put("rollbacks", stats.rollbacks.sum());
+			map.put("publishFails", stats.publishFails.sum());
+			map.put("dedupHits", stats.dedupHits.sum());
+
+			result.put(operation, map);
+		});
+
+		return result;
+	}
+
+	// 작업 1종류의 통계
+	private static class WriteStats {
+		final DurationStats stage = new DurationStats();
+		final DurationStats transaction = new DurationStats();
+		final DurationStats publish = new DurationStats();
+		final LongAdder rollbacks = new LongAdder();
+		final LongAdder publishFails = new LongAdder();
+		final LongAdder dedupHits = new LongAdder();
+	}
+}
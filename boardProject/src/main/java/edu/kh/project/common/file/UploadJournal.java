@@ -0,0 +1,216 @@
+package edu.kh.project.common.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/* 업로드 파일 기록 (DB 참조가 사라졌을 수 있는 파일 == 정리 후보)
+ *
+ * - 파일 : upload-{번호}.log, 한 줄에 1건
+ *   "W,저장소,파일명" : 파일 저장 (DB 롤백/서버 종료 시 참조 없이 남을 수 있음)
+ *   "R,저장소,파일명" : DB 참조 제거 (이미지 삭제/교체, 프로필 변경)
+ * - 기록은 현재 파일 끝에 추가(append)
+ * - 정리 시 새 파일로 교체(rotate) >> 이전 파일들의 후보를 확인 후 파일 삭제
+ *   >> 남아있는 파일 == 아직 확인하지 않은 후보 (삭제된 파일까지가 checkpoint)
+ * - 쓰는 도중 종료되어 줄바꿈으로 끝나지 않은 마지막 줄은 무시
+ */
+@Slf4j
+public class UploadJournal implements AutoCloseable {
+
+	private static final String PREFIX = "upload-";
+	private static final String SUFFIX = ".log";
+
+	/** 기록 1건
+	 * @param written : true 파일 저장 / false DB 참조 제거
+	 * @param store : 저장소 이름 (BlobStore.name)
+	 * @param key : 파일명
+	 */
+	public record Entry(boolean written, String store, String key) {}
+
+	private final Path dir;
+
+	// 쓰기마다 디스크 동기화(force) 여부
+	private final boolean fsync;
+
+	// 현재 기록 중인 파일
+	private FileChannel channel;
+	private long seq;
+
+	// 현재 파일에 기록된 건수
+	private long count;
+
+	public UploadJournal(Path dir, boolean fsync) throws IOException {
+
+		this.dir = dir;
+		this.fsync = fsync;
+
+		Files.createDirectories(dir);
+
+		// 남아있는 파일 다음 번호부터 기록 (남아있는 파일은 모두 이전 기록)
+		TreeMap<Long, Path> files = listFiles();
+
+		seq = files.isEmpty() ? 1 : files.lastKey() + 1;
+
+		open();
+	}
+
+	private void open() throws IOException {
+		channel = FileChannel.open(dir.resolve(PREFIX + seq + SUFFIX),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		count = 0;
+	}
+
+	/** 1건 기록
+	 * @param entry
+	 * @throws IOException
+	 */
+	public synchronized void append(Entry entry) throws IOException {
+
+		String line = (entry.written() ? "W," : "R,") + entry.store() + "," + entry.key() + "\n";
+
+		ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+
+		while(buffer.hasRemaining()) channel.write(buffer);
+
+		if(fsync) channel.force(false);
+
+		count++;
+	}
+
+	/** 새 파일로 교체 (현재 파일에 기록이 없으면 교체 X)
+	 * @return 기록이 끝난 마지막 파일 번호
+	 * @throws IOException
+	 */
+	public synchronized long rotate() throws IOException {
+
+		if(count == 0) return seq - 1;
+
+		channel.close();
+
+		long sealed = seq++;
+
+		open();
+
+		return sealed;
+	}
+
+	/** 기록이 끝난 파일 중 마지막 기록 후 minAgeMillis 이상 지난 파일 번호
+	 * (번호순으로 연속된 파일만, 처음부터 조건에 맞지 않으면 0)
+	 * @param minAgeMillis
+	 * @return
+	 * @throws IOException
+	 */
+	public long sealedBefore(long minAgeMillis) throws IOException {
+
+		long current;
+
+		synchronized(this) {
+			current = seq;
+		}
+
+		long limit = System.currentTimeMillis() - minAgeMillis;
+		long upToSeq = 0;
+
+		for(Map.Entry<Long, Path> file : listFiles().headMap(current, false).entrySet()) {
+
+			if(Files.getLastModifiedTime(file.getValue()).toMillis() > limit) break;
+
+			upToSeq = file.getKey();
+		}
+
+		return upToSeq;
+	}
+
+	/** 기록이 끝난 파일(upToSeq 이하)의 기록 읽기 (파일 번호순)
+	 * @param upToSeq
+	 * @return
+	 * @throws IOException
+	 */
+	public List<Entry> read(long upToSeq) throws IOException {
+
+		List<Entry> entryList = new ArrayList<>();
+
+		for(Path file : listFiles().headMap(upToSeq, true).values()) {
+
+			String text = Files.readString(file, StandardCharsets.UTF_8);
+
+			// 마지막 줄바꿈 이후(쓰는 도중 종료된 줄)는 제외
+			int end = text.lastIndexOf('\n');
+
+			if(end < 0) continue;
+
+			for(String line : text.substring(0, end).split("\n")) {
+
+				// 파일명에 ',' 가 있어도 3개로만 나눔
+				String[] arr = line.split(",", 3);
+
+				if(arr.length != 3 || !(arr[0].equals("W") || arr[0].equals("R"))) {
+					log.warn("잘못된 업로드 기록 무시 : {} ({})", line, file.getFileName());
+					continue;
+				}
+
+				entryList.add(new Entry(arr[0].equals("W"), arr[1], arr[2]));
+			}
+		}
+
+		return entryList;
+	}
+
+	/** 확인이 끝난 파일(upToSeq 이하) 삭제
+	 * @param upToSeq
+	 * @throws IOException
+	 */
+	public void delete(long upToSeq) throws IOException {
+
+		for(Path file : listFiles().headMap(upToSeq, true).values()) {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	/** 확인하지 않은 파일 수 (현재 파일 포함)
+	 * @return
+	 * @throws IOException
+	 */
+	public int pendingFiles() throws IOException {
+		return listFiles().size();
+	}
+
+	// 기록 파일 목록 { 파일 번호 : 경로 }
+	private TreeMap<Long, Path> listFiles() throws IOException {
+
+		TreeMap<Long, Path> files = new TreeMap<>();
+
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(dir, PREFIX + "*" + SUFFIX)) {
+
+			for(Path file : stream) {
+
+				String name = file.getFileName().toString();
+
+				try {
+					files.put(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())), file);
+
+				} catch(NumberFormatException e) {
+					// 다른 파일 무시
+				}
+			}
+		}
+
+		return files;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,294 @@
+package edu.kh.project.common.file;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.service.BoardService;
+import edu.kh.project.common.file.UploadJournal.Entry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/* 업로드 기록을 이용한 파일 정리 (변경된 파일만 확인)
+ *
+ * 기존 : 매월 전체 DB 파일명 + 전체 저장소 파일 비교 (OrphanFileSweeper)
+ *        >> 파일이 거의 바뀌지 않아도 전체 파일 수만큼 비용 발생
+ *
+ * 변경
+ * - 파일 저장 / DB 참조 제거 시 업로드 기록(UploadJournal)에 후보로 기록
+ * - 주기적으로 지난 확인 이후 기록된 후보만 DB 참조 여부 확인 >> 참조 없으면 삭제
+ *   >> 비용 == 그 사이 저장/제거된 파일 수
+ * - 확인이 끝난 기록 파일은 삭제 (남아있는 기록 파일 == 다음 확인 대상, 서버 종료 후에도 이어서 확인)
+ * - 마지막 기록 후 일정 시간(grace)이 지난 기록 파일만 확인
+ *   (트랜잭션 커밋 전 / 커밋 후 파일 이동 전의 후보를 삭제하지 않도록)
+ * - 기록 실패, 서버 장애 등으로 빠진 파일은 매월 전체 정리에서 삭제
+ */
+@Component
+@Slf4j
+public class UploadJournalCleaner {
+
+	// DB 참조 확인 시 한 번에 조회할 파일명 수 (Oracle IN 최대 1000개)
+	private static final int BATCH_SIZE = 500;
+
+	@Autowired
+	private BoardService service;
+
+	// 전체 저장소 (이름으로 구분)
+	@Autowired
+	private List<BlobStore> storeList;
+
+	// 마지막 기록 후 확인까지 대기 시간(초)
+	@Value("${my.upload-journal.grace-seconds:600}")
+	private long graceSeconds;
+
+	// 초당 최대 삭제 수 (0 이하 : 제한 없음)
+	@Value("${my.upload-journal.deletes-per-second:50}")
+	private int deletesPerSecond;
+
+	private final UploadJournal journal;
+
+	// 실행 중 여부
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	// 삭제 속도 제한 : 다음 삭제 가능 시각(nanoTime)
+	private long nextDeleteAt;
+
+	// 누적 통계
+	private final LongAdder recorded = new LongAdder();
+	private final LongAdder recordFails = new LongAdder();
+	private final LongAdder runs = new LongAdder();
+	private final LongAdder entries = new LongAdder();
+	private final LongAdder candidates = new LongAdder();
+	private final LongAdder referenced = new LongAdder();
+	private final LongAdder deleted = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private volatile long lastRunAt;
+	private volatile long lastElapsedMs;
+
+	public UploadJournalCleaner(
+			@Value("${my.upload-journal.dir:./journal/upload}") String journalDir,
+			@Value("${my.upload-journal.fsync:true}") boolean fsync) throws IOException {
+
+		this.journal = new UploadJournal(Path.of(journalDir), fsync);
+	}
+
+	/** 파일 저장 기록 (DB 작업 실패, 서버 종료 시 참조 없이 남을 수 있는 파일)
+	 * @param store
+	 * @param key
+	 */
+	public void written(BlobStore store, String key) {
+		record(new Entry(true, store.name(), key));
+	}
+
+	/** DB 참조 제거 기록 (이미지 삭제/교체, 프로필 변경으로 사용하지 않게 된 파일)
+	 * @param store
+	 * @param key
+	 */
+	public void removed(BlobStore store, String key) {
+		record(new Entry(false, store.name(), key));
+	}
+
+	// 기록 실패 시 요청은 그대로 진행 (빠진 파일은 전체 정리에서 삭제)
+	private void record(Entry entry) {
+
+		try {
+			journal.append(entry);
+			recorded.increment();
+
+		} catch(IOException e) {
+			recordFails.increment();
+			log.warn("업로드 기록 실패 : {}", entry, e);
+		}
+	}
+
+	/** 지난 확인 이후 기록된 후보 정리 (이미 실행 중이면 수행 X)
+	 * @return 삭제한 파일 수 (수행하지 않은 경우 -1)
+	 * @throws IOException
+	 */
+	public int clean() throws IOException {
+
+		if(!running.compareAndSet(false, true)) return -1;
+
+		long start = System.currentTimeMillis();
+		int result = 0;
+
+		try {
+			long graceMillis = TimeUnit.SECONDS.toMillis(graceSeconds);
+
+			// 0. 임시 폴더에 남은 오래된 임시 파일 (임시 폴더의 파일 수 == 진행 중 / 실패한 업로드 수)
+			for(BlobStore store : storeList) cleanStaging(store, graceMillis);
+
+			// 1. 현재 기록 파일 교체 후 grace 가 지난 기록 파일 번호
+			journal.rotate();
+
+			long upToSeq = journal.sealedBefore(graceMillis);
+
+			if(upToSeq == 0) return 0;
+
+			// 2. 저장소별 후보 파일명 (중복 제거)
+			List<Entry> entryList = journal.read(upToSeq);
+
+			Map<String, Set<String>> candidateMap = new LinkedHashMap<>();
+
+			for(Entry entry : entryList) {
+				candidateMap.computeIfAbsent(entry.store(), store -> new LinkedHashSet<>()).add(entry.key());
+			}
+
+			entries.add(entryList.size());
+
+			Map<String, BlobStore> stores = new HashMap<>();
+
+			for(BlobStore store : storeList) stores.put(store.name(), store);
+
+			// 3. DB 참조 여부 확인 후 참조 없는 파일 삭제
+			for(Map.Entry<String, Set<String>> candidate : candidateMap.entrySet()) {
+
+				BlobStore store = stores.get(candidate.getKey());
+
+				if(store == null) {
+					log.warn("알 수 없는 저장소 기록 무시 : {} ({}건)", candidate.getKey(), candidate.getValue().size());
+					continue;
+				}
+
+				result += cleanStore(store, new ArrayList<>(candidate.getValue()));
+			}
+
+			// 4. 확인이 끝난 기록 파일 삭제 (== checkpoint 이동)
+			journal.delete(upToSeq);
+
+			runs.increment();
+
+			if(result > 0) log.info("업로드 기록 파일 정리 : 후보 {}건 중 {}건 삭제", entryList.size(), result);
+
+			return result;
+
+		} finally {
+			lastRunAt = start;
+			lastElapsedMs = System.currentTimeMillis() - start;
+			running.set(false);
+		}
+	}
+
+	// 저장소 1개의 후보 확인 + 삭제
+	private int cleanStore(BlobStore store, List<String> keyList) {
+
+		int count = 0;
+
+		for(int i = 0; i < keyList.size(); i += BATCH_SIZE) {
+
+			List<String> batch = keyList.subList(i, Math.min(i + BATCH_SIZE, keyList.size()));
+
+			Set<String> referencedSet = service.selectReferencedFileNames(store.name(), batch);
+
+			candidates.add(batch.size());
+			referenced.add(referencedSet.size());
+
+			for(String key : batch) {
+
+				if(referencedSet.contains(key)) continue;
+
+				throttle();
+
+				try {
+					// 저장소 파일 (내용 해시 파일은 참조 수 행 잠금 후 삭제) + 이동하지 못하고 남은 임시 파일
+					boolean removed = service.deleteUnreferencedFile(store, key);
+					removed |= Files.deleteIfExists(store.stagingDir().resolve(key));
+
+					if(removed) {
+						deleted.increment();
+						count++;
+						log.debug("{} 삭제 ({})", key, store.name());
+					}
+
+				} catch(IOException | RuntimeException e) {
+					failed.increment();
+					log.warn("업로드 파일 삭제 실패 : {} ({})", key, store.name(), e);
+				}
+			}
+		}
+
+		return count;
+	}
+
+	// 임시 폴더에 남은 오래된 임시 이름(*.tmp) 파일 삭제
+	// (내용 해시 계산 중 실패/종료 등 기록에 파일명이 없는 파일, 이동 실패로 남긴 파일은 파일명으로 남아 제외)
+	private void cleanStaging(BlobStore store, long graceMillis) {
+
+		long limit = System.currentTimeMillis() - graceMillis;
+
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(store.stagingDir(), "*.tmp")) {
+
+			for(Path file : stream) {
+				if(Files.getLastModifiedTime(file).toMillis() < limit && Files.deleteIfExists(file)) {
+					deleted.increment();
+					log.debug("{} 임시 파일 삭제 ({})", file.getFileName(), store.name());
+				}
+			}
+
+		} catch(IOException e) {
+			log.warn("임시 업로드 파일 정리 실패 : {}", store.name(), e);
+		}
+	}
+
+	// 초당 최대 삭제 수에 맞춰 대기
+	private void throttle() {
+
+		if(deletesPerSecond <= 0) return;
+
+		long now = System.nanoTime();
+		long slot = Math.max(nextDeleteAt, now);
+		nextDeleteAt = slot + TimeUnit.SECONDS.toNanos(1) / deletesPerSecond;
+
+		if(slot > now) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(slot - now);
+
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/** 기록/정리 통계
+	 * @return
+	 * @throws IOException
+	 */
+	public Map<String, Object> stats() throws IOException {
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("running", running.get());
+		stats.put("pendingFiles", journal.pendingFiles());
+		stats.put("recorded", recorded.sum());
+		stats.put("recordFails", recordFails.sum());
+		stats.put("runs", runs.sum());
+		stats.put("entries", entries.sum());
+		stats.put("candidates", candidates.sum());
+		stats.put("referenced", referenced.sum());
+		stats.put("deleted", deleted.sum());
+		stats.put("failed", failed.sum());
+		stats.put("lastRunAt", lastRunAt);
+		stats.put("lastElapsedMs", lastElapsedMs);
+
+		return stats;
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		journal.close();
+	}
+}
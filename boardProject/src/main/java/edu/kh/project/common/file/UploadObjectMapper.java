@@ -0,0 +1,46 @@
+package edu.kh.project.common.file;
+
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+
+/* 내용 해시로 저장된 파일의 참조 수 (UPLOAD_OBJECT)
+ *
+ * - 참조 수 증가/감소 : StagedFileWriter (DB 작업과 같은 트랜잭션)
+ * - 참조 수 조회 + 잠금, 행 삭제 : 참조 없는 파일 정리
+ * - 참조 수 보정 : 실제 참조 행(게시글 이미지, 프로필 이미지) 수로 교체
+ */
+@Mapper
+public interface UploadObjectMapper {
+
+	/** 저장된 파일 참조 수 증가 SQL 수행 (없으면 추가)
+	 * @param map : storeName, keyList(파일명 목록, 중복 가능)
+	 * @return
+	 */
+	int addObjectReferences(Map<String, Object> map);
+
+	/** 저장된 파일 참조 수 감소 SQL 수행
+	 * @param map : storeName, keyList(파일명 목록, 중복 가능)
+	 * @return
+	 */
+	int removeObjectReferences(Map<String, Object> map);
+
+	/** 저장된 파일 참조 수 조회 + 행 잠금 SQL 수행
+	 * @param map : storeName, key
+	 * @return 행이 없으면 null (내용 해시로 저장되지 않은 파일)
+	 */
+	Integer selectObjectRefCountForUpdate(Map<String, Object> map);
+
+	/** 참조 수 0 인 저장된 파일 행 삭제 SQL 수행
+	 * @param map : storeName, key
+	 * @return
+	 */
+	int deleteUploadObject(Map<String, Object> map);
+
+	/** 저장된 파일 참조 수 보정 SQL 수행
+	 * @param profileWebPath
+	 * @return 보정된 파일 수
+	 */
+	int reconcileObjectRefCount(String profileWebPath);
+
+}
@@ -0,0 +1,50 @@
+package edu.kh.project.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+
+/* 커넥션 풀(HikariCP) 사용 시간 기록
+ *
+ * - HikariCP 가 커넥션 반납/대여 시 호출 (DBConfig 에서 등록)
+ *   - hold : 커넥션을 빌린 후 반납할 때까지 시간 == 트랜잭션 동안 커넥션 점유 시간
+ *   - acquire : 커넥션을 빌리기 위해 대기한 시간 (점유 시간이 길수록 증가)
+ *   - timeout : 대기 시간 초과로 커넥션을 얻지 못한 횟수
+ */
+public class ConnectionHoldTracker implements IMetricsTracker {
+
+	private final DurationStats hold = new DurationStats();
+	private final DurationStats acquire = new DurationStats();
+	private final LongAdder timeouts = new LongAdder();
+
+	@Override
+	public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+		hold.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+	}
+
+	@Override
+	public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+		acquire.record(elapsedAcquiredNanos);
+	}
+
+	@Override
+	public void recordConnectionTimeout() {
+		timeouts.increment();
+	}
+
+	/** 커넥션 점유/대기 시간 통계
+	 * @return
+	 */
+	public Map<String, Object> stats() {
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("hold", hold.stats());
+		stats.put("acquire", acquire.stats());
+		stats.put("timeouts", timeouts.sum());
+
+		return stats;
+	}
+}
@@ -0,0 +1,66 @@
+package edu.kh.project.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/* 소요 시간 통계 (횟수, 평균, 최대, 구간별 횟수)
+ *
+ * - 여러 스레드가 동시에 기록 (LongAdder : 잠금 없이 누적)
+ */
+public class DurationStats {
+
+	// 구간 경계(ms) : ~10, ~50, ~100, ~500, ~1000, 1000~
+	private static final long[] BOUNDS_MS = {10, 50, 100, 500, 1000};
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+	private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+
+	public DurationStats() {
+		for(int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+	}
+
+	/** 소요 시간 1건 기록
+	 * @param nanos
+	 */
+	public void record(long nanos) {
+
+		count.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+
+		long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+		int i = 0;
+
+		while(i < BOUNDS_MS.length && ms >= BOUNDS_MS[i]) i++;
+
+		buckets[i].increment();
+	}
+
+	/** 통계 (count, avgMs, maxMs, histogram)
+	 * @return
+	 */
+	public Map<String, Object> stats() {
+
+		long n = count.sum();
+
+		Map<String, Long> histogram = new LinkedHashMap<>();
+
+		for(int i = 0; i < buckets.length; i++) {
+			String label = i < BOUNDS_MS.length ? "<" + BOUNDS_MS[i] + "ms" : ">=" + BOUNDS_MS[i - 1] + "ms";
+			histogram.put(label, buckets[i].sum());
+		}
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("count", n);
+		stats.put("avgMs", n == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / n);
+		stats.put("maxMs", maxNanos.get() / 1_000_000.0);
+		stats.put("histogram", histogram);
+
+		return stats;
+	}
+}
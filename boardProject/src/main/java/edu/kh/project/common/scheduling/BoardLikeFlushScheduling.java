@@ -0,0 +1,36 @@
+package edu.kh.project.common.scheduling;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.like.BoardLikeStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 좋아요 변경 반영 스케줄러
+ * 
+ * - 좋아요/해제 시 메모리(BoardLikeStore)에 모아둔 변경을
+ *   주기적으로 배치 반영(BOARD_LIKE MERGE/DELETE + LIKE_COUNT 재계산)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardLikeFlushScheduling {
+
+	private final BoardLikeStore likeStore;
+	
+	// 기본 : 이전 작업 종료 후 3초마다
+	@Scheduled(fixedDelayString = "${my.board.like.flush-delay:3000}")
+	public void scheduling() {
+		
+		try {
+			int result = likeStore.flush();
+			
+			if(result > 0) log.debug("좋아요 반영 : {}건", result);
+			
+		} catch(Exception e) {
+			// 반영 실패한 변경은 메모리 + 기록 파일에 남아 다음 주기에 다시 시도
+			log.error("좋아요 반영 실패", e);
+		}
+	}
+}
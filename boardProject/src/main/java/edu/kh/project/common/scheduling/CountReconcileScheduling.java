@@ -0,0 +1,51 @@
+package edu.kh.project.common.scheduling;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.counter.BoardCountRegistry;
+import edu.kh.project.board.model.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 게시글 수 / 댓글 수 / 좋아요 수 / 업로드 파일 참조 수 보정 스케줄러
+ * 
+ * - BOARD.COMMENT_COUNT / LIKE_COUNT 는 댓글, 좋아요 변경 시 +1/-1 로 관리
+ * - UPLOAD_OBJECT.REF_COUNT 는 이미지 추가/교체/삭제, 프로필 변경 시 +/- 로 관리
+ * - 게시판별 게시글 수는 메모리(BoardCountRegistry)에서 +1/-1 로 관리
+ * - DB 직접 수정, 회원 탈퇴 등으로 실제 개수와 달라질 수 있으므로
+ *   주기적으로 실제 COUNT 결과와 비교하여 다른 값만 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountReconcileScheduling {
+
+	private final BoardService service;
+	
+	private final BoardCountRegistry countRegistry;
+	
+	@Scheduled(cron = "${my.board.count-reconcile-cron:0 0 4 * * *}") // 기본 : 매일 새벽 4시
+	public void scheduling() {
+		
+		int result = service.reconcileCounts();
+		
+		if(result > 0) {
+			log.warn("댓글/좋아요/파일 참조 수 보정 : {}건", result);
+		} else {
+			log.info("댓글/좋아요/파일 참조 수 보정 대상 없음");
+		}
+	}
+	
+	// 게시판별 게시글 수 보정(기본 : 이전 작업 종료 후 10분마다)
+	@Scheduled(fixedDelayString = "${my.board.list-count-verify-delay:600000}",
+			   initialDelayString = "${my.board.list-count-verify-delay:600000}")
+	public void verifyListCount() {
+		
+		int result = countRegistry.verify();
+		
+		if(result > 0) {
+			log.warn("게시판별 게시글 수 보정 : {}건", result);
+		}
+	}
+}
@@ -1,31 +1,19 @@
 package edu.kh.project.common.scheduling;
 
-import java.io.File;
-import java.util.Arrays;
-import java.util.List;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.PropertySource;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import edu.kh.project.board.model.service.BoardService;
+import edu.kh.project.common.file.OrphanFileSweeper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@PropertySource("classpath:/config.properties")
 @Slf4j
 @Component	// IOC 관련 : 그냥 Bean 등록해주는 어노테이션
 @RequiredArgsConstructor
 public class ImageDeleteScheduling {
 	
-	private final BoardService service;
-	
-	@Value("${my.profile.folder-path}")
-	private String profileFolderPath;
-	
-	@Value("${my.board.folder-path}")
-	private String boardFolderPath;
+	// DB에 없는 업로드 파일 정리 (DB 파일명 집합 + 저장소 구역별 동시 조회 + 삭제 속도 제한 + 이어서 수행)
+	private final OrphanFileSweeper sweeper;
 	
 	// @Scheduled(cron = "0,30 * * * * *")	// 시계 초 단위가 0, 30인 경우 수행
 	// @Scheduled(cron = "0 0 * * * *") // 매 시간마다 수행
@@ -38,46 +26,10 @@ public class ImageDeleteScheduling {
 	public void scheduling() {
 		log.info("스케줄러 동작");
 		// DB, 서버 폴더의 파일 목록 비교 후 DB에 없는 서버 이미지 파일 삭제 동작
+		// (이전 실행이 중단된 경우 중단된 위치부터 이어서 수행)
 		
-		// 1. 서버 폴더의 파일 목록 조회하기
-		File boardFolder = new File(boardFolderPath);
-		File memberFolder = new File(profileFolderPath);
-		
-		// 참조하는 폴더에 존재하는 파일 목록 얻어오기
-		File[] boardArr = boardFolder.listFiles();
-		File[] memberArr = memberFolder.listFiles();
-		
-		// 두 배열을 하나로 합침
-		// imageArr 라는 빈 배열을 boardArr과 memberArr의 길이 만큼의 크기로 만들기
-		File[] imageArr = new File[boardArr.length + memberArr.length];
-		
-		// 배열 내용 복사(깊은 복사)
-		// System.arraycopy(복사할배열, 몇번인덱스부터복사할지, 새로운배열, 새로운배열의몇번부터넣을지인덱스, 어디까지복사할지인덱스)
-		System.arraycopy(memberArr, 0, imageArr, 0, memberArr.length);
-		
-		System.arraycopy(boardArr, 0, imageArr, memberArr.length, boardArr.length);
-		
-		// 배열 >> List 변환(다루기 쉽게)
-		List<File> serverImageList = Arrays.asList(imageArr);
-		
-		// 2. DB 이미지파일 이름만 모두 조회
-		List<String> dbImageList = service.selectDBImageList();
-		
-		// 3. 서버, DB 이미지 파일명을 비교하여 서버에만 있고, DB에 없는 파일을 서버에서 삭제
-		if(!serverImageList.isEmpty()) {	// 서버에 이미지가 있을 경우
-			
-			for(File serverImage : serverImageList) {
-				
-				// File.getName() : 서버 파일 이름
-				// List.indexOf(객체) : 
-				// List에 전달한 객체가 존재하면 존재하는 index 반환
-				// 존재하지 않으면 -1 반환하는 메서드
-				
-				if(dbImageList.indexOf(serverImage.getName()) == -1) {
-					serverImage.delete();	// 파일 삭제
-					log.info(serverImage.getName() + "삭제");
-				}
-			}
+		if(!sweeper.sweep()) {
+			log.info("이미지 파일 정리가 이미 실행 중");
 		}
 	}
 }
@@ -0,0 +1,36 @@
+package edu.kh.project.common.scheduling;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.board.model.counter.ReadCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 조회 수 증가분 반영 스케줄러
+ * 
+ * - 조회 시 메모리(ReadCountBuffer)에 모아둔 조회 수 증가분을
+ *   주기적으로 배치 UPDATE
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadCountFlushScheduling {
+
+	private final ReadCountBuffer readCountBuffer;
+	
+	// 기본 : 이전 작업 종료 후 5초마다
+	@Scheduled(fixedDelayString = "${my.board.read-count-flush-delay:5000}")
+	public void scheduling() {
+		
+		try {
+			int result = readCountBuffer.flush();
+			
+			if(result > 0) log.debug("조회 수 반영 : {}건", result);
+			
+		} catch(Exception e) {
+			// 반영 실패한 증가분은 메모리에 남아 다음 주기에 다시 시도
+			log.error("조회 수 반영 실패", e);
+		}
+	}
+}
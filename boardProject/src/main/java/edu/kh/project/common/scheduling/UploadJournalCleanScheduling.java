@@ -0,0 +1,36 @@
+package edu.kh.project.common.scheduling;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import edu.kh.project.common.file.UploadJournalCleaner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/* 업로드 기록 파일 정리 스케줄러
+ * 
+ * - 지난 정리 이후 저장/참조 제거된 파일만 DB 참조 여부 확인 후 삭제
+ *   (전체 파일 비교는 ImageDeleteScheduling 에서 매월 수행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadJournalCleanScheduling {
+
+	private final UploadJournalCleaner journalCleaner;
+	
+	// 기본 : 이전 작업 종료 후 10분마다
+	@Scheduled(fixedDelayString = "${my.upload-journal.clean-delay:600000}")
+	public void scheduling() {
+		
+		try {
+			int result = journalCleaner.clean();
+			
+			if(result > 0) log.debug("업로드 기록 파일 정리 : {}건 삭제", result);
+			
+		} catch(Exception e) {
+			// 확인하지 못한 기록 파일은 남아 다음 주기에 다시 시도
+			log.error("업로드 기록 파일 정리 실패", e);
+		}
+	}
+}
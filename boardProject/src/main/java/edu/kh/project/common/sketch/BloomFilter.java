@@ -0,0 +1,89 @@
+package edu.kh.project.common.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/* 동시 사용 가능한 고정 크기 Bloom 필터
+ *
+ * - "이미 추가된 값인가?" 를 고정 메모리로 판단
+ * - 추가된 값은 항상 true(누락 X), 추가되지 않은 값도 드물게 true(오탐)
+ * - 비트 배열을 AtomicLongArray 로 관리 >> 잠금 없이 여러 스레드가 동시에 추가
+ *
+ * 오탐률 ≒ (1 - e^(-k * n / m))^k  (m : 비트 수, k : 해시 수, n : 추가된 값 수)
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+
+	/**
+	 * @param bitCount : 비트 수(64의 배수로 올림)
+	 * @param hashCount : 해시 함수 개수
+	 */
+	public BloomFilter(long bitCount, int hashCount) {
+		int wordCount = (int)((bitCount + 63) / 64);
+
+		this.words = new AtomicLongArray(wordCount);
+		this.bitCount = wordCount * 64L;
+		this.hashCount = hashCount;
+	}
+
+	/** 값 추가
+	 * @param hash : 값의 64bit 해시(Hashing.hash64)
+	 * @return 새로 추가된 경우 true, 이미 있던(것으로 보이는) 값이면 false
+	 */
+	public boolean add(long hash) {
+
+		long h1 = hash;
+		long h2 = Hashing.mix(hash) | 1;
+
+		boolean added = false;
+
+		for(int i = 0; i < hashCount; i++) {
+
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+
+			int index = (int)(bit >>> 6);
+			long mask = 1L << (bit & 63);
+
+			long word = words.get(index);
+
+			// 비트가 꺼져 있을 때만 CAS 로 켜기
+			while((word & mask) == 0) {
+				if(words.compareAndSet(index, word, word | mask)) {
+					added = true;
+					break;
+				}
+				word = words.get(index);
+			}
+		}
+
+		return added;
+	}
+
+	/** 추가된 값인지 확인 (추가되지 않은 값도 드물게 true)
+	 * @param hash : 값의 64bit 해시(Hashing.hash64)
+	 * @return
+	 */
+	public boolean mightContain(long hash) {
+
+		long h1 = hash;
+		long h2 = Hashing.mix(hash) | 1;
+
+		for(int i = 0; i < hashCount; i++) {
+
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+
+			if((words.get((int)(bit >>> 6)) & (1L << (bit & 63))) == 0) return false;
+		}
+
+		return true;
+	}
+
+	/** 메모리 사용량(byte)
+	 * @return
+	 */
+	public long sizeInBytes() {
+		return bitCount / 8;
+	}
+}
@@ -0,0 +1,39 @@
+package edu.kh.project.common.sketch;
+
+import java.nio.charset.StandardCharsets;
+
+/* Bloom 필터 / HyperLogLog 용 64bit 해시
+ *
+ * - FNV-1a 로 byte 를 누적한 뒤 SplitMix64 로 비트를 고르게 섞음
+ *   (HyperLogLog 는 상위 비트를, Bloom 필터는 하위 비트를 사용하므로 전체 비트가 고르게 분포해야 함)
+ */
+public final class Hashing {
+
+	private Hashing() {}
+
+	/** 문자열 64bit 해시
+	 * @param value
+	 * @return
+	 */
+	public static long hash64(String value) {
+
+		long hash = 0xcbf29ce484222325L;
+
+		for(byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= (b & 0xff);
+			hash *= 0x100000001b3L;
+		}
+
+		return mix(hash);
+	}
+
+	/** SplitMix64 비트 섞기
+	 * @param z
+	 * @return
+	 */
+	public static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
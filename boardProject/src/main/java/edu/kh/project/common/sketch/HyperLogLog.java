@@ -0,0 +1,72 @@
+package edu.kh.project.common.sketch;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/* HyperLogLog (중복 제거된 개수 추정)
+ *
+ * - 2^precision 개의 레지스터만으로 서로 다른 값의 개수를 추정
+ *   ex) precision 12 >> 레지스터 4096개, 표준 오차 약 1.6% (1.04 / √4096)
+ * - 해시 앞 precision 비트로 레지스터 선택,
+ *   나머지 비트의 앞쪽 0 개수 + 1 중 최댓값을 레지스터에 기록
+ * - 레지스터 갱신은 최댓값 교체뿐이므로 잠금 없이 동시 갱신 가능
+ */
+public class HyperLogLog {
+
+	private final int precision;
+	private final int registerCount;
+	private final AtomicIntegerArray registers;
+
+	/**
+	 * @param precision : 레지스터 수 == 2^precision (4 ~ 16)
+	 */
+	public HyperLogLog(int precision) {
+
+		if(precision < 4 || precision > 16) {
+			throw new IllegalArgumentException("precision : 4 ~ 16");
+		}
+
+		this.precision = precision;
+		this.registerCount = 1 << precision;
+		this.registers = new AtomicIntegerArray(registerCount);
+	}
+
+	/** 값 추가
+	 * @param hash : 값의 64bit 해시(Hashing.hash64)
+	 */
+	public void add(long hash) {
+
+		int index = (int)(hash >>> (64 - precision));
+
+		// 나머지 비트의 앞쪽 0 개수 + 1 (나머지가 모두 0인 경우 대비 최하위에 1 추가)
+		int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+
+		registers.accumulateAndGet(index, rank, Math::max);
+	}
+
+	/** 서로 다른 값의 개수 추정
+	 * @return
+	 */
+	public long estimate() {
+
+		double sum = 0;
+		int zeroCount = 0;
+
+		for(int i = 0; i < registerCount; i++) {
+			int value = registers.get(i);
+
+			sum += 1.0 / (1L << value);
+
+			if(value == 0) zeroCount++;
+		}
+
+		double alpha = 0.7213 / (1 + 1.079 / registerCount);
+		double estimate = alpha * registerCount * registerCount / sum;
+
+		// 값이 적을 때는 선형 카운팅(빈 레지스터 비율)이 더 정확
+		if(estimate <= 2.5 * registerCount && zeroCount > 0) {
+			estimate = registerCount * Math.log((double)registerCount / zeroCount);
+		}
+
+		return Math.round(estimate);
+	}
+}
@@ -0,0 +1,108 @@
+package edu.kh.project.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/* 여러 DB 조회를 동시에 수행 (동시 수행 수 제한)
+ *
+ * - 각 작업은 실행기(가상 스레드)에서 허가(permit)를 얻은 후 수행
+ *   >> 이 경로에서 동시에 빌리는 커넥션 수 <= 허가 수 (커넥션 풀보다 작게 설정)
+ *   >> 요청이 몰려도 나머지 커넥션은 다른 요청이 사용 가능
+ * - 호출하는 스레드는 커넥션을 가지고 있으면 안 됨(트랜잭션 밖에서 호출)
+ *   >> 호출 스레드가 커넥션을 가진 채 작업의 커넥션을 기다리면 풀 고갈 시 교착
+ *
+ * [작업 묶음(Batch) 종료]
+ * - 결과를 사용하지 않게 된 작업(실패, 조기 반환)은 인터럽트하지 않음
+ *   (JDBC 수행 중 인터럽트 시 커넥션이 닫힐 수 있음)
+ *   >> 시작 전이면 수행하지 않고, 수행 중이면 끝날 때까지 두고 결과만 버림
+ */
+public class BoundedFanOut {
+
+	private final ExecutorService executor;
+
+	private final Semaphore permits;
+
+	private final int maxPermits;
+
+	/**
+	 * @param executor : 작업 실행기 (가상 스레드 권장 : 허가 대기 중 OS 스레드 점유 X)
+	 * @param maxPermits : 동시에 수행할 최대 작업 수
+	 */
+	public BoundedFanOut(ExecutorService executor, int maxPermits) {
+		this.executor = executor;
+		this.maxPermits = Math.max(1, maxPermits);
+		this.permits = new Semaphore(this.maxPermits);
+	}
+
+	/** 새 작업 묶음 (try-with-resources 로 사용)
+	 * @return
+	 */
+	public Batch batch() {
+		return new Batch();
+	}
+
+	/** 최대 동시 수행 수
+	 * @return
+	 */
+	public int maxPermits() {
+		return maxPermits;
+	}
+
+	/** 현재 수행 중인 작업 수
+	 * @return
+	 */
+	public int running() {
+		return maxPermits - permits.availablePermits();
+	}
+
+	/** 요청 1건의 작업 묶음
+	 */
+	public class Batch implements AutoCloseable {
+
+		private final List<Future<?>> parts = new ArrayList<>();
+
+		// 결과를 더 이상 사용하지 않음
+		private volatile boolean abandoned;
+
+		/** 작업 제출 (허가를 얻은 후 수행)
+		 * @param <T>
+		 * @param task
+		 * @return
+		 */
+		public <T> Future<T> submit(Callable<T> task) {
+
+			Future<T> part = executor.submit(() -> {
+
+				if(abandoned) return null;
+
+				permits.acquire();
+
+				try {
+					// 허가를 기다리는 사이 결과를 사용하지 않게 된 경우 수행 X
+					return abandoned ? null : task.call();
+
+				} finally {
+					permits.release();
+				}
+			});
+
+			parts.add(part);
+
+			return part;
+		}
+
+		/** 묶음 종료 : 완료된 작업은 영향 없음, 남은 작업은 인터럽트 없이 결과만 버림
+		 */
+		@Override
+		public void close() {
+
+			abandoned = true;
+
+			for(Future<?> part : parts) part.cancel(false);
+		}
+	}
+}
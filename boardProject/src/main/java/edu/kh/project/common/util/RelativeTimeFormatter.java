@@ -0,0 +1,50 @@
+package edu.kh.project.common.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.stereotype.Component;
+
+/* 작성 시간을 "N초 전 / N분 전 / N시간 전 / yyyy-MM-dd" 로 표시
+ *
+ * - 기존에는 목록 SQL(CASE WHEN SYSDATE - BOARD_WRITE_DATE ...)에서 만들었으나
+ *   조회 시각마다 결과가 달라져 목록 조회 결과를 캐시할 수 없었음
+ * - DB는 작성 시간 원본만 반환하고 화면 출력 시점에 변환
+ *
+ * 타임리프 사용 : ${@relativeTimeFormatter.format(board.boardWriteTime)}
+ */
+@Component
+public class RelativeTimeFormatter {
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+	/** 현재 시간 기준 상대 시간 문자열 반환
+	 * @param time : 작성 시간
+	 * @return
+	 */
+	public String format(LocalDateTime time) {
+		return format(time, LocalDateTime.now());
+	}
+
+	/** 기준 시간(now) 기준 상대 시간 문자열 반환
+	 * @param time : 작성 시간
+	 * @param now : 기준 시간
+	 * @return
+	 */
+	public String format(LocalDateTime time, LocalDateTime now) {
+
+		if(time == null) return "";
+
+		long seconds = Duration.between(time, now).getSeconds();
+
+		// 서버 간 시간 차이로 미래 시간이 된 경우 0초 전
+		if(seconds < 0) seconds = 0;
+
+		if(seconds < 60) 			return seconds + "초 전";
+		if(seconds < 60 * 60) 		return seconds / 60 + "분 전";
+		if(seconds < 60 * 60 * 24) 	return seconds / (60 * 60) + "시간 전";
+
+		return time.format(DATE_FORMAT);
+	}
+}
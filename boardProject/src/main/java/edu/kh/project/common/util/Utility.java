@@ -3,6 +3,10 @@ package edu.kh.project.common.util;
 import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 // 프로그램 전체적으로 사용될 유용한 기능 모음
 public class Utility {
@@ -71,4 +75,45 @@ public class Utility {
 		return randomCode.toString();
 	}
 
+	/** 현재 트랜잭션이 커밋된 후 작업 수행
+	 * - 메모리에 저장된 값(캐시, 인덱스 등)을 DB 커밋 이후에 갱신하기 위해 사용
+	 *   (롤백된 경우 수행되지 않음)
+	 * - 트랜잭션이 없는 경우 즉시 수행
+	 * @param task
+	 */
+	public static void afterCommit(Runnable task) {
+		
+		if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	/** 현재 트랜잭션이 끝난 후(커밋 또는 롤백) 작업 수행
+	 * - 커밋 전에 "변경 중" 으로 표시한 메모리 값을 트랜잭션 종료 시 반영/해제하기 위해 사용
+	 * - 트랜잭션이 없는 경우 즉시 수행 (커밋된 것으로 처리)
+	 * @param task : 커밋 여부(true : 커밋, false : 롤백)를 전달받아 수행할 작업
+	 */
+	public static void afterCompletion(Consumer<Boolean> task) {
+		
+		if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.accept(true);
+			return;
+		}
+		
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				task.accept(status == STATUS_COMMITTED);
+			}
+		});
+	}
+
 }
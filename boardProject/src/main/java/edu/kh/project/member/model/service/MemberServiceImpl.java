@@ -1,10 +1,13 @@
 package edu.kh.project.member.model.service;
 
+import java.util.concurrent.ExecutorService;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import edu.kh.project.board.model.like.BoardLikeStore;
 import edu.kh.project.common.config.SecurityConfig;
 import edu.kh.project.member.model.dto.Member;
 import edu.kh.project.member.model.mapper.MemberMapper;
@@ -24,6 +27,12 @@ public class MemberServiceImpl implements MemberService{
 	@Autowired	// 등록된 Bean 중에서 같은 타입 or 상속관계인 Bean 의존성 주입
 	private MemberMapper mapper;
 	
+	@Autowired
+	private BoardLikeStore likeStore;
+	
+	@Autowired
+	private ExecutorService virtualThreadExecutor;
+	
     MemberServiceImpl(SecurityConfig securityConfig) {
         this.securityConfig = securityConfig;
     }
@@ -57,6 +66,10 @@ public class MemberServiceImpl implements MemberService{
 		
 		// 로그인한 회원 정보에서 비밀번호 제거
 		loginMember.setMemberPw(null);
+		
+		// 좋아요한 게시글 목록 미리 조회(목록 페이지 좋아요 표시용, 로그인 응답은 대기 X)
+		int memberNo = loginMember.getMemberNo();
+		virtualThreadExecutor.execute(() -> likeStore.load(memberNo));
 			
 		return loginMember;
 	}
@@ -1,16 +1,26 @@
 package edu.kh.project.myPage.model.service;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import edu.kh.project.board.model.cache.BoardSearchCache;
+import edu.kh.project.board.model.cache.CommentTreeCache;
+import edu.kh.project.board.model.search.BoardSearchIndex;
+import edu.kh.project.common.file.BlobStore;
+import edu.kh.project.common.file.StagedFileWriter;
+import edu.kh.project.common.file.StagedFileWriter.Upload;
+import edu.kh.project.common.file.UploadJournalCleaner;
 import edu.kh.project.common.util.Utility;
 import edu.kh.project.member.model.dto.Member;
 import edu.kh.project.myPage.model.dto.UploadFile;
@@ -28,11 +38,34 @@ public class MyPageServiceImpl implements MyPageService{
 	@Autowired
 	private BCryptPasswordEncoder bcrypt;
 	
+	@Autowired
+	private BoardSearchIndex searchIndex;
+	
+	@Autowired
+	private BoardSearchCache searchCache;
+	
+	@Autowired
+	private CommentTreeCache commentCache;
+	
+	@Autowired
+	private StagedFileWriter fileWriter;
+	
 	@Value("${my.profile.web-path}")
 	private String profileWebPath;
 	
-	@Value("${my.profile.folder-path}")
-	private String profileFolderPath;
+	// 프로필 이미지 저장소 (BlobStoreConfig)
+	@Autowired
+	@Qualifier("profileBlobStore")
+	private BlobStore profileBlobStore;
+	
+	// 파일 업로드 테스트 저장소 (C:/uploadFiles/test/)
+	@Autowired
+	@Qualifier("fileBlobStore")
+	private BlobStore fileBlobStore;
+	
+	// 저장한 파일 / DB 참조가 제거된 파일 기록 (이후 참조 없는 파일 정리)
+	@Autowired
+	private UploadJournalCleaner journalCleaner;
 
 	@Override
 	public int updateInfo(Member inputMember, String[] memberAddress) {
@@ -52,7 +85,21 @@ public class MyPageServiceImpl implements MyPageService{
 		
 		// inputMember : 수정 닉네임, 수정 전화번호, 수정 주소, 회원 번호
 		
-		return mapper.updateInfo(inputMember);
+		int result = mapper.updateInfo(inputMember);
+		
+		// 작성자 검색 색인의 닉네임 갱신, 검색 결과 캐시 제거(커밋 후)
+		if(result > 0) {
+			searchIndex.updateNicknameAfterCommit(inputMember.getMemberNo(), inputMember.getMemberNickname());
+			Utility.afterCommit(searchCache::evictAll);
+			
+			// 댓글 목록 캐시의 작성자 닉네임 교체(커밋 후)
+			String nickname = inputMember.getMemberNickname();
+			
+			Utility.afterCommit(() -> commentCache.patchMember(inputMember.getMemberNo(), 
+					comment -> comment.toBuilder().memberNickname(nickname).build()));
+		}
+		
+		return result;
 	}
 
 	@Override
@@ -171,6 +218,9 @@ public class MyPageServiceImpl implements MyPageService{
 		if(result == 0) return 0;	// 삽입 실패 시
 		
 		// 삽입 성공 시
+		// 저장 전 기록 (이후 롤백되거나 저장 중 종료되면 참조 없는 파일 >> 정리 대상)
+		journalCleaner.written(fileBlobStore, fileRename);
+		
 		// C:/uploadFiles/test/변경된파일명 으로 파일을 서버컴퓨터에 저장
 		uploadFile.transferTo(new File(folderPath + fileRename));
 		// C:/uploadFiles/test/20251211100330_00001.jpg
@@ -214,50 +264,76 @@ public class MyPageServiceImpl implements MyPageService{
 	}
 
 	// 프로필 이미지 변경 서비스
+	// 파일 저장은 트랜잭션 밖에서 수행(StagedFileWriter) >> 이 메서드는 트랜잭션 없이 시작
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public int profile(MultipartFile profileImg, Member loginMember) throws Exception {
 		
 		// 프로필 이미지 경로(수정할 경로)
 		String updatePath = null;
 		
-		// 변경명 저장
-		String rename = null;
+		// 저장할 파일(없으면 빈 목록)
+		List<Upload> uploads = new ArrayList<>();
 		
 		// 업로드한 이미지가 있을 경우
 		if(!profileImg.isEmpty()) {
 			// updatePath 경로 조합
 			
 			// 1. 파일명 변경
-			rename = Utility.fileRename(profileImg.getOriginalFilename());
+			String rename = Utility.fileRename(profileImg.getOriginalFilename());
 			
 			// 2. /myPage/profile/변경된파일명
 			updatePath = profileWebPath + rename;
 			
+			// 3. 프로필 이미지 저장소에 변경명으로 저장
+			uploads.add(new Upload(profileImg, profileBlobStore, rename));
 		}
 		
 		// 수정된 프로필 이미지 경로 + 회원번호를 저장할 DTO 객체
+		// (프로필 이미지 경로는 실제 저장될 파일명으로 DB 작업 시 세팅)
 		Member member = Member.builder()
 						.memberNo(loginMember.getMemberNo())
 						.profileImg(updatePath).build();
 		
-		// UPDATE 수행
-		int result = mapper.profile(member);
+		// 이전 프로필 이미지 파일명 (변경 시 DB 참조 제거)
+		String beforePath = loginMember.getProfileImg();
+		String beforeKey = beforePath == null ? null : beforePath.substring(beforePath.lastIndexOf('/') + 1);
 		
-		if(result > 0) {
-			// DB에 업데이트 성공
-			// 프로필 이미지를 없앤 경우(NULL로 수정한 경우)를 제외
-			// >> 업로드한 이미지가 있을 경우
+		// 파일 임시 저장 >> UPDATE 수행(짧은 트랜잭션) >> 커밋 후 파일을 서버 지정된 폴더로 이동
+		// 프로필 이미지를 없앤 경우(NULL로 수정한 경우)는 저장할 파일 없음
+		// (keys : 실제 저장될 파일명, 내용 해시 파일명 사용 시 같은 내용 == 같은 파일명)
+		int result = fileWriter.write("profile", uploads, keys -> {
+			
+			if(!keys.isEmpty()) member.setProfileImg(profileWebPath + keys.get(0));
 			
-			if(!profileImg.isEmpty()) {
-				// 파일을 서버 지정된 폴더에 저장
-				profileImg.transferTo(new File(profileFolderPath + rename));
-									// C:uploadFiles/profile/변경한 이름
+			int updated = mapper.profile(member);
+			
+			if(updated > 0) {
+				String profilePath = member.getProfileImg();
+				
+				// 이전 프로필 이미지 참조 수 -1
+				if(beforeKey != null) {
+					fileWriter.removeReferences(profileBlobStore.name(), List.of(beforeKey));
+				}
+				
+				// 댓글 목록 캐시의 작성자 프로필 이미지 교체(커밋 후)
+				Utility.afterCommit(() -> commentCache.patchMember(loginMember.getMemberNo(), 
+						comment -> comment.toBuilder().profileImg(profilePath).build()));
 			}
 			
+			return updated;
+		});
+		
+		if(result > 0) {
+			// 이전 프로필 이미지 == DB 참조 제거 >> 정리 대상으로 기록
+			if(beforePath != null && !beforePath.equals(member.getProfileImg())) {
+				journalCleaner.removed(profileBlobStore, beforeKey);
+			}
+			
+			// DB에 업데이트 성공
 			// 세션에 등록된 현재 로그인한 회원 정보에서
 			// 프로필 이미지 경로를 DB에 업데이트한 경로로 변경
-			loginMember.setProfileImg(updatePath);
-			
+			loginMember.setProfileImg(member.getProfileImg());
 		}
 		
 		return result;
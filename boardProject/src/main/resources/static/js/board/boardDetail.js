@@ -20,11 +20,10 @@ document.querySelector("#boardLike").addEventListener("click", e => {
     return;
   }
 
-  // 3. 준비된 3개의 변수를 JS 객체 생성 (JSON 변환 예정)
+  // 3. 게시글 번호로 JS 객체 생성 (JSON 변환 예정)
+  // (회원 번호, 현재 좋아요 여부는 서버에서 확인)
   const obj = {
-    "memberNo" : loginMemberNo,
-    "boardNo"  : boardNo,
-    "likeCheck" : likeCheck
+    "boardNo"  : boardNo
   };
 
   // 4. 좋아요 INSERT/DELETE 비동기 요청
@@ -33,24 +32,24 @@ document.querySelector("#boardLike").addEventListener("click", e => {
     headers : {"Content-Type" : "application/json"},
     body : JSON.stringify(obj)
   })
-  .then(resp => resp.text())
-  .then(count => {
-    if(count == -1) {
+  .then(resp => resp.json())
+  .then(result => {
+    if(result.likeCount == -1) {
       console.log("좋아요 처리 실패");
       return;
     }
 
-    // 5. likeCheck 값 0 <-> 1 변환
-    // 클릭될 때 마다 INSERT/DELETE가 번갈아가며 수행되도록
+    // 5. 서버에서 반환한 좋아요 여부로 likeCheck 변경
+    // (연속 클릭 등으로 같은 요청이 여러 번 가도 서버 상태와 같게 유지)
 
-    likeCheck = (likeCheck == 0) ? 1 : 0;
+    likeCheck = result.likeCheck;
 
     // 6. 하트 모양 채우기/비우기 바꾸기
-    e.target.classList.toggle("fa-regular");
-    e.target.classList.toggle("fa-solid");
+    e.target.classList.toggle("fa-regular", likeCheck == 0);
+    e.target.classList.toggle("fa-solid", likeCheck == 1);
 
     // 7. 게시글 좋아요 개수 수정
-    e.target.nextElementSibling.innerText = count;
+    e.target.nextElementSibling.innerText = result.likeCount;
 
 
   });
@@ -17,6 +17,169 @@
 */
 
 
+/* ***** 댓글 행(li) 생성 ***** */
+const createCommentRow = comment => {
+
+  // 행(li) 생성 + 클래스 추가
+  const commentRow = document.createElement("li");
+  commentRow.classList.add("comment-row");
+
+  // 댓글 추가/수정/삭제 시 해당 행만 변경하기 위한 정보
+  commentRow.dataset.commentNo = comment.commentNo;
+  commentRow.dataset.parentNo = comment.parentCommentNo;
+  commentRow.dataset.level = comment.level;
+  commentRow.dataset.delFl = comment.commentDelFl;
+  commentRow.dataset.commentVersion = comment.commentVersion;
+
+  // 대댓글(자식 댓글)인 경우 "child-comment" 클래스 추가
+  if(comment.parentCommentNo != 0) 
+    commentRow.classList.add("child-comment");
+
+  // 만약 삭제된 댓글이지만 자식 댓글이 존재하는 경우
+  if(comment.commentDelFl == 'Y') 
+    commentRow.innerText = "삭제된 댓글 입니다";
+
+  else{ // 삭제되지 않은 댓글
+
+    // 프로필 이미지, 닉네임, 날짜 감싸는 요소
+    const commentWriter = document.createElement("p");
+    commentWriter.classList.add("comment-writer");
+
+    // 프로필 이미지
+    const profileImg = document.createElement("img");
+
+    if(comment.profileImg == null)  
+      profileImg.src = userDefaultIamge; // 기본 이미지
+    else                            
+      profileImg.src = comment.profileImg; // 회원 이미지
+
+    // 닉네임
+    const nickname = document.createElement("span");
+    nickname.innerText = comment.memberNickname;
+    
+    // 날짜(작성일)
+    const commentDate = document.createElement("span");
+    commentDate.classList.add("comment-date");
+    commentDate.innerText = comment.commentWriteDate;
+
+    // 작성자 영역(commentWriter)에 프로필, 닉네임, 날짜 추가
+    commentWriter.append(profileImg, nickname, commentDate);
+ 
+    // 댓글 행에 작성자 영역 추가
+    commentRow.append(commentWriter);
+ 
+
+
+    // ----------------------------------------------------
+
+
+    // 댓글 내용 
+    const content = document.createElement("p");
+    content.classList.add("comment-content");
+    content.innerText = comment.commentContent;
+
+    commentRow.append(content); // 행에 내용 추가
+ 
+
+    // ----------------------------------------------------
+
+    // 버튼 영역
+    const commentBtnArea = document.createElement("div");
+    commentBtnArea.classList.add("comment-btn-area");
+
+
+    // 답글 버튼
+    const childCommentBtn = document.createElement("button");
+    childCommentBtn.innerText = "답글";
+
+    // 답글 버튼에 onclick 이벤트 리스너 추가 
+    childCommentBtn.setAttribute("onclick", 
+      `showInsertComment(${comment.commentNo}, this)`);     
+      
+    // 버튼 영역에 답글 추가
+    commentBtnArea.append(childCommentBtn);
+
+
+    // 로그인한 회원 번호가 댓글 작성자 번호와 같을 때
+    // 댓글 수정/삭제 버튼 출력
+
+    if(loginMemberNo != null && loginMemberNo == comment.memberNo){
+
+      // 수정 버튼
+      const updateBtn = document.createElement("button");
+      updateBtn.innerText = "수정";
+
+      // 수정 버튼에 onclick 이벤트 리스너 추가 
+      updateBtn.setAttribute("onclick", 
+        `showUpdateComment(${comment.commentNo}, this)`); 
+
+
+      // 삭제 버튼
+      const deleteBtn = document.createElement("button");
+      deleteBtn.innerText = "삭제";
+
+      // 삭제 버튼에 onclick 이벤트 리스너 추가 
+      deleteBtn.setAttribute("onclick", 
+        `deleteComment(${comment.commentNo})`); 
+
+
+      // 버튼 영역에 수정, 삭제 버튼 추가
+      commentBtnArea.append(updateBtn, deleteBtn);
+    }
+
+    // 행에 버튼 영역 추가
+    commentRow.append(commentBtnArea);
+
+  } // else 끝
+
+
+  // 페이지 조회된 최상위 댓글에 답글이 있는 경우 : 답글 펼치기 버튼 추가
+  // (data-expanded : N == 답글을 아직 조회하지 않음)
+  if(comment.replyCount > 0){
+    commentRow.dataset.expanded = "N";
+    commentRow.append(createRepliesBtn(comment.commentNo, comment.replyCount));
+  }
+
+  return commentRow;
+}
+
+
+/** 답글 펼치기 버튼 생성
+ * @param {*} commentNo : 댓글 번호
+ * @param {*} replyCount : 답글 수
+ */
+const createRepliesBtn = (commentNo, replyCount) => {
+
+  const repliesBtn = document.createElement("button");
+  repliesBtn.classList.add("replies-btn");
+  repliesBtn.dataset.count = replyCount;
+  repliesBtn.innerText = `답글 ${replyCount}개`;
+  repliesBtn.setAttribute("onclick", `showReplies(${commentNo}, this)`);
+
+  return repliesBtn;
+}
+
+
+/** 화면에 출력된 댓글 행 찾기
+ * @param {*} commentNo 
+ * @returns 없으면 null
+ */
+const findCommentRow = commentNo => 
+  document.querySelector(`#commentList > li[data-comment-no="${commentNo}"]`);
+
+
+// 화면에 반영된 댓글 변경 번호(댓글 작성/수정/삭제 시 게시글별로 1씩 증가)
+// >> 댓글 등록 후 이 번호 이후에 작성/수정/삭제된 댓글만 조회(/comment/delta)
+// - 한 번에 조회된 목록의 가장 큰 번호까지는 모두 반영된 상태
+//   (답글 펼치기로 나중에 조회한 행은 다른 시점이므로 기준으로 사용하지 않음)
+let commentVersion = 0;
+
+document.querySelectorAll("#commentList > li").forEach(li => {
+  commentVersion = Math.max(commentVersion, Number(li.dataset.commentVersion));
+});
+
+
+
 /* ***** 댓글 목록 조회(ajax) ***** */
 const selectCommentList = () => {
 
@@ -45,118 +208,185 @@ const selectCommentList = () => {
     /* ******* 조회된 commentList를 이용해 댓글 출력 ******* */
     for(let comment of commentList){
 
-      // 행(li) 생성 + 클래스 추가
-      const commentRow = document.createElement("li");
-      commentRow.classList.add("comment-row");
+      // 댓글 목록(ul)에 행(li) 추가
+      ul.append(createCommentRow(comment));
 
-      // 대댓글(자식 댓글)인 경우 "child-comment" 클래스 추가
-      if(comment.parentCommentNo != 0) 
-        commentRow.classList.add("child-comment");
+      commentVersion = Math.max(commentVersion, comment.commentVersion);
 
-      // 만약 삭제된 댓글이지만 자식 댓글이 존재하는 경우
-      if(comment.commentDelFl == 'Y') 
-        commentRow.innerText = "삭제된 댓글 입니다";
+    } // for 끝
 
-      else{ // 삭제되지 않은 댓글
+  });
 
-        // 프로필 이미지, 닉네임, 날짜 감싸는 요소
-        const commentWriter = document.createElement("p");
-        commentWriter.classList.add("comment-writer");
+}
 
-        // 프로필 이미지
-        const profileImg = document.createElement("img");
 
-        if(comment.profileImg == null)  
-          profileImg.src = userDefaultIamge; // 기본 이미지
-        else                            
-          profileImg.src = comment.profileImg; // 회원 이미지
 
-        // 닉네임
-        const nickname = document.createElement("span");
-        nickname.innerText = comment.memberNickname;
-        
-        // 날짜(작성일)
-        const commentDate = document.createElement("span");
-        commentDate.classList.add("comment-date");
-        commentDate.innerText = comment.commentWriteDate;
+/* ***** 변경된 댓글만 조회해서 반영(ajax) ***** */
+// 댓글 등록 후 전체 목록을 다시 조회하지 않고
+// commentVersion 이후에 작성/수정/삭제된 댓글만 조회해서 해당 행만 변경
+// (이미 반영된 변경이 다시 조회되어도 결과는 같음)
+const selectCommentDelta = () => {
 
-        // 작성자 영역(commentWriter)에 프로필, 닉네임, 날짜 추가
-        commentWriter.append(profileImg, nickname, commentDate);
-     
-        // 댓글 행에 작성자 영역 추가
-        commentRow.append(commentWriter);
-     
+  fetch(`/comment/delta?boardNo=${boardNo}&sinceVersion=${commentVersion}`)
+  .then(response => response.json())
+  .then(commentList => {
 
+    const ul = document.querySelector("#commentList");
 
-        // ----------------------------------------------------
+    for(let comment of commentList){
 
+      commentVersion = Math.max(commentVersion, comment.commentVersion);
 
-        // 댓글 내용 
-        const content = document.createElement("p");
-        content.classList.add("comment-content");
-        content.innerText = comment.commentContent;
+      const commentRow = findCommentRow(comment.commentNo);
 
-        commentRow.append(content); // 행에 내용 추가
-     
+      // 삭제된 댓글 : 화면에 출력된 경우만 삭제 반영
+      if(comment.commentDelFl == 'Y'){
+        if(commentRow != null && commentRow.dataset.delFl == 'N') removeCommentRow(comment.commentNo);
+        continue;
+      }
 
-        // ----------------------------------------------------
+      // 이미 출력된 댓글 : 수정된 내용 반영
+      if(commentRow != null){
+        updateCommentContent(commentRow, comment.commentContent);
 
-        // 버튼 영역
-        const commentBtnArea = document.createElement("div");
-        commentBtnArea.classList.add("comment-btn-area");
+        // 수정 중인 댓글 : 취소 시 되돌릴 백업 행에도 반영
+        if(beforeCommentRow != null && beforeCommentRow.dataset.commentNo == comment.commentNo)
+          updateCommentContent(beforeCommentRow, comment.commentContent);
 
+        continue;
+      }
 
-        // 답글 버튼
-        const childCommentBtn = document.createElement("button");
-        childCommentBtn.innerText = "답글";
+      // 최상위 댓글 : 목록 마지막에 추가
+      // (페이지 조회 중 다음 페이지가 남아있으면 "댓글 더보기" 에서 조회)
+      if(comment.parentCommentNo == 0){
+        comment.level = 1;
 
-        // 답글 버튼에 onclick 이벤트 리스너 추가 
-        childCommentBtn.setAttribute("onclick", 
-          `showInsertComment(${comment.commentNo}, this)`);     
-          
-        // 버튼 영역에 답글 추가
-        commentBtnArea.append(childCommentBtn);
+        if(!commentPaging || !commentHasNext) ul.append(createCommentRow(comment));
+        continue;
+      }
 
+      const parentRow = findCommentRow(comment.parentCommentNo);
 
-        // 로그인한 회원 번호가 댓글 작성자 번호와 같을 때
-        // 댓글 수정/삭제 버튼 출력
+      // 부모 댓글이 화면에 없는 경우
+      if(parentRow == null){
+        // 전체 출력 중 : 화면과 DB가 맞지 않음 >> 전체 다시 조회
+        // 페이지 조회 중 : 아직 조회하지 않은 페이지/답글 >> 나중에 조회됨
+        if(!commentPaging){
+          selectCommentList();
+          return;
+        }
+        continue;
+      }
 
-        if(loginMemberNo != null && loginMemberNo == comment.memberNo){
+      // 부모 댓글의 답글을 아직 펼치지 않은 경우 : 답글 수만 증가
+      if(parentRow.dataset.expanded == "N"){
+        const repliesBtn = parentRow.querySelector(".replies-btn");
+        repliesBtn.dataset.count = Number(repliesBtn.dataset.count) + 1;
+        repliesBtn.innerText = `답글 ${repliesBtn.dataset.count}개`;
+        continue;
+      }
 
-          // 수정 버튼
-          const updateBtn = document.createElement("button");
-          updateBtn.innerText = "수정";
+      // 부모 댓글의 마지막 하위 답글 뒤에 추가(새 댓글은 형제 중 번호가 가장 큼)
+      const parentLevel = Number(parentRow.dataset.level);
+      comment.level = parentLevel + 1;
 
-          // 수정 버튼에 onclick 이벤트 리스너 추가 
-          updateBtn.setAttribute("onclick", 
-            `showUpdateComment(${comment.commentNo}, this)`); 
+      let last = parentRow;
 
+      while(last.nextElementSibling != null 
+          && Number(last.nextElementSibling.dataset.level) > parentLevel){
+        last = last.nextElementSibling;
+      }
 
-          // 삭제 버튼
-          const deleteBtn = document.createElement("button");
-          deleteBtn.innerText = "삭제";
+      last.after(createCommentRow(comment));
+    }
 
-          // 삭제 버튼에 onclick 이벤트 리스너 추가 
-          deleteBtn.setAttribute("onclick", 
-            `deleteComment(${comment.commentNo})`); 
+  })
+  .catch(err => console.log(err));
+}
 
 
-          // 버튼 영역에 수정, 삭제 버튼 추가
-          commentBtnArea.append(updateBtn, deleteBtn);
-        }
 
-        // 행에 버튼 영역 추가
-        commentRow.append(commentBtnArea);
+/** 출력된 댓글 행의 내용만 변경 (수정 중인 행은 내용 영역이 없으므로 제외)
+ * @param {*} commentRow 
+ * @param {*} commentContent 
+ */
+const updateCommentContent = (commentRow, commentContent) => {
 
-      } // else 끝
+  const content = commentRow.querySelector(".comment-content");
 
-      // 댓글 목록(ul)에 행(li) 추가
-      ul.append(commentRow);
+  if(content != null) content.innerText = commentContent;
+}
 
-    } // for 끝
 
-  });
 
+/* ***** 댓글 페이지 조회(ajax) ***** */
+// 상세 조회 시 댓글을 함께 조회하지 않는 경우(commentPaging == true)
+// 최상위 댓글을 일정 개수씩 조회, 답글은 "답글 N개" 클릭 시 조회
+
+let commentCursor = 0;        // 마지막으로 조회한 최상위 댓글 번호
+let commentHasNext = true;    // 다음 페이지 존재 여부
+
+const commentMore = document.querySelector("#commentMore"); // 댓글 더보기 버튼
+
+const selectCommentPage = () => {
+
+  fetch(`/comment/page?boardNo=${boardNo}&lastCommentNo=${commentCursor}`)
+  .then(response => response.json())
+  .then(page => {
+
+    const ul = document.querySelector("#commentList");
+
+    for(let comment of page.commentList){
+      if(findCommentRow(comment.commentNo) == null) ul.append(createCommentRow(comment));
+    }
+
+    // 첫 페이지 조회 시 변경된 댓글 조회 기준 번호 지정(댓글 조회 전 번호)
+    if(page.commentVersion != null) commentVersion = Math.max(commentVersion, page.commentVersion);
+
+    commentCursor = page.lastCommentNo;
+    commentHasNext = page.hasNext;
+
+    // 다음 페이지가 없으면 더보기 버튼 숨김
+    if(commentMore != null) commentMore.style.display = commentHasNext ? "" : "none";
+  })
+  .catch(err => console.log(err));
+}
+
+
+/** 답글 펼치기(ajax)
+ * @param {*} commentNo : 답글을 조회할 댓글 번호
+ * @param {*} btn : 클릭된 답글 펼치기 버튼
+ */
+const showReplies = (commentNo, btn) => {
+
+  const commentRow = btn.closest("li");
+  const level = Number(commentRow.dataset.level) + 1;
+
+  fetch(`/comment/replies?parentCommentNo=${commentNo}&level=${level}`)
+  .then(response => response.json())
+  .then(replyList => {
+
+    // 계층 순서대로 댓글 행 바로 뒤부터 차례로 추가
+    let last = commentRow;
+
+    for(let reply of replyList){
+      if(findCommentRow(reply.commentNo) != null) continue;
+
+      const replyRow = createCommentRow(reply);
+      last.after(replyRow);
+      last = replyRow;
+    }
+
+    commentRow.dataset.expanded = "Y";
+    btn.remove();
+  })
+  .catch(err => console.log(err));
+}
+
+
+if(commentPaging){
+  commentMore.addEventListener("click", selectCommentPage);
+  selectCommentPage(); // 첫 페이지 조회
 }
 
 
@@ -206,7 +436,7 @@ addContent.addEventListener("click", e => {
     if(result > 0){
       alert("댓글이 등록 되었습니다");
       commentContent.value = ""; // 작성한 댓글 내용 지우기
-      selectCommentList(); // 댓글 목록을 다시 조회해서 화면에 출력
+      selectCommentDelta(); // 새로 작성된 댓글만 조회해서 화면에 추가
    
     } else{
       alert("댓글 등록 실패");
@@ -318,7 +548,7 @@ const insertChildComment = (parentCommentNo, btn) => {
 
     if(result > 0){
       alert("답글이 등록 되었습니다");
-      selectCommentList(); // 댓글 목록을 다시 조회해서 화면에 출력
+      selectCommentDelta(); // 새로 작성된 답글만 조회해서 화면에 추가
   
     } else{
       alert("답글 등록 실패");
@@ -352,7 +582,7 @@ const deleteComment = commentNo => {
 
     if(result > 0){
       alert("삭제 되었습니다");
-      selectCommentList(); // 다시 조회해서 화면 다시 만들기
+      removeCommentRow(commentNo); // 삭제된 댓글 행만 화면에서 제거
     
     } else {
       alert("삭제 실패");
@@ -364,6 +594,55 @@ const deleteComment = commentNo => {
 }
 
 
+/** 삭제된 댓글 행 화면 반영
+ * - 살아있는 답글이 있으면(또는 아직 펼치지 않은 답글이 있으면) "삭제된 댓글 입니다" 로 변경
+ * - 없으면 행 제거, 부모가 삭제된 댓글이고 남은 답글이 없으면 부모도 제거
+ * @param {*} commentNo 
+ */
+const removeCommentRow = commentNo => {
+
+  let commentRow = findCommentRow(commentNo);
+
+  while(commentRow != null){
+
+    const level = Number(commentRow.dataset.level);
+
+    // 바로 아래 답글 중 삭제되지 않은 답글 존재 여부
+    let hasLiveChild = commentRow.dataset.expanded == "N";
+
+    for(let next = commentRow.nextElementSibling; 
+        next != null && Number(next.dataset.level) > level; 
+        next = next.nextElementSibling){
+
+      if(Number(next.dataset.level) == level + 1 && next.dataset.delFl == 'N'){
+        hasLiveChild = true;
+        break;
+      }
+    }
+
+    // 답글이 남아있는 경우 : 삭제 표시만 변경
+    if(hasLiveChild){
+
+      if(commentRow.dataset.delFl == 'N'){
+        commentRow.dataset.delFl = 'Y';
+
+        // 답글 펼치기 버튼은 유지
+        const repliesBtn = commentRow.querySelector(".replies-btn");
+        commentRow.innerText = "삭제된 댓글 입니다";
+        if(repliesBtn != null) commentRow.append(repliesBtn);
+      }
+      return;
+    }
+
+    // 답글이 없는 경우 : 행 제거 후 삭제된 부모 댓글 확인
+    const parentRow = findCommentRow(commentRow.dataset.parentNo);
+    commentRow.remove();
+
+    commentRow = (parentRow != null && parentRow.dataset.delFl == 'Y') ? parentRow : null;
+  }
+}
+
+
 // ----------------------------------
 
 // 수정 취소 시 원래 댓글 형태로 돌아가기 위한 백업 변수
@@ -488,7 +767,13 @@ const updateComment = (commentNo, btn) => {
   .then(result => {
     if(result > 0){
       alert("댓글이 수정 되었습니다");
-      selectCommentList();
+
+      // 백업된 댓글 행의 내용만 변경 후 원래 위치로 되돌리기
+      beforeCommentRow.querySelector(".comment-content").innerText = textarea.value;
+
+      const commentRow = btn.closest("li");
+      commentRow.after(beforeCommentRow);
+      commentRow.remove();
     } else {
       alert("댓글 수정 실패");
     }
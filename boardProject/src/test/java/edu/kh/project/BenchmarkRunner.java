@@ -0,0 +1,49 @@
+package edu.kh.project;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/* JMH 벤치마크 실행 (./gradlew benchmark)
+ *
+ * - 각 벤치마크 클래스의 @Tag("benchmark") 테스트에서 호출 (측정 방식/단위는 각 클래스에서 지정)
+ * - Gradle 테스트 작업자의 클래스 경로를 그대로 사용하기 위해 같은 JVM 에서 실행(forks 0)
+ *   >> 측정값은 모드/구현 간 비교용 (절대값은 별도 JVM 실행보다 부정확할 수 있음)
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {}
+
+	/** 벤치마크 클래스의 모든 @Benchmark 실행
+	 * @param benchmark
+	 * @throws RunnerException
+	 */
+	public static void run(Class<?> benchmark) throws RunnerException {
+		run(options(benchmark));
+	}
+
+	/** 기본 설정에 추가 설정을 더해 실행
+	 * @param options
+	 * @throws RunnerException
+	 */
+	public static void run(ChainedOptionsBuilder options) throws RunnerException {
+		new Runner(options.build()).run();
+	}
+
+	/** 기본 설정 (예열 2회, 측정 3회, 각 1초)
+	 * @param benchmark
+	 * @return
+	 */
+	public static ChainedOptionsBuilder options(Class<?> benchmark) {
+		return new OptionsBuilder()
+				.include(benchmark.getName().replace("$", "\\$") + "\\.")
+				.forks(0)
+				.warmupIterations(2)
+				.warmupTime(TimeValue.seconds(1))
+				.measurementIterations(3)
+				.measurementTime(TimeValue.seconds(1))
+				.shouldFailOnError(true);
+	}
+}
@@ -0,0 +1,216 @@
+package edu.kh.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/* mapper XML 의 INSERT 컬럼 수 == 배포용 DDL 의 테이블 컬럼 수
+ *
+ * - DDL : CREATE TABLE + 이후 ALTER TABLE ... ADD (...) 로 추가된 컬럼까지 순서대로 수집
+ * - 컬럼명을 지정하지 않은 INSERT(VALUES / SELECT) 는 값 개수가 테이블 컬럼 수와 같아야 함
+ *   (컬럼 추가 후 수정하지 않은 INSERT >> ORA-00947)
+ * - 컬럼명을 지정한 INSERT 는 값 개수 == 컬럼 수, 모든 컬럼이 DDL 에 존재해야 함
+ */
+class MapperInsertColumnTest {
+
+	private static final Path DDL = Path.of("boardProject_Table배포용.sql");
+
+	private static final Pattern CREATE_TABLE = Pattern.compile(
+			"CREATE TABLE \"(\\w+)\"\\s*\\((.*?)\\n\\);", Pattern.DOTALL);
+
+	private static final Pattern ADD_COLUMNS = Pattern.compile(
+			"ALTER TABLE \"(\\w+)\"\\s+ADD\\s*\\((.*?)\\);", Pattern.DOTALL);
+
+	// 컬럼 정의 행 : "컬럼명" 타입 ...
+	private static final Pattern COLUMN = Pattern.compile("(?m)^\\s*\"(\\w+)\"\\s+[A-Z]");
+
+	private static final Pattern INSERT = Pattern.compile("^INSERT INTO \"?(\\w+)\"?\\s*(.*)$", Pattern.DOTALL);
+
+	// 테이블명 : 컬럼 목록 (DDL 순서)
+	private final Map<String, List<String>> tables = new LinkedHashMap<>();
+
+	private final Configuration configuration = new Configuration();
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		String ddl = Files.readString(DDL);
+
+		for(Matcher m = CREATE_TABLE.matcher(ddl); m.find(); ) {
+			tables.put(m.group(1), columns(m.group(2)));
+		}
+
+		for(Matcher m = ADD_COLUMNS.matcher(ddl); m.find(); ) {
+			tables.get(m.group(1)).addAll(columns(m.group(2)));
+		}
+
+		// DBConfig 와 같은 설정
+		configuration.setMapUnderscoreToCamelCase(true);
+		configuration.getTypeAliasRegistry().registerAliases("edu.kh.project");
+
+		for(Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:/mappers/*.xml")) {
+			try(InputStream in = resource.getInputStream()) {
+				new XMLMapperBuilder(in, configuration, resource.toString(), configuration.getSqlFragments()).parse();
+			}
+		}
+	}
+
+	private static List<String> columns(String body) {
+
+		List<String> columns = new ArrayList<>();
+
+		for(Matcher m = COLUMN.matcher(body); m.find(); ) columns.add(m.group(1));
+
+		return columns;
+	}
+
+	@Test
+	void ddlHasAddedColumns() {
+
+		assertThat(tables.get("BOARD")).endsWith("COMMENT_COUNT", "LIKE_COUNT", "COMMENT_VERSION").hasSize(12);
+		assertThat(tables.get("COMMENT")).endsWith("COMMENT_VERSION").hasSize(8);
+	}
+
+	@Test
+	void insertValuesMatchTableColumns() {
+
+		int checked = 0;
+
+		// 전체 id(namespace.id)만 사용 (짧은 id 는 중복 가능)
+		List<String> ids = configuration.getMappedStatementNames().stream().filter(id -> id.contains(".")).toList();
+
+		for(String id : ids) {
+
+			MappedStatement statement = configuration.getMappedStatement(id);
+
+			if(statement.getSqlCommandType() != SqlCommandType.INSERT) continue;
+
+			String sql = statement.getBoundSql(new AnyParam()).getSql().replaceAll("\\s+", " ").strip();
+
+			Matcher m = INSERT.matcher(sql);
+
+			if(!m.matches()) continue;
+
+			List<String> tableColumns = tables.get(m.group(1));
+
+			assertThat(tableColumns).as(statement.getId() + " : DDL 에 없는 테이블").isNotNull();
+
+			String rest = m.group(2);
+			List<String> insertColumns = tableColumns;
+
+			// 컬럼명 지정 : INSERT INTO T(A, B) VALUES ...
+			if(rest.startsWith("(") && !rest.substring(1).strip().startsWith("SELECT")) {
+
+				String list = rest.substring(1, closing(rest, 0));
+
+				insertColumns = split(list).stream().map(column -> column.replace("\"", "")).toList();
+				rest = rest.substring(list.length() + 2).strip();
+
+				assertThat(tableColumns).as(statement.getId()).containsAll(insertColumns);
+			}
+
+			assertThat(valueCount(rest)).as(statement.getId() + " : " + sql).isEqualTo(insertColumns.size());
+
+			checked++;
+		}
+
+		assertThat(checked).isGreaterThan(5);
+	}
+
+	// VALUES(...) 또는 (SELECT ... FROM ...) 의 값 개수
+	private static int valueCount(String rest) {
+
+		if(rest.startsWith("VALUES")) {
+			int open = rest.indexOf('(');
+			return split(rest.substring(open + 1, closing(rest, open))).size();
+		}
+
+		if(rest.startsWith("(")) rest = rest.substring(1).strip();
+
+		// SELECT 목록 : 같은 깊이의 FROM 까지
+		int depth = 0;
+
+		for(int i = "SELECT".length(); i < rest.length(); i++) {
+
+			char c = rest.charAt(i);
+
+			if(c == '(') depth++;
+			if(c == ')') depth--;
+
+			if(depth == 0 && rest.startsWith(" FROM ", i)) return split(rest.substring("SELECT".length(), i)).size();
+		}
+
+		throw new IllegalArgumentException(rest);
+	}
+
+	// 같은 깊이의 쉼표로 나누기
+	private static List<String> split(String list) {
+
+		List<String> items = new ArrayList<>();
+		int depth = 0;
+		int start = 0;
+
+		for(int i = 0; i < list.length(); i++) {
+
+			char c = list.charAt(i);
+
+			if(c == '(') depth++;
+			if(c == ')') depth--;
+
+			if(c == ',' && depth == 0) {
+				items.add(list.substring(start, i).strip());
+				start = i + 1;
+			}
+		}
+
+		items.add(list.substring(start).strip());
+
+		return items;
+	}
+
+	// open 위치 괄호의 짝 위치
+	private static int closing(String sql, int open) {
+
+		int depth = 0;
+
+		for(int i = open; i < sql.length(); i++) {
+			if(sql.charAt(i) == '(') depth++;
+			if(sql.charAt(i) == ')' && --depth == 0) return i;
+		}
+
+		throw new IllegalArgumentException(sql);
+	}
+
+	// 동적 SQL 평가용 파라미터 : 모든 값 0, 목록(list)은 1개
+	@SuppressWarnings("serial")
+	private static class AnyParam extends HashMap<String, Object> {
+
+		@Override
+		public Object get(Object key) {
+			return "list".equals(key) ? List.of(new AnyParam()) : 0;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return true;
+		}
+	}
+}
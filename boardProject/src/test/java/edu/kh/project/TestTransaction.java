@@ -0,0 +1,44 @@
+package edu.kh.project;
+
+import java.util.List;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/* 트랜잭션 동기화만 흉내내는 테스트용 트랜잭션 (DB 없음)
+ *
+ * - write 안에서 등록된 afterCommit / afterCompletion 작업을 커밋/롤백 시점에 수행
+ * - beforeCompletion : DB 커밋은 끝났지만 종료 작업(afterCompletion)은 아직 수행되지 않은 구간
+ */
+public final class TestTransaction {
+
+	private TestTransaction() {}
+
+	/** write 수행 >> beforeCompletion 수행 >> 커밋 또는 롤백
+	 * @param write : 트랜잭션 안에서 수행할 작업
+	 * @param beforeCompletion : 커밋 직후, 종료 작업 전에 수행할 작업
+	 * @param commit : true 커밋 / false 롤백
+	 */
+	public static void run(Runnable write, Runnable beforeCompletion, boolean commit) {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		List<TransactionSynchronization> synchronizations;
+
+		try {
+			write.run();
+			beforeCompletion.run();
+
+			synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		if(commit) TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+
+		TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+				commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+	}
+}
@@ -0,0 +1,93 @@
+package edu.kh.project.board.model.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.board.model.dto.Board;
+
+class BoardPageCacheTest {
+
+	private final BoardPageCache cache = new BoardPageCache(100, 60);
+
+	private static List<Board> page(int... boardNos) {
+		return Arrays.stream(boardNos)
+				.mapToObj(no -> Board.builder().boardNo(no).likeCount(0).build())
+				.toList();
+	}
+
+	@Test
+	void putIgnoresChangesToOtherBoards() {
+
+		long generation = cache.generation();
+
+		// 조회 도중 다른 페이지의 게시글, 다른 게시판 변경
+		cache.patch(99, board -> board.toBuilder().likeCount(1).build());
+		cache.evictBoard(2);
+
+		cache.put(1, 1, page(30, 29, 28), generation);
+
+		assertThat(cache.get(1, 1)).extracting(Board::getBoardNo).containsExactly(30, 29, 28);
+	}
+
+	@Test
+	void putSkipsWhenLoadedBoardWasPatched() {
+
+		long generation = cache.generation();
+
+		cache.patch(29, board -> board.toBuilder().likeCount(1).build());
+
+		cache.put(1, 1, page(30, 29, 28), generation);
+
+		assertThat(cache.get(1, 1)).isNull();
+	}
+
+	@Test
+	void putSkipsWhenBoardCodeWasEvicted() {
+
+		long generation = cache.generation();
+
+		cache.evictBoard(1);
+
+		cache.put(1, 1, page(30, 29, 28), generation);
+
+		assertThat(cache.get(1, 1)).isNull();
+	}
+
+	@Test
+	void patchTouchesOnlyPagesContainingBoard() {
+
+		cache.put(1, 1, page(30, 29, 28), cache.generation());
+		cache.put(1, 2, page(27, 26, 25), cache.generation());
+
+		List<Board> second = cache.get(1, 2);
+
+		cache.patch(29, board -> board.toBuilder().likeCount(7).build());
+
+		assertThat(cache.get(1, 1).get(1).getLikeCount()).isEqualTo(7);
+
+		// 다른 페이지는 같은 객체 그대로
+		assertThat(cache.get(1, 2)).isSameAs(second);
+	}
+
+	@Test
+	void evictedPagesAreUnindexed() {
+
+		cache.put(1, 1, page(30, 29, 28), cache.generation());
+
+		cache.evictFrom(1, 28);
+
+		cache.patch(29, board -> board.toBuilder().likeCount(7).build());
+
+		assertThat(cache.get(1, 1)).isNull();
+
+		// 다시 저장한 페이지는 정상 수정
+		cache.put(1, 1, page(30, 29, 28), cache.generation());
+		cache.patch(29, board -> board.toBuilder().likeCount(8).build());
+
+		assertThat(cache.get(1, 1).get(1).getLikeCount()).isEqualTo(8);
+	}
+}
@@ -0,0 +1,120 @@
+package edu.kh.project.board.model.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.board.model.cache.BoardSearchCache.SearchKey;
+
+class BoardSearchCacheTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final SearchKey key = new SearchKey(1, "t", "java", 1);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void normalizeQueryCollapsesWhitespaceAndCase() {
+
+		assertThat(BoardSearchCache.normalizeQuery("  Java \t Spring  ")).isEqualTo("java spring");
+		assertThat(BoardSearchCache.normalizeQuery("폭탄")).isEqualTo("폭탄");
+		assertThat(BoardSearchCache.normalizeQuery(null)).isEmpty();
+	}
+
+	@Test
+	void concurrentMissesLoadOnce() throws Exception {
+
+		BoardSearchCache cache = new BoardSearchCache(10, 10, 5000);
+
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<Map<String, Object>> first = executor.submit(() -> cache.get(key, () -> {
+			loads.incrementAndGet();
+			await(release);
+			return Map.of("n", 1);
+		}));
+
+		while(cache.stats().get("inFlight").equals(0)) Thread.sleep(1);
+
+		Future<Map<String, Object>> second = executor.submit(() -> cache.get(key, () -> {
+			loads.incrementAndGet();
+			return Map.of("n", 2);
+		}));
+
+		while(cache.stats().get("collapsed").equals(0L)) Thread.sleep(1);
+
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry("n", 1);
+		assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry("n", 1);
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	void waiterLoadsItselfAfterTimeout() throws Exception {
+
+		BoardSearchCache cache = new BoardSearchCache(10, 10, 50);
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<Map<String, Object>> slow = executor.submit(() -> cache.get(key, () -> {
+			await(release);
+			return Map.of("n", 1);
+		}));
+
+		while(cache.stats().get("inFlight").equals(0)) Thread.sleep(1);
+
+		// 진행 중인 조회가 끝나지 않아도 wait-millis 후 직접 조회
+		assertThat(cache.get(key, () -> Map.of("n", 2))).containsEntry("n", 2);
+		assertThat(cache.stats()).containsEntry("waitTimeouts", 1L);
+
+		release.countDown();
+		slow.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void waiterReceivesLoaderException() throws Exception {
+
+		BoardSearchCache cache = new BoardSearchCache(10, 10, 5000);
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		executor.submit(() -> cache.get(key, () -> {
+			await(release);
+			throw new IllegalArgumentException("fail");
+		}));
+
+		while(cache.stats().get("inFlight").equals(0)) Thread.sleep(1);
+
+		Future<Map<String, Object>> waiter = executor.submit(() -> cache.get(key, () -> Map.of()));
+
+		while(cache.stats().get("collapsed").equals(0L)) Thread.sleep(1);
+
+		release.countDown();
+
+		assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package edu.kh.project.board.model.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.board.model.comment.CommentTree;
+import edu.kh.project.board.model.dto.Comment;
+
+class CommentTreeCacheTest {
+
+	private final CommentTreeCache cache = new CommentTreeCache(100, 60);
+
+	// 게시글 boardNo 의 최상위 댓글 목록 (계층 정렬)
+	private static List<Comment> comments(int boardNo, int... commentNos) {
+		return CommentTree.sort(Arrays.stream(commentNos)
+				.mapToObj(no -> Comment.builder().commentNo(no).boardNo(boardNo).memberNo(1)
+						.commentContent("댓글").commentDelFl("N").build())
+				.toList());
+	}
+
+	@Test
+	void putIgnoresChangesToOtherBoards() {
+
+		long generation = cache.generation();
+
+		// 조회 도중 다른 게시글 댓글 작성/수정/삭제, 목록 제거
+		cache.insert(Comment.builder().commentNo(50).boardNo(2).commentDelFl("N").build());
+		cache.update(3, 60, "수정", 1);
+		cache.delete(4, 70, 2);
+		cache.evict(5);
+
+		cache.put(1, comments(1, 10, 11), generation);
+
+		assertThat(cache.get(1)).extracting(Comment::getCommentNo).containsExactly(10, 11);
+	}
+
+	@Test
+	void putSkipsWhenLoadedBoardWasChanged() {
+
+		long generation = cache.generation();
+
+		cache.update(1, 10, "수정", 1);
+
+		cache.put(1, comments(1, 10, 11), generation);
+
+		assertThat(cache.get(1)).isNull();
+	}
+
+	@Test
+	void putSkipsWhenLoadedBoardWasEvicted() {
+
+		long generation = cache.generation();
+
+		cache.evict(1);
+
+		// 저장되지 않아도 조회 결과는 반환
+		assertThat(cache.put(1, comments(1, 10), generation)).hasSize(1);
+		assertThat(cache.get(1)).isNull();
+	}
+
+	@Test
+	void memberPatchSkipsLoadsInProgressOnly() {
+
+		long before = cache.generation();
+
+		// 회원 정보 변경 : 어느 게시글에 댓글이 있는지 알 수 없음
+		cache.patchMember(1, comment -> comment.toBuilder().memberNickname("새 닉네임").build());
+
+		cache.put(1, comments(1, 10), before);
+		assertThat(cache.get(1)).isNull();
+
+		// 변경 이후 시작한 조회는 저장
+		cache.put(1, comments(1, 10), cache.generation());
+		assertThat(cache.get(1)).isNotNull();
+	}
+
+	@Test
+	void changeAfterPutIsApplied() {
+
+		cache.put(1, comments(1, 10, 11), cache.generation());
+
+		cache.delete(1, 11, 1);
+		cache.update(1, 10, "수정", 2);
+
+		assertThat(cache.get(1)).singleElement().satisfies(comment -> {
+			assertThat(comment.getCommentContent()).isEqualTo("수정");
+			assertThat(comment.getCommentVersion()).isEqualTo(2);
+		});
+	}
+}
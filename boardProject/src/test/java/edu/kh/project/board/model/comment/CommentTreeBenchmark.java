@@ -0,0 +1,150 @@
+package edu.kh.project.board.model.comment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.kh.project.BenchmarkRunner;
+import edu.kh.project.board.model.dto.Comment;
+
+/* 댓글 10,000개 게시글의 계층 정렬 비용
+ *
+ * - javaTree  : 평평한 목록 1회 조회 결과를 CommentTree.build 로 정렬 (O(n))
+ * - connectBy : CONNECT BY + 댓글마다 COUNT(*) 서브쿼리 수행 방식을 같은 자료로 흉내
+ *               (PARENT_COMMENT_NO 인덱스 탐색 = 정렬 배열 이진 탐색, 행마다 자식 탐색 + 살아있는 자식 COUNT)
+ *
+ * - shape : flat(모두 최상위 댓글) / deep(50단계 답글 사슬) / random(앞선 댓글 중 임의 부모)
+ * - 삭제 댓글 10%
+ *
+ * 실행 : ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBenchmark {
+
+	@Param({"10000"})
+	public int comments;
+
+	@Param({"flat", "deep", "random"})
+	public String shape;
+
+	private List<Comment> commentList;
+
+	// PARENT_COMMENT_NO, COMMENT_NO 순 정렬 (인덱스 흉내)
+	private int[] parents;
+	private Comment[] byParent;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		Random random = new Random(42);
+
+		commentList = new ArrayList<>(comments);
+
+		for(int no = 1; no <= comments; no++) {
+
+			int parent = switch(shape) {
+				case "flat" -> 0;
+				case "deep" -> no % 50 == 1 ? 0 : no - 1;
+				default -> random.nextInt(4) == 0 ? 0 : random.nextInt(no);
+			};
+
+			commentList.add(Comment.builder()
+					.commentNo(no).parentCommentNo(parent)
+					.commentDelFl(random.nextInt(10) == 0 ? "Y" : "N")
+					.build());
+		}
+
+		byParent = commentList.toArray(Comment[]::new);
+		Arrays.sort(byParent, Comparator.comparingInt(Comment::getParentCommentNo).thenComparingInt(Comment::getCommentNo));
+
+		parents = new int[byParent.length];
+		for(int i = 0; i < parents.length; i++) parents[i] = byParent[i].getParentCommentNo();
+	}
+
+	@Benchmark
+	public List<Comment> javaTree() {
+		return CommentTree.build(commentList);
+	}
+
+	@Benchmark
+	public List<Comment> connectBy() {
+
+		List<Comment> result = new ArrayList<>(comments);
+
+		// START WITH 최상위 댓글, 행마다 자식 인덱스 탐색 (전위 순회)
+		ArrayList<int[]> stack = new ArrayList<>();
+		pushChildren(stack, 0, 1);
+
+		while(!stack.isEmpty()) {
+
+			int[] top = stack.remove(stack.size() - 1);
+			Comment comment = byParent[top[0]];
+
+			// 댓글마다 수행되는 COUNT(*) 서브쿼리 (살아있는 자식 수)
+			if("N".equals(comment.getCommentDelFl()) || liveChildren(comment.getCommentNo()) > 0) {
+				comment.setLevel(top[1]);
+				result.add(comment);
+			}
+
+			pushChildren(stack, comment.getCommentNo(), top[1] + 1);
+		}
+
+		return result;
+	}
+
+	// 부모 번호의 첫 자식 위치 (인덱스 범위 탐색 시작)
+	private int firstChild(int parentNo) {
+
+		int index = Arrays.binarySearch(parents, parentNo);
+
+		if(index < 0) return -index - 1;
+
+		while(index > 0 && parents[index - 1] == parentNo) index--;
+
+		return index;
+	}
+
+	private int liveChildren(int parentNo) {
+
+		int count = 0;
+
+		for(int i = firstChild(parentNo); i < parents.length && parents[i] == parentNo; i++) {
+			if("N".equals(byParent[i].getCommentDelFl())) count++;
+		}
+
+		return count;
+	}
+
+	private void pushChildren(List<int[]> stack, int parentNo, int level) {
+
+		int from = firstChild(parentNo);
+		int to = from;
+
+		while(to < parents.length && parents[to] == parentNo) to++;
+
+		for(int i = to - 1; i >= from; i--) stack.add(new int[] {i, level});
+	}
+
+	@Test
+	@Tag("benchmark")
+	void benchmark() throws Exception {
+		BenchmarkRunner.run(getClass());
+	}
+}
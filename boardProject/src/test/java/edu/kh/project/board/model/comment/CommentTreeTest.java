@@ -0,0 +1,124 @@
+package edu.kh.project.board.model.comment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.board.model.dto.Comment;
+
+class CommentTreeTest {
+
+	// 댓글 (삭제 여부 "Y"/"N", 최상위는 부모 0)
+	private static Comment comment(int commentNo, int parentCommentNo, String delFl) {
+		return Comment.builder().commentNo(commentNo).parentCommentNo(parentCommentNo).commentDelFl(delFl).build();
+	}
+
+	private static List<Integer> numbers(List<Comment> commentList) {
+		return commentList.stream().map(Comment::getCommentNo).toList();
+	}
+
+	private static List<Integer> levels(List<Comment> commentList) {
+		return commentList.stream().map(Comment::getLevel).toList();
+	}
+
+	@Test
+	void sortOrdersPreOrderWithSiblingsByNumber() {
+
+		// 1 ── 3 ── 6
+		//   └─ 5
+		// 2 ── 4
+		List<Comment> commentList = new ArrayList<>(List.of(
+				comment(6, 3, "N"), comment(2, 0, "N"), comment(5, 1, "N"),
+				comment(1, 0, "N"), comment(4, 2, "N"), comment(3, 1, "N")));
+
+		List<Comment> sorted = CommentTree.sort(commentList);
+
+		assertThat(numbers(sorted)).containsExactly(1, 3, 6, 5, 2, 4);
+		assertThat(levels(sorted)).containsExactly(1, 2, 3, 2, 1, 2);
+	}
+
+	@Test
+	void deletedCommentIsKeptOnlyWithLiveChild() {
+
+		// 1(삭제) ── 3      2(삭제)      4
+		List<Comment> commentList = List.of(
+				comment(1, 0, "Y"), comment(2, 0, "Y"), comment(3, 1, "N"), comment(4, 0, "N"));
+
+		assertThat(numbers(CommentTree.build(commentList))).containsExactly(1, 3, 4);
+	}
+
+	@Test
+	void deletedParentWithOnlyDeletedChildrenIsRemoved() {
+
+		// 1(삭제) ── 2(삭제) ── 3
+		// CONNECT BY 후 WHERE 적용과 같이 2는 남고(살아있는 자식 3) 1은 제외
+		List<Comment> commentList = List.of(
+				comment(1, 0, "Y"), comment(2, 1, "Y"), comment(3, 2, "N"));
+
+		List<Comment> visible = CommentTree.build(commentList);
+
+		assertThat(numbers(visible)).containsExactly(2, 3);
+		assertThat(levels(visible)).containsExactly(2, 3);
+	}
+
+	@Test
+	void buildSubtreeStartsAtGivenLevel() {
+
+		// 10 의 하위 답글만 조회한 경우 (10 은 목록에 없음)
+		List<Comment> replies = List.of(
+				comment(12, 10, "N"), comment(11, 10, "Y"), comment(13, 11, "N"), comment(14, 12, "Y"));
+
+		List<Comment> visible = CommentTree.build(replies, 10, 2);
+
+		assertThat(numbers(visible)).containsExactly(11, 13, 12);
+		assertThat(levels(visible)).containsExactly(2, 3, 2);
+	}
+
+	@Test
+	void visibleMatchesSqlConditionOnRandomTrees() {
+
+		Random random = new Random(3);
+
+		for(int round = 0; round < 200; round++) {
+
+			List<Comment> commentList = new ArrayList<>();
+
+			for(int no = 1; no <= 30; no++) {
+				int parent = no == 1 || random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(no - 1);
+				commentList.add(comment(no, parent, random.nextInt(3) == 0 ? "Y" : "N"));
+			}
+
+			Collections.shuffle(commentList, random);
+
+			List<Comment> sorted = CommentTree.sort(commentList);
+
+			// WHERE COMMENT_DEL_FL = 'N' OR 살아있는 자식 수 != 0
+			List<Integer> expected = sorted.stream()
+					.filter(c -> "N".equals(c.getCommentDelFl()) || commentList.stream()
+							.anyMatch(child -> child.getParentCommentNo() == c.getCommentNo()
+									&& "N".equals(child.getCommentDelFl())))
+					.map(Comment::getCommentNo)
+					.toList();
+
+			assertThat(numbers(CommentTree.visible(sorted))).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void deepThreadDoesNotOverflow() {
+
+		List<Comment> commentList = new ArrayList<>();
+
+		for(int no = 1; no <= 100_000; no++) commentList.add(comment(no, no - 1, "N"));
+
+		List<Comment> sorted = CommentTree.build(commentList);
+
+		assertThat(sorted).hasSize(100_000);
+		assertThat(sorted.get(sorted.size() - 1).getLevel()).isEqualTo(100_000);
+	}
+}
@@ -0,0 +1,103 @@
+package edu.kh.project.board.model.cookie;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.kh.project.BenchmarkRunner;
+import edu.kh.project.board.model.cookie.ReadBoardCookieCodec.ReadHistory;
+
+/* 조회 기록 쿠키(readBoardNo) 요청 1회 처리 (쿠키 해석 + 조회 여부 확인 + 추가 + 다시 쓰기)
+ *
+ * - legacy : "[2][30][400]..." 문자열에서 indexOf, 끝에 "[번호]" 덧붙이기
+ * - codec  : ReadBoardCookieCodec (delta + varint 집합 / Bloom 필터, 서명 확인 + 서명)
+ * - 쿠키 크기(문자 수) 비교는 ReadBoardCookieCodecTest.codecCookieIsShorterThanLegacy
+ *
+ * 실행 : ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadBoardCookieBenchmark {
+
+	// 쿠키에 기록된 게시글 수
+	@Param({"10", "1000", "5000"})
+	public int entries;
+
+	private final ReadBoardCookieCodec codec = new ReadBoardCookieCodec("benchmark-secret");
+
+	private String legacyCookie;
+
+	private String codecCookie;
+
+	private int[] requests;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		Random random = new Random(13);
+
+		StringBuilder legacy = new StringBuilder();
+		ReadHistory history = new ReadHistory();
+
+		for(int i = 0; i < entries; i++) {
+			int boardNo = 1 + random.nextInt(100_000);
+
+			legacy.append("[").append(boardNo).append("]");
+			history.add(boardNo);
+		}
+
+		legacyCookie = legacy.toString();
+		codecCookie = codec.encode(history);
+
+		// 요청할 게시글 (읽은 글 / 읽지 않은 글 섞임)
+		requests = new int[1024];
+		for(int i = 0; i < requests.length; i++) requests[i] = 1 + random.nextInt(100_000);
+	}
+
+	@Benchmark
+	public String legacy() {
+
+		int boardNo = requests[next++ & 1023];
+
+		if(legacyCookie.indexOf("[" + boardNo + "]") == -1) {
+			return legacyCookie + "[" + boardNo + "]";
+		}
+
+		return legacyCookie;
+	}
+
+	@Benchmark
+	public String codec() {
+
+		int boardNo = requests[next++ & 1023];
+
+		ReadHistory history = codec.decode(codecCookie);
+
+		if(!history.contains(boardNo)) {
+			history.add(boardNo);
+			return codec.encode(history);
+		}
+
+		return codecCookie;
+	}
+
+	@Test
+	@Tag("benchmark")
+	void benchmark() throws Exception {
+		BenchmarkRunner.run(getClass());
+	}
+}
@@ -0,0 +1,121 @@
+package edu.kh.project.board.model.cookie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.board.model.cookie.ReadBoardCookieCodec.ReadHistory;
+
+class ReadBoardCookieCodecTest {
+
+	private final ReadBoardCookieCodec codec = new ReadBoardCookieCodec("test-secret");
+
+	private static ReadHistory history(Iterable<Integer> boardNos) {
+
+		ReadHistory history = new ReadHistory();
+
+		for(int boardNo : boardNos) history.add(boardNo);
+
+		return history;
+	}
+
+	@Test
+	void varintDeltasRoundTrip() {
+
+		// 1 / 2 / 3 / 4 / 5 byte varint 경계
+		List<Integer> boardNos = List.of(0, 1, 127, 128, 16_383, 16_384, 2_097_151, 2_097_152,
+				268_435_455, 268_435_456, Integer.MAX_VALUE);
+
+		ReadHistory decoded = codec.decode(codec.encode(history(boardNos)));
+
+		for(int boardNo : boardNos) assertThat(decoded.contains(boardNo)).as("%d", boardNo).isTrue();
+
+		assertThat(decoded.contains(129)).isFalse();
+		assertThat(decoded.contains(2_097_153)).isFalse();
+	}
+
+	@Test
+	void randomSetsRoundTripExactly() {
+
+		Random random = new Random(5);
+
+		for(int round = 0; round < 100; round++) {
+
+			TreeSet<Integer> boardNos = new TreeSet<>();
+
+			for(int i = random.nextInt(200); i > 0; i--) boardNos.add(random.nextInt(100_000));
+
+			ReadHistory decoded = codec.decode(codec.encode(history(boardNos)));
+
+			for(int boardNo = 0; boardNo < 100_000; boardNo += 7) {
+				assertThat(decoded.contains(boardNo)).isEqualTo(boardNos.contains(boardNo));
+			}
+		}
+	}
+
+	@Test
+	void largeHistoryIsBoundedAndKeepsAllEntries() {
+
+		Random random = new Random(9);
+
+		TreeSet<Integer> boardNos = new TreeSet<>();
+
+		while(boardNos.size() < 5000) boardNos.add(random.nextInt(1_000_000));
+
+		String value = codec.encode(history(boardNos));
+
+		// Bloom 필터로 변환 >> 크기 고정 (base64 + 서명)
+		assertThat(value.length()).isLessThan((ReadBoardCookieCodec.BLOOM_BYTES + 1) * 4 / 3 + 32);
+
+		ReadHistory decoded = codec.decode(value);
+
+		// 읽은 글은 항상 읽은 것으로 판단 (오탐만 존재)
+		for(int boardNo : boardNos) assertThat(decoded.contains(boardNo)).isTrue();
+	}
+
+	@Test
+	void tamperedOrLegacyCookieIsEmpty() {
+
+		String value = codec.encode(history(List.of(10, 20)));
+
+		char[] chars = value.toCharArray();
+		chars[1] = chars[1] == 'A' ? 'B' : 'A';
+
+		assertThat(codec.decode(new String(chars)).contains(10)).isFalse();
+		assertThat(codec.decode("[10][20]").contains(10)).isFalse();
+		assertThat(codec.decode("%%%.%%%").contains(10)).isFalse();
+		assertThat(codec.decode(null).contains(10)).isFalse();
+
+		// 다른 키로 서명된 쿠키
+		assertThat(new ReadBoardCookieCodec("other").decode(value).contains(10)).isFalse();
+	}
+
+	@Test
+	void codecCookieIsShorterThanLegacy() {
+
+		// ReadBoardCookieBenchmark 와 같은 분포 (1 ~ 100,000 임의 번호)
+		for(int entries : new int[] {1000, 5000}) {
+
+			Random random = new Random(13);
+
+			StringBuilder legacy = new StringBuilder();
+			ReadHistory history = new ReadHistory();
+
+			for(int i = 0; i < entries; i++) {
+				int boardNo = 1 + random.nextInt(100_000);
+
+				legacy.append("[").append(boardNo).append("]");
+				history.add(boardNo);
+			}
+
+			String value = codec.encode(history);
+
+			// 기존 "[번호]" 나열 대비 1/3 이하
+			assertThat(value.length()).as("entries=%d", entries).isLessThan(legacy.length() / 3);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package edu.kh.project.board.model.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.TestTransaction;
+import edu.kh.project.board.model.mapper.BoardMapper;
+
+class BoardCountRegistryTest {
+
+	// DB 의 게시판 1 게시글 수
+	private final AtomicInteger dbCount = new AtomicInteger(10);
+
+	// getListCount 수행 횟수
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private BoardCountRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+
+		BoardMapper mapper = mock(BoardMapper.class);
+
+		when(mapper.getListCount(anyInt())).thenAnswer(invocation -> {
+			loads.incrementAndGet();
+			return dbCount.get();
+		});
+		when(mapper.selectListCountAll()).thenAnswer(invocation ->
+				List.<Map<String, Object>>of(Map.of("boardCode", 1, "listCount", dbCount.get())));
+
+		registry = new BoardCountRegistry(mapper);
+	}
+
+	// 게시글 작성 트랜잭션 : 커밋 직후(반영 전)에 between 수행
+	private void insert(Runnable between, boolean commit) {
+
+		TestTransaction.run(() -> registry.adjust(1, 1), () -> {
+			if(commit) dbCount.incrementAndGet();
+			between.run();
+		}, commit);
+	}
+
+	@Test
+	void adjustAppliesAfterCommit() {
+
+		assertThat(registry.getCount(1)).isEqualTo(10);
+
+		insert(() -> assertThat(registry.getCount(1)).isEqualTo(10), true);
+
+		assertThat(registry.getCount(1)).isEqualTo(11);
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	void verifyBetweenCommitAndAdjustDoesNotCountTwice() {
+
+		registry.getCount(1);
+
+		// 커밋 후 반영 전 보정 : DB 값(11)이 이미 새 게시글 포함 >> 덮어쓰지 않음
+		insert(() -> assertThat(registry.verify()).isZero(), true);
+
+		assertThat(registry.getCount(1)).isEqualTo(11);
+		assertThat(registry.verify()).isZero();
+	}
+
+	@Test
+	void loadBetweenCommitAndAdjustIsNotStored() {
+
+		// 아직 조회된 적 없는 게시판 : 반영 전 구간의 DB 조회 값은 저장 X
+		insert(() -> assertThat(registry.getCount(1)).isEqualTo(11), true);
+
+		assertThat(registry.getCount(1)).isEqualTo(11);
+		assertThat(registry.getCount(1)).isEqualTo(11);
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void rollbackOnlyClearsMark() {
+
+		registry.getCount(1);
+
+		insert(() -> {}, false);
+
+		assertThat(registry.getCount(1)).isEqualTo(10);
+
+		// 표시 해제 후 보정은 정상 수행
+		dbCount.set(12);
+
+		assertThat(registry.verify()).isEqualTo(1);
+		assertThat(registry.getCount(1)).isEqualTo(12);
+	}
+}
@@ -0,0 +1,141 @@
+package edu.kh.project.board.model.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.board.model.mapper.BoardMapper;
+
+class ReadCountBufferTest {
+
+	// READ_COUNT (게시글 번호 : 조회 수)
+	private final Map<Integer, Long> readCounts = new ConcurrentHashMap<>();
+
+	private final AtomicInteger selects = new AtomicInteger();
+
+	// true : 조회 수 반영 SQL 실패
+	private volatile boolean failing;
+
+	private ReadCountBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+
+		readCounts.put(1, 10L);
+		readCounts.put(2, 0L);
+
+		BoardMapper mapper = mock(BoardMapper.class);
+
+		when(mapper.selectReadCount(anyInt())).thenAnswer(invocation -> {
+			selects.incrementAndGet();
+			return readCounts.get(invocation.<Integer>getArgument(0)).intValue();
+		});
+		when(mapper.addReadCount(anyMap())).thenAnswer(invocation -> {
+			if(failing) throw new IllegalStateException("DB 연결 실패");
+			Map<String, Object> map = invocation.getArgument(0);
+			readCounts.merge((Integer) map.get("boardNo"), (Long) map.get("delta"), Long::sum);
+			return 1;
+		});
+
+		// commit, close, flushStatements(빈 목록) 은 기본 동작
+		SqlSession session = mock(SqlSession.class);
+		when(session.getMapper(BoardMapper.class)).thenReturn(mapper);
+
+		// openSession(...) 모두 같은 session 반환
+		buffer = new ReadCountBuffer(mock(SqlSessionFactory.class, invocation -> session));
+	}
+
+	@Test
+	void incrementReadsDbOnlyOncePerBoard() {
+
+		assertThat(buffer.increment(1)).isEqualTo(11);
+		assertThat(buffer.increment(1)).isEqualTo(12);
+		assertThat(buffer.increment(2)).isEqualTo(1);
+		assertThat(buffer.increment(1)).isEqualTo(13);
+
+		assertThat(selects.get()).isEqualTo(2);
+		assertThat(buffer.pending(1)).isEqualTo(3);
+		assertThat(readCounts.get(1)).isEqualTo(10L);
+	}
+
+	@Test
+	void flushKeepsCountWithoutReload() {
+
+		buffer.increment(1);
+		buffer.increment(1);
+
+		assertThat(buffer.flush()).isEqualTo(1);
+
+		assertThat(readCounts.get(1)).isEqualTo(12L);
+		assertThat(buffer.pending(1)).isZero();
+
+		// 반영 후에도 DB 조회 없이 DB 값 + 증가분
+		assertThat(buffer.increment(1)).isEqualTo(13);
+		assertThat(selects.get()).isEqualTo(1);
+
+		// 반영할 증가분이 없으면 SQL 수행 X
+		buffer.flush();
+		assertThat(buffer.flush()).isZero();
+	}
+
+	@Test
+	void failedFlushKeepsPending() {
+
+		buffer.increment(1);
+
+		failing = true;
+		assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class);
+
+		assertThat(buffer.pending(1)).isEqualTo(1);
+		assertThat(buffer.increment(1)).isEqualTo(12);
+
+		failing = false;
+		buffer.flush();
+
+		assertThat(readCounts.get(1)).isEqualTo(12L);
+		assertThat(buffer.increment(1)).isEqualTo(13);
+	}
+
+	@Test
+	void concurrentIncrementsAndFlushesLoseNothing() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for(int t = 0; t < 4; t++) {
+			futures.add(executor.submit(() -> {
+				for(int i = 0; i < 2_000; i++) {
+					buffer.increment(1);
+					if(i % 500 == 0) buffer.flush();
+				}
+			}));
+		}
+
+		for(Future<?> future : futures) future.get();
+		executor.shutdown();
+
+		assertThat(buffer.increment(1)).isEqualTo(10 + 8_000 + 1);
+
+		buffer.flush();
+
+		assertThat(readCounts.get(1)).isEqualTo(10L + 8_001);
+		assertThat(selects.get()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,214 @@
+package edu.kh.project.board.model.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import edu.kh.project.TestTransaction;
+import edu.kh.project.board.model.index.BoardPageAnchorIndex.Anchor;
+import edu.kh.project.board.model.mapper.BoardMapper;
+
+class BoardPageAnchorIndexTest {
+
+	private static final int INTERVAL = 10;
+
+	// 게시판 1의 게시글 번호 (내림차순 == 목록 순서)
+	private final List<Integer> rows = new ArrayList<>();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	// 앵커 조회 후 반환 직전에 수행할 작업
+	private Runnable duringLoad = () -> {};
+
+	private BoardPageAnchorIndex index;
+
+	@BeforeEach
+	void setUp() {
+
+		for(int no = 300; no >= 1; no--) rows.add(no);
+
+		// selectPageAnchors : interval 행마다 BOARD_NO
+		BoardMapper mapper = mock(BoardMapper.class);
+
+		when(mapper.selectPageAnchors(anyMap())).thenAnswer(invocation -> {
+
+			loads.incrementAndGet();
+
+			int interval = (int) invocation.<Map<String, Object>>getArgument(0).get("interval");
+			List<Integer> anchors = new ArrayList<>();
+
+			for(int i = 0; i < rows.size(); i += interval) anchors.add(rows.get(i));
+
+			duringLoad.run();
+
+			return anchors;
+		});
+
+		index = new BoardPageAnchorIndex(mapper);
+		ReflectionTestUtils.setField(index, "interval", INTERVAL);
+	}
+
+	// selectBoardListKeyset 과 같은 조건으로 조회한 첫 행
+	private int firstRow(Anchor anchor) {
+
+		List<Integer> from = rows.stream()
+				.filter(no -> anchor.anchorBoardNo() == 0 || no <= anchor.anchorBoardNo())
+				.toList();
+
+		return anchor.skip() < from.size() ? from.get(anchor.skip()) : -1;
+	}
+
+	private int expected(int offset) {
+		return offset < rows.size() ? rows.get(offset) : -1;
+	}
+
+	@Test
+	void firstPagesDoNotLoadAnchors() {
+
+		assertThat(index.seek(1, 0)).isEqualTo(new Anchor(0, 0));
+		assertThat(index.seek(1, INTERVAL - 1)).isEqualTo(new Anchor(0, INTERVAL - 1));
+
+		assertThat(loads.get()).isZero();
+	}
+
+	@Test
+	void seekSkipsLessThanInterval() {
+
+		for(int offset = 0; offset < rows.size() + INTERVAL; offset++) {
+
+			Anchor anchor = index.seek(1, offset);
+
+			// 존재하지 않는 페이지는 마지막 앵커 이후 남은 행만 건너뛰고 빈 결과
+			if(offset < rows.size()) assertThat(anchor.skip()).isLessThan(INTERVAL);
+
+			assertThat(firstRow(anchor)).isEqualTo(expected(offset));
+		}
+
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	void insertAndDeleteShiftAnchorsWithoutReload() {
+
+		index.seek(1, 100);
+
+		// 새 게시글(맨 앞), 앵커 게시글 삭제, 중간 게시글 삭제 후 복구
+		rows.add(0, 301);
+		index.inserted(1, 301);
+
+		rows.remove(Integer.valueOf(281));
+		index.removed(1, 281);
+
+		rows.remove(Integer.valueOf(150));
+		index.removed(1, 150);
+
+		rows.add(rows.indexOf(149), 150);
+		index.inserted(1, 150);
+
+		rows.sort(Comparator.reverseOrder());
+
+		for(int offset = 0; offset < rows.size(); offset++) {
+			assertThat(firstRow(index.seek(1, offset))).isEqualTo(expected(offset));
+		}
+
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	void randomChangesMatchModel() {
+
+		Random random = new Random(42);
+		int nextNo = 301;
+
+		for(int step = 0; step < 500; step++) {
+
+			if(random.nextInt(3) == 0 && !rows.isEmpty()) {
+				int no = rows.get(random.nextInt(rows.size()));
+				rows.remove(Integer.valueOf(no));
+				index.removed(1, no);
+
+			} else {
+				rows.add(0, nextNo);
+				index.inserted(1, nextNo++);
+			}
+
+			int offset = random.nextInt(rows.size() + INTERVAL);
+
+			assertThat(firstRow(index.seek(1, offset))).isEqualTo(expected(offset));
+		}
+
+		// 위치 변경이 interval 회 쌓이면 다시 조회
+		assertThat(loads.get()).isGreaterThan(1);
+	}
+
+	@Test
+	void loadRacingWithInsertIsNotStored() {
+
+		// 앵커 조회 직후(저장 전) 게시글 작성이 커밋된 경우
+		duringLoad = () -> {
+			duringLoad = () -> {};
+			rows.add(0, 301);
+			index.inserted(1, 301);
+		};
+
+		index.seek(1, 50);
+
+		// 오래된 조회 결과는 저장되지 않고 다음 요청에서 다시 조회
+		assertThat(firstRow(index.seek(1, 50))).isEqualTo(expected(50));
+		assertThat(loads.get()).isEqualTo(2);
+
+		index.seek(1, 50);
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void loadBetweenCommitAndShiftIsNotStored() {
+
+		TestTransaction.run(() -> index.inserted(1, 301), () -> {
+
+			// 커밋되어 새 게시글이 보이지만 아직 위치 변경 전
+			rows.add(0, 301);
+
+			assertThat(firstRow(index.seek(1, 50))).isEqualTo(expected(50));
+		}, true);
+
+		// 새 게시글을 포함한 조회 결과가 저장 후 다시 +1 되지 않음
+		for(int offset = 0; offset < rows.size(); offset++) {
+			assertThat(firstRow(index.seek(1, offset))).isEqualTo(expected(offset));
+		}
+
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void rolledBackWriteOnlyClearsMark() {
+
+		index.seek(1, 100);
+
+		TestTransaction.run(() -> index.inserted(1, 301), () -> {}, false);
+
+		// 위치 변경 X
+		for(int offset = 0; offset < rows.size(); offset++) {
+			assertThat(firstRow(index.seek(1, offset))).isEqualTo(expected(offset));
+		}
+
+		// 변경 중 표시 해제 >> 다시 조회한 결과는 저장
+		index.invalidate(1);
+		index.seek(1, 100);
+		index.seek(1, 100);
+
+		assertThat(loads.get()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,229 @@
+package edu.kh.project.board.model.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.like.BoardLikeStore.LikeResult;
+import edu.kh.project.board.model.mapper.BoardMapper;
+
+class BoardLikeStoreTest {
+
+	@TempDir
+	Path journalDir;
+
+	// BOARD_LIKE 행 (게시글 번호 : 회원 번호), BOARD.LIKE_COUNT (게시글 1~100 존재)
+	private final Map<Integer, Set<Integer>> rows = new HashMap<>();
+	private final Map<Integer, Integer> likeCountColumn = new HashMap<>();
+
+	// true : 좋아요 반영 SQL 실패
+	private boolean failing;
+
+	// refreshLikeCount 수행 중(반영 도중) 수행할 작업
+	private Runnable duringRefresh = () -> {};
+
+	private BoardLikeStore store(int maxMembers, int maxBoards) throws Exception {
+
+		BoardLikeStore store = new BoardLikeStore(sessionFactory(), journalDir.toString(), false, maxMembers, maxBoards);
+		store.replay();
+
+		return store;
+	}
+
+	private Set<Integer> members(int boardNo) {
+		return rows.computeIfAbsent(boardNo, k -> new HashSet<>());
+	}
+
+	private SqlSessionFactory sessionFactory() {
+
+		BoardMapper mapper = mock(BoardMapper.class);
+
+		when(mapper.selectLikeRowCount(anyInt())).thenAnswer(invocation -> {
+			int boardNo = invocation.getArgument(0);
+			return boardNo <= 100 ? members(boardNo).size() : null;
+		});
+		when(mapper.selectLikeCheck(anyMap())).thenAnswer(invocation -> {
+			Map<String, Integer> map = invocation.getArgument(0);
+			return members(map.get("boardNo")).contains(map.get("memberNo")) ? 1 : 0;
+		});
+		when(mapper.selectLikedBoardNoList(anyInt())).thenAnswer(invocation -> {
+			List<Integer> list = new ArrayList<>();
+			rows.forEach((boardNo, memberSet) -> { if(memberSet.contains(invocation.<Integer>getArgument(0))) list.add(boardNo); });
+			return list;
+		});
+		when(mapper.mergeBoardLike(anyMap())).thenAnswer(invocation -> {
+			if(failing) throw new IllegalStateException("DB 연결 실패");
+			Map<String, Integer> map = invocation.getArgument(0);
+			return members(map.get("boardNo")).add(map.get("memberNo")) ? 1 : 0;
+		});
+		when(mapper.deleteBoardLike(anyMap())).thenAnswer(invocation -> {
+			if(failing) throw new IllegalStateException("DB 연결 실패");
+			Map<String, Integer> map = invocation.getArgument(0);
+			return members(map.get("boardNo")).remove(map.get("memberNo")) ? 1 : 0;
+		});
+		when(mapper.refreshLikeCount(anyInt())).thenAnswer(invocation -> {
+			int boardNo = invocation.getArgument(0);
+			likeCountColumn.put(boardNo, members(boardNo).size());
+			duringRefresh.run();
+			return 1;
+		});
+		when(mapper.selectLikeCountList(anyList())).thenAnswer(invocation -> {
+			List<Board> list = new ArrayList<>();
+			for(int boardNo : invocation.<List<Integer>>getArgument(0)) {
+				if(boardNo <= 100) {
+					list.add(Board.builder().boardNo(boardNo)
+							.likeCount(likeCountColumn.getOrDefault(boardNo, 0)).build());
+				}
+			}
+			return list;
+		});
+
+		// commit, close, flushStatements(빈 목록) 은 기본 동작
+		SqlSession session = mock(SqlSession.class);
+		when(session.getMapper(BoardMapper.class)).thenReturn(mapper);
+
+		// openSession(...) 모두 같은 session 반환
+		return mock(SqlSessionFactory.class, invocation -> session);
+	}
+
+	@Test
+	void toggleUsesServerState() throws Exception {
+
+		BoardLikeStore store = store(100, 100);
+
+		assertThat(store.toggleLike(1, 1)).isEqualTo(new LikeResult(1, 1));
+		assertThat(store.toggleLike(1, 1)).isEqualTo(new LikeResult(0, 0));
+		assertThat(store.toggleLike(1, 101)).isNull();
+
+		store.flush();
+
+		assertThat(members(1)).isEmpty();
+	}
+
+	@Test
+	void flushReloadsCountFromRefreshedColumn() throws Exception {
+
+		BoardLikeStore store = store(100, 100);
+
+		store.toggleLike(1, 1);
+
+		// 다른 경로로 DB에 추가된 좋아요
+		members(1).add(9);
+
+		store.flush();
+
+		assertThat(members(1)).containsExactlyInAnyOrder(1, 9);
+		assertThat(store.likeCount(1, -1)).isEqualTo(2);
+	}
+
+	@Test
+	void reloadedCountIncludesChangesDuringFlush() throws Exception {
+
+		BoardLikeStore store = store(100, 100);
+
+		store.toggleLike(1, 1);
+
+		// 반영 도중 다른 회원의 좋아요 (다음 flush 대상)
+		duringRefresh = () -> {
+			duringRefresh = () -> {};
+			store.toggleLike(2, 1);
+		};
+
+		store.flush();
+
+		assertThat(likeCountColumn.get(1)).isEqualTo(1);
+		assertThat(store.likeCount(1, -1)).isEqualTo(2);
+
+		store.flush();
+
+		assertThat(members(1)).containsExactlyInAnyOrder(1, 2);
+		assertThat(store.likeCount(1, -1)).isEqualTo(2);
+	}
+
+	@Test
+	void evictedEntriesReloadWithUnflushedChanges() throws Exception {
+
+		// 반영 후 모두 제거
+		BoardLikeStore store = store(0, 0);
+
+		store.toggleLike(1, 1);
+
+		// 반영 도중 좋아요 >> 제거 시점에 DB 반영 전
+		duringRefresh = () -> {
+			duringRefresh = () -> {};
+			store.toggleLike(1, 5);
+		};
+
+		store.flush();
+
+		assertThat(store.stats()).containsEntry("members", 0).containsEntry("boards", 0);
+		assertThat(store.isLoaded(1)).isFalse();
+		assertThat(members(5)).isEmpty();
+
+		// 다시 조회 : DB(게시글 1) + 반영 전 변경(게시글 5)
+		assertThat(store.likedAmong(1, List.of(1, 5, 7))).containsExactly(1, 5);
+		assertThat(store.toggleLike(2, 5)).isEqualTo(new LikeResult(1, 2));
+
+		// 다시 누르면 해제 (제거 전 상태 유지)
+		assertThat(store.toggleLike(1, 5)).isEqualTo(new LikeResult(0, 1));
+	}
+
+	@Test
+	void failedFlushKeepsCountsAndRetries() throws Exception {
+
+		BoardLikeStore store = store(100, 100);
+
+		store.toggleLike(1, 1);
+
+		failing = true;
+		assertThatThrownBy(store::flush).isInstanceOf(IllegalStateException.class);
+
+		assertThat(store.toggleLike(2, 1)).isEqualTo(new LikeResult(1, 2));
+
+		failing = false;
+		store.flush();
+
+		assertThat(members(1)).containsExactlyInAnyOrder(1, 2);
+		assertThat(store.likeCount(1, -1)).isEqualTo(2);
+	}
+
+	@Test
+	void failedReplayCountsAgainstDbState() throws Exception {
+
+		// 이전 실행의 기록 : 회원 1의 좋아요는 이미 DB에 반영됨, 회원 2는 반영 전 종료
+		Files.writeString(journalDir.resolve("like-1.log"), "L,7,1\nL,7,2\n");
+		members(7).add(1);
+
+		failing = true;
+		BoardLikeStore store = store(100, 100);
+
+		// 회원 1, 2, 3 == 3 (회원 1을 두 번 세지 않음)
+		assertThat(store.toggleLike(3, 7)).isEqualTo(new LikeResult(1, 3));
+		assertThat(store.likedAmong(2, List.of(7))).containsExactly(7);
+
+		failing = false;
+		store.flush();
+
+		assertThat(members(7)).containsExactlyInAnyOrder(1, 2, 3);
+		assertThat(store.likeCount(7, -1)).isEqualTo(3);
+	}
+}
@@ -0,0 +1,271 @@
+package edu.kh.project.board.model.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.dto.BoardImg;
+import edu.kh.project.board.model.dto.Comment;
+
+/* 게시글 상세 조회 SQL 수행 횟수 (board-mapper.xml + 가짜 JDBC)
+ *
+ * - 실제 DB 없이 mapper XML 을 DBConfig 와 같은 설정으로 읽고
+ *   SQL 이 준비(prepareStatement)될 때마다 기록 >> 첫 SQL 은 rows, 이후 SQL 은 빈 결과 반환
+ */
+class BoardMapperDetailTest {
+
+	// 행 종류 + 게시글 컬럼(B.*) + 이미지/댓글 컬럼
+	private static final List<String> COLUMNS = List.of(
+			"ROW_KIND",
+			"BOARD_NO", "BOARD_TITLE", "BOARD_CONTENT", "BOARD_CODE", "READ_COUNT",
+			"MEMBER_NO", "MEMBER_NICKNAME", "PROFILE_IMG", "BOARD_WRITE_DATE", "BOARD_UPDATE_DATE",
+			"LIKE_COUNT", "COMMENT_COUNT", "THUMBNAIL", "LIKE_CHECK",
+			"I_IMG_NO", "I_IMG_PATH", "I_IMG_ORIGINAL_NAME", "I_IMG_RENAME", "I_IMG_ORDER", "I_BOARD_NO",
+			"C_COMMENT_NO", "C_COMMENT_CONTENT", "C_COMMENT_WRITE_DATE", "C_COMMENT_DEL_FL",
+			"C_BOARD_NO", "C_MEMBER_NO", "C_PARENT_COMMENT_NO", "C_PROFILE_IMG", "C_MEMBER_NICKNAME",
+			"C_COMMENT_VERSION");
+
+	// 준비된 SQL
+	private final List<String> statements = new ArrayList<>();
+
+	// 첫 SQL 의 조회 결과
+	private List<Object[]> rows = List.of();
+
+	private SqlSessionFactory factory;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenAnswer(invocation -> connection());
+
+		Configuration configuration = new Configuration(
+				new Environment("test", new JdbcTransactionFactory(), dataSource));
+
+		// DBConfig / mybatis-config.xml 과 같은 설정
+		configuration.setJdbcTypeForNull(org.apache.ibatis.type.JdbcType.NULL);
+		configuration.setMapUnderscoreToCamelCase(true);
+		configuration.getTypeAliasRegistry().registerAlias("Board", Board.class);
+		configuration.getTypeAliasRegistry().registerAlias("BoardImg", BoardImg.class);
+		configuration.getTypeAliasRegistry().registerAlias("Comment", Comment.class);
+
+		try(InputStream in = getClass().getResourceAsStream("/mappers/board-mapper.xml")) {
+			new XMLMapperBuilder(in, configuration, "mappers/board-mapper.xml", configuration.getSqlFragments()).parse();
+		}
+
+		factory = new SqlSessionFactoryBuilder().build(configuration);
+	}
+
+	@Test
+	void joinedResultMapHasNoNestedSelect() {
+
+		MappedStatement statement = factory.getConfiguration()
+				.getMappedStatement(BoardMapper.class.getName() + ".selectOneJoined");
+
+		for(ResultMap resultMap : statement.getResultMaps()) assertNoNestedQuery(resultMap);
+	}
+
+	@Test
+	void joinedDetailRunsSingleStatement() {
+
+		// 게시글 1행 + 이미지 1행 + 댓글 3행 (게시글 컬럼은 첫 행에만)
+		rows = List.of(
+				row(0, null, null, null, null),
+				row(1, 20, 1, null, null),
+				row(2, null, null, 100, 0),
+				row(2, null, null, 101, 100),
+				row(2, null, null, 102, 0));
+
+		Board board = selectOne("selectOneJoined", 1);
+
+		assertThat(statements).hasSize(1);
+		assertThat(board.getBoardNo()).isEqualTo(7);
+		assertThat(board.getBoardTitle()).isEqualTo("제목");
+		assertThat(board.getBoardContent()).isEqualTo("내용");
+		assertThat(board.getImageList()).extracting(BoardImg::getImgNo).containsExactly(20);
+		assertThat(board.getCommentList()).extracting(Comment::getCommentNo).containsExactly(100, 101, 102);
+		assertThat(board.getCommentList()).extracting(Comment::getParentCommentNo).containsExactly(0, 100, 0);
+	}
+
+	@Test
+	void joinedDetailWithoutChildRowsHasEmptyLists() {
+
+		// 이미지/댓글이 없으면 게시글 행 1행 (이미지/댓글 컬럼 모두 NULL)
+		rows = List.<Object[]>of(row(0, null, null, null, null));
+
+		Board board = selectOne("selectOneJoined", 1);
+
+		assertThat(statements).hasSize(1);
+		assertThat(board.getImageList()).isEmpty();
+		assertThat(board.getCommentList()).isEmpty();
+	}
+
+	@Test
+	void nestedDetailRunsStatementPerCollection() {
+
+		rows = List.<Object[]>of(row(0, null, null, null, null));
+
+		selectOne("selectOne", 1);
+
+		// 게시글 + <collection select> 2개 (이미지, 댓글)
+		assertThat(statements).hasSize(3);
+	}
+
+	private Board selectOne(String id, int withComments) {
+
+		Map<String, Object> param = new HashMap<>();
+		param.put("boardCode", 1);
+		param.put("boardNo", 7);
+		param.put("memberNo", 3);
+		param.put("withLikeCheck", 1);
+		param.put("withComments", withComments);
+
+		try(SqlSession session = factory.openSession()) {
+			return session.selectOne(BoardMapper.class.getName() + "." + id, param);
+		}
+	}
+
+	private static void assertNoNestedQuery(ResultMap resultMap) {
+
+		for(ResultMapping mapping : resultMap.getResultMappings()) {
+			assertThat(mapping.getNestedQueryId()).as(mapping.getProperty()).isNull();
+		}
+	}
+
+	// 게시글 7 의 게시글 행(rowKind 0) 또는 이미지/댓글 행(게시글 컬럼은 BOARD_NO 만)
+	private static Object[] row(int rowKind, Integer imgNo, Integer imgOrder, Integer commentNo, Integer parentCommentNo) {
+
+		Object[] row = new Object[COLUMNS.size()];
+
+		if(rowKind == 0) {
+			Object[] board = {7, "제목", "내용", 1, 0, 3, "닉네임", null, "2024년", null, 0, 3, null, 0};
+			System.arraycopy(board, 0, row, COLUMNS.indexOf("BOARD_NO"), board.length);
+		}
+
+		row[COLUMNS.indexOf("ROW_KIND")] = rowKind;
+		row[COLUMNS.indexOf("BOARD_NO")] = 7;
+		row[COLUMNS.indexOf("I_IMG_NO")] = imgNo;
+		row[COLUMNS.indexOf("I_IMG_ORDER")] = imgOrder;
+		row[COLUMNS.indexOf("I_BOARD_NO")] = imgNo == null ? null : 7;
+		row[COLUMNS.indexOf("C_COMMENT_NO")] = commentNo;
+		row[COLUMNS.indexOf("C_COMMENT_DEL_FL")] = commentNo == null ? null : "N";
+		row[COLUMNS.indexOf("C_PARENT_COMMENT_NO")] = parentCommentNo == null || parentCommentNo == 0 ? null : parentCommentNo;
+
+		return row;
+	}
+
+	// ---------- 가짜 JDBC ----------
+
+	private Connection connection() throws SQLException {
+
+		Connection connection = mock(Connection.class);
+
+		// 준비된 SQL 기록 : 첫 SQL 은 rows, 이후 SQL 은 빈 결과
+		Answer<PreparedStatement> prepare = invocation -> {
+			statements.add(invocation.getArgument(0));
+			return statement(statements.size() == 1 ? rows : List.of());
+		};
+
+		when(connection.prepareStatement(anyString())).thenAnswer(prepare);
+		when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenAnswer(prepare);
+		when(connection.getMetaData()).thenReturn(mock(DatabaseMetaData.class));
+		when(connection.getAutoCommit()).thenReturn(true);
+
+		return connection;
+	}
+
+	private static PreparedStatement statement(List<Object[]> result) throws SQLException {
+
+		ResultSet resultSet = resultSet(result);
+
+		PreparedStatement statement = mock(PreparedStatement.class);
+
+		when(statement.execute()).thenReturn(true);
+		when(statement.getResultSet()).thenReturn(resultSet);
+		when(statement.getUpdateCount()).thenReturn(-1);
+
+		return statement;
+	}
+
+	private static ResultSet resultSet(List<Object[]> result) throws SQLException {
+
+		int[] cursor = {-1};
+		boolean[] wasNull = {false};
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+		when(metaData.getColumnCount()).thenReturn(COLUMNS.size());
+		when(metaData.getColumnLabel(anyInt())).thenAnswer(invocation -> COLUMNS.get(invocation.<Integer>getArgument(0) - 1));
+		when(metaData.getColumnName(anyInt())).thenAnswer(invocation -> COLUMNS.get(invocation.<Integer>getArgument(0) - 1));
+		when(metaData.getColumnType(anyInt())).thenReturn(Types.VARCHAR);
+		when(metaData.getColumnClassName(anyInt())).thenReturn(String.class.getName());
+
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < result.size());
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.getType()).thenReturn(ResultSet.TYPE_FORWARD_ONLY);
+		when(resultSet.wasNull()).thenAnswer(invocation -> wasNull[0]);
+
+		// 현재 행의 컬럼 값 (컬럼명 또는 1부터 시작하는 순서)
+		Function<InvocationOnMock, Object> value = invocation -> {
+
+			Object[] row = result.get(cursor[0]);
+			Object column = invocation.getArgument(0);
+
+			Object v = column instanceof String label
+					? row[COLUMNS.indexOf(label.toUpperCase())]
+					: row[(int) column - 1];
+
+			wasNull[0] = v == null;
+
+			return v;
+		};
+
+		when(resultSet.getObject(anyString())).thenAnswer(value::apply);
+		when(resultSet.getObject(anyInt())).thenAnswer(value::apply);
+		when(resultSet.getString(anyString())).thenAnswer(invocation -> Objects.toString(value.apply(invocation), null));
+		when(resultSet.getString(anyInt())).thenAnswer(invocation -> Objects.toString(value.apply(invocation), null));
+		when(resultSet.getInt(anyString())).thenAnswer(invocation -> value.apply(invocation) instanceof Number n ? n.intValue() : 0);
+		when(resultSet.getInt(anyInt())).thenAnswer(invocation -> value.apply(invocation) instanceof Number n ? n.intValue() : 0);
+		when(resultSet.getLong(anyString())).thenAnswer(invocation -> value.apply(invocation) instanceof Number n ? n.longValue() : 0L);
+		when(resultSet.getLong(anyInt())).thenAnswer(invocation -> value.apply(invocation) instanceof Number n ? n.longValue() : 0L);
+
+		return resultSet;
+	}
+}
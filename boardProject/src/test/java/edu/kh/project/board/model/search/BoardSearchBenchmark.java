@@ -0,0 +1,155 @@
+package edu.kh.project.board.model.search;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.kh.project.BenchmarkRunner;
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.mapper.BoardMapper;
+
+/* 검색 색인 vs LIKE '%검색어%' (고정 seed 로 만든 게시글 docs 개)
+ *
+ * - index : BoardSearchIndex.search (제목+내용, 여러 단어 검색어는 후보 원문 확인 포함)
+ * - like  : 게시판의 모든 행의 제목/내용을 소문자로 바꿔 contains (LIKE 전체 검색과 같은 작업, 디스크 I/O 제외)
+ * - update : 게시글 1개 다시 색인 (쓰기 잠금 구간 포함)
+ *
+ * 실행 : ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardSearchBenchmark {
+
+	// 게시판 3개, 명사 + 조사 조합 단어
+	// - 자주 쓰는 명사(10%) + 임의 음절로 만든 명사 vocabulary 개(90%)
+	private static final String[] NOUNS = {
+		"폭탄", "테러", "자바", "스프링", "게시판", "검색", "서버", "회원", "댓글", "사진",
+		"여행", "맛집", "날씨", "영화", "음악", "축구", "야구", "공부", "시험", "회사",
+		"java", "oracle", "mybatis", "spring", "boot"};
+
+	private static final String[] PARTICLES = {"", "이", "가", "을", "를", "은", "는", "에서", "으로", "도"};
+
+	@Param({"20000"})
+	public int docs;
+
+	@Param({"3000"})
+	public int vocabulary;
+
+	@Param({"폭탄", "스프링을", "폭탄 테러"})
+	public String query;
+
+	private List<Board> rows;
+
+	private BoardSearchIndex index;
+
+	private Random random;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		Random seed = new Random(20240);
+
+		String[] words = new String[vocabulary];
+
+		for(int i = 0; i < vocabulary; i++) {
+			StringBuilder word = new StringBuilder();
+
+			for(int n = 2 + seed.nextInt(2); n > 0; n--) word.append((char)('가' + seed.nextInt(11172)));
+
+			words[i] = word.toString();
+		}
+
+		rows = new ArrayList<>();
+
+		for(int no = 1; no <= docs; no++) {
+			rows.add(Board.builder()
+					.boardNo(no).boardCode(no % 3 + 1)
+					.memberNo(no % 500).memberNickname("회원" + no % 500)
+					.boardTitle(text(seed, words, 4))
+					.boardContent(text(seed, words, 80))
+					.build());
+		}
+
+		// stubOnly : 측정 중 호출 기록(verify 용)을 쌓지 않음
+		BoardMapper mapper = mock(BoardMapper.class, withSettings().stubOnly());
+
+		when(mapper.selectSearchDocumentList()).thenReturn(rows);
+		when(mapper.selectSearchDocument(anyInt())).thenAnswer(invocation -> rows.get(invocation.<Integer>getArgument(0) - 1));
+		when(mapper.selectSearchDocumentByNo(anyList())).thenAnswer(invocation ->
+				invocation.<List<Integer>>getArgument(0).stream().map(no -> rows.get(no - 1)).toList());
+
+		index = new BoardSearchIndex(mapper);
+		index.rebuild();
+
+		random = new Random(1);
+	}
+
+	private static String text(Random random, String[] words, int count) {
+
+		StringBuilder sb = new StringBuilder();
+
+		for(int i = 0; i < count; i++) {
+			sb.append(random.nextInt(10) == 0 ? NOUNS[random.nextInt(NOUNS.length)] : words[random.nextInt(words.length)])
+			  .append(PARTICLES[random.nextInt(PARTICLES.length)])
+			  .append(' ');
+		}
+
+		return sb.toString();
+	}
+
+	@Benchmark
+	public List<Integer> index() {
+		return index.search(1, "tc", query);
+	}
+
+	@Benchmark
+	public List<Integer> like() {
+
+		String q = query.toLowerCase(Locale.ROOT);
+
+		List<Integer> result = new ArrayList<>();
+
+		for(Board board : rows) {
+			if(board.getBoardCode() != 1) continue;
+
+			if(board.getBoardTitle().toLowerCase(Locale.ROOT).contains(q)
+				|| board.getBoardContent().toLowerCase(Locale.ROOT).contains(q)) {
+				result.add(board.getBoardNo());
+			}
+		}
+
+		return result;
+	}
+
+	@Benchmark
+	public void update() {
+		index.indexAfterCommit(1 + random.nextInt(docs));
+	}
+
+	@Test
+	@Tag("benchmark")
+	void benchmark() throws Exception {
+		BenchmarkRunner.run(getClass());
+	}
+}
@@ -0,0 +1,173 @@
+package edu.kh.project.board.model.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.mapper.BoardMapper;
+
+class BoardSearchIndexTest {
+
+	private static final String[] WORDS = {"폭탄", "폭탄이", "테러", "Java", "자바", "스프링", "게시판", "검색", "a-b", "하하"};
+
+	// DB 의 게시글 (게시글 번호 : 게시글)
+	private final Map<Integer, Board> rows = new TreeMap<>();
+
+	// 원문 확인 조회 횟수
+	private final AtomicInteger phraseChecks = new AtomicInteger();
+
+	private BoardSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+
+		Random random = new Random(1);
+
+		for(int no = 1; no <= 300; no++) rows.put(no, board(no, random));
+
+		BoardMapper mapper = mock(BoardMapper.class);
+
+		when(mapper.selectSearchDocumentList()).thenAnswer(invocation -> new ArrayList<>(rows.values()));
+		when(mapper.selectSearchDocument(anyInt())).thenAnswer(invocation -> rows.get(invocation.<Integer>getArgument(0)));
+		when(mapper.selectSearchDocumentByNo(anyList())).thenAnswer(invocation -> {
+			phraseChecks.incrementAndGet();
+			return invocation.<List<Integer>>getArgument(0).stream().map(rows::get).filter(b -> b != null).toList();
+		});
+
+		index = new BoardSearchIndex(mapper);
+		index.rebuild();
+	}
+
+	private static Board board(int no, Random random) {
+
+		return Board.builder()
+				.boardNo(no)
+				.boardCode(no % 2 + 1)
+				.memberNo(no % 5)
+				.memberNickname("회원" + no % 5)
+				.boardTitle(text(random, 3))
+				.boardContent(text(random, 12))
+				.build();
+	}
+
+	private static String text(Random random, int count) {
+
+		StringBuilder sb = new StringBuilder();
+
+		for(int i = 0; i < count; i++) {
+			sb.append(WORDS[random.nextInt(WORDS.length)]);
+			sb.append(random.nextBoolean() ? " " : "을 ");
+		}
+
+		return sb.toString();
+	}
+
+	// LIKE '%검색어%' (대소문자 구분 X)
+	private List<Integer> like(int boardCode, String key, String query) {
+
+		String q = query.toLowerCase(Locale.ROOT);
+
+		return rows.values().stream()
+				.filter(b -> b.getBoardCode() == boardCode)
+				.filter(b -> switch(key) {
+					case "t" -> b.getBoardTitle().toLowerCase(Locale.ROOT).contains(q);
+					case "c" -> b.getBoardContent().toLowerCase(Locale.ROOT).contains(q);
+					case "tc" -> b.getBoardTitle().toLowerCase(Locale.ROOT).contains(q)
+							|| b.getBoardContent().toLowerCase(Locale.ROOT).contains(q);
+					default -> b.getMemberNickname().contains(q);
+				})
+				.map(Board::getBoardNo)
+				.toList();
+	}
+
+	@Test
+	void resultsMatchLike() {
+
+		for(String key : List.of("t", "c", "tc", "w")) {
+			for(String query : List.of("폭탄", "탄이", "폭탄이다", "JAVA", "자", "을", "하하을", "폭탄 테러", "a-b", "회원3")) {
+
+				assertThat(index.search(1, key, query))
+					.as("%s %s", key, query)
+					.containsExactlyInAnyOrderElementsOf(like(1, key, query));
+			}
+		}
+	}
+
+	@Test
+	void singleWordQueryDoesNotReadContent() {
+
+		index.search(1, "tc", "폭탄을");
+		index.search(1, "c", "스프링");
+
+		assertThat(phraseChecks.get()).isZero();
+
+		// 공백/특수문자 포함 >> 후보만 원문 확인
+		index.search(1, "c", "폭탄 테러");
+
+		assertThat(phraseChecks.get()).isEqualTo(1);
+	}
+
+	@Test
+	void queryWithoutLettersFallsBackToLike() {
+
+		assertThat(index.search(1, "t", "  ")).isNull();
+		assertThat(index.search(1, "t", "-")).isNull();
+	}
+
+	@Test
+	void titleMatchesRankFirstInTitleAndContentSearch() {
+
+		rows.put(1001, Board.builder().boardNo(1001).boardCode(1).memberNo(9).memberNickname("가")
+				.boardTitle("유일한제목").boardContent("내용").build());
+		rows.put(1003, Board.builder().boardNo(1003).boardCode(1).memberNo(9).memberNickname("가")
+				.boardTitle("제목").boardContent("유일한 내용").build());
+
+		index.indexAfterCommit(1001);
+		index.indexAfterCommit(1003);
+
+		assertThat(index.search(1, "tc", "유일한")).containsExactly(1001, 1003);
+	}
+
+	@Test
+	void updatesAndDeletesAreApplied() {
+
+		Random random = new Random(2);
+
+		for(int step = 0; step < 500; step++) {
+
+			int no = 1 + random.nextInt(400);
+
+			if(random.nextInt(4) == 0) {
+				rows.remove(no);
+				index.removeAfterCommit(no);
+
+			} else {
+				rows.put(no, board(no, random));
+				index.indexAfterCommit(no);
+			}
+		}
+
+		for(String key : List.of("t", "c", "tc", "w")) {
+			for(String query : List.of("폭탄", "테러", "java", "스", "검색을", "회원")) {
+
+				assertThat(index.search(2, key, query))
+					.as("%s %s", key, query)
+					.containsExactlyInAnyOrderElementsOf(like(2, key, query));
+			}
+		}
+	}
+}
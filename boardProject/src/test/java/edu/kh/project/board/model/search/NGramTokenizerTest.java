@@ -0,0 +1,48 @@
+package edu.kh.project.board.model.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class NGramTokenizerTest {
+
+	private final NGramTokenizer tokenizer = new NGramTokenizer();
+
+	@Test
+	void tokenizeIndexesAllGramsUpToThree() {
+
+		assertThat(tokenizer.tokenize("폭탄이"))
+			.containsExactlyInAnyOrder("폭", "탄", "이", "폭탄", "탄이", "폭탄이");
+	}
+
+	@Test
+	void queryUsesLongestGramsOnly() {
+
+		assertThat(tokenizer.queryTokens("폭탄")).containsExactly("폭탄");
+		assertThat(tokenizer.queryTokens("폭탄이다")).containsExactly("폭탄이", "탄이다");
+	}
+
+	@Test
+	void wordsAreSplitOnNonLetters() {
+
+		// 대소문자 구분 X, 문자/숫자가 아닌 문자로 분리
+		assertThat(NGramTokenizer.words("Hello, 세계!! abc_123")).containsExactly("hello", "세계", "abc", "123");
+
+		assertThat(tokenizer.tokenize("a b")).containsExactly("a", "b");
+		assertThat(tokenizer.tokenize(null)).isEmpty();
+		assertThat(tokenizer.queryTokens("!!")).isEmpty();
+	}
+
+	@Test
+	void queryGramsAreIndexedForEveryContainingWord() {
+
+		// 문서 단어가 검색어를 포함하면 검색어 조각은 모두 문서 색인어에 포함
+		String doc = "대한민국만세";
+
+		for(int from = 0; from < doc.length(); from++) {
+			for(int to = from + 1; to <= doc.length(); to++) {
+				assertThat(tokenizer.tokenize(doc)).containsAll(tokenizer.queryTokens(doc.substring(from, to)));
+			}
+		}
+	}
+}
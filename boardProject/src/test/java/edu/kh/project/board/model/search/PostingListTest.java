@@ -0,0 +1,146 @@
+package edu.kh.project.board.model.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class PostingListTest {
+
+	private static int[] toArray(TreeSet<Integer> set) {
+		return set.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	@Test
+	void appendEncodesDeltasAsVarint() {
+
+		PostingList list = new PostingList();
+
+		list.add(2001);
+		list.add(2003);
+		list.add(2010);
+
+		// 2001(2바이트) + 2 + 7
+		assertThat(list.toArray()).containsExactly(2001, 2003, 2010);
+		assertThat(list.bytes()).isEqualTo(4);
+		assertThat(list.pending()).isZero();
+	}
+
+	@Test
+	void middleChangesAreBufferedUntilMerge() {
+
+		PostingList list = new PostingList();
+
+		for(int no = 0; no < 1000; no += 2) list.add(no);
+
+		int bytes = list.bytes();
+
+		// 중간 삽입 / 삭제 >> 인코딩된 목록은 그대로, 변경만 모아둠
+		list.add(101);
+		list.remove(200);
+
+		assertThat(list.pending()).isEqualTo(2);
+		assertThat(list.bytes()).isEqualTo(bytes + 2 * Integer.BYTES);
+		assertThat(list.size()).isEqualTo(500);
+		assertThat(list.toArray()).contains(101).doesNotContain(200);
+
+		// 제거 후 다시 추가(수정 후 같은 색인어) >> 제거 취소
+		list.remove(300);
+		list.add(300);
+		list.add(103);
+		list.remove(103);
+
+		assertThat(list.pending()).isEqualTo(2);
+
+		// 모아둔 변경이 충분히 쌓이면 병합
+		for(int no = 1; no < 80; no += 2) list.add(no);
+
+		assertThat(list.pending()).isLessThan(32);
+		assertThat(list.size()).isEqualTo(500 + 40);
+		assertThat(list.toArray()).contains(1, 79, 101).doesNotContain(200);
+	}
+
+	@Test
+	void randomChangesMatchModel() {
+
+		Random random = new Random(7);
+
+		PostingList list = new PostingList();
+		TreeSet<Integer> model = new TreeSet<>();
+
+		int next = 0;
+
+		for(int step = 0; step < 20_000; step++) {
+
+			int op = random.nextInt(10);
+
+			if(op < 4) {
+				// 새 문서 (가장 큰 번호)
+				next += 1 + random.nextInt(300);
+				list.add(next);
+				model.add(next);
+
+			} else if(op < 7 && !model.isEmpty()) {
+				Integer doc = model.ceiling(random.nextInt(next + 1));
+				if(doc == null) continue;
+
+				list.remove(doc);
+				model.remove(doc);
+
+			} else {
+				// 중간 번호 추가 (복구)
+				int doc = random.nextInt(next + 1);
+				if(model.contains(doc)) continue;
+
+				list.add(doc);
+				model.add(doc);
+			}
+
+			if(step % 97 == 0) {
+				assertThat(list.size()).isEqualTo(model.size());
+				assertThat(list.toArray()).containsExactly(toArray(model));
+			}
+		}
+
+		assertThat(list.toArray()).containsExactly(toArray(model));
+	}
+
+	@Test
+	void intersectAppliesPendingChanges() {
+
+		PostingList list = new PostingList();
+
+		for(int no = 10; no <= 100; no += 10) list.add(no);
+
+		list.remove(50);
+		list.add(55);
+
+		List<Integer> expected = new ArrayList<>(List.of(10, 55, 100));
+
+		assertThat(list.intersect(new int[] {1, 10, 50, 55, 99, 100, 200}))
+			.containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+
+		assertThat(list.intersect(new int[0])).isEmpty();
+	}
+
+	@Test
+	void removeAllThenAppendAgain() {
+
+		PostingList list = new PostingList();
+
+		for(int no = 1; no <= 100; no++) list.add(no);
+		for(int no = 1; no <= 100; no++) list.remove(no);
+
+		assertThat(list.size()).isZero();
+		assertThat(list.toArray()).isEmpty();
+
+		list.add(5);
+		list.add(500);
+
+		assertThat(list.toArray()).containsExactly(5, 500);
+	}
+}
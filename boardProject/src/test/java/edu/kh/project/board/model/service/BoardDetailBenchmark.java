@@ -0,0 +1,150 @@
+package edu.kh.project.board.model.service;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import edu.kh.project.BenchmarkRunner;
+import edu.kh.project.board.model.cache.CommentTreeCache;
+import edu.kh.project.board.model.counter.ReadCountBuffer;
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.like.BoardLikeStore;
+import edu.kh.project.board.model.mapper.BoardMapper;
+import edu.kh.project.common.util.BoundedFanOut;
+
+/* 게시글 상세 조회 방식별 응답 시간 (SQL 1회당 지연을 주입한 가짜 Mapper)
+ *
+ * - nested   : 게시글 >> 이미지 >> 댓글 SQL 순서대로 (지연 x 3)
+ * - joined   : JOIN SQL 1회 (지연 x 1)
+ * - parallel : 게시글 / 이미지 / 댓글 / 좋아요 여부 SQL 동시 수행 (지연 x 1 + 스레드 전환)
+ * - detailUnderLoad : 8개 요청 동시 수행, parallel 은 동시 수행 수 제한(4)만큼 대기 발생
+ *
+ * 실행 : ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardDetailBenchmark {
+
+	@Param({"nested", "joined", "parallel"})
+	public String detailMode;
+
+	// SQL 1회당 주입할 지연(ms)
+	@Param({"5"})
+	public int latencyMs;
+
+	private BoardServiceImpl service;
+
+	private ExecutorService executor;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+
+		// 테스트 JVM 에서도 실행 가능하도록 일반 스레드 풀 사용 (지연은 sleep 이므로 결과는 같음)
+		executor = Executors.newCachedThreadPool();
+
+		service = new BoardServiceImpl();
+
+		ReflectionTestUtils.setField(service, "mapper", latencyMapper(latencyMs));
+		ReflectionTestUtils.setField(service, "detailMode", detailMode);
+		ReflectionTestUtils.setField(service, "detailPartTimeout", 3000L);
+		ReflectionTestUtils.setField(service, "detailFanOut", new BoundedFanOut(executor, 4));
+		ReflectionTestUtils.setField(service, "commentCache", new CommentTreeCache(0, 0));
+		ReflectionTestUtils.setField(service, "readCountBuffer", new ReadCountBuffer(null));
+		ReflectionTestUtils.setField(service, "likeStore",
+				new BoardLikeStore(null, Files.createTempDirectory("like").toString(), false, 10000, 100000));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	public Board detail() {
+		return service.selectOne(param());
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Board detailUnderLoad() {
+		return service.selectOne(param());
+	}
+
+	private static Map<String, Integer> param() {
+
+		Map<String, Integer> map = new HashMap<>();
+		map.put("boardCode", 1);
+		map.put("boardNo", 1);
+		map.put("memberNo", null);
+
+		return map;
+	}
+
+	// SQL 호출마다 지연 후 빈 결과를 반환하는 Mapper
+	private static BoardMapper latencyMapper(int latencyMs) {
+
+		// stubOnly : 측정 중 호출 기록(verify 용)을 쌓지 않음
+		BoardMapper mapper = mock(BoardMapper.class, withSettings().stubOnly());
+
+		// selectOne : <collection select> 로 이미지, 댓글 SQL 추가 수행 (지연 x 3)
+		when(mapper.selectOne(anyMap())).thenAnswer(latency(latencyMs * 3, BoardDetailBenchmark::emptyBoard));
+		when(mapper.selectOneJoined(anyMap())).thenAnswer(latency(latencyMs, BoardDetailBenchmark::emptyBoard));
+		when(mapper.selectBoardPart(anyMap())).thenAnswer(latency(latencyMs, BoardDetailBenchmark::emptyBoard));
+		when(mapper.selectImageList(anyInt())).thenAnswer(latency(latencyMs, ArrayList::new));
+		when(mapper.selectCommentFlatList(anyInt())).thenAnswer(latency(latencyMs, ArrayList::new));
+		when(mapper.selectLikeCheck(anyMap())).thenAnswer(latency(latencyMs, () -> 0));
+
+		return mapper;
+	}
+
+	// 지연(ms) 후 result 반환
+	private static Answer<Object> latency(long ms, Supplier<Object> result) {
+
+		return invocation -> {
+			Thread.sleep(ms);
+			return result.get();
+		};
+	}
+
+	private static Board emptyBoard() {
+
+		return Board.builder()
+				.boardNo(1).boardCode(1)
+				.imageList(new ArrayList<>()).commentList(new ArrayList<>())
+				.build();
+	}
+
+	@Test
+	@Tag("benchmark")
+	void benchmark() throws Exception {
+		BenchmarkRunner.run(getClass());
+	}
+}
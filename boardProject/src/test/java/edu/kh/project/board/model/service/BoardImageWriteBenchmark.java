@@ -0,0 +1,106 @@
+package edu.kh.project.board.model.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import edu.kh.project.BenchmarkRunner;
+import edu.kh.project.board.model.dto.BoardImg;
+import edu.kh.project.board.model.mapper.EditBoardMapper;
+
+/* 게시글 수정 시 이미지 5~20개 반영 방식별 응답 시간 (SQL 1회당 지연을 주입한 가짜 Mapper)
+ *
+ * - merge : MERGE 1회 (지연 x 1)
+ * - row   : 이미지마다 UPDATE, 기존 이미지가 없는 순서(절반)는 INSERT 추가 (지연 x 이미지 수 x 1.5)
+ *
+ * 실행 : ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardImageWriteBenchmark {
+
+	@Param({"merge", "row"})
+	public String imageWriteMode;
+
+	@Param({"5", "10", "20"})
+	public int images;
+
+	// SQL 1회당 주입할 지연(ms)
+	@Param({"1"})
+	public int latencyMs;
+
+	private EditBoardServiceImpl service;
+
+	private List<BoardImg> uploadList;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		// 이미지 반영(writeImages)에는 Mapper 만 사용
+		service = new EditBoardServiceImpl(latencyMapper(latencyMs), null, null, null, null, null, null, null, null);
+
+		ReflectionTestUtils.setField(service, "imageWriteMode", imageWriteMode);
+
+		uploadList = new ArrayList<>();
+
+		for(int i = 0; i < images; i++) {
+			uploadList.add(BoardImg.builder()
+					.boardNo(1).imgOrder(i)
+					.imgOriginalName("image" + i + ".jpg").imgRename("rename" + i + ".jpg").imgPath("/images/board/")
+					.build());
+		}
+	}
+
+	@Benchmark
+	public int writeImages() {
+		return service.writeImages(uploadList);
+	}
+
+	// SQL 호출마다 지연, 짝수 순서만 기존 이미지가 있는 것으로 응답하는 Mapper
+	private static EditBoardMapper latencyMapper(int latencyMs) {
+
+		// stubOnly : 측정 중 호출 기록(verify 용)을 쌓지 않음
+		EditBoardMapper mapper = mock(EditBoardMapper.class, withSettings().stubOnly());
+
+		when(mapper.mergeUploadList(anyList())).thenAnswer(invocation -> {
+			Thread.sleep(latencyMs);
+			return invocation.<List<?>>getArgument(0).size();
+		});
+		when(mapper.updateImage(any())).thenAnswer(invocation -> {
+			Thread.sleep(latencyMs);
+			return invocation.<BoardImg>getArgument(0).getImgOrder() % 2 == 0 ? 1 : 0;
+		});
+		when(mapper.insertImage(any())).thenAnswer(invocation -> {
+			Thread.sleep(latencyMs);
+			return 1;
+		});
+
+		return mapper;
+	}
+
+	@Test
+	@Tag("benchmark")
+	void benchmark() throws Exception {
+		BenchmarkRunner.run(getClass());
+	}
+}
@@ -0,0 +1,114 @@
+package edu.kh.project.board.model.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.kh.project.BenchmarkRunner;
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.common.util.RelativeTimeFormatter;
+
+/* 게시글 목록 작성 시간 : 조회 결과 형태별 변환 + 출력 비용 (같은 목록, 캐시 없음)
+ *
+ * - sqlCase   : 기존 boardListColumns 의 CASE WHEN SYSDATE - BOARD_WRITE_DATE ... 를 행마다 수행
+ *               (DATE 뺄셈 = 일 단위 NUMBER, FLOOR, || 연결, TO_CHAR 를 같은 순서로 재현)
+ *               >> 변환된 문자열(boardWriteDate)을 그대로 출력
+ * - rawRender : SQL 은 작성 시간 원본(boardWriteTime) 반환
+ *               >> 화면 출력 시 RelativeTimeFormatter 로 변환
+ * - 두 방식 모두 같은 행 목록, 같은 시간 분포(초/분/시간/날짜)를 사용
+ * - Oracle 안의 실제 CASE/TO_CHAR 수행 시간, 결과 전송량 차이는 포함되지 않음 (DB 없이 측정 불가)
+ *
+ * 실행 : ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardListBenchmark {
+
+	// 한 페이지 행 수
+	@Param({"10", "100"})
+	public int rows;
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+	private final RelativeTimeFormatter formatter = new RelativeTimeFormatter();
+
+	// DB 의 BOARD_WRITE_DATE
+	private final List<LocalDateTime> writeDates = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		LocalDateTime now = LocalDateTime.now();
+
+		// 초 전 / 분 전 / 시간 전 / 날짜 를 번갈아 배치
+		long[] agoSeconds = {30, 60 * 17, 60 * 60 * 5, 60 * 60 * 24 * 9};
+
+		for(int i = 0; i < rows; i++) {
+			writeDates.add(now.minusSeconds(agoSeconds[i % agoSeconds.length] + i));
+		}
+	}
+
+	@Benchmark
+	public void sqlCase(Blackhole blackhole) {
+
+		// 조회 : 행마다 SYSDATE 기준 문자열 생성
+		LocalDateTime sysdate = LocalDateTime.now();
+		List<Board> boardList = new ArrayList<>(rows);
+
+		for(LocalDateTime writeDate : writeDates) {
+			boardList.add(Board.builder().boardWriteDate(caseExpression(sysdate, writeDate)).build());
+		}
+
+		// 출력
+		for(Board board : boardList) blackhole.consume(board.getBoardWriteDate());
+	}
+
+	@Benchmark
+	public void rawRender(Blackhole blackhole) {
+
+		// 조회 : 원본 DATE 그대로
+		List<Board> boardList = new ArrayList<>(rows);
+
+		for(LocalDateTime writeDate : writeDates) {
+			boardList.add(Board.builder().boardWriteTime(writeDate).build());
+		}
+
+		// 출력 : 화면에서 변환
+		for(Board board : boardList) blackhole.consume(formatter.format(board.getBoardWriteTime()));
+	}
+
+	// 기존 SQL 의 CASE 식 (DATE 뺄셈 결과는 일 단위 소수)
+	private static String caseExpression(LocalDateTime sysdate, LocalDateTime writeDate) {
+
+		double days = Duration.between(writeDate, sysdate).toMillis() / (24d * 60 * 60 * 1000);
+
+		if(days < 1d / 24 / 60) return (long) Math.floor(days * 24 * 60 * 60) + "초 전";
+		if(days < 1d / 24) 		return (long) Math.floor(days * 24 * 60) + "분 전";
+		if(days < 1) 			return (long) Math.floor(days * 24) + "시간 전";
+
+		return writeDate.format(DATE_FORMAT);
+	}
+
+	@Test
+	@Tag("benchmark")
+	void benchmark() throws Exception {
+		BenchmarkRunner.run(getClass());
+	}
+}
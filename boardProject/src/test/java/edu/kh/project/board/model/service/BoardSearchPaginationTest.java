@@ -0,0 +1,125 @@
+package edu.kh.project.board.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import edu.kh.project.board.model.cache.BoardSearchCache;
+import edu.kh.project.board.model.dto.Board;
+import edu.kh.project.board.model.dto.Pagination;
+import edu.kh.project.board.model.mapper.BoardMapper;
+import edu.kh.project.board.model.search.BoardSearchIndex;
+
+class BoardSearchPaginationTest {
+
+	private static final int CAP = 150;
+
+	// DB 의 게시글 (모두 검색어 "검색" 포함)
+	private final Map<Integer, Board> rows = new TreeMap<>();
+
+	private BoardServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+
+		for(int no = 1; no <= 300; no++) {
+			rows.put(no, Board.builder().boardNo(no).boardCode(1).memberNo(1).memberNickname("회원")
+					.boardTitle("검색 " + no).boardContent("내용").build());
+		}
+
+		BoardMapper mapper = mock(BoardMapper.class);
+
+		when(mapper.selectSearchDocumentList()).thenAnswer(invocation -> new ArrayList<>(rows.values()));
+		when(mapper.selectSearchDocumentByNo(anyList())).thenAnswer(invocation -> byNo(invocation.getArgument(0)));
+		when(mapper.selectBoardListByNo(anyList())).thenAnswer(invocation -> byNo(invocation.getArgument(0)));
+		when(mapper.getSearchCountCapped(anyMap())).thenAnswer(invocation ->
+				Math.min(rows.size(), (int) invocation.<Map<String, Object>>getArgument(0).get("countLimit")));
+		when(mapper.getSearchCount(anyMap())).thenAnswer(invocation -> rows.size());
+
+		BoardSearchIndex index = new BoardSearchIndex(mapper);
+		index.rebuild();
+
+		service = new BoardServiceImpl();
+
+		ReflectionTestUtils.setField(service, "mapper", mapper);
+		ReflectionTestUtils.setField(service, "searchIndex", index);
+		ReflectionTestUtils.setField(service, "searchCache", new BoardSearchCache(0, 0, 1000));
+		ReflectionTestUtils.setField(service, "searchCountCap", CAP);
+		ReflectionTestUtils.setField(service, "paginationMode", "keyset");
+	}
+
+	private List<Board> byNo(List<Integer> boardNoList) {
+		return new ArrayList<>(boardNoList.stream().map(rows::get).toList());
+	}
+
+	private Pagination search(String searchMode, int cp) {
+
+		ReflectionTestUtils.setField(service, "searchMode", searchMode);
+
+		Map<String, Object> paramMap = new HashMap<>();
+		paramMap.put("boardCode", 1);
+		paramMap.put("key", "t");
+		paramMap.put("query", "검색");
+
+		return (Pagination) service.searchList(paramMap, cp).get("pagination");
+	}
+
+	@Test
+	void indexSearchAppliesCountCap() {
+
+		// 페이지 번호 목록(1~10)이 상한(15페이지)에 닿지 않음 >> "150건 이상"
+		Pagination pagination = search("index", 1);
+
+		assertThat(pagination.isApproximate()).isTrue();
+		assertThat(pagination.getListCount()).isEqualTo(CAP);
+
+		// 상한 근처 페이지 번호 목록(11~20) >> 정확한 수
+		pagination = search("index", 11);
+
+		assertThat(pagination.isApproximate()).isFalse();
+		assertThat(pagination.getListCount()).isEqualTo(rows.size());
+	}
+
+	@Test
+	void indexAndLikeSearchHaveSamePagination() {
+
+		for(int cp : new int[] {1, 5, 11, 16, 30}) {
+
+			Pagination index = search("index", cp);
+			Pagination like = search("like", cp);
+
+			assertThat(index).as("cp=" + cp)
+					.extracting(Pagination::getListCount, Pagination::isApproximate,
+							Pagination::getMaxPage, Pagination::getEndPage, Pagination::getNextPage)
+					.containsExactly(like.getListCount(), like.isApproximate(),
+							like.getMaxPage(), like.getEndPage(), like.getNextPage());
+		}
+	}
+
+	@Test
+	void resultsBelowCapAreExact() {
+
+		rows.keySet().removeIf(no -> no > 40);
+
+		BoardSearchIndex index = new BoardSearchIndex((BoardMapper) ReflectionTestUtils.getField(service, "mapper"));
+		index.rebuild();
+		ReflectionTestUtils.setField(service, "searchIndex", index);
+
+		Pagination pagination = search("index", 1);
+
+		assertThat(pagination.isApproximate()).isFalse();
+		assertThat(pagination.getListCount()).isEqualTo(40);
+	}
+}
@@ -0,0 +1,177 @@
+package edu.kh.project.board.model.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import edu.kh.project.board.model.cache.BoardPageCache;
+import edu.kh.project.board.model.cache.CommentTreeCache;
+import edu.kh.project.board.model.dto.Comment;
+import edu.kh.project.board.model.mapper.CommentMapper;
+
+class CommentServiceImplTest {
+
+	// 가짜 DB : 게시글별 댓글 변경 번호, 댓글 번호 : 댓글
+	private final Map<Integer, Integer> boardVersions = new HashMap<>();
+	private final Map<Integer, Comment> comments = new TreeMap<>();
+
+	private int nextCommentNo = 1;
+
+	// 게시글(BOARD) 행 UPDATE 횟수
+	private int boardUpdates;
+
+	private CommentServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+
+		boardVersions.put(1, 0);
+
+		CommentMapper mapper = mock(CommentMapper.class);
+
+		doAnswer(invocation -> {
+			Map<String, Integer> map = invocation.getArgument(0);
+			boardUpdates++;
+			map.put("commentVersion", boardVersions.computeIfPresent(map.get("boardNo"), (no, v) -> v + 1));
+			return null;
+		}).when(mapper).updateCommentCount(anyMap());
+
+		when(mapper.insert(any())).thenAnswer(invocation -> {
+			Comment comment = invocation.getArgument(0);
+			comment.setCommentNo(nextCommentNo++);
+			comments.put(comment.getCommentNo(), comment.toBuilder().commentDelFl("N").build());
+			return 1;
+		});
+		when(mapper.update(any())).thenAnswer(invocation -> {
+			Comment comment = invocation.getArgument(0);
+			Comment row = comments.get(comment.getCommentNo());
+			if(row == null) return 0;
+			row.setCommentContent(comment.getCommentContent());
+			row.setCommentVersion(comment.getCommentVersion());
+			return 1;
+		});
+		when(mapper.delete(anyMap())).thenAnswer(invocation -> {
+			Map<String, Integer> map = invocation.getArgument(0);
+			Comment row = comments.get(map.get("commentNo"));
+			if(row == null || row.getCommentDelFl().equals("Y")) return 0;
+			row.setCommentDelFl("Y");
+			row.setCommentVersion(map.get("commentVersion"));
+			return 1;
+		});
+
+		when(mapper.selectBoardNo(anyInt())).thenAnswer(invocation -> {
+			Comment row = comments.get(invocation.<Integer>getArgument(0));
+			return row == null || row.getCommentDelFl().equals("Y") ? null : row.getBoardNo();
+		});
+		when(mapper.selectComment(anyInt())).thenAnswer(invocation ->
+				comments.get(invocation.<Integer>getArgument(0)).toBuilder().build());
+		when(mapper.selectFlat(anyInt())).thenAnswer(invocation -> comments.values().stream()
+				.filter(c -> c.getBoardNo() == invocation.<Integer>getArgument(0))
+				.map(c -> c.toBuilder().build()).toList());
+		when(mapper.selectSince(anyMap())).thenAnswer(invocation -> {
+			Map<String, Integer> map = invocation.getArgument(0);
+			return comments.values().stream()
+					.filter(c -> c.getBoardNo() == map.get("boardNo"))
+					.filter(c -> c.getCommentVersion() > map.get("sinceVersion"))
+					.map(c -> c.toBuilder().build()).toList();
+		});
+
+		service = new CommentServiceImpl();
+
+		ReflectionTestUtils.setField(service, "mapper", mapper);
+		ReflectionTestUtils.setField(service, "pageCache", new BoardPageCache(100, 60));
+		ReflectionTestUtils.setField(service, "commentCache", new CommentTreeCache(100, 60));
+		ReflectionTestUtils.setField(service, "commentTreeMode", "java");
+	}
+
+	private int insert(String content) {
+
+		Comment comment = Comment.builder().boardNo(1).memberNo(1).commentContent(content).build();
+		service.insert(comment);
+
+		return comment.getCommentNo();
+	}
+
+	@Test
+	void deltaIncludesInsertUpdateAndDelete() {
+
+		int first = insert("첫 댓글");
+		int second = insert("두 번째 댓글");
+
+		// 화면에 반영된 변경 번호
+		int since = 2;
+
+		int third = insert("세 번째 댓글");
+		service.update(Comment.builder().commentNo(first).commentContent("수정된 댓글").build());
+		service.delete(second);
+
+		List<Comment> delta = service.selectSince(1, since);
+
+		assertThat(delta).extracting(Comment::getCommentNo).containsExactly(first, second, third);
+		assertThat(delta.get(0).getCommentContent()).isEqualTo("수정된 댓글");
+		assertThat(delta.get(1).getCommentDelFl()).isEqualTo("Y");
+
+		// 마지막 변경 번호 이후에는 변경 없음
+		int latest = delta.stream().mapToInt(Comment::getCommentVersion).max().getAsInt();
+
+		assertThat(latest).isEqualTo(boardVersions.get(1));
+		assertThat(service.selectSince(1, latest)).isEmpty();
+	}
+
+	@Test
+	void eachChangeGetsNextVersion() {
+
+		int no = insert("댓글");
+		assertThat(comments.get(no).getCommentVersion()).isEqualTo(1);
+
+		service.update(Comment.builder().commentNo(no).commentContent("수정").build());
+		assertThat(comments.get(no).getCommentVersion()).isEqualTo(2);
+
+		service.delete(no);
+		assertThat(comments.get(no).getCommentVersion()).isEqualTo(3);
+
+		// 댓글 수 증감 + 변경 번호 증가 + 번호 조회 == 변경마다 UPDATE 1회
+		assertThat(boardUpdates).isEqualTo(3);
+	}
+
+	@Test
+	void missingOrDeletedCommentDoesNotChangeVersion() {
+
+		int no = insert("댓글");
+		service.delete(no);
+
+		assertThat(service.delete(99)).isZero();
+		assertThat(service.delete(no)).isZero();
+		assertThat(service.update(Comment.builder().commentNo(99).commentContent("수정").build())).isZero();
+
+		assertThat(boardVersions.get(1)).isEqualTo(2);
+	}
+
+	@Test
+	void cachedListCarriesVersion() {
+
+		int no = insert("댓글");
+
+		// 캐시에 저장 후 수정 >> 캐시 목록의 댓글에도 변경 번호 반영
+		service.select(1);
+		service.update(Comment.builder().commentNo(no).commentContent("수정").build());
+
+		Comment cached = service.select(1).get(0);
+
+		assertThat(cached.getCommentContent()).isEqualTo("수정");
+		assertThat(cached.getCommentVersion()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,169 @@
+package edu.kh.project.common.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RoaringBitmapTest {
+
+	// index 번째 container 종류 (ArrayContainer / BitmapContainer)
+	private static String container(RoaringBitmap bitmap, int index) {
+
+		Object[] containers = (Object[]) ReflectionTestUtils.getField(bitmap, "containers");
+
+		return containers[index].getClass().getSimpleName();
+	}
+
+	private static int[] array(TreeSet<Integer> model) {
+		return model.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	@Test
+	void arrayContainerHoldsUpToArrayMax() {
+
+		RoaringBitmap bitmap = new RoaringBitmap();
+
+		// 같은 상위 16bit 묶음에 짝수만 4096개
+		for(int i = 0; i < RoaringBitmap.ARRAY_MAX; i++) assertThat(bitmap.add(i * 2)).isTrue();
+
+		assertThat(container(bitmap, 0)).isEqualTo("ArrayContainer");
+		assertThat(bitmap.cardinality()).isEqualTo(RoaringBitmap.ARRAY_MAX);
+
+		// 이미 있는 값은 전환하지 않음
+		assertThat(bitmap.add(0)).isFalse();
+		assertThat(container(bitmap, 0)).isEqualTo("ArrayContainer");
+
+		// 4097번째 값 >> 비트맵 전환, 값 유지
+		assertThat(bitmap.add(1)).isTrue();
+
+		assertThat(container(bitmap, 0)).isEqualTo("BitmapContainer");
+		assertThat(bitmap.cardinality()).isEqualTo(RoaringBitmap.ARRAY_MAX + 1);
+		assertThat(bitmap.contains(1)).isTrue();
+		assertThat(bitmap.contains(3)).isFalse();
+		assertThat(bitmap.contains(RoaringBitmap.ARRAY_MAX * 2 - 2)).isTrue();
+	}
+
+	@Test
+	void removeConvertsBitmapBackToArray() {
+
+		RoaringBitmap bitmap = new RoaringBitmap();
+		TreeSet<Integer> model = new TreeSet<>();
+
+		for(int i = 0; i <= RoaringBitmap.ARRAY_MAX; i++) {
+			bitmap.add(i * 3);
+			model.add(i * 3);
+		}
+
+		assertThat(container(bitmap, 0)).isEqualTo("BitmapContainer");
+
+		// 없는 값 제거는 전환하지 않음
+		assertThat(bitmap.remove(1)).isFalse();
+		assertThat(container(bitmap, 0)).isEqualTo("BitmapContainer");
+
+		// 4096개가 되면 배열로 전환, 값 유지
+		assertThat(bitmap.remove(300)).isTrue();
+		model.remove(300);
+
+		assertThat(container(bitmap, 0)).isEqualTo("ArrayContainer");
+		assertThat(bitmap.toArray()).containsExactly(array(model));
+
+		// 다시 추가하면 비트맵
+		bitmap.add(300);
+		assertThat(container(bitmap, 0)).isEqualTo("BitmapContainer");
+		assertThat(bitmap.cardinality()).isEqualTo(RoaringBitmap.ARRAY_MAX + 1);
+	}
+
+	@Test
+	void emptyContainerIsRemoved() {
+
+		RoaringBitmap bitmap = new RoaringBitmap();
+
+		bitmap.add(5);
+		bitmap.add(70_000);		// 두 번째 묶음
+
+		assertThat(bitmap.remove(5)).isTrue();
+		assertThat(bitmap.remove(5)).isFalse();
+
+		assertThat(ReflectionTestUtils.getField(bitmap, "size")).isEqualTo(1);
+		assertThat(bitmap.toArray()).containsExactly(70_000);
+	}
+
+	@Test
+	void randomOperationsMatchModel() {
+
+		Random random = new Random(42);
+
+		RoaringBitmap left = new RoaringBitmap();
+		RoaringBitmap right = new RoaringBitmap();
+		TreeSet<Integer> leftModel = new TreeSet<>();
+		TreeSet<Integer> rightModel = new TreeSet<>();
+
+		// 묶음 0 : 조밀(비트맵), 묶음 1 : 드문(배열), 묶음 2 : 경계 부근
+		for(int step = 0; step < 40_000; step++) {
+
+			int value = switch(random.nextInt(3)) {
+				case 0 -> random.nextInt(10_000);
+				case 1 -> 65_536 + random.nextInt(65_536);
+				default -> 131_072 + random.nextInt(8_500);
+			};
+
+			boolean toLeft = random.nextBoolean();
+			RoaringBitmap bitmap = toLeft ? left : right;
+			TreeSet<Integer> model = toLeft ? leftModel : rightModel;
+
+			if(random.nextInt(4) == 0) assertThat(bitmap.remove(value)).isEqualTo(model.remove(value));
+			else assertThat(bitmap.add(value)).isEqualTo(model.add(value));
+		}
+
+		assertThat(left.toArray()).containsExactly(array(leftModel));
+		assertThat(right.toArray()).containsExactly(array(rightModel));
+
+		TreeSet<Integer> both = new TreeSet<>(leftModel);
+		both.retainAll(rightModel);
+
+		assertThat(left.and(right).toArray()).containsExactly(array(both));
+		assertThat(right.and(left).cardinality()).isEqualTo(both.size());
+	}
+
+	@Test
+	void bitmapAndBitmapShrinksToArray() {
+
+		RoaringBitmap evens = new RoaringBitmap();
+		RoaringBitmap multiplesOfThree = new RoaringBitmap();
+
+		for(int i = 0; i < 65_536; i += 2) evens.add(i);
+		for(int i = 0; i < 65_536; i += 3) multiplesOfThree.add(i);
+
+		RoaringBitmap result = evens.and(multiplesOfThree);
+
+		// 6의 배수 10923개 >> 비트맵 유지
+		assertThat(container(result, 0)).isEqualTo("BitmapContainer");
+		assertThat(result.cardinality()).isEqualTo(10_923);
+
+		// 15의 배수 4370개(비트맵) & 짝수 >> 30의 배수 2185개 >> 배열로 전환
+		RoaringBitmap multiplesOfFifteen = new RoaringBitmap();
+		for(int i = 0; i < 65_536; i += 15) multiplesOfFifteen.add(i);
+
+		assertThat(container(multiplesOfFifteen, 0)).isEqualTo("BitmapContainer");
+
+		RoaringBitmap shrunk = evens.and(multiplesOfFifteen);
+
+		assertThat(container(shrunk, 0)).isEqualTo("ArrayContainer");
+		assertThat(shrunk.cardinality()).isEqualTo(2_185);
+		assertThat(shrunk.contains(30)).isTrue();
+		assertThat(shrunk.contains(15)).isFalse();
+
+		RoaringBitmap sparse = new RoaringBitmap();
+		for(int i = 0; i < 65_536; i += 60) sparse.add(i);
+
+		// 배열 & 비트맵 >> 배열
+		RoaringBitmap small = evens.and(sparse);
+
+		assertThat(container(small, 0)).isEqualTo("ArrayContainer");
+		assertThat(small.toArray()).containsExactly(sparse.toArray());
+	}
+}
@@ -0,0 +1,88 @@
+package edu.kh.project.common.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void addedValuesAreAlwaysContained() {
+
+		BloomFilter filter = new BloomFilter(1 << 16, 4);
+
+		for(int i = 0; i < 5_000; i++) filter.add(Hashing.hash64("member:" + i));
+
+		for(int i = 0; i < 5_000; i++) assertThat(filter.mightContain(Hashing.hash64("member:" + i))).isTrue();
+	}
+
+	@Test
+	void falsePositiveRateMatchesFormula() {
+
+		long bits = 1 << 16;
+		int hashes = 4;
+		int count = 5_000;
+
+		BloomFilter filter = new BloomFilter(bits, hashes);
+
+		for(int i = 0; i < count; i++) filter.add(Hashing.hash64("member:" + i));
+
+		int falsePositives = 0;
+		int probes = 100_000;
+
+		for(int i = 0; i < probes; i++) {
+			if(filter.mightContain(Hashing.hash64("guest:" + i))) falsePositives++;
+		}
+
+		// (1 - e^(-k * n / m))^k ≒ 0.24%
+		double expected = Math.pow(1 - Math.exp(-(double) hashes * count / bits), hashes);
+
+		assertThat(falsePositives / (double) probes).isLessThan(expected * 1.5);
+	}
+
+	@Test
+	void addReportsOnlyFirstInsert() {
+
+		BloomFilter filter = new BloomFilter(1 << 16, 4);
+
+		long hash = Hashing.hash64("member:1");
+
+		assertThat(filter.add(hash)).isTrue();
+		assertThat(filter.add(hash)).isFalse();
+	}
+
+	@Test
+	void concurrentAddsLoseNoBits() throws Exception {
+
+		BloomFilter filter = new BloomFilter(1 << 12, 4);	// 작은 필터 >> 같은 word 에 동시 CAS 발생
+
+		AtomicInteger firstInserts = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for(int t = 0; t < 4; t++) {
+			futures.add(executor.submit(() -> {
+				for(int i = 0; i < 2_000; i++) {
+					if(filter.add(Hashing.hash64("member:" + i))) firstInserts.incrementAndGet();
+				}
+			}));
+		}
+
+		for(Future<?> future : futures) future.get();
+		executor.shutdown();
+
+		for(int i = 0; i < 2_000; i++) assertThat(filter.mightContain(Hashing.hash64("member:" + i))).isTrue();
+
+		// 같은 값을 4개 스레드가 추가해도 새로 추가됨(true)은 값마다 최대 1번
+		assertThat(firstInserts.get()).isLessThanOrEqualTo(2_000);
+		assertThat(filter.sizeInBytes()).isEqualTo((1 << 12) / 8);
+	}
+}
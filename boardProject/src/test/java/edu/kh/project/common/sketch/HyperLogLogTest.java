@@ -0,0 +1,104 @@
+package edu.kh.project.common.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+	private static final int PRECISION = 12;
+
+	// 표준 오차 1.04 / √(2^12) ≒ 1.6%
+	private static final double STANDARD_ERROR = 1.04 / Math.sqrt(1 << PRECISION);
+
+	private static HyperLogLog sketch(String prefix, int count) {
+
+		HyperLogLog hll = new HyperLogLog(PRECISION);
+
+		for(int i = 0; i < count; i++) hll.add(Hashing.hash64(prefix + i));
+
+		return hll;
+	}
+
+	@Test
+	void estimateStaysWithinErrorBound() {
+
+		for(int count : new int[] {10, 100, 1_000, 10_000, 100_000, 1_000_000}) {
+
+			long estimate = sketch("member:", count).estimate();
+
+			// 표준 오차의 3배 이내 (작은 값은 선형 카운팅으로 거의 정확)
+			assertThat(Math.abs(estimate - count) / (double) count)
+				.as("count %d, estimate %d", count, estimate)
+				.isLessThanOrEqualTo(Math.max(3 * STANDARD_ERROR, 1.0 / count));
+		}
+	}
+
+	@Test
+	void errorAveragedOverSeedsMatchesStandardError() {
+
+		// 서로 다른 값 집합 20개의 상대 오차 제곱 평균 ≒ 표준 오차
+		double sumSquared = 0;
+		int rounds = 20;
+
+		for(int round = 0; round < rounds; round++) {
+			long estimate = sketch("round" + round + ":", 50_000).estimate();
+			double error = (estimate - 50_000) / 50_000.0;
+			sumSquared += error * error;
+		}
+
+		assertThat(Math.sqrt(sumSquared / rounds)).isLessThan(2 * STANDARD_ERROR);
+	}
+
+	@Test
+	void duplicatesDoNotChangeEstimate() {
+
+		HyperLogLog hll = sketch("member:", 5_000);
+
+		long before = hll.estimate();
+
+		for(int repeat = 0; repeat < 3; repeat++) {
+			for(int i = 0; i < 5_000; i++) hll.add(Hashing.hash64("member:" + i));
+		}
+
+		assertThat(hll.estimate()).isEqualTo(before);
+	}
+
+	@Test
+	void concurrentAddsMatchSequential() throws Exception {
+
+		HyperLogLog concurrent = new HyperLogLog(PRECISION);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for(int t = 0; t < 4; t++) {
+			int from = t * 25_000;
+
+			futures.add(executor.submit(() -> {
+				for(int i = from; i < from + 25_000; i++) concurrent.add(Hashing.hash64("member:" + i));
+			}));
+		}
+
+		for(Future<?> future : futures) future.get();
+		executor.shutdown();
+
+		assertThat(concurrent.estimate()).isEqualTo(sketch("member:", 100_000).estimate());
+	}
+
+	@Test
+	void emptyAndInvalidPrecision() {
+
+		assertThat(new HyperLogLog(PRECISION).estimate()).isZero();
+
+		assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new HyperLogLog(17)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,124 @@
+package edu.kh.project.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedFanOutTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void runningTasksNeverExceedPermits() throws Exception {
+
+		BoundedFanOut fanOut = new BoundedFanOut(executor, 3);
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		List<Future<Integer>> parts = new ArrayList<>();
+
+		try(BoundedFanOut.Batch batch = fanOut.batch()) {
+
+			for(int i = 0; i < 20; i++) {
+				int n = i;
+
+				parts.add(batch.submit(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					Thread.sleep(10);
+					running.decrementAndGet();
+					return n;
+				}));
+			}
+
+			for(int i = 0; i < parts.size(); i++) {
+				assertThat(parts.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+			}
+		}
+
+		assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+		assertThat(fanOut.running()).isZero();
+	}
+
+	@Test
+	void closeDoesNotInterruptRunningTask() throws Exception {
+
+		BoundedFanOut fanOut = new BoundedFanOut(executor, 2);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+
+		try(BoundedFanOut.Batch batch = fanOut.batch()) {
+
+			batch.submit(() -> {
+				started.countDown();
+
+				try {
+					Thread.sleep(100);
+
+				} catch(InterruptedException e) {
+					interrupted.set(true);
+				}
+
+				finished.countDown();
+				return null;
+			});
+
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+
+		// 묶음 종료 후에도 수행 중인 작업은 끝까지 수행
+		assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(interrupted.get()).isFalse();
+	}
+
+	@Test
+	void abandonedTaskWaitingForPermitIsSkipped() throws Exception {
+
+		BoundedFanOut fanOut = new BoundedFanOut(executor, 1);
+
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean secondRan = new AtomicBoolean();
+
+		// 다른 요청이 허가를 모두 사용 중
+		BoundedFanOut.Batch other = fanOut.batch();
+		Future<?> blocking = other.submit(() -> {
+			release.await();
+			return null;
+		});
+
+		while(fanOut.running() == 0) Thread.sleep(1);
+
+		try(BoundedFanOut.Batch batch = fanOut.batch()) {
+			batch.submit(() -> secondRan.getAndSet(true));
+		}
+
+		release.countDown();
+		blocking.get(5, TimeUnit.SECONDS);
+
+		// 허가를 기다리던 작업이 허가를 얻고 끝날 때까지 대기
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while(fanOut.running() > 0 && System.nanoTime() < deadline) Thread.sleep(1);
+		Thread.sleep(50);
+
+		assertThat(secondRan.get()).isFalse();
+		assertThat(fanOut.running()).isZero();
+	}
+}